@@ -43,6 +43,8 @@ public abstract class AbstractKafkaConnectSpec extends Spec implements HasConfig
     private Tracing tracing;
     private KafkaConnectTemplate template;
     private ExternalConfiguration externalConfiguration;
+    private String clientRackInitImage;
+    private Rack rack;
 
     @Description("The number of pods in the Kafka Connect group.")
     @DefaultValue("3")
@@ -178,4 +180,24 @@ public abstract class AbstractKafkaConnectSpec extends Spec implements HasConfig
     public void setExternalConfiguration(ExternalConfiguration externalConfiguration) {
         this.externalConfiguration = externalConfiguration;
     }
+
+    @Description("The image of the init container used for initializing the `client.rack`.")
+    @JsonInclude(value = JsonInclude.Include.NON_NULL)
+    public String getClientRackInitImage() {
+        return clientRackInitImage;
+    }
+
+    public void setClientRackInitImage(String brokerRackInitImage) {
+        this.clientRackInitImage = brokerRackInitImage;
+    }
+
+    @Description("Configuration of the node label which will be used as the client.rack consumer configuration.")
+    @JsonInclude(value = JsonInclude.Include.NON_NULL)
+    public Rack getRack() {
+        return rack;
+    }
+
+    public void setRack(Rack rack) {
+        this.rack = rack;
+    }
 }
@@ -35,7 +35,8 @@ import java.util.Map;
 @JsonInclude(JsonInclude.Include.NON_NULL)
 @JsonPropertyOrder({
         "version", "replicas", "image", "listeners", "config", "storage", "authorization", "rack", "brokerRackInitImage",
-        "livenessProbe", "readinessProbe", "jvmOptions", "jmxOptions", "resources", "metricsConfig", "logging", "template"})
+        "livenessProbe", "readinessProbe", "jvmOptions", "jmxOptions", "resources", "performanceProfile", "metricsConfig", "logging",
+        "template"})
 @EqualsAndHashCode
 public class KafkaClusterSpec implements HasConfigurableMetrics, UnknownPropertyPreserving, Serializable {
 
@@ -60,6 +61,7 @@ public class KafkaClusterSpec implements HasConfigurableMetrics, UnknownProperty
     private int replicas;
     private String image;
     private ResourceRequirements resources;
+    private KafkaPerformanceProfile performanceProfile;
     private Probe livenessProbe;
     private Probe readinessProbe;
     private JvmOptions jvmOptions;
@@ -163,6 +165,19 @@ public class KafkaClusterSpec implements HasConfigurableMetrics, UnknownProperty
         this.resources = resources;
     }
 
+    @Description("Performance profile used to derive the broker thread pools and socket buffers from the CPU and memory resources. " +
+            "Valid values are `throughput` and `latency`. " +
+            "Options configured in `config` take precedence over the values derived from the profile. " +
+            "When not set, the Kafka defaults are used.")
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public KafkaPerformanceProfile getPerformanceProfile() {
+        return performanceProfile;
+    }
+
+    public void setPerformanceProfile(KafkaPerformanceProfile performanceProfile) {
+        this.performanceProfile = performanceProfile;
+    }
+
     @JsonInclude(JsonInclude.Include.NON_EMPTY)
     @Description("Pod liveness checking.")
     public Probe getLivenessProbe() {
@@ -37,8 +37,6 @@ public class KafkaConnectSpec extends AbstractKafkaConnectSpec {
     public static final String FORBIDDEN_PREFIX_EXCEPTIONS = "ssl.endpoint.identification.algorithm, ssl.cipher.suites, ssl.protocol, ssl.enabled.protocols";
 
     private Map<String, Object> config = new HashMap<>(0);
-    private String clientRackInitImage;
-    private Rack rack;
     private String bootstrapServers;
     private KafkaConnectTls tls;
     private KafkaClientAuthentication authentication;
@@ -53,26 +51,6 @@ public class KafkaConnectSpec extends AbstractKafkaConnectSpec {
         this.config = config;
     }
 
-    @Description("The image of the init container used for initializing the `client.rack`.")
-    @JsonInclude(value = JsonInclude.Include.NON_NULL)
-    public String getClientRackInitImage() {
-        return clientRackInitImage;
-    }
-
-    public void setClientRackInitImage(String brokerRackInitImage) {
-        this.clientRackInitImage = brokerRackInitImage;
-    }
-
-    @Description("Configuration of the node label which will be used as the client.rack consumer configuration.")
-    @JsonInclude(value = JsonInclude.Include.NON_NULL)
-    public Rack getRack() {
-        return rack;
-    }
-
-    public void setRack(Rack rack) {
-        this.rack = rack;
-    }
-
     @Description("Bootstrap servers to connect to. This should be given as a comma separated list of _<hostname>_:\u200D_<port>_ pairs.")
     @JsonProperty(required = true)
     public String getBootstrapServers() {
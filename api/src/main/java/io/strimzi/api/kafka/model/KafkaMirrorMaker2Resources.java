@@ -67,4 +67,14 @@ public class KafkaMirrorMaker2Resources {
     public static String url(String clusterName, String namespace, int port) {
         return "http://" + serviceName(clusterName) + "." + namespace + ".svc:" + port;
     }
+
+    /**
+     * Returns the name of the {@code ClusterRoleBinding} used by the Kafka MirrorMaker 2.0 init container for a {@code KafkaMirrorMaker2} cluster of the given name.
+     * @param clusterName  The {@code metadata.name} of the {@code KafkaMirrorMaker2} resource.
+     * @param namespace The namespace where the {@code KafkaMirrorMaker2} cluster is running.
+     * @return The name of the init container's cluster role binding.
+     */
+    public static String initContainerClusterRoleBindingName(String clusterName, String namespace) {
+        return "strimzi-" + namespace + "-" + deploymentName(clusterName) + "-init";
+    }
 }
@@ -46,4 +46,14 @@ public class KafkaMirrorMakerResources {
     public static String metricsAndLogConfigMapName(String clusterName) {
         return clusterName + "-mirror-maker-config";
     }
+
+    /**
+     * Returns the name of the {@code ClusterRoleBinding} used by the Kafka MirrorMaker init container for a {@code KafkaMirrorMaker} cluster of the given name.
+     * @param clusterName  The {@code metadata.name} of the {@code KafkaMirrorMaker} resource.
+     * @param namespace The namespace where the {@code KafkaMirrorMaker} cluster is running.
+     * @return The name of the init container's cluster role binding.
+     */
+    public static String initContainerClusterRoleBindingName(String clusterName, String namespace) {
+        return "strimzi-" + namespace + "-" + deploymentName(clusterName) + "-init";
+    }
 }
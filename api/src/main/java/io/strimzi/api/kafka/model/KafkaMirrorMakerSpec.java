@@ -28,7 +28,7 @@ import lombok.EqualsAndHashCode;
 @JsonInclude(JsonInclude.Include.NON_NULL)
 @JsonPropertyOrder({
         "version", "replicas", "image", "consumer", "producer", "resources", "whitelist", "include", "jvmOptions",
-        "logging", "metricsConfig", "tracing", "template"})
+        "logging", "metricsConfig", "tracing", "template", "clientRackInitImage", "rack"})
 @OneOf({@OneOf.Alternative(@OneOf.Alternative.Property("whitelist")), @OneOf.Alternative(@OneOf.Alternative.Property("include"))})
 @EqualsAndHashCode
 public class KafkaMirrorMakerSpec extends Spec implements HasConfigurableMetrics {
@@ -52,6 +52,8 @@ public class KafkaMirrorMakerSpec extends Spec implements HasConfigurableMetrics
     private MetricsConfig metricsConfig;
     private Tracing tracing;
     private KafkaMirrorMakerTemplate template;
+    private String clientRackInitImage;
+    private Rack rack;
 
     @Description("The number of pods in the `Deployment`.")
     @Minimum(0)
@@ -211,4 +213,24 @@ public class KafkaMirrorMakerSpec extends Spec implements HasConfigurableMetrics
     public void setTemplate(KafkaMirrorMakerTemplate template) {
         this.template = template;
     }
+
+    @Description("The image of the init container used for initializing the `client.rack`.")
+    @JsonInclude(value = JsonInclude.Include.NON_NULL)
+    public String getClientRackInitImage() {
+        return clientRackInitImage;
+    }
+
+    public void setClientRackInitImage(String clientRackInitImage) {
+        this.clientRackInitImage = clientRackInitImage;
+    }
+
+    @Description("Configuration of the node label which will be used as the `client.rack` configuration of the MirrorMaker consumer.")
+    @JsonInclude(value = JsonInclude.Include.NON_NULL)
+    public Rack getRack() {
+        return rack;
+    }
+
+    public void setRack(Rack rack) {
+        this.rack = rack;
+    }
 }
@@ -0,0 +1,39 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.api.kafka.model;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+
+import java.util.Locale;
+
+public enum KafkaPerformanceProfile {
+    THROUGHPUT,
+    LATENCY;
+
+    @JsonCreator
+    public static KafkaPerformanceProfile forValue(String value) {
+        switch (value.toLowerCase(Locale.ENGLISH)) {
+            case "throughput":
+                return THROUGHPUT;
+            case "latency":
+                return LATENCY;
+            default:
+                return null;
+        }
+    }
+
+    @JsonValue
+    public String toValue() {
+        switch (this) {
+            case THROUGHPUT:
+                return "throughput";
+            case LATENCY:
+                return "latency";
+            default:
+                return null;
+        }
+    }
+}
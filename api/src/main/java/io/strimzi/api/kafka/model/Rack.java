@@ -31,6 +31,7 @@ public class Rack implements UnknownPropertyPreserving, Serializable {
     private static final long serialVersionUID = 1L;
 
     private String topologyKey;
+    private boolean closestReplicaFetching;
     private Map<String, Object> additionalProperties = new HashMap<>(0);
 
     public Rack() {
@@ -41,13 +42,24 @@ public class Rack implements UnknownPropertyPreserving, Serializable {
     }
 
     @Description("A key that matches labels assigned to the Kubernetes cluster nodes. " +
-            "The value of the label is used to set the broker's `broker.rack` config and `client.rack` in Kafka Connect.")
+            "The value of the label is used to set the broker's `broker.rack` config, and the `client.rack` config for Kafka Connect, MirrorMaker and MirrorMaker 2.0.")
     @Example("topology.kubernetes.io/zone")
     @JsonProperty(required = true)
     public String getTopologyKey() {
         return topologyKey;
     }
 
+    @Description("Enables consuming from the closest replica by configuring the `RackAwareReplicaSelector` as the `replica.selector.class` of the Kafka brokers. " +
+            "Supported only in the `Kafka` custom resource. It is rejected in other resources. Defaults to `false`.")
+    @JsonInclude(JsonInclude.Include.NON_DEFAULT)
+    public boolean isClosestReplicaFetching() {
+        return closestReplicaFetching;
+    }
+
+    public void setClosestReplicaFetching(boolean closestReplicaFetching) {
+        this.closestReplicaFetching = closestReplicaFetching;
+    }
+
     @Override
     public Map<String, Object> getAdditionalProperties() {
         return this.additionalProperties;
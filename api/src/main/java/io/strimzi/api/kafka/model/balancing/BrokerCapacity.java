@@ -17,12 +17,13 @@ import lombok.EqualsAndHashCode;
 
 import java.io.Serializable;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
- * Representation of the Cruise Control broker capacity settings. Since the Kafka brokers
- * in Strimzi are homogeneous, the capacity values for each resource will be
- * used for every broker.
+ * Representation of the Cruise Control broker capacity settings. The capacity values for each resource are used for
+ * every broker unless they are overridden for some of the brokers. When the disk capacity is not set, it is calculated
+ * separately for each broker from the size of its volumes.
  */
 @Buildable(
         editableEnabled = false,
@@ -30,7 +31,7 @@ import java.util.Map;
         builderPackage = Constants.FABRIC8_KUBERNETES_API
 )
 @JsonInclude(JsonInclude.Include.NON_NULL)
-@JsonPropertyOrder({"disk", "cpuUtilization", "inboundNetwork", "outboundNetwork"})
+@JsonPropertyOrder({"disk", "cpuUtilization", "inboundNetwork", "outboundNetwork", "overrides"})
 @EqualsAndHashCode
 public class BrokerCapacity implements UnknownPropertyPreserving, Serializable {
 
@@ -40,6 +41,7 @@ public class BrokerCapacity implements UnknownPropertyPreserving, Serializable {
     private Integer cpuUtilization;
     private String inboundNetwork;
     private String outboundNetwork;
+    private List<BrokerCapacityOverride> overrides;
     private Map<String, Object> additionalProperties = new HashMap<>(0);
 
     @JsonInclude(JsonInclude.Include.NON_DEFAULT)
@@ -87,6 +89,16 @@ public class BrokerCapacity implements UnknownPropertyPreserving, Serializable {
         this.outboundNetwork = outboundNetwork;
     }
 
+    @Description("Overrides for individual brokers. " +
+            "The `overrides` property lets you specify a different capacity configuration for different brokers.")
+    public List<BrokerCapacityOverride> getOverrides() {
+        return overrides;
+    }
+
+    public void setOverrides(List<BrokerCapacityOverride> overrides) {
+        this.overrides = overrides;
+    }
+
     @Override
     public Map<String, Object> getAdditionalProperties() {
         return this.additionalProperties;
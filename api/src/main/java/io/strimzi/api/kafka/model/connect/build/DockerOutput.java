@@ -27,7 +27,7 @@ import java.util.List;
 public class DockerOutput extends Output {
     private static final long serialVersionUID = 1L;
 
-    public static final String ALLOWED_KANIKO_OPTIONS = "--customPlatform, --insecure, --insecure-pull, " +
+    public static final String ALLOWED_KANIKO_OPTIONS = "--cache, --cache-copy-layers, --cache-repo, --cache-ttl, --customPlatform, --insecure, --insecure-pull, " +
             "--insecure-registry, --log-format, --log-timestamp, --registry-mirror, --reproducible, --single-snapshot, " +
             "--skip-tls-verify, --skip-tls-verify-pull, --skip-tls-verify-registry, --verbosity, --snapshotMode, " +
             "--use-new-run";
@@ -69,7 +69,9 @@ public class DockerOutput extends Output {
             "These options will be used only on Kubernetes where the Kaniko executor is used. " +
             "They will be ignored on OpenShift. " +
             "The options are described in the link:https://github.com/GoogleContainerTools/kaniko[Kaniko GitHub repository^]. " +
-            "Changing this field does not trigger new build of the Kafka Connect image.")
+            "Changing this field does not trigger new build of the Kafka Connect image. " +
+            "The only exception is the `--cache` option. " +
+            "When the layer caching is enabled, each connector plugin is downloaded in a separate build stage so that the cached layers of the unchanged plugins are reused.")
     @JsonInclude(JsonInclude.Include.NON_NULL)
     public List<String> getAdditionalKanikoOptions() {
         return additionalKanikoOptions;
@@ -14,6 +14,7 @@ import io.strimzi.operator.cluster.operator.assembly.KafkaMirrorMakerAssemblyOpe
 import io.strimzi.operator.cluster.operator.assembly.KafkaRebalanceAssemblyOperator;
 import io.strimzi.operator.common.AbstractOperator;
 import io.strimzi.operator.cluster.operator.assembly.KafkaMirrorMaker2AssemblyOperator;
+import io.strimzi.operator.common.KubernetesOperationsExecutor;
 import io.strimzi.operator.common.MetricsProvider;
 import io.vertx.core.AbstractVerticle;
 import io.vertx.core.AsyncResult;
@@ -44,6 +45,7 @@ public class ClusterOperator extends AbstractVerticle {
     private static final Logger LOGGER = LogManager.getLogger(ClusterOperator.class.getName());
 
     public static final String STRIMZI_CLUSTER_OPERATOR_DOMAIN = "cluster.operator.strimzi.io";
+    public static final String PERIODIC_RECONCILIATION_TRIGGER = "timer";
     private static final String NAME_SUFFIX = "-cluster-operator";
     private static final String CERTS_SUFFIX = NAME_SUFFIX + "-certs";
 
@@ -94,7 +96,7 @@ public class ClusterOperator extends AbstractVerticle {
         LOGGER.info("Starting ClusterOperator for namespace {}", namespace);
 
         // Configure the executor here, but it is used only in other places
-        getVertx().createSharedWorkerExecutor("kubernetes-ops-pool", config.getOperationsThreadPoolSize(), TimeUnit.SECONDS.toNanos(120));
+        getVertx().createSharedWorkerExecutor(KubernetesOperationsExecutor.WORKER_POOL_NAME, config.getOperationsThreadPoolSize(), TimeUnit.SECONDS.toNanos(120));
 
         List<Future> watchFutures = new ArrayList<>(8);
         List<AbstractOperator<?, ?, ?, ?>> operators = new ArrayList<>(asList(
@@ -116,7 +118,7 @@ public class ClusterOperator extends AbstractVerticle {
                     LOGGER.info("Setting up periodic reconciliation for namespace {}", namespace);
                     this.reconcileTimer = vertx.setPeriodic(this.config.getReconciliationIntervalMs(), res2 -> {
                         LOGGER.info("Triggering periodic reconciliation for namespace {}", namespace);
-                        reconcileAll("timer");
+                        reconcileAll(PERIODIC_RECONCILIATION_TRIGGER);
                     });
                     return startHealthServer().map((Void) null);
                 })
@@ -47,6 +47,10 @@ public class ClusterOperatorConfig {
     public static final String STRIMZI_CUSTOM_RESOURCE_SELECTOR = "STRIMZI_CUSTOM_RESOURCE_SELECTOR";
     public static final String STRIMZI_FEATURE_GATES = "STRIMZI_FEATURE_GATES";
     public static final String STRIMZI_OPERATIONS_THREAD_POOL_SIZE = "STRIMZI_OPERATIONS_THREAD_POOL_SIZE";
+    public static final String STRIMZI_SHARD_COUNT = "STRIMZI_SHARD_COUNT";
+    public static final String STRIMZI_SHARD_LEASE_DURATION_MS = "STRIMZI_SHARD_LEASE_DURATION_MS";
+    public static final String STRIMZI_RECONCILIATION_STAGGER_MS = "STRIMZI_RECONCILIATION_STAGGER_MS";
+    public static final String HOSTNAME = "HOSTNAME";
 
     // Feature Flags
     public static final String STRIMZI_RBAC_SCOPE = "STRIMZI_RBAC_SCOPE";
@@ -76,6 +80,9 @@ public class ClusterOperatorConfig {
     public static final long DEFAULT_OPERATION_TIMEOUT_MS = 300_000;
     public static final long DEFAULT_CONNECT_BUILD_TIMEOUT_MS = 300_000;
     public static final int DEFAULT_STRIMZI_OPERATIONS_THREAD_POOL_SIZE = 10;
+    public static final int DEFAULT_SHARD_COUNT = 0;
+    public static final long DEFAULT_SHARD_LEASE_DURATION_MS = 15_000;
+    public static final long DEFAULT_RECONCILIATION_STAGGER_MS = 100;
 
     private final Set<String> namespaces;
     private final long reconciliationIntervalMs;
@@ -92,6 +99,10 @@ public class ClusterOperatorConfig {
     private final Labels customResourceSelector;
     private final FeatureGates featureGates;
     private final int operationsThreadPoolSize;
+    private final int shardCount;
+    private final long shardLeaseDurationMs;
+    private final long reconciliationStaggerMs;
+    private final String operatorIdentity;
 
     /**
      * Constructor
@@ -111,6 +122,10 @@ public class ClusterOperatorConfig {
      * @param customResourceSelector Labels used to filter the custom resources seen by the cluster operator
      * @param featureGates Configuration string with feature gates settings
      * @param operationsThreadPoolSize The size of the thread pool used for various operations
+     * @param shardCount Number of shards into which the custom resources are split between the operator replicas (0 disables sharding)
+     * @param shardLeaseDurationMs Duration of the Leases used to coordinate the shard ownership
+     * @param operatorIdentity Unique identity of this operator replica (normally its Pod name)
+     * @param reconciliationStaggerMs Interval between the deferred reconciliations of the already reconciled resources (0 disables the deferring)
      */
     @SuppressWarnings("checkstyle:ParameterNumber")
     public ClusterOperatorConfig(
@@ -128,7 +143,11 @@ public class ClusterOperatorConfig {
             RbacScope rbacScope,
             Labels customResourceSelector,
             String featureGates,
-            int operationsThreadPoolSize) {
+            int operationsThreadPoolSize,
+            int shardCount,
+            long shardLeaseDurationMs,
+            String operatorIdentity,
+            long reconciliationStaggerMs) {
         this.namespaces = unmodifiableSet(new HashSet<>(namespaces));
         this.reconciliationIntervalMs = reconciliationIntervalMs;
         this.operationTimeoutMs = operationTimeoutMs;
@@ -144,6 +163,10 @@ public class ClusterOperatorConfig {
         this.customResourceSelector = customResourceSelector;
         this.featureGates = new FeatureGates(featureGates);
         this.operationsThreadPoolSize = operationsThreadPoolSize;
+        this.shardCount = shardCount;
+        this.shardLeaseDurationMs = shardLeaseDurationMs;
+        this.operatorIdentity = operatorIdentity;
+        this.reconciliationStaggerMs = reconciliationStaggerMs;
     }
 
     /**
@@ -193,6 +216,10 @@ public class ClusterOperatorConfig {
         Labels customResourceSelector = parseLabels(map, STRIMZI_CUSTOM_RESOURCE_SELECTOR);
         String featureGates = map.getOrDefault(STRIMZI_FEATURE_GATES, "");
         int operationsThreadPoolSize = parseInt(map.get(STRIMZI_OPERATIONS_THREAD_POOL_SIZE), DEFAULT_STRIMZI_OPERATIONS_THREAD_POOL_SIZE);
+        int shardCount = parseShardCount(map.get(STRIMZI_SHARD_COUNT), operatorNamespace);
+        long shardLeaseDuration = parseTimeout(map.get(STRIMZI_SHARD_LEASE_DURATION_MS), DEFAULT_SHARD_LEASE_DURATION_MS);
+        String operatorIdentity = map.get(HOSTNAME);
+        long reconciliationStagger = parseReconciliationStagger(map.get(STRIMZI_RECONCILIATION_STAGGER_MS));
 
         return new ClusterOperatorConfig(
                 namespaces,
@@ -209,7 +236,11 @@ public class ClusterOperatorConfig {
                 rbacScope,
                 customResourceSelector,
                 featureGates,
-                operationsThreadPoolSize);
+                operationsThreadPoolSize,
+                shardCount,
+                shardLeaseDuration,
+                operatorIdentity,
+                reconciliationStagger);
     }
 
     private static Set<String> parseNamespaceList(String namespacesList)   {
@@ -261,6 +292,36 @@ public class ClusterOperatorConfig {
         return value;
     }
 
+    private static int parseShardCount(String shardCountEnvVar, String operatorNamespace) {
+        int shardCount = parseInt(shardCountEnvVar, DEFAULT_SHARD_COUNT);
+
+        if (shardCount < 0) {
+            throw new InvalidConfigurationException(STRIMZI_SHARD_COUNT + " cannot be negative");
+        } else if (shardCount > 0 && operatorNamespace == null) {
+            throw new InvalidConfigurationException(STRIMZI_OPERATOR_NAMESPACE + " has to be set when sharding is enabled using " + STRIMZI_SHARD_COUNT);
+        }
+
+        return shardCount;
+    }
+
+    private static long parseReconciliationStagger(String reconciliationStaggerEnvVar) {
+        long reconciliationStagger = DEFAULT_RECONCILIATION_STAGGER_MS;
+
+        if (reconciliationStaggerEnvVar != null) {
+            try {
+                reconciliationStagger = Long.parseLong(reconciliationStaggerEnvVar.trim());
+            } catch (NumberFormatException e) {
+                throw new InvalidConfigurationException(STRIMZI_RECONCILIATION_STAGGER_MS + " has to be a number of milliseconds, but was " + reconciliationStaggerEnvVar, e);
+            }
+
+            if (reconciliationStagger < 0) {
+                throw new InvalidConfigurationException(STRIMZI_RECONCILIATION_STAGGER_MS + " cannot be negative");
+            }
+        }
+
+        return reconciliationStagger;
+    }
+
     private static boolean parseCreateClusterRoles(String createClusterRolesEnvVar) {
         boolean createClusterRoles = DEFAULT_CREATE_CLUSTER_ROLES;
 
@@ -504,6 +565,41 @@ public class ClusterOperatorConfig {
         return operationsThreadPoolSize;
     }
 
+    /**
+     * @return Number of shards into which the custom resources are split between the operator replicas. 0 when sharding is disabled.
+     */
+    public int getShardCount() {
+        return shardCount;
+    }
+
+    /**
+     * @return Indicates whether the custom resources are sharded between several operator replicas
+     */
+    public boolean isShardingEnabled() {
+        return shardCount > 0;
+    }
+
+    /**
+     * @return Duration of the Leases used to coordinate the shard ownership in milliseconds
+     */
+    public long getShardLeaseDurationMs() {
+        return shardLeaseDurationMs;
+    }
+
+    /**
+     * @return Unique identity of this operator replica or null if not configured
+     */
+    public String getOperatorIdentity() {
+        return operatorIdentity;
+    }
+
+    /**
+     * @return Interval between the deferred reconciliations of the already reconciled resources in milliseconds
+     */
+    public long getReconciliationStaggerMs() {
+        return reconciliationStaggerMs;
+    }
+
     @Override
     public String toString() {
         return "ClusterOperatorConfig(" +
@@ -521,6 +617,9 @@ public class ClusterOperatorConfig {
                 ",rbacScope=" + rbacScope +
                 ",customResourceSelector=" + customResourceSelector +
                 ",featureGates=" + featureGates +
+                ",shardCount=" + shardCount +
+                ",shardLeaseDurationMs=" + shardLeaseDurationMs +
+                ",reconciliationStaggerMs=" + reconciliationStaggerMs +
                 ")";
     }
 }
@@ -18,10 +18,14 @@ public class FeatureGates {
 
     private static final String CONTROL_PLANE_LISTENER = "ControlPlaneListener";
     private static final String SERVICE_ACCOUNT_PATCHING = "ServiceAccountPatching";
+    private static final String RECONCILIATION_FAST_PATH = "ReconciliationFastPath";
+    private static final String USE_KRAFT = "UseKRaft";
 
     // When adding new feature gates, do not forget to add them to allFeatureGates() and toString() methods
     private final FeatureGate controlPlaneListener = new FeatureGate(CONTROL_PLANE_LISTENER, false);
     private final FeatureGate serviceAccountPatching = new FeatureGate(SERVICE_ACCOUNT_PATCHING, false);
+    private final FeatureGate reconciliationFastPath = new FeatureGate(RECONCILIATION_FAST_PATH, false);
+    private final FeatureGate useKRaft = new FeatureGate(USE_KRAFT, false);
 
     /**
      * Constructs the feature gates configuration.
@@ -49,6 +53,12 @@ public class FeatureGates {
                     case SERVICE_ACCOUNT_PATCHING:
                         setValueOnlyOnce(serviceAccountPatching, value);
                         break;
+                    case RECONCILIATION_FAST_PATH:
+                        setValueOnlyOnce(reconciliationFastPath, value);
+                        break;
+                    case USE_KRAFT:
+                        setValueOnlyOnce(useKRaft, value);
+                        break;
                     default:
                         throw new InvalidConfigurationException("Unknown feature gate " + featureGate + " found in the configuration");
                 }
@@ -85,6 +95,20 @@ public class FeatureGates {
         return serviceAccountPatching.isEnabled();
     }
 
+    /**
+     * @return  Returns true when the ReconciliationFastPath feature gate is enabled
+     */
+    public boolean reconciliationFastPathEnabled() {
+        return reconciliationFastPath.isEnabled();
+    }
+
+    /**
+     * @return  Returns true when the UseKRaft feature gate is enabled
+     */
+    public boolean useKRaftEnabled() {
+        return useKRaft.isEnabled();
+    }
+
     /**
      * Returns a list of all Feature gates. Used for testing.
      *
@@ -93,7 +117,9 @@ public class FeatureGates {
     /*test*/ List<FeatureGate> allFeatureGates()  {
         return List.of(
                 controlPlaneListener,
-                serviceAccountPatching
+                serviceAccountPatching,
+                reconciliationFastPath,
+                useKRaft
         );
     }
 
@@ -101,7 +127,9 @@ public class FeatureGates {
     public String toString() {
         return "FeatureGates(" +
                 "controlPlaneListener=" + controlPlaneListener.isEnabled() + "," +
-                "ServiceAccountPatching=" + serviceAccountPatching.isEnabled() +
+                "ServiceAccountPatching=" + serviceAccountPatching.isEnabled() + "," +
+                "ReconciliationFastPath=" + reconciliationFastPath.isEnabled() + "," +
+                "UseKRaft=" + useKRaft.isEnabled() +
                 ")";
     }
 
@@ -6,11 +6,11 @@ package io.strimzi.operator.cluster;
 
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import io.fabric8.kubernetes.api.model.rbac.ClusterRole;
-import io.fabric8.kubernetes.client.DefaultKubernetesClient;
 import io.fabric8.kubernetes.client.KubernetesClient;
 import io.strimzi.api.kafka.Crds;
 import io.strimzi.certs.OpenSslCertManager;
 import io.strimzi.operator.PlatformFeaturesAvailability;
+import io.strimzi.operator.cluster.model.KafkaConfiguration;
 import io.strimzi.operator.cluster.operator.assembly.KafkaAssemblyOperator;
 import io.strimzi.operator.cluster.operator.assembly.KafkaBridgeAssemblyOperator;
 import io.strimzi.operator.cluster.operator.assembly.KafkaConnectAssemblyOperator;
@@ -18,10 +18,20 @@ import io.strimzi.operator.cluster.operator.assembly.KafkaMirrorMakerAssemblyOpe
 import io.strimzi.operator.cluster.operator.assembly.KafkaMirrorMaker2AssemblyOperator;
 import io.strimzi.operator.cluster.operator.assembly.KafkaRebalanceAssemblyOperator;
 import io.strimzi.operator.cluster.operator.resource.ResourceOperatorSupplier;
+import io.strimzi.operator.common.AbstractOperator;
+import io.strimzi.operator.common.InvalidConfigurationException;
+import io.strimzi.operator.common.KubernetesOperationsExecutor;
+import io.strimzi.operator.common.KubernetesRequestMetrics;
+import io.strimzi.operator.common.MetricsProvider;
+import io.strimzi.operator.common.MicrometerMetricsProvider;
 import io.strimzi.operator.common.PasswordGenerator;
 import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.operator.common.ReconciliationStagger;
+import io.strimzi.operator.common.ShardManager;
 import io.strimzi.operator.common.Util;
+import io.strimzi.operator.common.model.NamespaceAndName;
 import io.strimzi.operator.common.operator.resource.ClusterRoleOperator;
+import io.strimzi.operator.common.operator.resource.LeaseOperator;
 import io.vertx.core.CompositeFuture;
 import io.vertx.core.Future;
 import io.vertx.core.Promise;
@@ -36,6 +46,8 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 import io.vertx.core.VertxOptions;
@@ -47,6 +59,7 @@ import org.apache.logging.log4j.Logger;
 @SuppressFBWarnings("DM_EXIT")
 public class Main {
     private static final Logger LOGGER = LogManager.getLogger(Main.class.getName());
+    private static final String SHARD_GROUP = "strimzi-cluster-operator";
 
     static {
         try {
@@ -71,33 +84,57 @@ public class Main {
                         .setJvmMetricsEnabled(true)
                         .setEnabled(true));
         Vertx vertx = Vertx.vertx(options);
+        KubernetesOperationsExecutor.configure(System.getenv());
         
-        KubernetesClient client = new DefaultKubernetesClient();
-
-        maybeCreateClusterRoles(vertx, config, client).onComplete(crs -> {
-            if (crs.succeeded())    {
-                PlatformFeaturesAvailability.create(vertx, client).onComplete(pfa -> {
-                    if (pfa.succeeded()) {
-                        LOGGER.info("Environment facts gathered: {}", pfa.result());
-
-                        run(vertx, client, pfa.result(), config).onComplete(ar -> {
-                            if (ar.failed()) {
-                                LOGGER.error("Unable to start operator for 1 or more namespace", ar.cause());
-                                System.exit(1);
-                            }
-                        });
-                    } else {
-                        LOGGER.error("Failed to gather environment facts", pfa.cause());
+        KubernetesClient client = new KubernetesRequestMetrics(new MicrometerMetricsProvider(), "cluster-operator",
+                KubernetesRequestMetrics.requestBudget(System.getenv())).createClient();
+
+        // The cluster roles, the environment facts and the warm-up do not depend on each other and run in parallel
+        Future<Void> clusterRoles = maybeCreateClusterRoles(vertx, config, client)
+                .recover(error -> Future.failedFuture(new RuntimeException("Failed to create Cluster Roles", error)));
+        Future<PlatformFeaturesAvailability> environment = PlatformFeaturesAvailability.create(vertx, client)
+                .recover(error -> Future.failedFuture(new RuntimeException("Failed to gather environment facts", error)));
+        Future<Void> warmUp = warmUp(vertx, config);
+
+        CompositeFuture.all(clusterRoles, environment, warmUp).onComplete(res -> {
+            if (res.succeeded()) {
+                LOGGER.info("Environment facts gathered: {}", environment.result());
+
+                run(vertx, client, environment.result(), config).onComplete(ar -> {
+                    if (ar.failed()) {
+                        LOGGER.error("Unable to start operator for 1 or more namespace", ar.cause());
                         System.exit(1);
                     }
                 });
-            } else  {
-                LOGGER.error("Failed to create Cluster Roles", crs.cause());
+            } else {
+                LOGGER.error("Failed to start the Cluster Operator", res.cause());
                 System.exit(1);
             }
         });
     }
 
+    /**
+     * Warms up the operator before the operators are started by loading the data which would otherwise be loaded by
+     * the first reconciliations, such as the Kafka config models.
+     *
+     * @param vertx     Vert.x instance
+     * @param config    Cluster Operator configuration
+     *
+     * @return  Future which completes when the warm-up is done
+     */
+    /*test*/ static Future<Void> warmUp(Vertx vertx, ClusterOperatorConfig config) {
+        Promise<Void> promise = Promise.promise();
+
+        vertx.executeBlocking(future -> {
+            long start = System.nanoTime();
+            KafkaConfiguration.preloadConfigModels(config.versions());
+            LOGGER.info("Config models of Kafka versions {} loaded in {}ms", config.versions().supportedVersions(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+            future.complete();
+        }, false, promise);
+
+        return promise.future();
+    }
+
     static CompositeFuture run(Vertx vertx, KubernetesClient client, PlatformFeaturesAvailability pfa, ClusterOperatorConfig config) {
         Util.printEnvInfo();
 
@@ -127,7 +164,21 @@ public class Main {
         KafkaRebalanceAssemblyOperator kafkaRebalanceAssemblyOperator =
                 new KafkaRebalanceAssemblyOperator(vertx, pfa, resourceOperatorSupplier, config);
 
-        List<Future> futures = new ArrayList<>(config.getNamespaces().size());
+        List<AbstractOperator<?, ?, ?, ?>> operators = List.of(kafkaClusterOperations, kafkaConnectClusterOperations,
+                kafkaMirrorMaker2AssemblyOperator, kafkaMirrorMakerAssemblyOperator, kafkaBridgeAssemblyOperator,
+                kafkaRebalanceAssemblyOperator);
+
+        ReconciliationStagger stagger = config.getReconciliationStaggerMs() > 0 ? new ReconciliationStagger(vertx, config.getReconciliationStaggerMs()) : null;
+        for (AbstractOperator<?, ?, ?, ?> operator : operators) {
+            operator.setReconciliationStagger(stagger);
+        }
+
+        List<Future> futures = new ArrayList<>(config.getNamespaces().size() + 1);
+
+        if (config.isShardingEnabled()) {
+            futures.add(startSharding(vertx, client, config, resourceOperatorSupplier.metricsProvider, operators));
+        }
+
         for (String namespace : config.getNamespaces()) {
             Promise<String> prom = Promise.promise();
             futures.add(prom.future());
@@ -159,6 +210,79 @@ public class Main {
         return CompositeFuture.join(futures);
     }
 
+    /**
+     * Starts the shard manager which splits the custom resources between the operator replicas. Until the initial
+     * shard assignment is done, this replica owns no shards and ignores all events. Whenever some shards are acquired
+     * (initially or after another replica left), the resources from these shards are reconciled straight away.
+     *
+     * @param vertx         Vert.x instance
+     * @param client        Kubernetes client
+     * @param config        Cluster Operator configuration
+     * @param metrics       Metrics provider
+     * @param operators     Operators which should use the shard manager
+     *
+     * @return  Future which completes when the initial shard assignment is done
+     */
+    private static Future<Void> startSharding(Vertx vertx, KubernetesClient client, ClusterOperatorConfig config, MetricsProvider metrics, List<AbstractOperator<?, ?, ?, ?>> operators) {
+        if (config.getOperatorIdentity() == null) {
+            return Future.failedFuture(new InvalidConfigurationException("The identity of the operator replica (" + ClusterOperatorConfig.HOSTNAME + ") has to be set when sharding is enabled"));
+        }
+
+        ShardManager shardManager = new ShardManager(vertx, new LeaseOperator(vertx, client), metrics,
+                config.getOperatorNamespace(), SHARD_GROUP, config.getOperatorIdentity(),
+                config.getShardCount(), config.getShardLeaseDurationMs());
+
+        for (AbstractOperator<?, ?, ?, ?> operator : operators) {
+            operator.setShardManager(shardManager);
+        }
+
+        shardManager.onShardsAcquired(shards -> {
+            for (AbstractOperator<?, ?, ?, ?> operator : operators) {
+                for (String namespace : config.getNamespaces()) {
+                    operator.allResourceNames(namespace).onSuccess(names -> {
+                        for (NamespaceAndName name : names) {
+                            if (shards.contains(ShardManager.shardOf(name, config.getShardCount()))) {
+                                operator.reconcile(new Reconciliation("shard rebalance", operator.kind(), name.getNamespace(), name.getName()));
+                            }
+                        }
+                    });
+                }
+            }
+        });
+
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> stopSharding(shardManager, config.getShardLeaseDurationMs()), "shard-manager-shutdown"));
+
+        return shardManager.start();
+    }
+
+    /**
+     * Stops the shard manager when the operator is shutting down, so that its member Lease is deleted and its shards
+     * are taken over by the other replicas straight away. There is no point in waiting longer than the Lease duration,
+     * because the Leases expire after that anyway.
+     *
+     * @param shardManager  The shard manager
+     * @param timeoutMs     How long to wait for the Leases to be deleted and released
+     */
+    private static void stopSharding(ShardManager shardManager, long timeoutMs) {
+        CountDownLatch latch = new CountDownLatch(1);
+
+        shardManager.stop().onComplete(res -> {
+            if (res.failed()) {
+                LOGGER.warn("Failed to release the shard Leases", res.cause());
+            }
+
+            latch.countDown();
+        });
+
+        try {
+            if (!latch.await(timeoutMs, TimeUnit.MILLISECONDS)) {
+                LOGGER.warn("Timed out while releasing the shard Leases");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
     /*test*/ static Future<Void> maybeCreateClusterRoles(Vertx vertx, ClusterOperatorConfig config, KubernetesClient client)  {
         if (config.isCreateClusterRoles()) {
             List<Future> futures = new ArrayList<>();
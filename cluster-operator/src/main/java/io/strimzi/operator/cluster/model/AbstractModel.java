@@ -8,9 +8,11 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
 import io.fabric8.kubernetes.api.model.Affinity;
+import io.fabric8.kubernetes.api.model.AffinityBuilder;
 import io.fabric8.kubernetes.api.model.ConfigMap;
 import io.fabric8.kubernetes.api.model.ConfigMapBuilder;
 import io.fabric8.kubernetes.api.model.Container;
+import io.fabric8.kubernetes.api.model.ContainerBuilder;
 import io.fabric8.kubernetes.api.model.ContainerPort;
 import io.fabric8.kubernetes.api.model.ContainerPortBuilder;
 import io.fabric8.kubernetes.api.model.EnvVar;
@@ -34,6 +36,7 @@ import io.fabric8.kubernetes.api.model.PodSecurityContextBuilder;
 import io.fabric8.kubernetes.api.model.Quantity;
 import io.fabric8.kubernetes.api.model.ResourceRequirements;
 import io.fabric8.kubernetes.api.model.Secret;
+import io.fabric8.kubernetes.api.model.SecurityContext;
 import io.fabric8.kubernetes.api.model.Service;
 import io.fabric8.kubernetes.api.model.ServiceAccount;
 import io.fabric8.kubernetes.api.model.ServiceAccountBuilder;
@@ -63,7 +66,9 @@ import io.fabric8.kubernetes.api.model.rbac.RoleBinding;
 import io.fabric8.kubernetes.api.model.rbac.RoleBindingBuilder;
 import io.fabric8.kubernetes.api.model.rbac.RoleBuilder;
 import io.fabric8.kubernetes.api.model.rbac.RoleRef;
+import io.fabric8.kubernetes.api.model.rbac.RoleRefBuilder;
 import io.fabric8.kubernetes.api.model.rbac.Subject;
+import io.fabric8.kubernetes.api.model.rbac.SubjectBuilder;
 import io.strimzi.api.kafka.model.ContainerEnvVar;
 import io.strimzi.api.kafka.model.ExternalLogging;
 import io.strimzi.api.kafka.model.InlineLogging;
@@ -72,6 +77,7 @@ import io.strimzi.api.kafka.model.JvmOptions;
 import io.strimzi.api.kafka.model.KafkaResources;
 import io.strimzi.api.kafka.model.Logging;
 import io.strimzi.api.kafka.model.MetricsConfig;
+import io.strimzi.api.kafka.model.Rack;
 import io.strimzi.api.kafka.model.SystemProperty;
 import io.strimzi.api.kafka.model.status.Condition;
 import io.strimzi.api.kafka.model.storage.JbodStorage;
@@ -708,6 +714,20 @@ public abstract class AbstractModel {
         }
     }
 
+    /**
+     * Validates the rack configuration of the Kafka clients. The closest replica fetching configures the Kafka brokers
+     * and is supported only in the Kafka custom resource.
+     *
+     * @param rack  Rack configuration or null if not configured
+     *
+     * @throws InvalidResourceException if the closest replica fetching is enabled
+     */
+    protected static void validateClientRack(Rack rack) {
+        if (rack != null && rack.isClosestReplicaFetching()) {
+            throw new InvalidResourceException("The closestReplicaFetching option of the rack configuration is supported only in the Kafka custom resource");
+        }
+    }
+
     /**
      * @return an implementation of AbstractConfiguration configured by a user for a component.
      */
@@ -1542,6 +1562,87 @@ public abstract class AbstractModel {
                 .build();
     }
 
+    /**
+     * Creates the ClusterRoleBinding which binds the service account of this component to the ClusterRole which
+     * permits the client rack init container to read the Kubernetes nodes.
+     *
+     * @param name  Name of the ClusterRoleBinding
+     *
+     * @return  The cluster role binding
+     */
+    protected ClusterRoleBinding getClientRackClusterRoleBinding(String name) {
+        Subject subject = new SubjectBuilder()
+                .withKind("ServiceAccount")
+                .withName(getServiceAccountName())
+                .withNamespace(namespace)
+                .build();
+
+        RoleRef roleRef = new RoleRefBuilder()
+                .withName("strimzi-kafka-client")
+                .withApiGroup("rbac.authorization.k8s.io")
+                .withKind("ClusterRole")
+                .build();
+
+        return getClusterRoleBinding(name, subject, roleRef);
+    }
+
+    /**
+     * Creates the init container which reads the rack from the labels of the Kubernetes node and stores it in the init
+     * volume. It is used to configure the {@code client.rack} option of the Kafka clients of this component.
+     *
+     * @param initImage         Image of the init container
+     * @param envVars           Environment variables of the init container
+     * @param imagePullPolicy   Image pull policy configured in the Cluster Operator
+     * @param securityContext   Security context of the init container or null if not configured
+     *
+     * @return  The init container
+     */
+    protected Container createClientRackInitContainer(String initImage, List<EnvVar> envVars, ImagePullPolicy imagePullPolicy, SecurityContext securityContext) {
+        return new ContainerBuilder()
+                .withName(INIT_NAME)
+                .withImage(initImage)
+                .withArgs("/opt/strimzi/bin/kafka_init_run.sh")
+                .withResources(ModelUtils.clientRackInitContainerResources())
+                .withEnv(envVars)
+                .withVolumeMounts(VolumeUtils.createVolumeMount(INIT_VOLUME_NAME, INIT_VOLUME_MOUNT))
+                .withImagePullPolicy(determineImagePullPolicy(imagePullPolicy, initImage))
+                .withSecurityContext(securityContext)
+                .build();
+    }
+
+    /**
+     * @param rack  Rack configuration
+     *
+     * @return  The environment variables of the client rack init container
+     */
+    protected List<EnvVar> getClientRackInitContainerEnvVars(Rack rack) {
+        List<EnvVar> varList = new ArrayList<>();
+        varList.add(buildEnvVarFromFieldRef(ENV_VAR_KAFKA_INIT_NODE_NAME, "spec.nodeName"));
+        varList.add(buildEnvVar(ENV_VAR_KAFKA_INIT_RACK_TOPOLOGY_KEY, rack.getTopologyKey()));
+
+        // Add shared environment variables used for all containers
+        varList.addAll(getRequiredEnvVars());
+
+        return varList;
+    }
+
+    /**
+     * Returns the user affinity combined with the node affinity which makes sure the pods of a rack aware client are
+     * scheduled only on the nodes with the rack label.
+     *
+     * @param rack  Rack configuration or null if rack awareness is not enabled
+     *
+     * @return  The merged affinity
+     */
+    protected Affinity getClientRackMergedAffinity(Rack rack) {
+        Affinity userAffinity = getUserAffinity();
+        AffinityBuilder builder = new AffinityBuilder(userAffinity == null ? new Affinity() : userAffinity);
+        if (rack != null) {
+            builder = ModelUtils.populateAffinityBuilderWithRackLabelSelector(builder, userAffinity, rack.getTopologyKey());
+        }
+        return builder.build();
+    }
+
     /**
      * Adds warning condition to the list of warning conditions
      *
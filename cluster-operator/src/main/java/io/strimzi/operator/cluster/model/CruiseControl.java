@@ -4,6 +4,7 @@
  */
 package io.strimzi.operator.cluster.model;
 
+import io.fabric8.kubernetes.api.model.ConfigMap;
 import io.fabric8.kubernetes.api.model.Container;
 import io.fabric8.kubernetes.api.model.ContainerBuilder;
 import io.fabric8.kubernetes.api.model.ContainerPort;
@@ -44,7 +45,9 @@ import io.strimzi.operator.cluster.ClusterOperatorConfig;
 import io.strimzi.operator.cluster.model.cruisecontrol.Capacity;
 import io.strimzi.operator.cluster.operator.resource.cruisecontrol.CruiseControlConfigurationParameters;
 import io.strimzi.operator.common.Annotations;
+import io.strimzi.operator.common.MetricsAndLogging;
 import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.operator.common.Util;
 import io.strimzi.operator.common.model.Labels;
 import io.strimzi.operator.common.model.OrderedProperties;
 
@@ -82,6 +85,12 @@ public class CruiseControl extends AbstractModel {
     /*test*/ static final String TLS_SIDECAR_TMP_DIRECTORY_DEFAULT_VOLUME_NAME = "strimzi-tls-sidecar-tmp";
 
     public static final String ANNO_STRIMZI_IO_LOGGING = Annotations.STRIMZI_DOMAIN + "logging";
+    public static final String ANNO_STRIMZI_CAPACITY_CONFIGURATION_HASH = Annotations.STRIMZI_DOMAIN + "capacity-configuration-hash";
+
+    /**
+     * Key under which the broker capacity configuration is stored in the Cruise Control ConfigMap
+     */
+    public static final String CAPACITY_CONFIG_FILENAME = "capacity.json";
 
     public static final String ENV_VAR_CRUISE_CONTROL_METRICS_ENABLED = "CRUISE_CONTROL_METRICS_ENABLED";
 
@@ -103,10 +112,7 @@ public class CruiseControl extends AbstractModel {
     private TlsSidecar tlsSidecar;
     private String tlsSidecarImage;
     private String minInsyncReplicas = "1";
-    private Double brokerDiskMiBCapacity;
-    private int brokerCpuUtilizationCapacity;
-    private Double brokerInboundNetworkKiBPerSecondCapacity;
-    private Double brokerOuboundNetworkKiBPerSecondCapacity;
+    private Capacity capacity;
 
     public static final String REST_API_PORT_NAME = "rest-api";
     public static final int REST_API_PORT = 9090;
@@ -118,10 +124,6 @@ public class CruiseControl extends AbstractModel {
     protected static final String ENV_VAR_ZOOKEEPER_CONNECT = "STRIMZI_ZOOKEEPER_CONNECT";
     protected static final String ENV_VAR_STRIMZI_KAFKA_BOOTSTRAP_SERVERS = "STRIMZI_KAFKA_BOOTSTRAP_SERVERS";
     protected static final String ENV_VAR_MIN_INSYNC_REPLICAS = "MIN_INSYNC_REPLICAS";
-    protected static final String ENV_VAR_BROKER_DISK_MIB_CAPACITY = "BROKER_DISK_MIB_CAPACITY";
-    protected static final String ENV_VAR_BROKER_CPU_UTILIZATION_CAPACITY = "BROKER_CPU_UTILIZATION_CAPACITY";
-    protected static final String ENV_VAR_BROKER_INBOUND_NETWORK_KIB_PER_SECOND_CAPACITY = "BROKER_INBOUND_NETWORK_KIB_PER_SECOND_CAPACITY";
-    protected static final String ENV_VAR_BROKER_OUTBOUND_NETWORK_KIB_PER_SECOND_CAPACITY = "BROKER_OUTBOUND_NETWORK_KIB_PER_SECOND_CAPACITY";
 
     // Templates
     protected List<ContainerEnvVar> templateCruiseControlContainerEnvVars;
@@ -172,8 +174,23 @@ public class CruiseControl extends AbstractModel {
         return KafkaCluster.serviceName(cluster) + ":" + DEFAULT_BOOTSTRAP_SERVERS_PORT;
     }
 
-    @SuppressWarnings("deprecation")
     public static CruiseControl fromCrd(Reconciliation reconciliation, Kafka kafkaAssembly, KafkaVersion.Lookup versions) {
+        return fromCrd(reconciliation, kafkaAssembly, versions, Collections.emptyMap());
+    }
+
+    /**
+     * Creates the Cruise Control model from the Kafka custom resource
+     *
+     * @param reconciliation    The reconciliation
+     * @param kafkaAssembly     The Kafka custom resource
+     * @param versions          The supported Kafka versions
+     * @param brokerDiskMiB     Actual disk capacity of the Kafka brokers in MiB indexed by the broker ID. It is used
+     *                          for the brokers with volumes of a different size than in the storage configuration.
+     *
+     * @return  The Cruise Control model or null if Cruise Control is not enabled
+     */
+    @SuppressWarnings("deprecation")
+    public static CruiseControl fromCrd(Reconciliation reconciliation, Kafka kafkaAssembly, KafkaVersion.Lookup versions, Map<Integer, Double> brokerDiskMiB) {
         CruiseControl cruiseControl = null;
         CruiseControlSpec spec = kafkaAssembly.getSpec().getCruiseControl();
         KafkaClusterSpec kafkaClusterSpec = kafkaAssembly.getSpec().getKafka();
@@ -210,11 +227,7 @@ public class CruiseControl extends AbstractModel {
                 cruiseControl.minInsyncReplicas = configuration.getConfigOption(MIN_INSYNC_REPLICAS);
             }
 
-            Capacity capacity = new Capacity(kafkaAssembly.getSpec());
-            cruiseControl.brokerDiskMiBCapacity = capacity.getDiskMiB();
-            cruiseControl.brokerCpuUtilizationCapacity = capacity.getCpuUtilization();
-            cruiseControl.brokerInboundNetworkKiBPerSecondCapacity = capacity.getInboundNetworkKiBPerSecond();
-            cruiseControl.brokerOuboundNetworkKiBPerSecondCapacity = capacity.getOutboundNetworkKiBPerSecond();
+            cruiseControl.capacity = new Capacity(kafkaAssembly.getSpec(), brokerDiskMiB);
 
             // Parse different types of metrics configurations
             ModelUtils.parseMetrics(cruiseControl, spec);
@@ -359,6 +372,19 @@ public class CruiseControl extends AbstractModel {
         return portList;
     }
 
+    /**
+     * Generates the ConfigMap with the logging and metrics configuration and with the broker capacity configuration
+     *
+     * @param metricsAndLogging The external CMs
+     * @return The generated ConfigMap.
+     */
+    @Override
+    public ConfigMap generateMetricsAndLogConfigMap(MetricsAndLogging metricsAndLogging) {
+        ConfigMap configMap = super.generateMetricsAndLogConfigMap(metricsAndLogging);
+        configMap.getData().put(CAPACITY_CONFIG_FILENAME, capacity.generateCapacityConfig());
+        return configMap;
+    }
+
     protected List<Volume> getVolumes(boolean isOpenShift) {
         return Arrays.asList(createTempDirVolume(),
                 createTempDirVolume(TLS_SIDECAR_TMP_DIRECTORY_DEFAULT_VOLUME_NAME),
@@ -387,10 +413,13 @@ public class CruiseControl extends AbstractModel {
                         .build())
                 .build();
 
+        // Cruise Control reads the capacity configuration only when it starts, so it has to be restarted when it changes
+        Map<String, String> podAnnotations = Collections.singletonMap(ANNO_STRIMZI_CAPACITY_CONFIGURATION_HASH, Util.stringHash(capacity.generateCapacityConfig()));
+
         return createDeployment(
                 updateStrategy,
                 Collections.emptyMap(),
-                Collections.emptyMap(),
+                podAnnotations,
                 getMergedAffinity(),
                 getInitContainers(imagePullPolicy),
                 getContainers(imagePullPolicy),
@@ -454,11 +483,6 @@ public class CruiseControl extends AbstractModel {
         varList.add(buildEnvVar(ENV_VAR_STRIMZI_KAFKA_GC_LOG_ENABLED, String.valueOf(gcLoggingEnabled)));
         varList.add(buildEnvVar(ENV_VAR_MIN_INSYNC_REPLICAS, String.valueOf(minInsyncReplicas)));
 
-        varList.add(buildEnvVar(ENV_VAR_BROKER_DISK_MIB_CAPACITY, String.valueOf(brokerDiskMiBCapacity)));
-        varList.add(buildEnvVar(ENV_VAR_BROKER_CPU_UTILIZATION_CAPACITY, String.valueOf(brokerCpuUtilizationCapacity)));
-        varList.add(buildEnvVar(ENV_VAR_BROKER_INBOUND_NETWORK_KIB_PER_SECOND_CAPACITY, String.valueOf(brokerInboundNetworkKiBPerSecondCapacity)));
-        varList.add(buildEnvVar(ENV_VAR_BROKER_OUTBOUND_NETWORK_KIB_PER_SECOND_CAPACITY,  String.valueOf(brokerOuboundNetworkKiBPerSecondCapacity)));
-
         heapOptions(varList, 1.0, 0L);
         jvmPerformanceOptions(varList);
 
@@ -62,6 +62,7 @@ public class EntityUserOperator extends AbstractModel {
     public static final String ENV_VAR_EO_KEY_SECRET_NAME = "STRIMZI_EO_KEY_SECRET_NAME";
     public static final String ENV_VAR_SECRET_PREFIX = "STRIMZI_SECRET_PREFIX";
     public static final String ENV_VAR_ACLS_ADMIN_API_SUPPORTED = "STRIMZI_ACLS_ADMIN_API_SUPPORTED";
+    public static final String ENV_VAR_KRAFT_ENABLED = "STRIMZI_KRAFT_ENABLED";
     public static final Probe DEFAULT_HEALTHCHECK_OPTIONS = new ProbeBuilder().withTimeoutSeconds(EntityUserOperatorSpec.DEFAULT_HEALTHCHECK_TIMEOUT)
             .withInitialDelaySeconds(EntityUserOperatorSpec.DEFAULT_HEALTHCHECK_DELAY).build();
 
@@ -79,6 +80,7 @@ public class EntityUserOperator extends AbstractModel {
     protected List<ContainerEnvVar> templateContainerEnvVars;
     protected SecurityContext templateContainerSecurityContext;
     private boolean aclsAdminApiSupported = false;
+    private boolean kraftEnabled = false;
 
     /**
      * @param reconciliation   The reconciliation
@@ -193,6 +195,18 @@ public class EntityUserOperator extends AbstractModel {
      * @return Entity User Operator instance, null if not configured in the ConfigMap
      */
     public static EntityUserOperator fromCrd(Reconciliation reconciliation, Kafka kafkaAssembly) {
+        return fromCrd(reconciliation, kafkaAssembly, false);
+    }
+
+    /**
+     * Create an Entity User Operator from given desired resource
+     *
+     * @param reconciliation The reconciliation
+     * @param kafkaAssembly desired resource with cluster configuration containing the Entity User Operator one
+     * @param kraftEnabled Indicates whether the Kafka cluster runs in the KRaft mode
+     * @return Entity User Operator instance, null if not configured in the ConfigMap
+     */
+    public static EntityUserOperator fromCrd(Reconciliation reconciliation, Kafka kafkaAssembly, boolean kraftEnabled) {
         EntityUserOperator result = null;
         EntityOperatorSpec entityOperatorSpec = kafkaAssembly.getSpec().getEntityOperator();
         if (entityOperatorSpec != null) {
@@ -241,6 +255,10 @@ public class EntityUserOperator extends AbstractModel {
                     // plugin. This information is passed to the User Operator.
                     result.aclsAdminApiSupported = kafkaAssembly.getSpec().getKafka().getAuthorization().supportsAdminApi();
                 }
+
+                // The SCRAM-SHA credentials are not supported in the KRaft mode. This information is passed to the User
+                // Operator.
+                result.kraftEnabled = kraftEnabled;
             }
         }
         return result;
@@ -281,6 +299,7 @@ public class EntityUserOperator extends AbstractModel {
         varList.add(buildEnvVar(ENV_VAR_STRIMZI_GC_LOG_ENABLED, String.valueOf(gcLoggingEnabled)));
         varList.add(buildEnvVar(ENV_VAR_SECRET_PREFIX, secretPrefix));
         varList.add(buildEnvVar(ENV_VAR_ACLS_ADMIN_API_SUPPORTED, String.valueOf(aclsAdminApiSupported)));
+        varList.add(buildEnvVar(ENV_VAR_KRAFT_ENABLED, String.valueOf(kraftEnabled)));
         EntityOperator.javaOptions(varList, getJvmOptions(), javaSystemProperties);
 
         // Add shared environment variables used for all containers
@@ -4,6 +4,8 @@
  */
 package io.strimzi.operator.cluster.model;
 
+import io.fabric8.kubernetes.api.model.Quantity;
+import io.fabric8.kubernetes.api.model.ResourceRequirements;
 import io.fabric8.kubernetes.api.model.VolumeMount;
 import io.strimzi.api.kafka.model.CertAndKeySecretSource;
 import io.strimzi.api.kafka.model.CruiseControlSpec;
@@ -12,6 +14,7 @@ import io.strimzi.api.kafka.model.KafkaAuthorizationCustom;
 import io.strimzi.api.kafka.model.KafkaAuthorizationKeycloak;
 import io.strimzi.api.kafka.model.KafkaAuthorizationOpa;
 import io.strimzi.api.kafka.model.KafkaAuthorizationSimple;
+import io.strimzi.api.kafka.model.KafkaPerformanceProfile;
 import io.strimzi.api.kafka.model.KafkaResources;
 import io.strimzi.api.kafka.model.Rack;
 import io.strimzi.api.kafka.model.listener.arraylistener.GenericKafkaListener;
@@ -26,10 +29,14 @@ import io.strimzi.kafka.oauth.server.plain.ServerPlainConfig;
 
 import java.io.PrintWriter;
 import java.io.StringWriter;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 /**
@@ -39,6 +46,9 @@ import java.util.stream.Collectors;
  * generate the configuration file, it is using the PrintWriter.
  */
 public class KafkaBrokerConfigurationBuilder {
+    private static final String REPLICA_SELECTOR_CLASS = "replica.selector.class";
+    private static final String RACK_AWARE_REPLICA_SELECTOR = "org.apache.kafka.common.replica.RackAwareReplicaSelector";
+
     private final StringWriter stringWriter = new StringWriter();
     private final PrintWriter writer = new PrintWriter(stringWriter);
 
@@ -110,16 +120,25 @@ public class KafkaBrokerConfigurationBuilder {
     }
     /**
      * Adds the template for the {@code rack.id}. The rack ID will be set in the container based on the value of the
-     * {@code STRIMZI_RACK_ID} env var. It is set only if user enabled the rack awareness-
+     * {@code STRIMZI_RACK_ID} env var. It is set only if user enabled the rack awareness. When the closest replica
+     * fetching is enabled as well, the {@code RackAwareReplicaSelector} is configured as the replica selector unless
+     * the user configured a different replica selector.
      *
-     * @param rack The Rack Awareness configuration from the Kafka CR
+     * @param rack          The Rack Awareness configuration from the Kafka CR
+     * @param userConfig    The user configuration from the Kafka CR
      *
      * @return Returns the builder instance
      */
-    public KafkaBrokerConfigurationBuilder withRackId(Rack rack)   {
+    public KafkaBrokerConfigurationBuilder withRackId(Rack rack, AbstractConfiguration userConfig)   {
         if (rack != null) {
             printSectionHeader("Rack ID");
             writer.println("broker.rack=${STRIMZI_RACK_ID}");
+
+            if (rack.isClosestReplicaFetching()
+                    && (userConfig == null || userConfig.getConfigOption(REPLICA_SELECTOR_CLASS) == null)) {
+                writer.println(REPLICA_SELECTOR_CLASS + "=" + RACK_AWARE_REPLICA_SELECTOR);
+            }
+
             writer.println();
         }
 
@@ -149,6 +168,37 @@ public class KafkaBrokerConfigurationBuilder {
         return this;
     }
 
+    /**
+     * Configures the KRaft mode where the cluster metadata are managed by a quorum of Kafka controllers instead of by
+     * ZooKeeper. All Kafka nodes have both the broker and the controller role and all of them are voters in the
+     * controller quorum. The controllers communicate using the control plane listener. The actual node ID will be
+     * replaced in the container from the {@code STRIMZI_BROKER_ID} environment variable.
+     *
+     * @param clusterName   The name of the Kafka custom resource
+     * @param namespace     Namespace of the Kafka cluster
+     * @param replicas      Number of Kafka nodes
+     *
+     * @return Returns the builder instance
+     */
+    public KafkaBrokerConfigurationBuilder withKRaft(String clusterName, String namespace, int replicas)  {
+        List<String> voters = new ArrayList<>(replicas);
+
+        for (int i = 0; i < replicas; i++) {
+            voters.add(String.format("%d@%s:9090", i,
+                    DnsNameGenerator.podDnsNameWithoutClusterDomain(namespace, KafkaResources.brokersServiceName(clusterName),
+                            KafkaResources.kafkaPodName(clusterName, i))));
+        }
+
+        printSectionHeader("KRaft");
+        writer.println("process.roles=broker,controller");
+        writer.println("node.id=${STRIMZI_BROKER_ID}");
+        writer.println("controller.listener.names=CONTROLPLANE-9090");
+        writer.println("controller.quorum.voters=" + String.join(",", voters));
+        writer.println();
+
+        return this;
+    }
+
     /**
      * Configures the listeners based on the listeners enabled by the users in the Kafka CR.
      *
@@ -161,17 +211,37 @@ public class KafkaBrokerConfigurationBuilder {
      * @return  Returns the builder instance
      */
     public KafkaBrokerConfigurationBuilder withListeners(String clusterName, String namespace, List<GenericKafkaListener> kafkaListeners, boolean controlPlaneListenerActive)  {
+        return withListeners(clusterName, namespace, kafkaListeners, controlPlaneListenerActive, false);
+    }
+
+    /**
+     * Configures the listeners based on the listeners enabled by the users in the Kafka CR. In the KRaft mode, the
+     * control plane listener is used by the KRaft controllers. It is not advertised to clients and the
+     * {@code control.plane.listener.name} option is not used.
+     *
+     * @param clusterName                   Name of the cluster (important for the advertised hostnames)
+     * @param namespace                     Namespace (important for generating the advertised hostname)
+     * @param kafkaListeners                The listeners configuration from the Kafka CR
+     * @param controlPlaneListenerActive    Activates the control plane listener (the listener is always configured,
+     *                                      but this flag tells Kafka to use it for control plane communication)
+     * @param kraftEnabled                  Indicates whether the Kafka cluster runs in the KRaft mode
+     *
+     * @return  Returns the builder instance
+     */
+    public KafkaBrokerConfigurationBuilder withListeners(String clusterName, String namespace, List<GenericKafkaListener> kafkaListeners, boolean controlPlaneListenerActive, boolean kraftEnabled)  {
         List<String> listeners = new ArrayList<>();
         List<String> advertisedListeners = new ArrayList<>();
         List<String> securityProtocol = new ArrayList<>();
 
         // Control Plane listener
         listeners.add("CONTROLPLANE-9090://0.0.0.0:9090");
-        advertisedListeners.add(String.format("CONTROLPLANE-9090://%s:9090",
-                // Pod name constructed to be templatable for each individual ordinal
-                DnsNameGenerator.podDnsNameWithoutClusterDomain(namespace, KafkaResources.brokersServiceName(clusterName),
-                        KafkaResources.kafkaStatefulSetName(clusterName) + "-${STRIMZI_BROKER_ID}")
-        ));
+        if (!kraftEnabled) {
+            advertisedListeners.add(String.format("CONTROLPLANE-9090://%s:9090",
+                    // Pod name constructed to be templatable for each individual ordinal
+                    DnsNameGenerator.podDnsNameWithoutClusterDomain(namespace, KafkaResources.brokersServiceName(clusterName),
+                            KafkaResources.kafkaStatefulSetName(clusterName) + "-${STRIMZI_BROKER_ID}")
+            ));
+        }
         securityProtocol.add("CONTROLPLANE-9090:SSL");
         configureControlPlaneListener();
 
@@ -216,7 +286,7 @@ public class KafkaBrokerConfigurationBuilder {
         writer.println("advertised.listeners=" + String.join(",", advertisedListeners));
         writer.println("listener.security.protocol.map=" + String.join(",", securityProtocol));
 
-        if (controlPlaneListenerActive) {
+        if (controlPlaneListenerActive && !kraftEnabled) {
             writer.println("control.plane.listener.name=CONTROLPLANE-9090");
         }
 
@@ -549,6 +619,101 @@ public class KafkaBrokerConfigurationBuilder {
         }
     }
 
+    /**
+     * Configures the thread pools and socket buffers derived from the CPU and memory resources of the broker
+     * containers according to the selected performance profile. The thread pools are derived from the CPU limit (or
+     * request if no limit is set) and the socket buffers from the memory limit (or request). Options which are
+     * configured by the user are not set from the profile.
+     *
+     * @param profile       Performance profile selected by the user or null if no profile is used
+     * @param resources     CPU and memory resources of the Kafka container
+     * @param userConfig    The User configuration - Kafka broker configuration options specified by the user in the Kafka custom resource
+     *
+     * @return  Returns the builder instance
+     */
+    public KafkaBrokerConfigurationBuilder withPerformanceProfile(KafkaPerformanceProfile profile, ResourceRequirements resources, AbstractConfiguration userConfig)  {
+        if (profile != null) {
+            Map<String, String> profileConfig = performanceProfileConfiguration(profile, resources);
+
+            if (userConfig != null) {
+                profileConfig.keySet().removeIf(option -> userConfig.getConfigOption(option) != null);
+            }
+
+            if (!profileConfig.isEmpty()) {
+                printSectionHeader("Performance profile " + profile.toValue());
+                profileConfig.forEach((option, value) -> writer.println(option + "=" + value));
+                writer.println();
+            }
+        }
+
+        return this;
+    }
+
+    /**
+     * Derives the configuration options for given performance profile and resources
+     *
+     * @param profile       Performance profile
+     * @param resources     CPU and memory resources of the Kafka container
+     *
+     * @return  Map with the derived configuration options
+     */
+    /* test */ static Map<String, String> performanceProfileConfiguration(KafkaPerformanceProfile profile, ResourceRequirements resources) {
+        Map<String, String> config = new LinkedHashMap<>();
+
+        BigDecimal cpus = resourceAmount(resources, "cpu");
+        if (cpus != null) {
+            int cores = Math.max(1, cpus.setScale(0, RoundingMode.CEILING).intValue());
+
+            if (profile == KafkaPerformanceProfile.LATENCY) {
+                // More network threads and replica fetchers to shorten the queues, but no extra background work
+                config.put("num.network.threads", String.valueOf(clamp(cores, 3, 32)));
+                config.put("num.io.threads", String.valueOf(clamp(cores, 8, 64)));
+                config.put("num.replica.fetchers", String.valueOf(clamp(cores, 1, 16)));
+                config.put("log.cleaner.threads", "1");
+            } else {
+                config.put("num.network.threads", String.valueOf(clamp(cores, 3, 32)));
+                config.put("num.io.threads", String.valueOf(clamp(2 * cores, 8, 64)));
+                config.put("num.replica.fetchers", String.valueOf(clamp(cores / 2, 1, 16)));
+                config.put("log.cleaner.threads", String.valueOf(clamp(cores / 4, 1, 8)));
+            }
+        }
+
+        BigDecimal memory = resourceAmount(resources, "memory");
+        if (memory != null && profile == KafkaPerformanceProfile.THROUGHPUT) {
+            // Bigger socket buffers help the throughput on high-latency networks. They use 1/8192 of the container
+            // memory (e.g. 512KiB with 4GiB of memory) between the Kafka default of 100KiB and 1MiB.
+            long buffer = clamp(memory.longValue() / 8192 / 1024 * 1024, 102_400, 1_048_576);
+            config.put("socket.send.buffer.bytes", String.valueOf(buffer));
+            config.put("socket.receive.buffer.bytes", String.valueOf(buffer));
+        }
+
+        return config;
+    }
+
+    /**
+     * Gets the amount of given resource from the limits or the requests when no limit is set.
+     *
+     * @param resources     CPU and memory resources of the container
+     * @param resource      Name of the resource (cpu or memory)
+     *
+     * @return  The amount of the resource or null if it is not set
+     */
+    private static BigDecimal resourceAmount(ResourceRequirements resources, String resource) {
+        if (resources == null) {
+            return null;
+        } else if (resources.getLimits() != null && resources.getLimits().get(resource) != null) {
+            return Quantity.getAmountInBytes(resources.getLimits().get(resource));
+        } else if (resources.getRequests() != null && resources.getRequests().get(resource) != null) {
+            return Quantity.getAmountInBytes(resources.getRequests().get(resource));
+        } else {
+            return null;
+        }
+    }
+
+    private static long clamp(long value, long min, long max) {
+        return Math.max(min, Math.min(max, value));
+    }
+
     /**
      * Configures the configuration options passed by the user in the Kafka CR.
      *
@@ -54,7 +54,9 @@ import io.strimzi.api.kafka.model.InlineLogging;
 import io.strimzi.api.kafka.model.Kafka;
 import io.strimzi.api.kafka.model.KafkaAuthorization;
 import io.strimzi.api.kafka.model.KafkaAuthorizationKeycloak;
+import io.strimzi.api.kafka.model.KafkaAuthorizationSimple;
 import io.strimzi.api.kafka.model.KafkaClusterSpec;
+import io.strimzi.api.kafka.model.KafkaPerformanceProfile;
 import io.strimzi.api.kafka.model.KafkaResources;
 import io.strimzi.api.kafka.model.KafkaSpec;
 import io.strimzi.api.kafka.model.Logging;
@@ -62,6 +64,7 @@ import io.strimzi.api.kafka.model.Probe;
 import io.strimzi.api.kafka.model.ProbeBuilder;
 import io.strimzi.api.kafka.model.Rack;
 import io.strimzi.api.kafka.model.listener.KafkaListenerAuthenticationOAuth;
+import io.strimzi.api.kafka.model.listener.KafkaListenerAuthenticationScramSha512;
 import io.strimzi.api.kafka.model.listener.NodeAddressType;
 import io.strimzi.api.kafka.model.listener.arraylistener.GenericKafkaListener;
 import io.strimzi.api.kafka.model.listener.arraylistener.KafkaListenerType;
@@ -86,6 +89,7 @@ import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Base64;
@@ -95,6 +99,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.UUID;
 import java.util.stream.Collectors;
 
 import static io.strimzi.operator.cluster.model.ListenersUtils.isListenerWithOAuth;
@@ -172,6 +177,8 @@ public class KafkaCluster extends AbstractModel {
 
     // Env vars for JMX service
     protected static final String ENV_VAR_KAFKA_JMX_ENABLED = "KAFKA_JMX_ENABLED";
+    protected static final String ENV_VAR_STRIMZI_KRAFT_ENABLED = "STRIMZI_KRAFT_ENABLED";
+    protected static final String ENV_VAR_STRIMZI_CLUSTER_ID = "STRIMZI_CLUSTER_ID";
 
     // Name of the broker configuration file in the config map
     public static final String BROKER_CONFIGURATION_FILENAME = "server.config";
@@ -183,8 +190,14 @@ public class KafkaCluster extends AbstractModel {
     private static final String CRUISE_CONTROL_DEFAULT_NUM_PARTITIONS = "1";
     private static final String CRUISE_CONTROL_DEFAULT_REPLICATION_FACTOR = "1";
 
+    // The oldest Kafka version with the KRaft mode
+    private static final String KRAFT_MINIMAL_KAFKA_VERSION = "2.8.0";
+
     // Kafka configuration
     private Rack rack;
+    private KafkaPerformanceProfile performanceProfile;
+    private boolean kraftEnabled = false;
+    private String kraftClusterId;
     private String initImage;
     private List<GenericKafkaListener> listeners;
     private KafkaAuthorization authorization;
@@ -364,8 +377,24 @@ public class KafkaCluster extends AbstractModel {
         return fromCrd(reconciliation, kafkaAssembly, versions, null, 0);
     }
 
-    @SuppressWarnings({"checkstyle:MethodLength", "checkstyle:JavaNCSS"})
     public static KafkaCluster fromCrd(Reconciliation reconciliation, Kafka kafkaAssembly, KafkaVersion.Lookup versions, Storage oldStorage, int oldReplicas) {
+        return fromCrd(reconciliation, kafkaAssembly, versions, oldStorage, oldReplicas, false);
+    }
+
+    /**
+     * Creates the Kafka cluster model from the Kafka custom resource
+     *
+     * @param reconciliation    The reconciliation
+     * @param kafkaAssembly     Kafka custom resource
+     * @param versions          Supported Kafka versions
+     * @param oldStorage        The current storage configuration (or null if the cluster does not exist yet)
+     * @param oldReplicas       The current number of Kafka nodes (or 0 if the cluster does not exist yet)
+     * @param kraftEnabled      Indicates whether the Kafka cluster should run in the KRaft mode without ZooKeeper
+     *
+     * @return  Kafka cluster model
+     */
+    @SuppressWarnings({"checkstyle:MethodLength", "checkstyle:JavaNCSS"})
+    public static KafkaCluster fromCrd(Reconciliation reconciliation, Kafka kafkaAssembly, KafkaVersion.Lookup versions, Storage oldStorage, int oldReplicas, boolean kraftEnabled) {
         KafkaCluster result = new KafkaCluster(reconciliation, kafkaAssembly);
 
         result.setOwnerReference(kafkaAssembly);
@@ -375,6 +404,12 @@ public class KafkaCluster extends AbstractModel {
 
         result.setReplicas(kafkaClusterSpec.getReplicas());
 
+        if (kraftEnabled) {
+            validateKRaft(reconciliation, kafkaAssembly, versions, oldReplicas);
+            result.kraftEnabled = true;
+            result.kraftClusterId = kraftClusterId(kafkaAssembly);
+        }
+
         validateIntConfigProperty("default.replication.factor", kafkaClusterSpec);
         validateIntConfigProperty("offsets.topic.replication.factor", kafkaClusterSpec);
         validateIntConfigProperty("transaction.state.log.replication.factor", kafkaClusterSpec);
@@ -456,6 +491,7 @@ public class KafkaCluster extends AbstractModel {
         result.setDataVolumesClaimsAndMountPaths(result.getStorage());
 
         result.setResources(kafkaClusterSpec.getResources());
+        result.performanceProfile = kafkaClusterSpec.getPerformanceProfile();
 
         // Configure listeners
         if (kafkaClusterSpec.getListeners() == null || kafkaClusterSpec.getListeners().isEmpty()) {
@@ -625,6 +661,88 @@ public class KafkaCluster extends AbstractModel {
         }
     }
 
+    /**
+     * Validates that the Kafka cluster does not use any features which are not supported in the KRaft mode. Kafka 2.8
+     * does not support multiple log directories, the ZooKeeper based ACL authorizer, SCRAM-SHA credentials or changing
+     * the controller quorum in the KRaft mode. The Topic Operator and Cruise Control need ZooKeeper as well.
+     *
+     * @param reconciliation    The reconciliation
+     * @param kafkaAssembly     Kafka custom resource
+     * @param versions          Supported Kafka versions
+     * @param oldReplicas       The current number of Kafka nodes (or 0 if the cluster does not exist yet)
+     */
+    private static void validateKRaft(Reconciliation reconciliation, Kafka kafkaAssembly, KafkaVersion.Lookup versions, int oldReplicas) {
+        KafkaSpec kafkaSpec = kafkaAssembly.getSpec();
+        KafkaClusterSpec kafkaClusterSpec = kafkaSpec.getKafka();
+        List<String> errors = new ArrayList<>();
+
+        if (KafkaVersion.compareDottedVersions(versions.version(kafkaClusterSpec.getVersion()).version(), KRAFT_MINIMAL_KAFKA_VERSION) < 0) {
+            errors.add("the KRaft mode requires Kafka " + KRAFT_MINIMAL_KAFKA_VERSION + " or newer");
+        }
+
+        if (kafkaClusterSpec.getStorage() instanceof JbodStorage
+                && ((JbodStorage) kafkaClusterSpec.getStorage()).getVolumes().size() > 1) {
+            errors.add("JBOD storage with multiple volumes is not supported");
+        }
+
+        if (kafkaClusterSpec.getAuthorization() instanceof KafkaAuthorizationSimple
+                || (kafkaClusterSpec.getAuthorization() instanceof KafkaAuthorizationKeycloak
+                    && ((KafkaAuthorizationKeycloak) kafkaClusterSpec.getAuthorization()).isDelegateToKafkaAcls())) {
+            errors.add("authorization using Kafka ACLs is not supported");
+        }
+
+        if (kafkaClusterSpec.getListeners() != null
+                && kafkaClusterSpec.getListeners().stream().anyMatch(listener -> listener.getAuth() instanceof KafkaListenerAuthenticationScramSha512)) {
+            errors.add("SCRAM-SHA-512 authentication is not supported");
+        }
+
+        if (oldReplicas > 0 && oldReplicas != kafkaClusterSpec.getReplicas()) {
+            errors.add("scaling the Kafka cluster is not supported");
+        }
+
+        if (kafkaSpec.getEntityOperator() != null && kafkaSpec.getEntityOperator().getTopicOperator() != null) {
+            errors.add("the Topic Operator is not supported");
+        }
+
+        if (kafkaSpec.getCruiseControl() != null) {
+            errors.add("Cruise Control is not supported");
+        }
+
+        if (!errors.isEmpty()) {
+            LOGGER.warnCr(reconciliation, "Kafka {}/{} cannot run in the KRaft mode: {}",
+                    kafkaAssembly.getMetadata().getNamespace(),
+                    kafkaAssembly.getMetadata().getName(),
+                    String.join(", ", errors));
+
+            throw new InvalidResourceException("Kafka " +
+                    kafkaAssembly.getMetadata().getNamespace() + "/" + kafkaAssembly.getMetadata().getName() +
+                    " has invalid configuration for the KRaft mode: " +
+                    String.join(", ", errors));
+        }
+    }
+
+    /**
+     * Generates the KRaft cluster ID used to format the storage of the Kafka nodes. The ID is derived from the UID of
+     * the Kafka custom resource, so it is the same in every reconciliation, and uses the format of the Kafka UUIDs
+     * (URL-safe Base64 encoded 16 bytes without padding).
+     *
+     * @param kafkaAssembly     Kafka custom resource
+     *
+     * @return  The KRaft cluster ID
+     */
+    /*test*/ static String kraftClusterId(Kafka kafkaAssembly) {
+        String uid = kafkaAssembly.getMetadata().getUid();
+        UUID uuid = uid != null
+                ? UUID.fromString(uid)
+                : UUID.nameUUIDFromBytes((kafkaAssembly.getMetadata().getNamespace() + "/" + kafkaAssembly.getMetadata().getName()).getBytes(StandardCharsets.UTF_8));
+
+        ByteBuffer bytes = ByteBuffer.allocate(16);
+        bytes.putLong(uuid.getMostSignificantBits());
+        bytes.putLong(uuid.getLeastSignificantBits());
+
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes.array());
+    }
+
     /**
      * Validates the Kafka broker configuration against the configuration options of the desired Kafka version.
      *
@@ -1614,6 +1732,11 @@ public class KafkaCluster extends AbstractModel {
             }
         }
 
+        if (kraftEnabled) {
+            varList.add(buildEnvVar(ENV_VAR_STRIMZI_KRAFT_ENABLED, "true"));
+            varList.add(buildEnvVar(ENV_VAR_STRIMZI_CLUSTER_ID, kraftClusterId));
+        }
+
         if (isJmxEnabled()) {
             varList.add(buildEnvVar(ENV_VAR_KAFKA_JMX_ENABLED, "true"));
             if (isJmxAuthenticated) {
@@ -1973,14 +2096,22 @@ public class KafkaCluster extends AbstractModel {
     }
 
     private String generateBrokerConfiguration(boolean controlPlaneListener)   {
-        return new KafkaBrokerConfigurationBuilder()
+        KafkaBrokerConfigurationBuilder builder = new KafkaBrokerConfigurationBuilder()
                 .withBrokerId()
-                .withRackId(rack)
-                .withZookeeper(cluster)
+                .withRackId(rack, configuration);
+
+        if (kraftEnabled) {
+            builder.withKRaft(cluster, namespace, replicas);
+        } else {
+            builder.withZookeeper(cluster);
+        }
+
+        return builder
                 .withLogDirs(VolumeUtils.getDataVolumeMountPaths(storage, mountPath))
-                .withListeners(cluster, namespace, listeners, controlPlaneListener)
+                .withListeners(cluster, namespace, listeners, controlPlaneListener, kraftEnabled)
                 .withAuthorization(cluster, authorization)
                 .withCruiseControl(cluster, cruiseControlSpec, ccNumPartitions, ccReplicationFactor, ccMinInSyncReplicas)
+                .withPerformanceProfile(performanceProfile, getResources(), configuration)
                 .withUserConfiguration(configuration)
                 .build().trim();
     }
@@ -2003,6 +2134,32 @@ public class KafkaCluster extends AbstractModel {
         return cm;
     }
 
+    /**
+     * @return  True if the Kafka cluster runs in the KRaft mode without ZooKeeper. False otherwise.
+     */
+    public boolean isKRaftEnabled() {
+        return kraftEnabled;
+    }
+
+    /**
+     * Checks whether an existing Kafka StatefulSet runs the Kafka nodes in the KRaft mode. The KRaft mode is indicated
+     * by the STRIMZI_KRAFT_ENABLED environment variable of the Kafka container.
+     *
+     * @param sts   The Kafka StatefulSet
+     *
+     * @return  True if the Kafka nodes run in the KRaft mode. False if they use ZooKeeper.
+     */
+    public static boolean isKRaftStatefulSet(StatefulSet sts) {
+        if (sts.getSpec() == null || sts.getSpec().getTemplate() == null || sts.getSpec().getTemplate().getSpec() == null) {
+            return false;
+        }
+
+        return sts.getSpec().getTemplate().getSpec().getContainers().stream()
+                .filter(container -> KAFKA_NAME.equals(container.getName()) && container.getEnv() != null)
+                .flatMap(container -> container.getEnv().stream())
+                .anyMatch(env -> ENV_VAR_STRIMZI_KRAFT_ENABLED.equals(env.getName()) && "true".equals(env.getValue()));
+    }
+
     public KafkaVersion getKafkaVersion() {
         return this.kafkaVersion;
     }
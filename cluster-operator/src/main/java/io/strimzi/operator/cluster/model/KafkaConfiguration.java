@@ -11,6 +11,8 @@ import io.strimzi.kafka.config.model.ConfigModel;
 import io.strimzi.kafka.config.model.ConfigModels;
 import io.strimzi.kafka.config.model.Scope;
 import io.strimzi.operator.common.Reconciliation;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
 
 import java.io.IOException;
 import java.io.InputStream;
@@ -20,6 +22,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 import static java.util.Collections.emptyList;
@@ -32,6 +35,11 @@ public class KafkaConfiguration extends AbstractConfiguration {
     public static final String INTERBROKER_PROTOCOL_VERSION = "inter.broker.protocol.version";
     public static final String LOG_MESSAGE_FORMAT_VERSION = "log.message.format.version";
 
+    private static final Logger LOGGER = LogManager.getLogger(KafkaConfiguration.class.getName());
+
+    // Parsed config models indexed by the Kafka version
+    private static final Map<String, Map<String, ConfigModel>> CONFIG_MODELS = new ConcurrentHashMap<>();
+
     private static final List<String> FORBIDDEN_PREFIXES;
     private static final List<String> FORBIDDEN_PREFIX_EXCEPTIONS;
 
@@ -102,11 +110,31 @@ public class KafkaConfiguration extends AbstractConfiguration {
     }
 
     /**
-     * Gets the config model for the given version of the Kafka broker.
+     * Gets the config model for the given version of the Kafka broker. The config models are parsed only once and
+     * cached for the lifetime of the operator.
      * @param kafkaVersion The broker version.
      * @return The config model for that broker version.
      */
     public static Map<String, ConfigModel> readConfigModel(KafkaVersion kafkaVersion) {
+        return CONFIG_MODELS.computeIfAbsent(kafkaVersion.version(), version -> parseConfigModel(kafkaVersion));
+    }
+
+    /**
+     * Reads the config models of all supported Kafka versions into the cache, so that the first reconciliations do
+     * not have to parse them. Versions without a config model are skipped.
+     * @param versions The Kafka versions.
+     */
+    public static void preloadConfigModels(KafkaVersion.Lookup versions) {
+        for (String version : versions.supportedVersions()) {
+            try {
+                readConfigModel(versions.version(version));
+            } catch (RuntimeException e) {
+                LOGGER.warn("Failed to preload the config model of Kafka version {}", version, e);
+            }
+        }
+    }
+
+    private static Map<String, ConfigModel> parseConfigModel(KafkaVersion kafkaVersion) {
         String name = "/kafka-" + kafkaVersion.version() + "-config-model.json";
         try {
             try (InputStream in = KafkaConfiguration.class.getResourceAsStream(name)) {
@@ -114,7 +142,7 @@ public class KafkaConfiguration extends AbstractConfiguration {
                 if (!kafkaVersion.version().equals(configModels.getVersion())) {
                     throw new RuntimeException("Incorrect version");
                 }
-                return configModels.getConfigs();
+                return Collections.unmodifiableMap(configModels.getConfigs());
             }
         } catch (IOException e) {
             throw new RuntimeException("Error reading from classpath resource " + name, e);
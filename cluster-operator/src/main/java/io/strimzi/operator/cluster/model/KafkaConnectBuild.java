@@ -54,6 +54,7 @@ public class KafkaConnectBuild extends AbstractModel {
     private Map<String, String> templateBuildConfigAnnotations;
     private String baseImage;
     private List<String> additionalKanikoOptions;
+    private boolean layerCaching = false;
 
     /**
      * Constructor
@@ -97,6 +98,7 @@ public class KafkaConnectBuild extends AbstractModel {
                         && !dockerOutput.getAdditionalKanikoOptions().isEmpty())  {
                     validateAdditionalKanikoOptions(dockerOutput.getAdditionalKanikoOptions());
                     build.additionalKanikoOptions = dockerOutput.getAdditionalKanikoOptions();
+                    build.layerCaching = isLayerCachingEnabled(dockerOutput.getAdditionalKanikoOptions());
                 }
             }
         }
@@ -180,6 +182,17 @@ public class KafkaConnectBuild extends AbstractModel {
         }
     }
 
+    /**
+     * Checks whether the Kaniko layer caching is enabled in the additional Kaniko options configured by the user.
+     *
+     * @param options   List of additional Kaniko options configured by the user
+     *
+     * @return  True if the --cache option is enabled. False otherwise.
+     */
+    private static boolean isLayerCachingEnabled(List<String> options)  {
+        return options.stream().anyMatch(option -> "--cache".equals(option) || "--cache=true".equals(option));
+    }
+
     /**
      * Returns the build configuration of the KafkaConnect CR
      *
@@ -214,12 +227,14 @@ public class KafkaConnectBuild extends AbstractModel {
     }
 
     /**
-     * Generates the Dockerfile based on the Kafka Connect build configuration.
+     * Generates the Dockerfile based on the Kafka Connect build configuration. When the Kaniko layer caching is
+     * enabled, the Dockerfile uses a separate build stage for each connector plugin so that the cached layers of the
+     * unchanged plugins can be reused.
      *
      * @return  Instance of the KafkaConnectDockerfile class with the prepared Dockerfile
      */
     public KafkaConnectDockerfile generateDockerfile()  {
-        return new KafkaConnectDockerfile(baseImage, build);
+        return new KafkaConnectDockerfile(baseImage, build, layerCaching);
     }
 
     /**
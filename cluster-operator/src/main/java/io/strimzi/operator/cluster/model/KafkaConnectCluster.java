@@ -5,7 +5,6 @@
 package io.strimzi.operator.cluster.model;
 
 import io.fabric8.kubernetes.api.model.Affinity;
-import io.fabric8.kubernetes.api.model.AffinityBuilder;
 import io.fabric8.kubernetes.api.model.ConfigMapVolumeSource;
 import io.fabric8.kubernetes.api.model.Container;
 import io.fabric8.kubernetes.api.model.ContainerBuilder;
@@ -16,9 +15,6 @@ import io.fabric8.kubernetes.api.model.EnvVarSource;
 import io.fabric8.kubernetes.api.model.EnvVarSourceBuilder;
 import io.fabric8.kubernetes.api.model.HasMetadata;
 import io.fabric8.kubernetes.api.model.LocalObjectReference;
-import io.fabric8.kubernetes.api.model.Quantity;
-import io.fabric8.kubernetes.api.model.ResourceRequirements;
-import io.fabric8.kubernetes.api.model.ResourceRequirementsBuilder;
 import io.fabric8.kubernetes.api.model.SecretVolumeSource;
 import io.fabric8.kubernetes.api.model.SecurityContext;
 import io.fabric8.kubernetes.api.model.Service;
@@ -37,10 +33,6 @@ import io.fabric8.kubernetes.api.model.networking.v1.NetworkPolicyPeer;
 import io.fabric8.kubernetes.api.model.networking.v1.NetworkPolicyPeerBuilder;
 import io.fabric8.kubernetes.api.model.policy.v1beta1.PodDisruptionBudget;
 import io.fabric8.kubernetes.api.model.rbac.ClusterRoleBinding;
-import io.fabric8.kubernetes.api.model.rbac.RoleRef;
-import io.fabric8.kubernetes.api.model.rbac.RoleRefBuilder;
-import io.fabric8.kubernetes.api.model.rbac.Subject;
-import io.fabric8.kubernetes.api.model.rbac.SubjectBuilder;
 import io.strimzi.api.kafka.model.CertSecretSource;
 import io.strimzi.api.kafka.model.ContainerEnvVar;
 import io.strimzi.api.kafka.model.KafkaConnect;
@@ -230,6 +222,7 @@ public class KafkaConnectCluster extends AbstractModel {
             kafkaConnect.setLivenessProbe(spec.getLivenessProbe());
         }
 
+        validateClientRack(spec.getRack());
         kafkaConnect.setRack(spec.getRack());
 
         String initImage = spec.getClientRackInitImage();
@@ -456,12 +449,7 @@ public class KafkaConnectCluster extends AbstractModel {
      */
     @Override
     protected Affinity getMergedAffinity() {
-        Affinity userAffinity = getUserAffinity();
-        AffinityBuilder builder = new AffinityBuilder(userAffinity == null ? new Affinity() : userAffinity);
-        if (rack != null) {
-            builder = ModelUtils.populateAffinityBuilderWithRackLabelSelector(builder, userAffinity, rack.getTopologyKey());
-        }
-        return builder.build();
+        return getClientRackMergedAffinity(rack);
     }
 
     public Deployment generateDeployment(Map<String, String> annotations, boolean isOpenShift, ImagePullPolicy imagePullPolicy, List<LocalObjectReference> imagePullSecrets) {
@@ -501,13 +489,7 @@ public class KafkaConnectCluster extends AbstractModel {
     }
 
     protected List<EnvVar> getInitContainerEnvVars() {
-        List<EnvVar> varList = new ArrayList<>();
-        varList.add(buildEnvVarFromFieldRef(ENV_VAR_KAFKA_INIT_NODE_NAME, "spec.nodeName"));
-
-        varList.add(buildEnvVar(ENV_VAR_KAFKA_INIT_RACK_TOPOLOGY_KEY, rack.getTopologyKey()));
-
-        // Add shared environment variables used for all containers
-        varList.addAll(getRequiredEnvVars());
+        List<EnvVar> varList = getClientRackInitContainerEnvVars(rack);
 
         addContainerEnvsToExistingEnvs(varList, templateInitContainerEnvVars);
 
@@ -519,32 +501,12 @@ public class KafkaConnectCluster extends AbstractModel {
         List<Container> initContainers = new ArrayList<>(1);
 
         if (rack != null) {
-            Container initContainer = new ContainerBuilder()
-                    .withName(INIT_NAME)
-                    .withImage(initImage)
-                    .withArgs("/opt/strimzi/bin/kafka_init_run.sh")
-                    .withResources(getInitContainerResourceResourceRequirements())
-                    .withEnv(getInitContainerEnvVars())
-                    .withVolumeMounts(VolumeUtils.createVolumeMount(INIT_VOLUME_NAME, INIT_VOLUME_MOUNT))
-                    .withImagePullPolicy(determineImagePullPolicy(imagePullPolicy, initImage))
-                    .withSecurityContext(templateInitContainerSecurityContext)
-                    .build();
-
-            initContainers.add(initContainer);
+            initContainers.add(createClientRackInitContainer(initImage, getInitContainerEnvVars(), imagePullPolicy, templateInitContainerSecurityContext));
         }
 
         return initContainers;
     }
 
-    private ResourceRequirements getInitContainerResourceResourceRequirements() {
-        return new ResourceRequirementsBuilder()
-                .addToRequests("cpu", new Quantity("100m"))
-                .addToRequests("memory", new Quantity("128Mi"))
-                .addToLimits("cpu", new Quantity("1"))
-                .addToLimits("memory", new Quantity("256Mi"))
-                .build();
-    }
-
     protected String getCommand() {
         return "/opt/kafka/kafka_connect_run.sh";
     }
@@ -650,6 +612,10 @@ public class KafkaConnectCluster extends AbstractModel {
         this.rack = rack;
     }
 
+    public Rack getRack() {
+        return rack;
+    }
+
     protected void setInitImage(String initImage) {
         this.initImage = initImage;
     }
@@ -855,19 +821,14 @@ public class KafkaConnectCluster extends AbstractModel {
             return null;
         }
 
-        Subject subject = new SubjectBuilder()
-                .withKind("ServiceAccount")
-                .withName(getServiceAccountName())
-                .withNamespace(namespace)
-                .build();
-
-        RoleRef roleRef = new RoleRefBuilder()
-                .withName("strimzi-kafka-client")
-                .withApiGroup("rbac.authorization.k8s.io")
-                .withKind("ClusterRole")
-                .build();
+        return getClientRackClusterRoleBinding(getInitContainerClusterRoleBindingName());
+    }
 
-        return getClusterRoleBinding(KafkaConnectResources.initContainerClusterRoleBindingName(cluster, namespace), subject, roleRef);
+    /**
+     * @return  The name of the ClusterRoleBinding used by the init container
+     */
+    public String getInitContainerClusterRoleBindingName() {
+        return KafkaConnectResources.initContainerClusterRoleBindingName(cluster, namespace);
     }
 
     @Override
@@ -18,16 +18,23 @@ import java.io.PrintWriter;
 import java.io.StringWriter;
 import java.util.List;
 import java.util.Locale;
+import java.util.stream.Collectors;
 
 /**
  * This class is used to generate the Dockerfile used by Kafka Connect Build. It takes the API definition with the
  * desired plugins and generates a Dockerfile which pulls and installs them. To generate the Dockerfile, it is using
  * the PrintWriter.
+ *
+ * The Dockerfile can be generated in two layouts. By default, all plugins are downloaded one after another in a single
+ * build stage. In the layered layout, each plugin is downloaded in its own build stage and only copied into the final
+ * image. The layers of each stage depend only on the base image and on the artifacts (URLs and checksums) of the given
+ * plugin. So when the layer caching is used, changing one plugin does not invalidate the cached layers of the others.
  */
 public class KafkaConnectDockerfile {
     private static final String BASE_PLUGIN_PATH = "/opt/kafka/plugins/";
     private static final String ROOT_USER = "root:root";
     private static final String NON_PRIVILEGED_USER = "1001";
+    private static final String PLUGIN_STAGE_PREFIX = "plugin-";
 
     private static final String ENV_VAR_HTTP_PROXY = "HTTP_PROXY";
     private static final String ENV_VAR_HTTPS_PROXY = "HTTPS_PROXY";
@@ -46,14 +53,39 @@ public class KafkaConnectDockerfile {
      * @param connectBuild  The Build definition from the API
      */
     public KafkaConnectDockerfile(String fromImage, Build connectBuild) {
+        this(fromImage, connectBuild, false);
+    }
+
+    /**
+     * Broker configuration template constructor
+     *
+     * @param fromImage     Image which should be used as a base image in the FROM statement
+     * @param connectBuild  The Build definition from the API
+     * @param layered       Indicates whether each plugin should be downloaded in its own build stage
+     */
+    public KafkaConnectDockerfile(String fromImage, Build connectBuild, boolean layered) {
         StringWriter stringWriter = new StringWriter();
         PrintWriter writer = new PrintWriter(stringWriter);
 
         printHeader(writer); // Print initial comment
-        from(writer, fromImage); // Create FROM statement
-        user(writer, ROOT_USER); // Switch to root user to be able to add plugins
-        proxy(writer); // Configures proxy environment variables
-        connectorPlugins(writer, connectBuild.getPlugins());
+
+        if (layered) {
+            List<Plugin> plugins = connectBuild.getPlugins().stream()
+                    .filter(plugin -> plugin.getArtifacts() != null && !plugin.getArtifacts().isEmpty())
+                    .collect(Collectors.toList());
+
+            connectorPluginStages(writer, fromImage, plugins); // Download each plugin in its own build stage
+            printSectionHeader(writer, "Kafka Connect image");
+            from(writer, fromImage); // Create FROM statement
+            user(writer, ROOT_USER); // Switch to root user to be able to add plugins
+            copyConnectorPlugins(writer, plugins); // Copy the plugins from their build stages
+        } else {
+            from(writer, fromImage); // Create FROM statement
+            user(writer, ROOT_USER); // Switch to root user to be able to add plugins
+            proxy(writer); // Configures proxy environment variables
+            connectorPlugins(writer, connectBuild.getPlugins());
+        }
+
         user(writer, NON_PRIVILEGED_USER); // Switch back to the regular unprivileged user
 
         dockerfile = stringWriter.toString();
@@ -118,15 +150,60 @@ public class KafkaConnectDockerfile {
     }
 
     /**
-     * Adds a particular connector plugin to the container image. It will go through the individual artifacts and add
-     * them one by one depending on their type.
+     * Adds a separate build stage for each connector plugin. Each stage starts from the base image and downloads and
+     * possibly unpacks the artifacts of a single plugin.
+     *
+     * @param writer        Writer for printing the Docker commands
+     * @param fromImage     Base image which should be used
+     * @param plugins       List of plugins which should be added to the container image
+     */
+    private void connectorPluginStages(PrintWriter writer, String fromImage, List<Plugin> plugins) {
+        for (Plugin plugin : plugins)   {
+            printSectionHeader(writer, "Connector plugin " + plugin.getName());
+            writer.println("FROM " + fromImage + " AS " + PLUGIN_STAGE_PREFIX + plugin.getName());
+            writer.println();
+            user(writer, ROOT_USER);
+            proxy(writer);
+            addArtifacts(writer, plugin);
+        }
+    }
+
+    /**
+     * Copies the connector plugins downloaded in the separate build stages into the final container image.
+     *
+     * @param writer    Writer for printing the Docker commands
+     * @param plugins   List of plugins which should be added to the container image
+     */
+    private void copyConnectorPlugins(PrintWriter writer, List<Plugin> plugins) {
+        for (Plugin plugin : plugins)   {
+            String connectorPath = BASE_PLUGIN_PATH + plugin.getName();
+            writer.println("COPY --from=" + PLUGIN_STAGE_PREFIX + plugin.getName() + " " + connectorPath + " " + connectorPath);
+        }
+
+        if (!plugins.isEmpty()) {
+            writer.println();
+        }
+    }
+
+    /**
+     * Adds a particular connector plugin to the container image.
      *
      * @param writer    Writer for printing the Docker commands
      * @param plugin    A single plugin which should be added to the new container image
      */
     private void addPlugin(PrintWriter writer, Plugin plugin)    {
         printSectionHeader(writer, "Connector plugin " + plugin.getName());
+        addArtifacts(writer, plugin);
+    }
 
+    /**
+     * Adds the artifacts of a particular connector plugin. It will go through the individual artifacts and add them
+     * one by one depending on their type.
+     *
+     * @param writer    Writer for printing the Docker commands
+     * @param plugin    A single plugin which should be added to the new container image
+     */
+    private void addArtifacts(PrintWriter writer, Plugin plugin)    {
         String connectorPath = BASE_PLUGIN_PATH + plugin.getName();
 
         for (Artifact art : plugin.getArtifacts())  {
@@ -133,6 +133,8 @@ public class KafkaMirrorMaker2Cluster extends KafkaConnectCluster {
                 .withTracing(spec.getTracing())
                 .withTemplate(spec.getTemplate())
                 .withExternalConfiguration(spec.getExternalConfiguration())
+                .withRack(spec.getRack())
+                .withClientRackInitImage(spec.getClientRackInitImage())
                 .build();
 
     }
@@ -147,6 +149,11 @@ public class KafkaMirrorMaker2Cluster extends KafkaConnectCluster {
         return KafkaMirrorMaker2Resources.serviceAccountName(cluster);
     }
 
+    @Override
+    public String getInitContainerClusterRoleBindingName() {
+        return KafkaMirrorMaker2Resources.initContainerClusterRoleBindingName(cluster, namespace);
+    }
+
     @Override
     protected List<Volume> getVolumes(boolean isOpenShift) {
         List<Volume> volumeList = super.getVolumes(isOpenShift);
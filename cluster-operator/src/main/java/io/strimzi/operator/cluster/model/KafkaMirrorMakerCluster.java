@@ -4,6 +4,7 @@
  */
 package io.strimzi.operator.cluster.model;
 
+import io.fabric8.kubernetes.api.model.Affinity;
 import io.fabric8.kubernetes.api.model.Container;
 import io.fabric8.kubernetes.api.model.ContainerBuilder;
 import io.fabric8.kubernetes.api.model.ContainerPort;
@@ -15,6 +16,7 @@ import io.fabric8.kubernetes.api.model.Volume;
 import io.fabric8.kubernetes.api.model.VolumeMount;
 import io.fabric8.kubernetes.api.model.apps.Deployment;
 import io.fabric8.kubernetes.api.model.policy.v1beta1.PodDisruptionBudget;
+import io.fabric8.kubernetes.api.model.rbac.ClusterRoleBinding;
 import io.strimzi.api.kafka.model.CertSecretSource;
 import io.strimzi.api.kafka.model.ContainerEnvVar;
 import io.strimzi.api.kafka.model.KafkaMirrorMaker;
@@ -25,8 +27,10 @@ import io.strimzi.api.kafka.model.KafkaMirrorMakerResources;
 import io.strimzi.api.kafka.model.KafkaMirrorMakerSpec;
 import io.strimzi.api.kafka.model.Probe;
 import io.strimzi.api.kafka.model.ProbeBuilder;
+import io.strimzi.api.kafka.model.Rack;
 import io.strimzi.api.kafka.model.template.KafkaMirrorMakerTemplate;
 import io.strimzi.api.kafka.model.tracing.Tracing;
+import io.strimzi.operator.cluster.ClusterOperatorConfig;
 import io.strimzi.operator.common.Reconciliation;
 
 import java.util.ArrayList;
@@ -101,6 +105,8 @@ public class KafkaMirrorMakerCluster extends AbstractModel {
     protected KafkaMirrorMakerConsumerSpec consumer;
     protected List<ContainerEnvVar> templateContainerEnvVars;
     protected SecurityContext templateContainerSecurityContext;
+    private Rack rack;
+    private String initImage;
 
     /**
      * Constructor
@@ -197,6 +203,14 @@ public class KafkaMirrorMakerCluster extends AbstractModel {
             }
 
             kafkaMirrorMakerCluster.tracing = spec.getTracing();
+
+            validateClientRack(spec.getRack());
+            kafkaMirrorMakerCluster.rack = spec.getRack();
+            String initImage = spec.getClientRackInitImage();
+            if (initImage == null) {
+                initImage = System.getenv().getOrDefault(ClusterOperatorConfig.STRIMZI_DEFAULT_KAFKA_INIT_IMAGE, "quay.io/strimzi/operator:latest");
+            }
+            kafkaMirrorMakerCluster.initImage = initImage;
         }
 
         kafkaMirrorMakerCluster.setOwnerReference(kafkaMirrorMaker);
@@ -219,6 +233,10 @@ public class KafkaMirrorMakerCluster extends AbstractModel {
         volumeList.add(createTempDirVolume());
         volumeList.add(VolumeUtils.createConfigMapVolume(logAndMetricsConfigVolumeName, ancillaryConfigMapName));
 
+        if (rack != null) {
+            volumeList.add(VolumeUtils.createEmptyDirVolume(INIT_VOLUME_NAME, null));
+        }
+
         createClientSecretVolume(producer, volumeList, "producer-oauth-certs", isOpenShift);
         createClientSecretVolume(consumer, volumeList, "consumer-oauth-certs", isOpenShift);
 
@@ -244,6 +262,10 @@ public class KafkaMirrorMakerCluster extends AbstractModel {
         volumeMountList.add(createTempDirVolumeMount());
         volumeMountList.add(VolumeUtils.createVolumeMount(logAndMetricsConfigVolumeName, logAndMetricsConfigMountPath));
 
+        if (rack != null) {
+            volumeMountList.add(VolumeUtils.createVolumeMount(INIT_VOLUME_NAME, INIT_VOLUME_MOUNT));
+        }
+
         /** producer auth*/
         if (producer.getTls() != null && producer.getTls().getTrustedCertificates() != null && producer.getTls().getTrustedCertificates().size() > 0) {
             for (CertSecretSource certSecretSource: producer.getTls().getTrustedCertificates()) {
@@ -273,6 +295,14 @@ public class KafkaMirrorMakerCluster extends AbstractModel {
         return volumeMountList;
     }
 
+    /**
+     * Returns a combined affinity: Adding the affinity needed for the "kafka-rack" to the {@link #getUserAffinity()}.
+     */
+    @Override
+    protected Affinity getMergedAffinity() {
+        return getClientRackMergedAffinity(rack);
+    }
+
     public Deployment generateDeployment(Map<String, String> annotations, boolean isOpenShift, ImagePullPolicy imagePullPolicy, List<LocalObjectReference> imagePullSecrets) {
         return createDeployment(
                 getDeploymentStrategy(),
@@ -285,6 +315,21 @@ public class KafkaMirrorMakerCluster extends AbstractModel {
                 imagePullSecrets);
     }
 
+    /**
+     * The init container reads the rack from the labels of the Kubernetes node and stores it in the init volume. It is
+     * used to configure the {@code client.rack} option of the Kafka Mirror Maker consumer.
+     */
+    @Override
+    protected List<Container> getInitContainers(ImagePullPolicy imagePullPolicy) {
+        List<Container> initContainers = new ArrayList<>(1);
+
+        if (rack != null) {
+            initContainers.add(createClientRackInitContainer(initImage, getClientRackInitContainerEnvVars(rack), imagePullPolicy, null));
+        }
+
+        return initContainers;
+    }
+
     @Override
     protected List<Container> getContainers(ImagePullPolicy imagePullPolicy) {
 
@@ -475,6 +520,20 @@ public class KafkaMirrorMakerCluster extends AbstractModel {
         return KafkaMirrorMakerResources.serviceAccountName(cluster);
     }
 
+    /**
+     * Creates the ClusterRoleBinding which is used to bind the Kafka Mirror Maker SA to the ClusterRole
+     * which permissions the Kafka init container to access K8S nodes (necessary for rack-awareness).
+     *
+     * @return The cluster role binding.
+     */
+    public ClusterRoleBinding generateClusterRoleBinding() {
+        if (rack == null) {
+            return null;
+        }
+
+        return getClientRackClusterRoleBinding(KafkaMirrorMakerResources.initContainerClusterRoleBindingName(cluster, namespace));
+    }
+
     @Override
     protected boolean shouldPatchLoggerAppender() {
         return true;
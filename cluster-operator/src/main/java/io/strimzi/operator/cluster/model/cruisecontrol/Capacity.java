@@ -4,36 +4,111 @@
  */
 package io.strimzi.operator.cluster.model.cruisecontrol;
 
+import io.fabric8.kubernetes.api.model.PersistentVolumeClaim;
+import io.fabric8.kubernetes.api.model.Quantity;
 import io.strimzi.api.kafka.model.KafkaSpec;
 import io.strimzi.api.kafka.model.balancing.BrokerCapacity;
+import io.strimzi.api.kafka.model.balancing.BrokerCapacityOverride;
 import io.strimzi.api.kafka.model.storage.EphemeralStorage;
 import io.strimzi.api.kafka.model.storage.JbodStorage;
 import io.strimzi.api.kafka.model.storage.PersistentClaimStorage;
 import io.strimzi.api.kafka.model.storage.SingleVolumeStorage;
 import io.strimzi.api.kafka.model.storage.Storage;
 
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import static io.strimzi.operator.cluster.model.StorageUtils.parseMemory;
 
+/**
+ * Capacity of the Kafka brokers used by Cruise Control. The default capacity is used for the brokers which are not
+ * known when the configuration is generated. Each of the existing brokers gets its own capacity: its disk capacity
+ * is based on the actual size of its volumes and any of its values can be overridden in the custom resource.
+ */
 public class Capacity {
     public static final double DEFAULT_BROKER_DISK_MIB_CAPACITY = 100_000;  // in MiB
     public static final int DEFAULT_BROKER_CPU_UTILIZATION_CAPACITY = 100;  // as a percentage (0-100)
     public static final double DEFAULT_BROKER_INBOUND_NETWORK_KIB_PER_SECOND_CAPACITY = 10_000;  // in KiB/s
     public static final double DEFAULT_BROKER_OUTBOUND_NETWORK_KIB_PER_SECOND_CAPACITY = 10_000;  // in KiB/s
 
+    public static final int DEFAULT_BROKER_ID = -1;
+    private static final String DEFAULT_BROKER_DOC = "This is the default capacity. Capacity unit used for disk is in MB, cpu is in percentage, network throughput is in KB.";
+
     private Double diskMiB;
     private Integer cpuUtilization;
     private Double inboundNetworkKiBPerSecond;
     private Double outboundNetworkKiBPerSecond;
 
+    private final Map<Integer, BrokerEntry> brokers = new TreeMap<>();
+
     public Capacity(KafkaSpec spec) {
+        this(spec, Collections.emptyMap());
+    }
+
+    /**
+     * Creates the capacity of the Kafka brokers
+     *
+     * @param spec          Spec of the Kafka custom resource
+     * @param brokerDiskMiB Actual disk capacity of the existing brokers in MiB indexed by the broker ID. The brokers
+     *                      which are missing use the disk capacity calculated from the storage configuration.
+     */
+    public Capacity(KafkaSpec spec, Map<Integer, Double> brokerDiskMiB) {
         BrokerCapacity bc = spec.getCruiseControl().getBrokerCapacity();
 
         this.diskMiB = bc != null && bc.getDisk() != null ? getSizeInMiB(bc.getDisk()) : generateDiskCapacity(spec.getKafka().getStorage());
         this.cpuUtilization = bc != null && bc.getCpuUtilization() != null ? bc.getCpuUtilization() : DEFAULT_BROKER_CPU_UTILIZATION_CAPACITY;
         this.inboundNetworkKiBPerSecond = bc != null && bc.getInboundNetwork() != null ? getThroughputInKiB(bc.getInboundNetwork()) : DEFAULT_BROKER_INBOUND_NETWORK_KIB_PER_SECOND_CAPACITY;
         this.outboundNetworkKiBPerSecond = bc != null && bc.getOutboundNetwork() != null ? getThroughputInKiB(bc.getOutboundNetwork()) : DEFAULT_BROKER_OUTBOUND_NETWORK_KIB_PER_SECOND_CAPACITY;
+
+        for (int broker = 0; broker < spec.getKafka().getReplicas(); broker++) {
+            // Disk capacity configured by the user takes precedence over the actual size of the volumes
+            Double brokerDisk = bc != null && bc.getDisk() != null ? diskMiB : brokerDiskMiB.getOrDefault(broker, diskMiB);
+            brokers.put(broker, new BrokerEntry(brokerDisk, cpuUtilization, inboundNetworkKiBPerSecond, outboundNetworkKiBPerSecond));
+        }
+
+        if (bc != null && bc.getOverrides() != null) {
+            for (BrokerCapacityOverride override : bc.getOverrides()) {
+                for (Integer broker : override.getBrokers()) {
+                    BrokerEntry entry = brokers.computeIfAbsent(broker, id -> new BrokerEntry(diskMiB, cpuUtilization, inboundNetworkKiBPerSecond, outboundNetworkKiBPerSecond));
+                    entry.override(override);
+                }
+            }
+        }
+    }
+
+    /**
+     * Generates the Cruise Control capacity configuration file with the default capacity and with the capacity of
+     * each broker
+     *
+     * @return  Capacity configuration in the JSON format used by Cruise Control
+     */
+    public String generateCapacityConfig() {
+        JsonArray capacities = new JsonArray();
+        capacities.add(new BrokerEntry(diskMiB, cpuUtilization, inboundNetworkKiBPerSecond, outboundNetworkKiBPerSecond).toJson(DEFAULT_BROKER_ID, DEFAULT_BROKER_DOC));
+
+        for (Map.Entry<Integer, BrokerEntry> broker : brokers.entrySet()) {
+            capacities.add(broker.getValue().toJson(broker.getKey(), "Capacity of broker " + broker.getKey() + "."));
+        }
+
+        return new JsonObject().put("brokerCapacities", capacities).encodePrettily();
+    }
+
+    /**
+     * @param broker    ID of the broker
+     *
+     * @return  Disk capacity of the broker in MiB or the default disk capacity if the broker is not known
+     */
+    public Double getBrokerDiskMiB(int broker) {
+        BrokerEntry entry = brokers.get(broker);
+        return entry != null ? entry.diskMiB : diskMiB;
     }
 
     /**
@@ -63,6 +138,60 @@ public class Capacity {
         }
     }
 
+    /**
+     * Calculates the disk capacity of each broker from the actual size of its persistent volumes. The volumes which
+     * were resized or which are not resized yet are counted with their current size. The volumes which do not exist
+     * yet and the ephemeral volumes are counted with the size from the storage configuration.
+     *
+     * @param storage       Storage configuration of the Kafka cluster
+     * @param replicas      Number of Kafka brokers
+     * @param desiredPvcs   Persistent volume claims generated from the storage configuration
+     * @param existingPvcs  Existing persistent volume claims of the Kafka cluster
+     *
+     * @return  Map with the disk capacity in MiB indexed by the broker ID
+     */
+    public static Map<Integer, Double> brokerDiskCapacities(Storage storage, int replicas, List<PersistentVolumeClaim> desiredPvcs, List<PersistentVolumeClaim> existingPvcs) {
+        Map<String, PersistentVolumeClaim> existing = existingPvcs.stream()
+                .collect(Collectors.toMap(pvc -> pvc.getMetadata().getName(), Function.identity()));
+        Map<Integer, Double> capacities = new HashMap<>(replicas);
+        double configured = generateDiskCapacity(storage);
+
+        for (int broker = 0; broker < replicas; broker++) {
+            capacities.put(broker, configured);
+        }
+
+        for (PersistentVolumeClaim desired : desiredPvcs) {
+            String name = desired.getMetadata().getName();
+            PersistentVolumeClaim current = existing.get(name);
+
+            if (current != null) {
+                int broker = Integer.parseInt(name.substring(name.lastIndexOf("-") + 1));
+                double difference = getPvcSizeInMiB(current) - getPvcSizeInMiB(desired);
+                capacities.merge(broker, difference, Double::sum);
+            }
+        }
+
+        return capacities;
+    }
+
+    /*
+     * Gets the size of the persistent volume claim in MiB. The capacity from the status is used when available
+     * because it is the actual size of the volume. The requested size is used otherwise.
+     */
+    private static double getPvcSizeInMiB(PersistentVolumeClaim pvc) {
+        Quantity size = null;
+
+        if (pvc.getStatus() != null && pvc.getStatus().getCapacity() != null) {
+            size = pvc.getStatus().getCapacity().get("storage");
+        }
+
+        if (size == null) {
+            size = pvc.getSpec().getResources().getRequests().get("storage");
+        }
+
+        return parseMemory(size) / (double) (1024 * 1024);
+    }
+
     /*
      * Parse a K8S-style representation of a disk size, such as {@code 100Gi},
      * into the equivalent number of mebibytes represented as a Double.
@@ -117,4 +246,52 @@ public class Capacity {
     public void setOutboundNetworkKiBPerSecond(Double outboundNetworkKiBPerSecond) {
         this.outboundNetworkKiBPerSecond = outboundNetworkKiBPerSecond;
     }
+
+    /**
+     * Capacity of a single broker
+     */
+    private static class BrokerEntry {
+        private Double diskMiB;
+        private Integer cpuUtilization;
+        private Double inboundNetworkKiBPerSecond;
+        private Double outboundNetworkKiBPerSecond;
+
+        BrokerEntry(Double diskMiB, Integer cpuUtilization, Double inboundNetworkKiBPerSecond, Double outboundNetworkKiBPerSecond) {
+            this.diskMiB = diskMiB;
+            this.cpuUtilization = cpuUtilization;
+            this.inboundNetworkKiBPerSecond = inboundNetworkKiBPerSecond;
+            this.outboundNetworkKiBPerSecond = outboundNetworkKiBPerSecond;
+        }
+
+        void override(BrokerCapacityOverride override) {
+            if (override.getDisk() != null) {
+                diskMiB = getSizeInMiB(override.getDisk());
+            }
+
+            if (override.getCpuUtilization() != null) {
+                cpuUtilization = override.getCpuUtilization();
+            }
+
+            if (override.getInboundNetwork() != null) {
+                inboundNetworkKiBPerSecond = getThroughputInKiB(override.getInboundNetwork());
+            }
+
+            if (override.getOutboundNetwork() != null) {
+                outboundNetworkKiBPerSecond = getThroughputInKiB(override.getOutboundNetwork());
+            }
+        }
+
+        JsonObject toJson(int broker, String doc) {
+            JsonObject capacity = new JsonObject()
+                    .put("DISK", String.valueOf(diskMiB))
+                    .put("CPU", String.valueOf(cpuUtilization))
+                    .put("NW_IN", String.valueOf(inboundNetworkKiBPerSecond))
+                    .put("NW_OUT", String.valueOf(outboundNetworkKiBPerSecond));
+
+            return new JsonObject()
+                    .put("brokerId", String.valueOf(broker))
+                    .put("capacity", capacity)
+                    .put("doc", doc);
+        }
+    }
 }
@@ -51,6 +51,7 @@ import io.strimzi.operator.common.ReconciliationLogger;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.Util;
 import io.strimzi.operator.common.model.Labels;
+import io.strimzi.operator.common.model.NamespaceAndName;
 import io.strimzi.operator.common.model.OrderedProperties;
 import io.strimzi.operator.common.model.ResourceVisitor;
 import io.strimzi.operator.common.model.ValidationVisitor;
@@ -210,7 +211,11 @@ public abstract class AbstractConnectOperator<C extends KubernetesClient, T exte
                         case DELETED:
                         case MODIFIED:
                             Future<Void> f;
-                            if (connectName != null) {
+                            if (connectName != null && !connectOperator.isInOwnedShard(new NamespaceAndName(connectNamespace, connectName))) {
+                                LOGGER.debugCr(new Reconciliation("connector-watch", connectOperator.kind(), connectNamespace, connectName),
+                                        "{} {} in namespace {} was {}, but Connect cluster {} belongs to a shard owned by another operator replica and will be ignored",
+                                        connectorKind, connectorName, connectorNamespace, action, connectName);
+                            } else if (connectName != null) {
                                 // Check whether a KafkaConnect exists
                                 connectOperator.resourceOperator.getAsync(connectNamespace, connectName)
                                         .compose(connect -> {
@@ -5,6 +5,7 @@
 package io.strimzi.operator.cluster.operator.assembly;
 
 import io.fabric8.kubernetes.api.model.ConfigMap;
+import io.fabric8.kubernetes.api.model.HasMetadata;
 import io.fabric8.kubernetes.api.model.Node;
 import io.fabric8.kubernetes.api.model.OwnerReference;
 import io.fabric8.kubernetes.api.model.OwnerReferenceBuilder;
@@ -23,6 +24,9 @@ import io.fabric8.kubernetes.api.model.storage.StorageClass;
 import io.fabric8.kubernetes.client.KubernetesClient;
 import io.fabric8.kubernetes.client.dsl.Resource;
 import io.fabric8.openshift.api.model.Route;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
 import io.strimzi.api.kafka.KafkaList;
 import io.strimzi.api.kafka.model.CertAndKeySecretSource;
 import io.strimzi.api.kafka.model.CertificateAuthority;
@@ -72,6 +76,7 @@ import io.strimzi.operator.cluster.model.StatusDiff;
 import io.strimzi.operator.cluster.model.StorageDiff;
 import io.strimzi.operator.cluster.model.StorageUtils;
 import io.strimzi.operator.cluster.model.ZookeeperCluster;
+import io.strimzi.operator.cluster.model.cruisecontrol.Capacity;
 import io.strimzi.operator.cluster.operator.resource.ConcurrentDeletionException;
 import io.strimzi.operator.cluster.operator.resource.KafkaRoller;
 import io.strimzi.operator.cluster.operator.resource.KafkaSetOperator;
@@ -85,6 +90,7 @@ import io.strimzi.operator.common.AdminClientProvider;
 import io.strimzi.operator.common.Annotations;
 import io.strimzi.operator.common.BackOff;
 import io.strimzi.operator.common.InvalidConfigurationException;
+import io.strimzi.operator.common.KubernetesOperationsExecutor;
 import io.strimzi.operator.common.ReconciliationLogger;
 import io.strimzi.operator.common.MetricsAndLogging;
 import io.strimzi.operator.common.PasswordGenerator;
@@ -121,8 +127,10 @@ import java.security.NoSuchAlgorithmException;
 import java.security.cert.CertificateEncodingException;
 import java.security.cert.X509Certificate;
 import java.text.ParseException;
+import java.time.ZoneOffset;
 import java.util.ArrayList;
 import java.util.Base64;
+import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -130,10 +138,13 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
+import java.util.TreeMap;
 import java.util.TimeZone;
 import java.util.function.Function;
 import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
@@ -141,6 +152,7 @@ import static io.strimzi.operator.cluster.model.AbstractModel.ANCILLARY_CM_KEY_L
 import static io.strimzi.operator.cluster.model.AbstractModel.ANNO_STRIMZI_IO_STORAGE;
 import static io.strimzi.operator.cluster.model.KafkaCluster.ANNO_STRIMZI_IO_KAFKA_VERSION;
 import static io.strimzi.operator.cluster.model.KafkaVersion.compareDottedVersions;
+import static java.util.Arrays.asList;
 import static java.util.Collections.emptyList;
 import static java.util.Collections.singletonList;
 import static java.util.Collections.singletonMap;
@@ -157,6 +169,12 @@ import static java.util.Collections.emptyMap;
 @SuppressWarnings({"checkstyle:ClassDataAbstractionCoupling", "checkstyle:ClassFanOutComplexity", "checkstyle:JavaNCSS"})
 public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesClient, Kafka, KafkaList, Resource<Kafka>, KafkaSpec, KafkaStatus> {
     private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(KafkaAssemblyOperator.class.getName());
+    /**
+     * Maximum number of PVCs reconciled or resized at the same time
+     */
+    /* test */ static final int PVC_CONCURRENCY = 10;
+    /* test */ static final String PVC_RESIZING_REASON = "PersistentVolumeClaimResizing";
+    private static final String OPERATOR_VERSION = KafkaAssemblyOperator.class.getPackage().getImplementationVersion();
 
     private final long operationTimeoutMs;
     private final String operatorNamespace;
@@ -179,6 +197,9 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
     private final CrdOperator<KubernetesClient, Kafka, KafkaList> crdOperator;
     private final ZookeeperScalerProvider zkScalerProvider;
     private final AdminClientProvider adminClientProvider;
+    private final KafkaReconciliationFastPath fastPath = new KafkaReconciliationFastPath();
+    // Gauges with the number of PVCs being resized indexed by the namespace and name of the Kafka or ZooKeeper cluster
+    private final Map<String, AtomicInteger> pvcsResizingGauges = new ConcurrentHashMap<>();
 
     /**
      * @param vertx The Vertx instance
@@ -216,11 +237,270 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
         this.adminClientProvider = supplier.adminClientProvider;
     }
 
+    /**
+     * Counter of the Kafka pod restarts avoided by rolling the pods for all the reasons at once in a single rolling
+     * update instead of rolling them for each reason separately.
+     *
+     * @param reconciliation    The reconciliation
+     *
+     * @return  The counter
+     */
+    private Counter restartsAvoidedCounter(Reconciliation reconciliation) {
+        return metrics.counter(METRICS_PREFIX + "kafka.restarts.avoided",
+                "Number of Kafka pod restarts avoided by merging the restart reasons into a single rolling update",
+                Tags.of(Tag.of("kind", reconciliation.kind()), Tag.of("namespace", reconciliation.namespace())));
+    }
+
+    /**
+     * Counter of the PVC resizes requested by the operator
+     *
+     * @param reconciliation    The reconciliation
+     *
+     * @return  The counter
+     */
+    private Counter pvcResizesCounter(Reconciliation reconciliation) {
+        return metrics.counter(METRICS_PREFIX + "pvc.resizes",
+                "Number of persistent volume claim resizes requested by the operator",
+                Tags.of(Tag.of("kind", reconciliation.kind()), Tag.of("namespace", reconciliation.namespace())));
+    }
+
+    /**
+     * Gauge with the number of PVCs of a cluster which are being resized
+     *
+     * @param reconciliation    The reconciliation
+     * @param name              Name of the Kafka or ZooKeeper cluster which owns the PVCs
+     *
+     * @return  The gauge
+     */
+    private AtomicInteger pvcsResizingGauge(Reconciliation reconciliation, String name) {
+        return pvcsResizingGauges.computeIfAbsent(reconciliation.namespace() + "/" + name, key ->
+                metrics.gauge(METRICS_PREFIX + "pvc.resizing",
+                        "Number of persistent volume claims which are being resized",
+                        pvcsResizingTags(reconciliation, name)));
+    }
+
+    /**
+     * Removes the gauges with the number of PVCs being resized of the Kafka and ZooKeeper clusters of a deleted Kafka
+     * cluster
+     *
+     * @param reconciliation    The reconciliation
+     */
+    private void removePvcsResizingGauges(Reconciliation reconciliation) {
+        for (String name : List.of(KafkaCluster.kafkaClusterName(reconciliation.name()), ZookeeperCluster.zookeeperClusterName(reconciliation.name()))) {
+            if (pvcsResizingGauges.remove(reconciliation.namespace() + "/" + name) != null) {
+                List<Tag> tags = pvcsResizingTags(reconciliation, name).stream().collect(Collectors.toList());
+
+                metrics.meterRegistry().getMeters()
+                        .stream()
+                        .filter(meter -> meter.getId().getName().equals(METRICS_PREFIX + "pvc.resizing")
+                                && meter.getId().getTags().containsAll(tags))
+                        .collect(Collectors.toList())
+                        .forEach(meter -> metrics.meterRegistry().remove(meter.getId()));
+            }
+        }
+    }
+
+    private static Tags pvcsResizingTags(Reconciliation reconciliation, String name) {
+        return Tags.of(Tag.of("kind", reconciliation.kind()), Tag.of("namespace", reconciliation.namespace()), Tag.of("name", name));
+    }
+
+    /**
+     * Counter of the periodic reconciliations which reused the result of the last full reconciliation because nothing
+     * changed since then.
+     *
+     * @param reconciliation    The reconciliation
+     *
+     * @return  The counter
+     */
+    private Counter fastPathReconciliationsCounter(Reconciliation reconciliation) {
+        return metrics.counter(METRICS_PREFIX + "reconciliations.fast.path",
+                "Number of periodic reconciliations which skipped the full reconciliation because nothing changed",
+                Tags.of(Tag.of("kind", reconciliation.kind()), Tag.of("namespace", reconciliation.namespace())));
+    }
+
+    /**
+     * Counter of the full reconciliations done when the ReconciliationFastPath feature gate is enabled.
+     *
+     * @param reconciliation    The reconciliation
+     *
+     * @return  The counter
+     */
+    private Counter fullReconciliationsCounter(Reconciliation reconciliation) {
+        return metrics.counter(METRICS_PREFIX + "reconciliations.full",
+                "Number of reconciliations which could not use the fast path and did the full reconciliation",
+                Tags.of(Tag.of("kind", reconciliation.kind()), Tag.of("namespace", reconciliation.namespace())));
+    }
+
     @Override
     public Future<KafkaStatus> createOrUpdate(Reconciliation reconciliation, Kafka kafkaAssembly) {
-        Promise<KafkaStatus> createOrUpdatePromise = Promise.promise();
         ReconciliationState reconcileState = createReconciliationState(reconciliation, kafkaAssembly);
 
+        if (!featureGates.reconciliationFastPathEnabled()) {
+            return fullReconciliation(reconcileState);
+        }
+
+        String cluster = reconciliation.namespace() + "/" + reconciliation.name();
+
+        return reconciliationFingerprint(reconcileState)
+                .compose(fingerprint -> {
+                    if (ClusterOperator.PERIODIC_RECONCILIATION_TRIGGER.equals(reconciliation.trigger())
+                            && fingerprint != null
+                            && fingerprint.equals(fastPath.lastFingerprint(cluster))) {
+                        // Nothing changed in the inputs => check only that the owned resources did not drift
+                        return ownedResources(reconciliation)
+                                .compose(workloads -> {
+                                    KafkaStatus status = fastPath.unchangedStatus(cluster, fingerprint, workloads);
+
+                                    if (status != null) {
+                                        LOGGER.debugCr(reconciliation, "Nothing changed since the last reconciliation, skipping the full reconciliation");
+                                        fastPathReconciliationsCounter(reconciliation).increment();
+                                        return Future.succeededFuture(status);
+                                    } else {
+                                        LOGGER.debugCr(reconciliation, "Owned workloads are not ready or owned resources changed since the last reconciliation");
+                                        return fullReconciliationWithFastPath(reconcileState, cluster, fingerprint);
+                                    }
+                                });
+                    } else {
+                        return fullReconciliationWithFastPath(reconcileState, cluster, fingerprint);
+                    }
+                });
+    }
+
+    /**
+     * Runs the full reconciliation and records its result for the next periodic reconciliations
+     *
+     * @param reconcileState    Reconciliation state
+     * @param cluster           Namespace and name of the Kafka cluster
+     * @param fingerprint       Fingerprint of the inputs of the reconciliation or null if it could not be calculated
+     *
+     * @return  Future with the status of the Kafka cluster
+     */
+    private Future<KafkaStatus> fullReconciliationWithFastPath(ReconciliationState reconcileState, String cluster, String fingerprint) {
+        fullReconciliationsCounter(reconcileState.reconciliation).increment();
+
+        return fullReconciliation(reconcileState)
+                .compose(status -> ownedResources(reconcileState.reconciliation)
+                        .map(workloads -> {
+                            // Volumes which are being resized need to be checked again in the next reconciliation
+                            boolean resizing = status.getConditions().stream().anyMatch(condition -> PVC_RESIZING_REASON.equals(condition.getReason()));
+                            fastPath.recordSuccess(cluster, resizing ? null : fingerprint, workloads, status);
+                            return status;
+                        }),
+                    error -> {
+                        fastPath.forget(cluster);
+                        return Future.failedFuture(error);
+                    });
+    }
+
+    /**
+     * Calculates the fingerprint of the inputs of the reconciliation. Apart from the Kafka custom resource and the
+     * Secrets and ConfigMaps it uses, the fingerprint contains also the current day and whether the maintenance time
+     * windows are satisfied. That way, the full reconciliation runs at least once a day to renew the certificates and
+     * every time a maintenance time window starts or ends.
+     *
+     * @param reconcileState    Reconciliation state
+     *
+     * @return  Future with the fingerprint or with null if it could not be calculated
+     */
+    private Future<String> reconciliationFingerprint(ReconciliationState reconcileState) {
+        Kafka kafkaAssembly = reconcileState.kafkaAssembly;
+        String namespace = reconcileState.namespace;
+        String name = reconcileState.name;
+        Date now = dateSupplier();
+
+        Map<String, String> inputs = new ConcurrentHashMap<>();
+        inputs.put("operatorVersion", String.valueOf(OPERATOR_VERSION));
+        inputs.put("kafkaVersions", versions.toString());
+        inputs.put("generation", String.valueOf(kafkaAssembly.getMetadata().getGeneration()));
+        inputs.put("labels", String.valueOf(kafkaAssembly.getMetadata().getLabels() != null ? new TreeMap<>(kafkaAssembly.getMetadata().getLabels()) : emptyMap()));
+        inputs.put("annotations", String.valueOf(kafkaAssembly.getMetadata().getAnnotations() != null ? new TreeMap<>(kafkaAssembly.getMetadata().getAnnotations()) : emptyMap()));
+        inputs.put("day", now.toInstant().atZone(ZoneOffset.UTC).toLocalDate().toString());
+        inputs.put("maintenanceTimeWindow", String.valueOf(reconcileState.isMaintenanceTimeWindowsSatisfied(() -> now)));
+
+        Set<String> secrets = new TreeSet<>(KafkaReconciliationFastPath.referencedSecrets(kafkaAssembly.getSpec()));
+        secrets.add(KafkaResources.clusterCaCertificateSecretName(name));
+        secrets.add(KafkaResources.clusterCaKeySecretName(name));
+        secrets.add(KafkaResources.clientsCaCertificateSecretName(name));
+        secrets.add(KafkaResources.clientsCaKeySecretName(name));
+        secrets.add(ClusterOperator.secretName(name));
+
+        @SuppressWarnings({ "rawtypes" }) // Has to use Raw type because of the CompositeFuture
+        List<Future> futures = new ArrayList<>();
+
+        for (String secret : secrets) {
+            futures.add(secretOperations.getAsync(namespace, secret)
+                    .onSuccess(s -> inputs.put("Secret/" + secret, s != null ? String.valueOf(s.getMetadata().getResourceVersion()) : "none")));
+        }
+
+        for (String configMap : KafkaReconciliationFastPath.referencedConfigMaps(kafkaAssembly.getSpec())) {
+            futures.add(configMapOperations.getAsync(namespace, configMap)
+                    .onSuccess(cm -> inputs.put("ConfigMap/" + configMap, cm != null ? String.valueOf(cm.getMetadata().getResourceVersion()) : "none")));
+        }
+
+        return CompositeFuture.join(futures)
+                .map(i -> KafkaReconciliationFastPath.fingerprint(inputs))
+                .recover(error -> {
+                    LOGGER.debugCr(reconcileState.reconciliation, "Failed to calculate the fingerprint of the reconciliation inputs", error);
+                    return Future.succeededFuture(null);
+                });
+    }
+
+    /**
+     * Collects the resource versions of the resources owned by the Kafka cluster. Each kind is listed using the
+     * labels of the Kafka cluster.
+     *
+     * @param reconciliation    The reconciliation
+     *
+     * @return  Future with the resource versions of the owned resources or with null if some of the workloads are not
+     *          ready or the resources could not be listed
+     */
+    private Future<Map<String, String>> ownedResources(Reconciliation reconciliation) {
+        String namespace = reconciliation.namespace();
+        Labels selector = Labels.forStrimziCluster(reconciliation.name()).withStrimziKind(reconciliation.kind());
+
+        Future<List<StatefulSet>> statefulSets = kafkaSetOperations.listAsync(namespace, selector);
+        Future<List<Deployment>> deployments = deploymentOperations.listAsync(namespace, selector);
+        Future<List<Pod>> pods = podOperations.listAsync(namespace, selector);
+
+        List<HasMetadata> others = Collections.synchronizedList(new ArrayList<>());
+
+        @SuppressWarnings({ "rawtypes" }) // Has to use Raw type because of the CompositeFuture
+        List<Future> futures = new ArrayList<>(List.of(statefulSets, deployments, pods,
+                serviceOperations.listAsync(namespace, selector).onSuccess(others::addAll),
+                secretOperations.listAsync(namespace, selector).onSuccess(others::addAll),
+                configMapOperations.listAsync(namespace, selector).onSuccess(others::addAll),
+                networkPolicyOperator.listAsync(namespace, selector).onSuccess(others::addAll),
+                podDisruptionBudgetOperator.listAsync(namespace, selector).onSuccess(others::addAll)));
+
+        if (pfa.hasIngressV1()) {
+            futures.add(ingressOperations.listAsync(namespace, selector).onSuccess(others::addAll));
+        } else {
+            futures.add(ingressV1Beta1Operations.listAsync(namespace, selector).onSuccess(others::addAll));
+        }
+
+        if (pfa.hasRoutes()) {
+            futures.add(routeOperations.listAsync(namespace, selector).onSuccess(others::addAll));
+        }
+
+        return CompositeFuture.join(futures)
+                .map(i -> KafkaReconciliationFastPath.ownedResources(statefulSets.result(), deployments.result(), pods.result(), others))
+                .recover(error -> {
+                    LOGGER.debugCr(reconciliation, "Failed to list the owned resources", error);
+                    return Future.succeededFuture(null);
+                });
+    }
+
+    /**
+     * Runs the full reconciliation and sets the observed generation and the conditions in the status
+     *
+     * @param reconcileState    Reconciliation state
+     *
+     * @return  Future with the status of the Kafka cluster
+     */
+    private Future<KafkaStatus> fullReconciliation(ReconciliationState reconcileState) {
+        Promise<KafkaStatus> createOrUpdatePromise = Promise.promise();
+        Kafka kafkaAssembly = reconcileState.kafkaAssembly;
+
         reconcile(reconcileState).onComplete(reconcileResult -> {
             KafkaStatus status = reconcileState.kafkaStatus;
             Condition condition;
@@ -263,37 +543,15 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
                 .compose(state -> state.clusterOperatorSecret(this::dateSupplier))
                 .compose(state -> state.getKafkaClusterDescription())
                 .compose(state -> state.prepareVersionChange())
+                .compose(state -> state.kafkaManualRollingUpdate())
                 // Roll everything if a new CA is added to the trust store.
                 .compose(state -> state.rollingUpdateForNewCaKey())
-                .compose(state -> state.getZookeeperDescription())
-                .compose(state -> state.zkModelWarnings())
-                .compose(state -> state.zkManualPodCleaning())
-                .compose(state -> state.zkNetPolicy())
-                .compose(state -> state.zkManualRollingUpdate())
-                .compose(state -> state.zkVersionChange())
-                .compose(state -> state.zookeeperServiceAccount())
-                .compose(state -> state.zkPvcs())
-                .compose(state -> state.zkService())
-                .compose(state -> state.zkHeadlessService())
-                .compose(state -> state.zkGenerateCertificates(this::dateSupplier))
-                .compose(state -> state.zkAncillaryCm())
-                .compose(state -> state.zkNodesSecret())
-                .compose(state -> state.zkPodDisruptionBudget())
-                .compose(state -> state.zkStatefulSet())
-                .compose(state -> state.zkScalingDown())
-                .compose(state -> state.zkRollingUpdate())
-                .compose(state -> state.zkPodsReady())
-                .compose(state -> state.zkScalingUp())
-                .compose(state -> state.zkScalingCheck())
-                .compose(state -> state.zkServiceEndpointReadiness())
-                .compose(state -> state.zkHeadlessServiceEndpointReadiness())
-                .compose(state -> state.zkPersistentClaimDeletion())
+                .compose(state -> state.reconcileZooKeeper())
 
                 .compose(state -> state.checkKafkaSpec())
                 .compose(state -> state.kafkaModelWarnings())
                 .compose(state -> state.kafkaManualPodCleaning())
                 .compose(state -> state.kafkaNetPolicy())
-                .compose(state -> state.kafkaManualRollingUpdate())
                 .compose(state -> state.kafkaPvcs())
                 .compose(state -> state.kafkaInitServiceAccount())
                 .compose(state -> state.kafkaInitClusterRoleBinding())
@@ -423,7 +681,8 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
         /* test */ KafkaExporter kafkaExporter;
         /* test */ Deployment exporterDeployment = null;
 
-        /* test */ Set<String> fsResizingRestartRequest = new HashSet<>();
+        /* test */ Set<String> fsResizingRestartRequest = ConcurrentHashMap.newKeySet();
+        private final Map<String, Future<StorageClass>> storageClasses = new ConcurrentHashMap<>();
 
         // Certificate change indicators
         private boolean existingZookeeperCertsChanged = false;
@@ -432,6 +691,11 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
         private boolean existingEntityOperatorCertsChanged = false;
         private boolean existingCruiseControlCertsChanged = false;
 
+        // Restart reasons collected from the Kafka roll triggers which are handled by kafkaRollingUpdate()
+        /* test */ final KafkaRestartPlan kafkaRestartPlan = new KafkaRestartPlan();
+        // Indicates that the manual rolling update annotation has to be kept on the Kafka StatefulSet until the pods are rolled
+        /* test */ boolean kafkaStatefulSetManualRollingUpdate = false;
+
         // Custom Listener certificates
         private final Map<String, String> customListenerCertificates = new HashMap<>();
         private final Map<String, String> customListenerCertificateThumbprints = new HashMap<>();
@@ -580,7 +844,7 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
             Labels selectorLabels = Labels.EMPTY.withStrimziKind(reconciliation.kind()).withStrimziCluster(reconciliation.name());
             Labels caLabels = Labels.generateDefaultLabels(kafkaAssembly, Labels.APPLICATION_NAME, AbstractModel.STRIMZI_CLUSTER_OPERATOR_NAME);
             Promise<ReconciliationState> resultPromise = Promise.promise();
-            vertx.createSharedWorkerExecutor("kubernetes-ops-pool").<ReconciliationState>executeBlocking(
+            KubernetesOperationsExecutor.<ReconciliationState>executeBlocking(vertx,
                 future -> {
                     try {
                         String clusterCaCertName = AbstractModel.clusterCaCertSecretName(name);
@@ -710,6 +974,11 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
          * or expired CA certificates get removed from their truststores.
          * Note this is only necessary when the CA certificate has changed due to a new CA key.
          * It is not necessary when the CA certificate is replace while retaining the existing key.
+         *
+         * The Kafka pods are normally rolled together with the other restart reasons in {@link #kafkaRollingUpdate()}.
+         * When the cluster CA key is replaced in a ZooKeeper based cluster, the Kafka pods have to trust the new key
+         * before the ZooKeeper nodes start using certificates signed by it. They are rolled right after the ZooKeeper
+         * pods in this case, together with the restart reasons planned so far.
          */
         Future<ReconciliationState> rollingUpdateForNewCaKey() {
             List<String> reason = new ArrayList<>(4);
@@ -720,25 +989,30 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
                 reason.add("trust new clients CA certificate signed by new key");
             }
             if (!reason.isEmpty()) {
-                Future<Void> zkRollFuture;
+                Future<Void> rollFuture;
                 Function<Pod, List<String>> rollPodAndLogReason = pod -> {
                     LOGGER.debugCr(reconciliation, "Rolling Pod {} to {}", pod.getMetadata().getName(), reason);
                     return reason;
                 };
-                if (this.clusterCa.keyReplaced()) {
-                    zkRollFuture = zkSetOperations.getAsync(namespace, ZookeeperCluster.zookeeperClusterName(name))
+                if (this.clusterCa.keyReplaced() && !kafkaCluster.isKRaftEnabled()) {
+                    Function<Pod, List<String>> kafkaPodNeedsRestart = kafkaRestartPlan.podNeedsEarlyRestart(rollPodAndLogReason);
+                    // All Kafka pods are restarted => the manual rolling update annotation does not need to be kept
+                    kafkaStatefulSetManualRollingUpdate = false;
+
+                    rollFuture = zkSetOperations.getAsync(namespace, ZookeeperCluster.zookeeperClusterName(name))
                         .compose(sts -> zkSetOperations.maybeRollingUpdate(reconciliation, sts, rollPodAndLogReason,
                         clusterCa.caCertSecret(),
-                        oldCoSecret));
-                } else {
-                    zkRollFuture = Future.succeededFuture();
-                }
-                return zkRollFuture
+                        oldCoSecret))
                         .compose(i -> kafkaSetOperations.getAsync(namespace, KafkaCluster.kafkaClusterName(name)))
                         .compose(sts -> new KafkaRoller(reconciliation, vertx, podOperations, 1_000, operationTimeoutMs,
                             () -> new BackOff(250, 2, 10), sts, clusterCa.caCertSecret(), oldCoSecret, adminClientProvider,
                             kafkaCluster.getBrokersConfiguration(), kafkaLogging, kafkaCluster.getKafkaVersion(), true)
-                            .rollingRestart(rollPodAndLogReason))
+                            .rollingRestart(kafkaPodNeedsRestart));
+                } else {
+                    kafkaRestartPlan.add(rollPodAndLogReason);
+                    rollFuture = Future.succeededFuture();
+                }
+                return rollFuture
                         .compose(i -> rollDeploymentIfExists(EntityOperator.entityOperatorName(name), reason.toString()))
                         .compose(i -> rollDeploymentIfExists(KafkaExporter.kafkaExporterName(name), reason.toString()))
                         .compose(i -> rollDeploymentIfExists(CruiseControl.cruiseControlName(name), reason.toString()))
@@ -768,13 +1042,11 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
         }
 
         /**
-         * Does rolling update of Kafka pods based on the annotation on Pod level
-         *
-         * @param sts   The Kafka StatefulSet definition needed for the rolling update
+         * Adds the rolling update of Kafka pods based on the annotation on Pod level to the restart plan
          *
-         * @return  Future with the result of the rolling update
+         * @return  Future which completes when the annotated pods are added to the restart plan
          */
-        Future<Void> kafkaManualPodRollingUpdate(StatefulSet sts) {
+        Future<Void> kafkaManualPodRollingUpdate() {
             return podOperations.listAsync(namespace, kafkaCluster.getSelectorLabels())
                     .compose(pods -> {
                         List<String> podsToRoll = new ArrayList<>(0);
@@ -786,7 +1058,7 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
                         }
 
                         if (!podsToRoll.isEmpty())  {
-                            return maybeRollKafka(sts, pod -> {
+                            kafkaRestartPlan.add(pod -> {
                                 if (pod != null && podsToRoll.contains(pod.getMetadata().getName())) {
                                     LOGGER.debugCr(reconciliation, "Rolling Kafka pod {} due to manual rolling update annotation on a pod", pod.getMetadata().getName());
                                     return singletonList("manual rolling update annotation on a pod");
@@ -794,19 +1066,23 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
                                     return new ArrayList<>();
                                 }
                             });
-                        } else {
-                            return Future.succeededFuture();
                         }
+
+                        return Future.succeededFuture();
                     });
         }
 
         /**
-         * Does manual rolling update of Kafka pods based on an annotation on the StatefulSet or on the Pods. Annotation
-         * on StatefulSet level triggers rolling update of all pods. Annotation on pods trigeres rolling update only of
-         * the selected pods. If the annotation is present on both StatefulSet and one or more pods, only one rolling
-         * update of all pods occurs.
+         * Adds the manual rolling update of Kafka pods based on an annotation on the StatefulSet or on the Pods to the
+         * restart plan. Annotation on StatefulSet level triggers rolling update of all pods. Annotation on pods trigeres
+         * rolling update only of the selected pods. If the annotation is present on both StatefulSet and one or more
+         * pods, only one rolling update of all pods occurs. The pods are rolled together with any other restart reasons.
          *
-         * @return  Future with the result of the rolling update
+         * Updating the StatefulSet would remove the annotation from it. It is therefore kept on the StatefulSet until
+         * the pods are rolled, so that the request to roll the pods is not lost if any step of the reconciliation fails
+         * before.
+         *
+         * @return  Future which completes when the manual rolling update is added to the restart plan
          */
         Future<ReconciliationState> kafkaManualRollingUpdate() {
             Future<StatefulSet> futsts = kafkaSetOperations.getAsync(namespace, KafkaCluster.kafkaClusterName(name));
@@ -815,7 +1091,8 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
                     if (sts != null) {
                         if (Annotations.booleanAnnotation(sts, Annotations.ANNO_STRIMZI_IO_MANUAL_ROLLING_UPDATE, false)) {
                             // User trigger rolling update of the whole StatefulSet
-                            return maybeRollKafka(sts, pod -> {
+                            kafkaStatefulSetManualRollingUpdate = true;
+                            kafkaRestartPlan.add(pod -> {
                                 if (pod == null) {
                                     throw new ConcurrentDeletionException("Unexpectedly pod no longer exists during roll of StatefulSet.");
                                 }
@@ -823,10 +1100,12 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
                                         pod.getMetadata().getName());
                                 return singletonList("manual rolling update");
                             });
+
+                            return Future.succeededFuture();
                         } else {
                             // The STS is not annotated to roll all pods.
                             // But maybe the individual pods are annotated to restart only some of them.
-                            return kafkaManualPodRollingUpdate(sts);
+                            return kafkaManualPodRollingUpdate();
                         }
                     } else {
                         // STS does not exist => nothing to roll
@@ -1128,6 +1407,42 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
                     .rollingRestart(podNeedsRestart));
         }
 
+        /**
+         * Reconciles the ZooKeeper cluster. In the KRaft mode, the Kafka cluster does not use ZooKeeper and all the
+         * ZooKeeper steps are skipped.
+         *
+         * @return  Future with the reconciliation state
+         */
+        Future<ReconciliationState> reconcileZooKeeper() {
+            if (kafkaCluster.isKRaftEnabled()) {
+                LOGGER.debugCr(reconciliation, "Kafka cluster runs in the KRaft mode and does not use ZooKeeper");
+                return Future.succeededFuture(this);
+            }
+
+            return getZookeeperDescription()
+                    .compose(state -> state.zkModelWarnings())
+                    .compose(state -> state.zkManualPodCleaning())
+                    .compose(state -> state.zkNetPolicy())
+                    .compose(state -> state.zkManualRollingUpdate())
+                    .compose(state -> state.zkVersionChange())
+                    .compose(state -> state.zookeeperServiceAccount())
+                    .compose(state -> state.zkPvcs())
+                    .compose(state -> state.zkServices())
+                    .compose(state -> state.zkGenerateCertificates(KafkaAssemblyOperator.this::dateSupplier))
+                    .compose(state -> state.zkAncillaryCm())
+                    .compose(state -> state.zkNodesSecret())
+                    .compose(state -> state.zkPodDisruptionBudget())
+                    .compose(state -> state.zkStatefulSet())
+                    .compose(state -> state.zkScalingDown())
+                    .compose(state -> state.zkRollingUpdate())
+                    .compose(state -> state.zkPodsReady())
+                    .compose(state -> state.zkScalingUp())
+                    .compose(state -> state.zkScalingCheck())
+                    .compose(state -> state.zkServiceEndpointReadiness())
+                    .compose(state -> state.zkHeadlessServiceEndpointReadiness())
+                    .compose(state -> state.zkPersistentClaimDeletion());
+        }
+
         Future<ReconciliationState> getZookeeperDescription() {
             return zkSetOperations.getAsync(namespace, ZookeeperCluster.zookeeperClusterName(name))
                     .compose(sts -> {
@@ -1187,12 +1502,9 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
                     zkCluster.generateServiceAccount()));
         }
 
-        Future<ReconciliationState> zkService() {
-            return withVoid(serviceOperations.reconcile(reconciliation, namespace, zkCluster.getServiceName(), zkCluster.generateService()));
-        }
-
-        Future<ReconciliationState> zkHeadlessService() {
-            return withVoid(serviceOperations.reconcile(reconciliation, namespace, zkCluster.getHeadlessServiceName(), zkCluster.generateHeadlessService()));
+        Future<ReconciliationState> zkServices() {
+            return withVoid(serviceOperations.batchReconcile(reconciliation, namespace,
+                    asList(zkCluster.generateService(), zkCluster.generateHeadlessService()), zkCluster.getSelectorLabels()));
         }
 
         Future<ReconciliationState> zkAncillaryCm() {
@@ -1435,7 +1747,7 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
 
         Future<ReconciliationState> zkGenerateCertificates(Supplier<Date> dateSupplier) {
             Promise<ReconciliationState> resultPromise = Promise.promise();
-            vertx.createSharedWorkerExecutor("kubernetes-ops-pool").<ReconciliationState>executeBlocking(
+            KubernetesOperationsExecutor.<ReconciliationState>executeBlocking(vertx,
                 future -> {
                     try {
                         zkCluster.generateCertificates(kafkaAssembly, clusterCa, isMaintenanceTimeWindowsSatisfied(dateSupplier));
@@ -1449,8 +1761,46 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
             return resultPromise.future();
         }
 
+        /**
+         * Checks that the UseKRaft feature gate matches the mode in which an existing Kafka cluster runs. The metadata of
+         * the ZooKeeper-based clusters are stored in ZooKeeper and the storage of their nodes is not formatted for the
+         * KRaft mode. So the existing ZooKeeper-based clusters cannot be switched to the KRaft mode and the KRaft-based
+         * clusters cannot be switched to ZooKeeper. The reconciliation fails instead of reconfiguring such clusters.
+         *
+         * @param kafkaSts  The current Kafka StatefulSet or null if it does not exist
+         *
+         * @return  Future which fails when the feature gate does not match the mode of the existing cluster
+         */
+        Future<Void> checkKRaftMode(StatefulSet kafkaSts) {
+            boolean kraftEnabled = featureGates.useKRaftEnabled();
+
+            if (kafkaSts != null) {
+                if (KafkaCluster.isKRaftStatefulSet(kafkaSts) != kraftEnabled) {
+                    return Future.failedFuture(kraftModeChangeException(kraftEnabled));
+                }
+
+                return Future.succeededFuture();
+            } else if (kraftEnabled) {
+                // The ZooKeeper cluster is deployed first, so it can exist without the Kafka StatefulSet
+                return zkSetOperations.getAsync(namespace, ZookeeperCluster.zookeeperClusterName(name))
+                        .compose(zkSts -> zkSts != null ? Future.failedFuture(kraftModeChangeException(true)) : Future.succeededFuture());
+            } else {
+                return Future.succeededFuture();
+            }
+        }
+
+        private InvalidResourceException kraftModeChangeException(boolean kraftEnabled) {
+            String message = kraftEnabled
+                    ? "Kafka " + namespace + "/" + name + " uses ZooKeeper and cannot be switched to the KRaft mode. The UseKRaft feature gate can be used only with new Kafka clusters."
+                    : "Kafka " + namespace + "/" + name + " runs in the KRaft mode and cannot be switched to ZooKeeper. The UseKRaft feature gate cannot be disabled for existing KRaft-based Kafka clusters.";
+
+            LOGGER.warnCr(reconciliation, message);
+            return new InvalidResourceException(message);
+        }
+
         /*test*/ Future<ReconciliationState> getKafkaClusterDescription() {
             return kafkaSetOperations.getAsync(namespace, KafkaCluster.kafkaClusterName(name))
+                    .compose(sts -> checkKRaftMode(sts).map(sts))
                     .compose(sts -> {
                         Storage oldStorage = getOldStorage(sts);
 
@@ -1461,7 +1811,7 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
                             this.kafkaStsAlreadyExists = true;
                         }
 
-                        this.kafkaCluster = KafkaCluster.fromCrd(reconciliation, kafkaAssembly, versions, oldStorage, kafkaCurrentReplicas);
+                        this.kafkaCluster = KafkaCluster.fromCrd(reconciliation, kafkaAssembly, versions, oldStorage, kafkaCurrentReplicas, featureGates.useKRaftEnabled());
                         this.kafkaBootstrapDnsName.addAll(ListenersUtils.alternativeNames(kafkaCluster.getListeners()));
 
                         //return Future.succeededFuture(this);
@@ -1589,31 +1939,7 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
                 services.addAll(kafkaCluster.generateExternalServices(i));
             }
 
-            Future fut = serviceOperations.listAsync(namespace, kafkaCluster.getSelectorLabels())
-                    .compose(existingServices -> {
-                        List<Future> serviceFutures = new ArrayList<>(services.size());
-                        List<String> existingServiceNames = existingServices.stream().map(svc -> svc.getMetadata().getName()).collect(Collectors.toList());
-
-                        LOGGER.debugCr(reconciliation, "Reconciling existing Services {} against the desired services", existingServiceNames);
-
-                        // Update desired services
-                        for (Service service : services) {
-                            String serviceName = service.getMetadata().getName();
-                            existingServiceNames.remove(serviceName);
-                            serviceFutures.add(serviceOperations.reconcile(reconciliation, namespace, serviceName, service));
-                        }
-
-                        LOGGER.debugCr(reconciliation, "Services {} should be deleted", existingServiceNames);
-
-                        // Delete services which match our selector but are not desired anymore
-                        for (String serviceName : existingServiceNames) {
-                            serviceFutures.add(serviceOperations.reconcile(reconciliation, namespace, serviceName, null));
-                        }
-
-                        return CompositeFuture.join(serviceFutures);
-                    });
-
-            return withVoid(fut);
+            return withVoid(serviceOperations.batchReconcile(reconciliation, namespace, services, kafkaCluster.getSelectorLabels()));
         }
 
         /**
@@ -1631,31 +1957,7 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
                         routes.addAll(kafkaCluster.generateExternalRoutes(i));
                     }
 
-                    Future fut = routeOperations.listAsync(namespace, kafkaCluster.getSelectorLabels())
-                            .compose(existingRoutes -> {
-                                List<Future> routeFutures = new ArrayList<>(routes.size());
-                                List<String> existingRouteNames = existingRoutes.stream().map(route -> route.getMetadata().getName()).collect(Collectors.toList());
-
-                                LOGGER.debugCr(reconciliation, "Reconciling existing Routes {} against the desired routes", existingRouteNames);
-
-                                // Update desired routes
-                                for (Route route : routes) {
-                                    String routeName = route.getMetadata().getName();
-                                    existingRouteNames.remove(routeName);
-                                    routeFutures.add(routeOperations.reconcile(reconciliation, namespace, routeName, route));
-                                }
-
-                                LOGGER.debugCr(reconciliation, "Routes {} should be deleted", existingRouteNames);
-
-                                // Delete routes which match our selector but are not desired anymore
-                                for (String routeName : existingRouteNames) {
-                                    routeFutures.add(routeOperations.reconcile(reconciliation, namespace, routeName, null));
-                                }
-
-                                return CompositeFuture.join(routeFutures);
-                            });
-
-                    return withVoid(fut);
+                    return withVoid(routeOperations.batchReconcile(reconciliation, namespace, routes, kafkaCluster.getSelectorLabels()));
                 } else {
                     LOGGER.warnCr(reconciliation, "The OpenShift route API is not available in this Kubernetes cluster. Exposing Kafka cluster {} using routes is not possible.", name);
                     return withVoid(Future.failedFuture("The OpenShift route API is not available in this Kubernetes cluster. Exposing Kafka cluster " + name + " using routes is not possible."));
@@ -1682,31 +1984,7 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
                 ingresses.addAll(kafkaCluster.generateExternalIngresses(i));
             }
 
-            Future fut = ingressOperations.listAsync(namespace, kafkaCluster.getSelectorLabels())
-                    .compose(existingIngresses -> {
-                        List<Future> ingressFutures = new ArrayList<>(ingresses.size());
-                        List<String> existingIngressNames = existingIngresses.stream().map(ingress -> ingress.getMetadata().getName()).collect(Collectors.toList());
-
-                        LOGGER.debugCr(reconciliation, "Reconciling existing Ingresses {} against the desired ingresses", existingIngressNames);
-
-                        // Update desired ingresses
-                        for (Ingress ingress : ingresses) {
-                            String ingressName = ingress.getMetadata().getName();
-                            existingIngressNames.remove(ingressName);
-                            ingressFutures.add(ingressOperations.reconcile(reconciliation, namespace, ingressName, ingress));
-                        }
-
-                        LOGGER.debugCr(reconciliation, "Ingresses {} should be deleted", existingIngressNames);
-
-                        // Delete ingresses which match our selector but are not desired anymore
-                        for (String ingressName : existingIngressNames) {
-                            ingressFutures.add(ingressOperations.reconcile(reconciliation, namespace, ingressName, null));
-                        }
-
-                        return CompositeFuture.join(ingressFutures);
-                    });
-
-            return withVoid(fut);
+            return withVoid(ingressOperations.batchReconcile(reconciliation, namespace, ingresses, kafkaCluster.getSelectorLabels()));
         }
 
         /**
@@ -1726,31 +2004,7 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
                 ingresses.addAll(kafkaCluster.generateExternalIngressesV1Beta1(i));
             }
 
-            Future fut = ingressV1Beta1Operations.listAsync(namespace, kafkaCluster.getSelectorLabels())
-                    .compose(existingIngresses -> {
-                        List<Future> ingressFutures = new ArrayList<>(ingresses.size());
-                        List<String> existingIngressNames = existingIngresses.stream().map(ingress -> ingress.getMetadata().getName()).collect(Collectors.toList());
-
-                        LOGGER.debugCr(reconciliation, "Reconciling existing v1beta1 Ingresses {} against the desired ingresses", existingIngressNames);
-
-                        // Update desired ingresses
-                        for (io.fabric8.kubernetes.api.model.networking.v1beta1.Ingress ingress : ingresses) {
-                            String ingressName = ingress.getMetadata().getName();
-                            existingIngressNames.remove(ingressName);
-                            ingressFutures.add(ingressV1Beta1Operations.reconcile(reconciliation, namespace, ingressName, ingress));
-                        }
-
-                        LOGGER.debugCr(reconciliation, "V1beta1 ingresses {} should be deleted", existingIngressNames);
-
-                        // Delete ingresses which match our selector but are not desired anymore
-                        for (String ingressName : existingIngressNames) {
-                            ingressFutures.add(ingressV1Beta1Operations.reconcile(reconciliation, namespace, ingressName, null));
-                        }
-
-                        return CompositeFuture.join(ingressFutures);
-                    });
-
-            return withVoid(fut);
+            return withVoid(ingressV1Beta1Operations.batchReconcile(reconciliation, namespace, ingresses, kafkaCluster.getSelectorLabels()));
         }
 
         /**
@@ -1763,7 +2017,7 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
                 .compose(compositeFuture -> {
                     LOGGER.debugCr(reconciliation, "Attempt to get clusterId");
                     Promise<ReconciliationState> resultPromise = Promise.promise();
-                    vertx.createSharedWorkerExecutor("kubernetes-ops-pool").<ReconciliationState>executeBlocking(
+                    KubernetesOperationsExecutor.<ReconciliationState>executeBlocking(vertx,
                         future -> {
                             Admin kafkaAdmin = null;
                             try {
@@ -2323,7 +2577,7 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
 
         Future<ReconciliationState> kafkaGenerateCertificates(Supplier<Date> dateSupplier) {
             Promise<ReconciliationState> resultPromise = Promise.promise();
-            vertx.createSharedWorkerExecutor("kubernetes-ops-pool").<ReconciliationState>executeBlocking(
+            KubernetesOperationsExecutor.<ReconciliationState>executeBlocking(vertx,
                 future -> {
                     try {
                         kafkaCluster.generateCertificates(kafkaAssembly,
@@ -2484,76 +2738,122 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
             return Integer.parseInt(podName.substring(podName.lastIndexOf("-") + 1));
         }
 
+        /**
+         * Reconciles the PVCs of the cluster and resizes them when needed. The existing PVCs are listed only once
+         * instead of getting each of them separately and at most {@link #PVC_CONCURRENCY} PVCs are reconciled at the
+         * same time.
+         *
+         * @param pvcs      List of the desired PVCs
+         * @param cluster   Model of the cluster which owns the PVCs
+         *
+         * @return  Future which completes when all PVCs are reconciled
+         */
         Future<ReconciliationState> maybeResizeReconcilePvcs(List<PersistentVolumeClaim> pvcs, AbstractModel cluster) {
-            List<Future> futures = new ArrayList<>(pvcs.size());
-
-            for (PersistentVolumeClaim desiredPvc : pvcs)  {
-                Promise<Void> resultPromise = Promise.promise();
-
-                pvcOperations.getAsync(namespace, desiredPvc.getMetadata().getName()).onComplete(res -> {
-                    if (res.succeeded())    {
-                        PersistentVolumeClaim currentPvc = res.result();
-
-                        if (currentPvc == null || currentPvc.getStatus() == null || !"Bound".equals(currentPvc.getStatus().getPhase())) {
-                            // This branch handles the following conditions:
-                            // * The PVC doesn't exist yet, we should create it
-                            // * The PVC is not Bound and we should reconcile it
-                            reconcilePvc(desiredPvc).onComplete(resultPromise);
-                        } else if (currentPvc.getStatus().getConditions().stream().anyMatch(cond -> "Resizing".equals(cond.getType()) && "true".equals(cond.getStatus().toLowerCase(Locale.ENGLISH))))  {
-                            // The PVC is Bound but it is already resizing => Nothing to do, we should let it resize
-                            LOGGER.debugCr(reconciliation, "The PVC {} is resizing, nothing to do", desiredPvc.getMetadata().getName());
-                            resultPromise.complete();
-                        } else if (currentPvc.getStatus().getConditions().stream().anyMatch(cond -> "FileSystemResizePending".equals(cond.getType()) && "true".equals(cond.getStatus().toLowerCase(Locale.ENGLISH))))  {
-                            // The PVC is Bound and resized but waiting for FS resizing => We need to restart the pod which is using it
-                            String podName = cluster.getPodName(getPodIndexFromPvcName(desiredPvc.getMetadata().getName()));
-                            fsResizingRestartRequest.add(podName);
-                            LOGGER.infoCr(reconciliation, "The PVC {} is waiting for file system resizing and the pod {} needs to be restarted.", desiredPvc.getMetadata().getName(), podName);
-                            resultPromise.complete();
-                        } else {
-                            // The PVC is Bound and resizing is not in progress => We should check if the SC supports resizing and check if size changed
-                            Long currentSize = StorageUtils.parseMemory(currentPvc.getSpec().getResources().getRequests().get("storage"));
-                            Long desiredSize = StorageUtils.parseMemory(desiredPvc.getSpec().getResources().getRequests().get("storage"));
-
-                            if (!currentSize.equals(desiredSize))   {
-                                // The sizes are different => we should resize (shrinking will be handled in StorageDiff, so we do not need to check that)
-                                resizePvc(currentPvc, desiredPvc).onComplete(resultPromise);
-                            } else  {
-                                // size didn't changed, just reconcile
-                                reconcilePvc(desiredPvc).onComplete(resultPromise);
+            return pvcOperations.listAsync(namespace, cluster.getSelectorLabels())
+                    .recover(error -> {
+                        LOGGER.warnCr(reconciliation, "Failed to list the PVCs of {}. They will be reconciled one by one.", cluster.getName(), error);
+                        return Future.succeededFuture(emptyList());
+                    })
+                    .compose(existing -> {
+                        Map<String, PersistentVolumeClaim> currentPvcs = existing.stream()
+                                .collect(Collectors.toMap(pvc -> pvc.getMetadata().getName(), pvc -> pvc));
+                        AtomicInteger resizing = new AtomicInteger(0);
+                        List<Supplier<Future<Void>>> operations = new ArrayList<>(pvcs.size());
+
+                        for (PersistentVolumeClaim desiredPvc : pvcs)  {
+                            PersistentVolumeClaim currentPvc = currentPvcs.get(desiredPvc.getMetadata().getName());
+
+                            if (currentPvc != null) {
+                                operations.add(() -> maybeResizeReconcilePvc(currentPvc, desiredPvc, cluster, resizing));
+                            } else {
+                                // The PVC was not listed (it might not exist yet or it might not match the selector) => we have to check it the usual way
+                                operations.add(() -> pvcOperations.getAsync(namespace, desiredPvc.getMetadata().getName())
+                                        .compose(pvc -> maybeResizeReconcilePvc(pvc, desiredPvc, cluster, resizing)));
                             }
                         }
-                    } else {
-                        resultPromise.fail(res.cause());
-                    }
-                });
 
-                futures.add(resultPromise.future());
+                        return Util.executeWithBoundedConcurrency(PVC_CONCURRENCY, operations)
+                                .onSuccess(i -> pvcResizingProgress(cluster, pvcs.size(), resizing.get()));
+                    })
+                    .map(i -> this);
+        }
+
+        private Future<Void> maybeResizeReconcilePvc(PersistentVolumeClaim currentPvc, PersistentVolumeClaim desiredPvc, AbstractModel cluster, AtomicInteger resizing) {
+            if (currentPvc == null || currentPvc.getStatus() == null || !"Bound".equals(currentPvc.getStatus().getPhase())) {
+                // This branch handles the following conditions:
+                // * The PVC doesn't exist yet, we should create it
+                // * The PVC is not Bound and we should reconcile it
+                return reconcilePvc(currentPvc, desiredPvc);
+            } else if (hasPvcCondition(currentPvc, "Resizing"))  {
+                // The PVC is Bound but it is already resizing => Nothing to do, we should let it resize
+                LOGGER.debugCr(reconciliation, "The PVC {} is resizing, nothing to do", desiredPvc.getMetadata().getName());
+                resizing.incrementAndGet();
+                return Future.succeededFuture();
+            } else if (hasPvcCondition(currentPvc, "FileSystemResizePending"))  {
+                // The PVC is Bound and resized but waiting for FS resizing => We need to restart the pod which is using it
+                String podName = cluster.getPodName(getPodIndexFromPvcName(desiredPvc.getMetadata().getName()));
+                fsResizingRestartRequest.add(podName);
+                LOGGER.infoCr(reconciliation, "The PVC {} is waiting for file system resizing and the pod {} needs to be restarted.", desiredPvc.getMetadata().getName(), podName);
+                return Future.succeededFuture();
+            } else {
+                // The PVC is Bound and resizing is not in progress => We should check if the SC supports resizing and check if size changed
+                Long currentSize = StorageUtils.parseMemory(currentPvc.getSpec().getResources().getRequests().get("storage"));
+                Long desiredSize = StorageUtils.parseMemory(desiredPvc.getSpec().getResources().getRequests().get("storage"));
+
+                if (!currentSize.equals(desiredSize))   {
+                    // The sizes are different => we should resize (shrinking will be handled in StorageDiff, so we do not need to check that)
+                    return resizePvc(currentPvc, desiredPvc, resizing);
+                } else  {
+                    // size didn't changed, just reconcile
+                    return reconcilePvc(currentPvc, desiredPvc);
+                }
             }
+        }
 
-            return withVoid(CompositeFuture.all(futures));
+        private boolean hasPvcCondition(PersistentVolumeClaim pvc, String type) {
+            return pvc.getStatus().getConditions().stream()
+                    .anyMatch(cond -> type.equals(cond.getType()) && "true".equals(cond.getStatus().toLowerCase(Locale.ENGLISH)));
         }
 
-        Future<Void> reconcilePvc(PersistentVolumeClaim desired)  {
-            Promise<Void> resultPromise = Promise.promise();
+        /**
+         * Reports the progress of the volume resizing in the status and in the metrics
+         *
+         * @param cluster   Model of the cluster which owns the PVCs
+         * @param total     Number of the PVCs of the cluster
+         * @param resizing  Number of the PVCs which are being resized
+         */
+        private void pvcResizingProgress(AbstractModel cluster, int total, int resizing) {
+            pvcsResizingGauge(reconciliation, cluster.getName()).set(resizing);
 
-            pvcOperations.reconcile(reconciliation, namespace, desired.getMetadata().getName(), desired).onComplete(pvcRes -> {
-                if (pvcRes.succeeded()) {
-                    resultPromise.complete();
-                } else {
-                    resultPromise.fail(pvcRes.cause());
-                }
-            });
+            if (resizing > 0) {
+                kafkaStatus.addCondition(StatusUtils.buildWarningCondition(PVC_RESIZING_REASON,
+                        resizing + " of " + total + " persistent volume claims of " + cluster.getName() + " are being resized."));
+            }
+        }
 
-            return resultPromise.future();
+        Future<Void> reconcilePvc(PersistentVolumeClaim current, PersistentVolumeClaim desired)  {
+            return pvcOperations.reconcile(reconciliation, namespace, desired.getMetadata().getName(), current, desired)
+                    .mapEmpty();
+        }
+
+        /**
+         * Gets the StorageClass. Each StorageClass is fetched only once per reconciliation.
+         *
+         * @param storageClassName  Name of the StorageClass
+         *
+         * @return  Future with the StorageClass or with null if it does not exist
+         */
+        Future<StorageClass> storageClass(String storageClassName) {
+            return storageClasses.computeIfAbsent(storageClassName, storageClassOperator::getAsync);
         }
 
-        Future<Void> resizePvc(PersistentVolumeClaim current, PersistentVolumeClaim desired)  {
+        Future<Void> resizePvc(PersistentVolumeClaim current, PersistentVolumeClaim desired, AtomicInteger resizing)  {
             Promise<Void> resultPromise = Promise.promise();
 
             String storageClassName = current.getSpec().getStorageClassName();
 
             if (storageClassName != null && !storageClassName.isEmpty()) {
-                storageClassOperator.getAsync(storageClassName).onComplete(scRes -> {
+                storageClass(storageClassName).onComplete(scRes -> {
                     if (scRes.succeeded()) {
                         StorageClass sc = scRes.result();
 
@@ -2567,8 +2867,10 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
                         } else  {
                             // Resizing supported by SC => We can reconcile the PVC to have it resized
                             LOGGER.infoCr(reconciliation, "Resizing PVC {} from {} to {}.", desired.getMetadata().getName(), current.getStatus().getCapacity().get("storage").getAmount(), desired.getSpec().getResources().getRequests().get("storage").getAmount());
-                            pvcOperations.reconcile(reconciliation, namespace, desired.getMetadata().getName(), desired).onComplete(pvcRes -> {
+                            pvcOperations.reconcile(reconciliation, namespace, desired.getMetadata().getName(), current, desired).onComplete(pvcRes -> {
                                 if (pvcRes.succeeded()) {
+                                    pvcResizesCounter(reconciliation).increment();
+                                    resizing.incrementAndGet();
                                     resultPromise.complete();
                                 } else {
                                     resultPromise.fail(pvcRes.cause());
@@ -2603,43 +2905,28 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
         /**
          * Normally, the rolling update of Kafka brokers is done in the sequence best for Kafka (controller is rolled
          * last etc.). This method does a rolling update of Kafka brokers in sequence based on the pod index number.
-         * This is needed in some special situation such as storage configuration changes.
-         *
-         * This method is using the regular rolling update mechanism. But in order to achieve the sequential rolling
-         * update it calls it recursively with only subset of the pods being considered for rolling update. Thanks to
-         * this, it achieves the right order regardless who is controller but still makes sure that the replicas are
-         * in-sync.
+         * This is needed in some special situation such as storage configuration changes. It achieves the right order
+         * regardless who is controller but still makes sure that the replicas are in-sync.
          *
          * @param sts               StatefulSet which should be rolled
          * @param podNeedsRestart   Function to tell the rolling restart mechanism if given broker pod needs restart or not
-         * @param nextPod           The sequence number of the next pod which should be considered for rolling
-         * @param lastPod           Index of the last pod which should be considered for restart
          *
-         * @return
+         * @return  Succeeded future if the Kafka pods were rolled and are ready
          */
-        Future<ReconciliationState> maybeRollKafkaInSequence(StatefulSet sts, Function<Pod, List<String>> podNeedsRestart, int nextPod, int lastPod) {
-            if (nextPod <= lastPod)  {
-                final int podToRoll = nextPod;
-
-                return maybeRollKafka(sts, pod -> {
-                    if (pod != null && pod.getMetadata().getName().endsWith("-" + podToRoll))    {
-                        return podNeedsRestart.apply(pod);
-                    } else {
-                        return new ArrayList<>();
-                    }
-                }, false)
-                        .compose(ignore -> maybeRollKafkaInSequence(sts, podNeedsRestart, nextPod + 1, lastPod));
-            } else {
-                // All pods checked for sequential RU => nothing more to do
-                return withVoid(Future.succeededFuture());
-            }
+        Future<Void> maybeRollKafkaInSequence(StatefulSet sts, Function<Pod, List<String>> podNeedsRestart) {
+            return adminClientSecrets()
+                .compose(compositeFuture -> new KafkaRoller(reconciliation, vertx, podOperations, 1_000, operationTimeoutMs,
+                    () -> new BackOff(250, 2, 10), sts, compositeFuture.resultAt(0), compositeFuture.resultAt(1), adminClientProvider,
+                        kafkaCluster.getBrokersConfiguration(), kafkaLogging, kafkaCluster.getKafkaVersion(), true)
+                    .rollingRestartInSequence(podNeedsRestart));
         }
 
         /**
-         * Checks if any Kafka broker needs rolling update to add or remove JBOD volumes. If it does, we trigger a
-         * sequential rolling update because the pods need to be rolled in sequence to add or remove volumes.
+         * Checks if any Kafka broker needs rolling update to add or remove JBOD volumes. If it does, the restart plan
+         * is changed to a sequential rolling update because the pods need to be rolled in sequence to add or remove
+         * volumes.
          *
-         * @return
+         * @return  Future which completes when the check is done
          */
         Future<ReconciliationState> kafkaRollToAddOrRemoveVolumes() {
             Storage storage = kafkaCluster.getStorage();
@@ -2648,25 +2935,29 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
             if (storage instanceof JbodStorage) {
                 JbodStorage jbodStorage = (JbodStorage) storage;
 
+                // The pods usually share the same storage annotation, so the storage diff is calculated only once for
+                // each distinct annotation instead of once for each pod every time it is considered for rolling
+                Map<String, List<String>> reasonsByStorage = new ConcurrentHashMap<>();
+                Function<Pod, List<String>> podNeedsRestart = pod -> {
+                    if (pod == null || pod.getMetadata() == null) {
+                        return needsRestartBecauseAddedOrRemovedJbodVolumes(pod, jbodStorage, kafkaCurrentReplicas, kafkaCluster.getReplicas());
+                    }
+
+                    return reasonsByStorage.computeIfAbsent(Annotations.stringAnnotation(pod, ANNO_STRIMZI_IO_STORAGE, ""),
+                        ignored -> needsRestartBecauseAddedOrRemovedJbodVolumes(pod, jbodStorage, kafkaCurrentReplicas, kafkaCluster.getReplicas()));
+                };
+
                 // We first check if any broker actually needs the rolling update. Only if at least one of them needs it,
                 // we trigger it. This check helps to not go through the rolling update if not needed.
                 return podOperations.listAsync(namespace, kafkaCluster.getSelectorLabels())
                         .compose(pods -> {
                             for (Pod pod : pods) {
-                                if (!needsRestartBecauseAddedOrRemovedJbodVolumes(pod, jbodStorage, kafkaCurrentReplicas, kafkaCluster.getReplicas()).isEmpty())   {
+                                if (!podNeedsRestart.apply(pod).isEmpty())   {
                                     // At least one broker needs rolling update => we can trigger it without checking the other brokers
                                     LOGGER.debugCr(reconciliation, "Kafka brokers needs rolling update to add or remove JBOD volumes");
 
-                                    return kafkaSetOperations.getAsync(namespace, KafkaCluster.kafkaClusterName(name))
-                                            .compose(sts -> {
-                                                if (sts != null) {
-                                                    int lastPodIndex = Math.min(kafkaCurrentReplicas, kafkaCluster.getReplicas()) - 1;
-                                                    return maybeRollKafkaInSequence(sts, podToCheck -> needsRestartBecauseAddedOrRemovedJbodVolumes(podToCheck, jbodStorage, kafkaCurrentReplicas, kafkaCluster.getReplicas()), 0, lastPodIndex);
-                                                } else {
-                                                    // STS does not exist => nothing to roll
-                                                    return withVoid(Future.succeededFuture());
-                                                }
-                                            });
+                                    kafkaRestartPlan.addInSequence(podNeedsRestart);
+                                    return withVoid(Future.succeededFuture());
                                 }
                             }
 
@@ -2729,6 +3020,11 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
                         customListenerCertificateThumbprints.toString());
             }
 
+            if (kafkaStatefulSetManualRollingUpdate) {
+                // Keeps the manual rolling update request until the pods are rolled
+                Annotations.annotations(kafkaSts).put(Annotations.ANNO_STRIMZI_IO_MANUAL_ROLLING_UPDATE, "true");
+            }
+
             return kafkaSts;
         }
 
@@ -2736,9 +3032,38 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
             return withKafkaDiff(kafkaSetOperations.reconcile(reconciliation, namespace, kafkaCluster.getName(), getKafkaStatefulSet()));
         }
 
+        /**
+         * Rolls the Kafka pods for all the reasons collected in the restart plan during this reconciliation and for
+         * the changes to the StatefulSet, certificates etc. Each pod is restarted at most once.
+         *
+         * @return  Future which completes when the Kafka pods were rolled
+         */
         Future<ReconciliationState> kafkaRollingUpdate() {
-            return withVoid(maybeRollKafka(kafkaDiffs.resource(), pod ->
-                    getReasonsToRestartPod(kafkaDiffs.resource(), pod, existingKafkaCertsChanged, this.clusterCa, this.clientsCa)));
+            Function<Pod, List<String>> podNeedsRestart = kafkaRestartPlan.podNeedsRestart(pod ->
+                    getReasonsToRestartPod(kafkaDiffs.resource(), pod, existingKafkaCertsChanged, this.clusterCa, this.clientsCa));
+
+            Future<Void> rolled;
+            if (kafkaRestartPlan.inSequence()) {
+                rolled = maybeRollKafkaInSequence(kafkaDiffs.resource(), podNeedsRestart);
+            } else {
+                rolled = maybeRollKafka(kafkaDiffs.resource(), podNeedsRestart);
+            }
+
+            return withVoid(rolled.compose(i -> {
+                int restartsAvoided = kafkaRestartPlan.restartsAvoided();
+                if (restartsAvoided > 0) {
+                    LOGGER.debugCr(reconciliation, "Merging the Kafka roll triggers avoided {} pod restarts", restartsAvoided);
+                    restartsAvoidedCounter(reconciliation).increment(restartsAvoided);
+                }
+
+                if (kafkaStatefulSetManualRollingUpdate) {
+                    // The pods were rolled => the manual rolling update annotation can be removed from the StatefulSet
+                    kafkaStatefulSetManualRollingUpdate = false;
+                    return kafkaSetOperations.reconcile(reconciliation, namespace, kafkaCluster.getName(), getKafkaStatefulSet()).mapEmpty();
+                } else {
+                    return Future.succeededFuture();
+                }
+            }));
         }
 
         Future<ReconciliationState> kafkaScaleUp() {
@@ -3086,7 +3411,7 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
         }
 
         final Future<ReconciliationState> getEntityOperatorDescription() {
-            this.entityOperator = EntityOperator.fromCrd(reconciliation, kafkaAssembly, versions);
+            this.entityOperator = EntityOperator.fromCrd(reconciliation, kafkaAssembly, versions, featureGates.useKRaftEnabled());
 
             if (entityOperator != null) {
                 EntityTopicOperator topicOperator = entityOperator.getTopicOperator();
@@ -3356,27 +3681,52 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
         }
 
         /*test*/ final Future<ReconciliationState> getCruiseControlDescription() {
-            CruiseControl cruiseControl = CruiseControl.fromCrd(reconciliation, kafkaAssembly, versions);
+            if (kafkaAssembly.getSpec().getCruiseControl() != null) {
+                return brokerDiskCapacities()
+                        .compose(brokerDiskMiB -> {
+                            CruiseControl cruiseControl = CruiseControl.fromCrd(reconciliation, kafkaAssembly, versions, brokerDiskMiB);
 
-            if (cruiseControl != null) {
-                return Util.metricsAndLogging(reconciliation, configMapOperations, kafkaAssembly.getMetadata().getNamespace(),
-                        cruiseControl.getLogging(), cruiseControl.getMetricsConfigInCm())
-                        .compose(metricsAndLogging -> {
-                            ConfigMap logAndMetricsConfigMap = cruiseControl.generateMetricsAndLogConfigMap(metricsAndLogging);
+                            return Util.metricsAndLogging(reconciliation, configMapOperations, kafkaAssembly.getMetadata().getNamespace(),
+                                    cruiseControl.getLogging(), cruiseControl.getMetricsConfigInCm())
+                                    .map(metricsAndLogging -> {
+                                        ConfigMap logAndMetricsConfigMap = cruiseControl.generateMetricsAndLogConfigMap(metricsAndLogging);
 
-                            Map<String, String> annotations = singletonMap(CruiseControl.ANNO_STRIMZI_IO_LOGGING, logAndMetricsConfigMap.getData().get(ANCILLARY_CM_KEY_LOG_CONFIG));
+                                        Map<String, String> annotations = singletonMap(CruiseControl.ANNO_STRIMZI_IO_LOGGING, logAndMetricsConfigMap.getData().get(ANCILLARY_CM_KEY_LOG_CONFIG));
 
-                            this.cruiseControlMetricsAndLogsConfigMap = logAndMetricsConfigMap;
-                            this.cruiseControl = cruiseControl;
-                            this.ccDeployment = cruiseControl.generateDeployment(pfa.isOpenshift(), annotations, imagePullPolicy, imagePullSecrets);
+                                        this.cruiseControlMetricsAndLogsConfigMap = logAndMetricsConfigMap;
+                                        this.cruiseControl = cruiseControl;
+                                        this.ccDeployment = cruiseControl.generateDeployment(pfa.isOpenshift(), annotations, imagePullPolicy, imagePullSecrets);
 
-                            return Future.succeededFuture(this);
+                                        return this;
+                                    });
                         });
             } else {
                 return withVoid(Future.succeededFuture());
             }
         }
 
+        /**
+         * Gets the disk capacity of the individual Kafka brokers from the sizes of their persistent volumes. The volumes
+         * might differ from the storage configuration, for example because they were resized or because they were
+         * provisioned bigger than requested. When the volumes cannot be listed, the capacity is calculated from the
+         * storage configuration only.
+         *
+         * @return  Future with the disk capacities in MiB indexed by the broker ID
+         */
+        private Future<Map<Integer, Double>> brokerDiskCapacities() {
+            if (kafkaCluster == null || kafkaCluster.getStorage() == null) {
+                return Future.succeededFuture(emptyMap());
+            }
+
+            return pvcOperations.listAsync(namespace, kafkaCluster.getSelectorLabels())
+                    .recover(error -> {
+                        LOGGER.warnCr(reconciliation, "Failed to list the Kafka persistent volume claims. The Cruise Control disk capacity will be based on the storage configuration only.", error);
+                        return Future.succeededFuture(emptyList());
+                    })
+                    .map(existingPvcs -> Capacity.brokerDiskCapacities(kafkaCluster.getStorage(), kafkaCluster.getReplicas(),
+                            kafkaCluster.generatePersistentVolumeClaims(kafkaCluster.getStorage()), existingPvcs));
+        }
+
         Future<ReconciliationState> cruiseControlServiceAccount() {
             return withVoid(serviceAccountOperations.reconcile(reconciliation, namespace,
                     CruiseControl.cruiseControlServiceAccountName(name),
@@ -3791,6 +4141,9 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
      */
     @Override
     protected Future<Boolean> delete(Reconciliation reconciliation) {
+        fastPath.forget(reconciliation.namespace() + "/" + reconciliation.name());
+        removePvcsResizingGauges(reconciliation);
+
         return withIgnoreRbacError(reconciliation, clusterRoleBindingOperations.reconcile(reconciliation, KafkaResources.initContainerClusterRoleBindingName(reconciliation.name(), reconciliation.namespace()), null), null)
                 .map(Boolean.FALSE); // Return FALSE since other resources are still deleted by garbage collection
     }
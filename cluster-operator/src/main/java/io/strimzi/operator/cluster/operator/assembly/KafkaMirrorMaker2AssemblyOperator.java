@@ -25,12 +25,14 @@ import io.strimzi.operator.common.ReconciliationException;
 import io.strimzi.operator.common.Util;
 import io.strimzi.operator.common.operator.resource.NetworkPolicyOperator;
 
+import org.apache.kafka.clients.CommonClientConfigs;
 import org.apache.kafka.clients.admin.AdminClientConfig;
 import org.apache.kafka.common.config.SaslConfigs;
 import org.apache.kafka.common.config.SslConfigs;
 
 import io.fabric8.kubernetes.api.model.ConfigMap;
 import io.fabric8.kubernetes.api.model.ServiceAccount;
+import io.fabric8.kubernetes.api.model.rbac.ClusterRoleBinding;
 import io.fabric8.kubernetes.client.KubernetesClient;
 import io.fabric8.kubernetes.client.dsl.Resource;
 import io.strimzi.api.kafka.KafkaMirrorMaker2List;
@@ -104,6 +106,10 @@ public class KafkaMirrorMaker2AssemblyOperator extends AbstractConnectOperator<K
     private static final String TRUSTSTORE_SUFFIX = ".truststore.p12";
     private static final String KEYSTORE_SUFFIX = ".keystore.p12";
     private static final String CONNECTORS_CONFIG_FILE = "/tmp/strimzi-mirrormaker2-connector.properties";
+    // Key of the connector configuration file which holds a reference to the rack of the worker. The connector config
+    // is resolved on the worker running the connector, so this indirection makes sure the tasks get the reference and
+    // resolve the client rack on the workers where they are running.
+    private static final String CONNECTORS_CLIENT_RACK_REFERENCE = "client.rack.reference";
 
     /**
      * @param vertx The Vertx instance
@@ -150,6 +156,7 @@ public class KafkaMirrorMaker2AssemblyOperator extends AbstractConnectOperator<K
 
         LOGGER.debugCr(reconciliation, "Updating Kafka MirrorMaker 2.0 cluster");
         mirrorMaker2ServiceAccount(reconciliation, namespace, mirrorMaker2Cluster)
+                .compose(i -> mirrorMaker2InitClusterRoleBinding(reconciliation, namespace, mirrorMaker2Cluster))
                 .compose(i -> {
                     if (isNetworkPolicyGeneration) {
                         return networkPolicyOperator.reconcile(reconciliation, namespace, mirrorMaker2Cluster.getName(), mirrorMaker2Cluster.generateNetworkPolicy(true, operatorNamespace, operatorNamespaceLabels));
@@ -208,6 +215,40 @@ public class KafkaMirrorMaker2AssemblyOperator extends AbstractConnectOperator<K
                 mirrorMaker2Cluster.generateServiceAccount());
     }
 
+    /**
+     * Creates (or deletes) the ClusterRoleBinding required for the init container used for client rack-awareness.
+     * The init-container needs to be able to read the labels from the node it is running on to be able to determine
+     * the `client.rack` option.
+     *
+     * @param reconciliation    The reconciliation
+     * @param namespace         Namespace of the service account to which the ClusterRole should be bound
+     * @param mirrorMaker2ClusterThe Kafka MirrorMaker 2.0 model
+     * @return                  Future for tracking the asynchronous result of the ClusterRoleBinding reconciliation
+     */
+    Future<ReconcileResult<ClusterRoleBinding>> mirrorMaker2InitClusterRoleBinding(Reconciliation reconciliation, String namespace, KafkaMirrorMaker2Cluster mirrorMaker2Cluster) {
+        ClusterRoleBinding desired = mirrorMaker2Cluster.generateClusterRoleBinding();
+
+        return withIgnoreRbacError(reconciliation,
+                clusterRoleBindingOperations.reconcile(reconciliation,
+                        KafkaMirrorMaker2Resources.initContainerClusterRoleBindingName(mirrorMaker2Cluster.getCluster(), namespace),
+                        desired),
+                desired
+        );
+    }
+
+    /**
+     * Deletes the ClusterRoleBinding which as a cluster-scoped resource cannot be deleted by the ownerReference
+     *
+     * @param reconciliation    The Reconciliation identification
+     * @return                  Future indicating the result of the deletion
+     */
+    @Override
+    protected Future<Boolean> delete(Reconciliation reconciliation) {
+        return super.delete(reconciliation)
+                .compose(i -> withIgnoreRbacError(reconciliation, clusterRoleBindingOperations.reconcile(reconciliation, KafkaMirrorMaker2Resources.initContainerClusterRoleBindingName(reconciliation.name(), reconciliation.namespace()), null), null))
+                .map(Boolean.FALSE); // Return FALSE since other resources are still deleted by garbage collection
+    }
+
     /**
      * Reconcile all the MirrorMaker 2.0 connectors selected by the given MirrorMaker 2.0 instance.
      * @param reconciliation The reconciliation
@@ -326,6 +367,10 @@ public class KafkaMirrorMaker2AssemblyOperator extends AbstractConnectOperator<K
             config.put("producer.interceptor.classes", "io.opentracing.contrib.kafka.TracingProducerInterceptor");
         }
 
+        if (mirrorMaker2Cluster.getRack() != null) {
+            config.putIfAbsent("consumer." + CommonClientConfigs.CLIENT_RACK_CONFIG, "${file:" + CONNECTORS_CONFIG_FILE + ":" + CONNECTORS_CLIENT_RACK_REFERENCE + "}");
+        }
+
         config.putAll(mirror.getAdditionalProperties());
     }
 
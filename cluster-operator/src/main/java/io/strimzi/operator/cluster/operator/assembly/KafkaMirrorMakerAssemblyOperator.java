@@ -6,6 +6,7 @@ package io.strimzi.operator.cluster.operator.assembly;
 
 import io.fabric8.kubernetes.api.model.ConfigMap;
 import io.fabric8.kubernetes.api.model.ServiceAccount;
+import io.fabric8.kubernetes.api.model.rbac.ClusterRoleBinding;
 import io.fabric8.kubernetes.client.KubernetesClient;
 import io.fabric8.kubernetes.client.dsl.Resource;
 import io.strimzi.api.kafka.KafkaMirrorMakerList;
@@ -87,6 +88,7 @@ public class KafkaMirrorMakerAssemblyOperator extends AbstractAssemblyOperator<K
 
         LOGGER.debugCr(reconciliation, "Updating Kafka Mirror Maker cluster");
         mirrorMakerServiceAccount(reconciliation, namespace, mirror)
+                .compose(i -> mirrorMakerInitClusterRoleBinding(reconciliation, namespace, mirror))
                 .compose(i -> deploymentOperations.scaleDown(reconciliation, namespace, mirror.getName(), mirror.getReplicas()))
                 .compose(i -> Util.metricsAndLogging(reconciliation, configMapOperations, namespace, mirror.getLogging(), mirror.getMetricsConfigInCm()))
                 .compose(metricsAndLoggingCm -> {
@@ -126,4 +128,38 @@ public class KafkaMirrorMakerAssemblyOperator extends AbstractAssemblyOperator<K
                 KafkaMirrorMakerResources.serviceAccountName(mirror.getCluster()),
                 mirror.generateServiceAccount());
     }
+
+    /**
+     * Creates (or deletes) the ClusterRoleBinding required for the init container used for client rack-awareness.
+     * The init-container needs to be able to read the labels from the node it is running on to be able to determine
+     * the `client.rack` option.
+     *
+     * @param reconciliation    The reconciliation
+     * @param namespace         Namespace of the service account to which the ClusterRole should be bound
+     * @param mirror            The Kafka Mirror Maker model
+     * @return                  Future for tracking the asynchronous result of the ClusterRoleBinding reconciliation
+     */
+    Future<ReconcileResult<ClusterRoleBinding>> mirrorMakerInitClusterRoleBinding(Reconciliation reconciliation, String namespace, KafkaMirrorMakerCluster mirror) {
+        ClusterRoleBinding desired = mirror.generateClusterRoleBinding();
+
+        return withIgnoreRbacError(reconciliation,
+                clusterRoleBindingOperations.reconcile(reconciliation,
+                        KafkaMirrorMakerResources.initContainerClusterRoleBindingName(mirror.getCluster(), namespace),
+                        desired),
+                desired
+        );
+    }
+
+    /**
+     * Deletes the ClusterRoleBinding which as a cluster-scoped resource cannot be deleted by the ownerReference
+     *
+     * @param reconciliation    The Reconciliation identification
+     * @return                  Future indicating the result of the deletion
+     */
+    @Override
+    protected Future<Boolean> delete(Reconciliation reconciliation) {
+        return super.delete(reconciliation)
+                .compose(i -> withIgnoreRbacError(reconciliation, clusterRoleBindingOperations.reconcile(reconciliation, KafkaMirrorMakerResources.initContainerClusterRoleBindingName(reconciliation.name(), reconciliation.namespace()), null), null))
+                .map(Boolean.FALSE); // Return FALSE since other resources are still deleted by garbage collection
+    }
 }
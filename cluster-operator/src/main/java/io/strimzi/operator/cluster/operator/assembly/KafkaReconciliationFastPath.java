@@ -0,0 +1,264 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.assembly;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.api.model.apps.Deployment;
+import io.fabric8.kubernetes.api.model.apps.StatefulSet;
+import io.strimzi.api.kafka.model.KafkaSpec;
+import io.strimzi.api.kafka.model.status.KafkaStatus;
+import io.strimzi.api.kafka.model.status.KafkaStatusBuilder;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps track of the last successful reconciliation of each Kafka cluster to allow the periodic reconciliations to
+ * skip the full reconciliation when nothing changed. The inputs of the reconciliation (the Kafka custom resource, the
+ * CA Secrets, the referenced ConfigMaps and Secrets, the Kafka versions and the operator version) are summarized in a
+ * fingerprint. When the fingerprint matches the fingerprint of the last successful reconciliation, the owned
+ * workloads are ready and none of the owned resources (the workloads as well as the Services, Secrets, ConfigMaps,
+ * NetworkPolicies, PodDisruptionBudgets, Ingresses and Routes) were modified since then, the status from the last
+ * successful reconciliation is reused.
+ */
+class KafkaReconciliationFastPath {
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final Map<String, LastReconciliation> lastReconciliations = new ConcurrentHashMap<>();
+
+    /**
+     * Calculates the fingerprint from the inputs of the reconciliation
+     *
+     * @param inputs    Map with the inputs of the reconciliation. The order of the entries does not matter.
+     *
+     * @return  The fingerprint
+     */
+    static String fingerprint(Map<String, String> inputs) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+
+            for (Map.Entry<String, String> input : new TreeMap<>(inputs).entrySet()) {
+                digest.update(input.getKey().getBytes(StandardCharsets.UTF_8));
+                digest.update((byte) '=');
+                digest.update(String.valueOf(input.getValue()).getBytes(StandardCharsets.UTF_8));
+                digest.update((byte) '\n');
+            }
+
+            return Base64.getEncoder().encodeToString(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new RuntimeException("Failed to get the SHA-256 message digest", e);
+        }
+    }
+
+    /**
+     * Finds the names of the ConfigMaps referenced from the Kafka custom resource (for example the external logging
+     * or the metrics configuration).
+     *
+     * @param spec  Spec of the Kafka custom resource
+     *
+     * @return  Set with the names of the referenced ConfigMaps
+     */
+    static Set<String> referencedConfigMaps(KafkaSpec spec) {
+        Set<String> names = new TreeSet<>();
+        collectReferences(MAPPER.valueToTree(spec), names, new TreeSet<>());
+        return names;
+    }
+
+    /**
+     * Finds the names of the Secrets referenced from the Kafka custom resource (for example the custom listener
+     * certificates or the OAuth client secrets).
+     *
+     * @param spec  Spec of the Kafka custom resource
+     *
+     * @return  Set with the names of the referenced Secrets
+     */
+    static Set<String> referencedSecrets(KafkaSpec spec) {
+        Set<String> names = new TreeSet<>();
+        collectReferences(MAPPER.valueToTree(spec), new TreeSet<>(), names);
+        return names;
+    }
+
+    private static void collectReferences(JsonNode node, Set<String> configMaps, Set<String> secrets) {
+        if (node == null) {
+            return;
+        }
+
+        if (node.isArray()) {
+            for (JsonNode item : node) {
+                collectReferences(item, configMaps, secrets);
+            }
+        } else if (node.isObject()) {
+            if (node.path("configMapKeyRef").hasNonNull("name")) {
+                configMaps.add(node.path("configMapKeyRef").path("name").asText());
+            }
+
+            if (node.path("secretKeyRef").hasNonNull("name")) {
+                secrets.add(node.path("secretKeyRef").path("name").asText());
+            }
+
+            if (node.path("secretName").isTextual()) {
+                secrets.add(node.path("secretName").asText());
+            }
+
+            for (Iterator<JsonNode> it = node.elements(); it.hasNext(); ) {
+                collectReferences(it.next(), configMaps, secrets);
+            }
+        }
+    }
+
+    /**
+     * Collects the resource versions of the resources owned by the Kafka cluster. The workloads have to be ready as
+     * well. The other resources (such as Services or Secrets) are not checked for readiness, but any change to them
+     * changes the collected resource versions and makes the next periodic reconciliation a full one.
+     *
+     * @param statefulSets  StatefulSets owned by the Kafka cluster
+     * @param deployments   Deployments owned by the Kafka cluster
+     * @param pods          Pods owned by the Kafka cluster
+     * @param others        Other resources owned by the Kafka cluster
+     *
+     * @return  Map with the resource versions of the owned resources or null if some of the workloads are not ready
+     */
+    static Map<String, String> ownedResources(List<StatefulSet> statefulSets, List<Deployment> deployments, List<Pod> pods, List<? extends HasMetadata> others) {
+        Map<String, String> resources = new TreeMap<>();
+
+        for (StatefulSet sts : statefulSets) {
+            if (sts.getStatus() == null
+                    || !Objects.equals(sts.getMetadata().getGeneration(), sts.getStatus().getObservedGeneration())
+                    || replicas(sts.getSpec().getReplicas()) != replicas(sts.getStatus().getReadyReplicas())) {
+                return null;
+            }
+
+            resources.put(key(sts), sts.getMetadata().getResourceVersion());
+        }
+
+        for (Deployment dep : deployments) {
+            if (dep.getStatus() == null
+                    || !Objects.equals(dep.getMetadata().getGeneration(), dep.getStatus().getObservedGeneration())
+                    || replicas(dep.getSpec().getReplicas()) != replicas(dep.getStatus().getReadyReplicas())) {
+                return null;
+            }
+
+            resources.put(key(dep), dep.getMetadata().getResourceVersion());
+        }
+
+        for (Pod pod : pods) {
+            if (!isPodReady(pod)) {
+                return null;
+            }
+
+            resources.put(key(pod), pod.getMetadata().getResourceVersion());
+        }
+
+        for (HasMetadata resource : others) {
+            resources.put(key(resource), resource.getMetadata().getResourceVersion());
+        }
+
+        return resources;
+    }
+
+    private static boolean isPodReady(Pod pod) {
+        return pod.getStatus() != null
+                && pod.getStatus().getConditions() != null
+                && pod.getStatus().getConditions().stream()
+                    .anyMatch(condition -> "Ready".equals(condition.getType()) && "True".equals(condition.getStatus()));
+    }
+
+    private static int replicas(Integer replicas) {
+        return replicas == null ? 0 : replicas;
+    }
+
+    private static String key(HasMetadata resource) {
+        return resource.getKind() + "/" + resource.getMetadata().getName();
+    }
+
+    /**
+     * Returns the status of the last successful reconciliation when it can be reused
+     *
+     * @param cluster       Namespace and name of the Kafka cluster
+     * @param fingerprint   Fingerprint of the inputs of the current reconciliation
+     * @param workloads     Resource versions of the owned resources or null if some of the workloads are not ready
+     *
+     * @return  Copy of the status of the last successful reconciliation or null if the full reconciliation is needed
+     */
+    KafkaStatus unchangedStatus(String cluster, String fingerprint, Map<String, String> workloads) {
+        LastReconciliation last = lastReconciliations.get(cluster);
+
+        if (last != null
+                && fingerprint != null
+                && fingerprint.equals(last.fingerprint)
+                && workloads != null
+                && workloads.equals(last.workloads)) {
+            return new KafkaStatusBuilder(last.status).build();
+        } else {
+            return null;
+        }
+    }
+
+    /**
+     * Returns the fingerprint of the last successful reconciliation
+     *
+     * @param cluster   Namespace and name of the Kafka cluster
+     *
+     * @return  The fingerprint or null if there was no successful reconciliation recorded
+     */
+    String lastFingerprint(String cluster) {
+        LastReconciliation last = lastReconciliations.get(cluster);
+        return last != null ? last.fingerprint : null;
+    }
+
+    /**
+     * Records a successful full reconciliation
+     *
+     * @param cluster       Namespace and name of the Kafka cluster
+     * @param fingerprint   Fingerprint of the inputs of the reconciliation
+     * @param workloads     Resource versions of the owned resources after the reconciliation or null if some of the
+     *                      workloads are not ready
+     * @param status        Status resulting from the reconciliation
+     */
+    void recordSuccess(String cluster, String fingerprint, Map<String, String> workloads, KafkaStatus status) {
+        if (fingerprint == null || workloads == null) {
+            forget(cluster);
+        } else {
+            lastReconciliations.put(cluster, new LastReconciliation(fingerprint, workloads, new KafkaStatusBuilder(status).build()));
+        }
+    }
+
+    /**
+     * Forgets the last successful reconciliation. The next reconciliation will be a full reconciliation.
+     *
+     * @param cluster   Namespace and name of the Kafka cluster
+     */
+    void forget(String cluster) {
+        lastReconciliations.remove(cluster);
+    }
+
+    /**
+     * Summary of the last successful reconciliation
+     */
+    private static class LastReconciliation {
+        private final String fingerprint;
+        private final Map<String, String> workloads;
+        private final KafkaStatus status;
+
+        LastReconciliation(String fingerprint, Map<String, String> workloads, KafkaStatus status) {
+            this.fingerprint = fingerprint;
+            this.workloads = workloads;
+            this.status = status;
+        }
+    }
+}
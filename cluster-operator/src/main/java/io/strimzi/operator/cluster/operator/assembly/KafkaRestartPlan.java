@@ -0,0 +1,126 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.assembly;
+
+import io.fabric8.kubernetes.api.model.Pod;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Collects the reasons for restarting the Kafka pods from the different roll triggers of a single reconciliation
+ * (manual rolling update annotations, new CA keys, added or removed JBOD volumes, changes to the StatefulSet,
+ * certificates etc.). All of them are then handled by a single rolling restart, so that each pod is restarted at most
+ * once instead of once for every trigger.
+ */
+class KafkaRestartPlan {
+    private final List<Function<Pod, List<String>>> triggers = new ArrayList<>(2);
+    private final List<Map<String, Integer>> restartsAvoided = new ArrayList<>(1);
+    private boolean inSequence = false;
+
+    /**
+     * Adds a roll trigger to the plan
+     *
+     * @param podNeedsRestart   Function returning the reasons for restarting given pod. Empty list or null if the pod
+     *                          does not need to be restarted because of this trigger.
+     */
+    void add(Function<Pod, List<String>> podNeedsRestart) {
+        triggers.add(podNeedsRestart);
+    }
+
+    /**
+     * Adds a roll trigger which requires the pods to be rolled one by one in the order of their index. This is the
+     * strictest ordering, so when such trigger is added, the whole rolling restart will be done in this order.
+     *
+     * @param podNeedsRestart   Function returning the reasons for restarting given pod. Empty list or null if the pod
+     *                          does not need to be restarted because of this trigger.
+     */
+    void addInSequence(Function<Pod, List<String>> podNeedsRestart) {
+        add(podNeedsRestart);
+        inSequence = true;
+    }
+
+    /**
+     * @return  True if the pods have to be rolled one by one in the order of their index
+     */
+    boolean inSequence() {
+        return inSequence;
+    }
+
+    /**
+     * Creates the function deciding about the restart of the Kafka pods in the rolling restart. It merges the reasons
+     * from all the triggers added to the plan and the additional reasons passed as the parameter.
+     *
+     * @param additionalReasons Function returning the additional reasons for restarting given pod
+     *
+     * @return  Function returning all the reasons for restarting given pod
+     */
+    Function<Pod, List<String>> podNeedsRestart(Function<Pod, List<String>> additionalReasons) {
+        List<Function<Pod, List<String>>> plannedTriggers = new ArrayList<>(triggers);
+        Map<String, Integer> avoided = new ConcurrentHashMap<>();
+        restartsAvoided.add(avoided);
+
+        return pod -> {
+            List<String> reasons = new ArrayList<>();
+            int triggered = 0;
+
+            for (Function<Pod, List<String>> trigger : plannedTriggers) {
+                triggered += merge(reasons, trigger.apply(pod));
+            }
+            triggered += merge(reasons, additionalReasons.apply(pod));
+
+            if (triggered > 1 && pod != null && pod.getMetadata() != null) {
+                // Without the plan, the pod would be restarted once for each trigger
+                avoided.put(pod.getMetadata().getName(), triggered - 1);
+            }
+
+            return reasons;
+        };
+    }
+
+    /**
+     * Creates the function deciding about the restart of the Kafka pods in a rolling restart which cannot wait for the
+     * end of the reconciliation (for example because the pods have to trust a new CA key before the other components
+     * start using it). The triggers added to the plan so far are handled by this rolling restart and are removed from
+     * the plan.
+     *
+     * @param reasons   Function returning the reasons for the early restart of given pod
+     *
+     * @return  Function returning all the reasons for restarting given pod
+     */
+    Function<Pod, List<String>> podNeedsEarlyRestart(Function<Pod, List<String>> reasons) {
+        Function<Pod, List<String>> podNeedsRestart = podNeedsRestart(reasons);
+        triggers.clear();
+
+        return podNeedsRestart;
+    }
+
+    private static int merge(List<String> reasons, List<String> triggerReasons) {
+        if (triggerReasons == null || triggerReasons.isEmpty()) {
+            return 0;
+        }
+
+        for (String reason : triggerReasons) {
+            if (!reasons.contains(reason)) {
+                reasons.add(reason);
+            }
+        }
+
+        return 1;
+    }
+
+    /**
+     * @return  The number of pod restarts which were avoided by merging the roll triggers
+     */
+    int restartsAvoided() {
+        return restartsAvoided.stream()
+                .flatMap(avoided -> avoided.values().stream())
+                .mapToInt(Integer::intValue)
+                .sum();
+    }
+}
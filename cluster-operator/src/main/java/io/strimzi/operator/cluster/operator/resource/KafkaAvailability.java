@@ -18,7 +18,11 @@ import org.apache.kafka.common.TopicPartitionInfo;
 import org.apache.kafka.common.config.ConfigResource;
 import org.apache.kafka.common.config.TopicConfig;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -30,28 +34,35 @@ import static java.lang.Integer.parseInt;
 /**
  * Determines whether the given broker can be rolled without affecting
  * producers with acks=all publishing to topics with a {@code min.in.sync.replicas}.
+ *
+ * <p>A single instance is meant to be used for the whole rolling restart. The topics are listed and described only
+ * once and indexed by the brokers hosting their replicas, so that checking a broker only looks at the partitions with
+ * a replica on that broker. The {@code min.in.sync.replicas} of each topic is described the first time a broker
+ * hosting the topic is checked. The in-sync replicas can change at any time (not only when the brokers are rolled), so
+ * the topics with a replica on the checked broker are always described again before the check, unless the index was
+ * built for this check. The descriptions of the topics hosted only by other brokers are not needed for the check
+ * and stay cached until these brokers are checked.</p>
  */
 class KafkaAvailability {
 
     private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(KafkaAvailability.class.getName());
 
+    private static final int MIN_ISR_UNKNOWN = -2;
+    private static final int NO_MIN_ISR = -1;
+
     private final Admin ac;
 
     private final Reconciliation reconciliation;
 
-    private final Future<Collection<TopicDescription>> descriptions;
+    private final Map<String, TopicState> topics = new HashMap<>();
+    // Indexed by the broker ID
+    private final List<List<PartitionState>> partitionsByBroker = new ArrayList<>();
+
+    private Future<Void> index;
 
     KafkaAvailability(Reconciliation reconciliation, Admin ac) {
         this.ac = ac;
         this.reconciliation = reconciliation;
-        // 1. Get all topic names
-        Future<Set<String>> topicNames = topicNames();
-        // 2. Get topic descriptions
-        descriptions = topicNames.compose(names -> {
-            LOGGER.debugCr(reconciliation, "Got {} topic names", names.size());
-            LOGGER.traceCr(reconciliation, "Topic names {}", names);
-            return describeTopics(names);
-        });
     }
 
     /**
@@ -60,92 +71,272 @@ class KafkaAvailability {
      */
     Future<Boolean> canRoll(int podId) {
         LOGGER.debugCr(reconciliation, "Determining whether broker {} can be rolled", podId);
-        return canRollBroker(descriptions, podId);
-    }
 
-    private Future<Boolean> canRollBroker(Future<Collection<TopicDescription>> descriptions, int podId) {
-        Future<Set<TopicDescription>> topicsOnGivenBroker = descriptions
-                .compose(topicDescriptions -> {
-                    LOGGER.debugCr(reconciliation, "Got {} topic descriptions", topicDescriptions.size());
-                    return Future.succeededFuture(groupTopicsByBroker(topicDescriptions, podId));
-                }).recover(error -> {
+        boolean indexFresh;
+        Future<Void> index;
+        synchronized (this) {
+            // When the index is built for this check, the topic descriptions are fresh already
+            indexFresh = this.index == null || this.index.failed();
+            index = index();
+        }
+
+        return index
+                .compose(ignored -> indexFresh ? Future.succeededFuture() : refreshTopics(podId))
+                .recover(error -> {
                     LOGGER.warnCr(reconciliation, "failed to get topic descriptions", error);
                     return Future.failedFuture(error);
+                })
+                .compose(ignored -> describeMinIsr(podId))
+                .map(ignored -> canRollBroker(podId))
+                .recover(error -> {
+                    LOGGER.warnCr(reconciliation, "Error determining whether it is safe to restart pod {}", podId, error);
+                    return Future.failedFuture(error);
+                });
+    }
+
+    /**
+     * Describes the configurations of the topics with a replica on the given broker ahead of {@link #canRoll(int)}.
+     * Unlike the topic descriptions, the configurations do not change while the other brokers are rolled, so they can
+     * be described while the previous broker is being rolled. Any errors are ignored, the configurations will be
+     * described again by {@link #canRoll(int)}.
+     *
+     * @param podId The ID of the broker which will be rolled next
+     *
+     * @return  Future which completes when the configurations are described
+     */
+    Future<Void> prepare(int podId) {
+        return index()
+                .compose(ignored -> describeMinIsr(podId))
+                .recover(error -> {
+                    LOGGER.debugCr(reconciliation, "Failed to prepare the rollability check of broker {}", podId, error);
+                    return Future.succeededFuture();
                 });
+    }
 
-        // 4. Get topic configs (for those on $broker)
-        Future<Map<String, Config>> topicConfigsOnGivenBroker = topicsOnGivenBroker
-                .compose(td -> topicConfigs(td.stream().map(t -> t.name()).collect(Collectors.toSet())));
+    private synchronized Future<Void> index() {
+        if (index == null) {
+            index = buildIndex();
+        } else if (index.failed()) {
+            // Try again, e.g. when the topics could not be listed or a topic was deleted while refreshing the index
+            reset();
+            index = buildIndex();
+        }
 
-        // 5. join
-        return topicConfigsOnGivenBroker.map(topicNameToConfig -> {
-            Collection<TopicDescription> tds = topicsOnGivenBroker.result();
-            boolean canRoll = tds.stream().noneMatch(
-                td -> wouldAffectAvailability(podId, topicNameToConfig, td));
-            if (!canRoll) {
-                LOGGER.debugCr(reconciliation, "Restart pod {} would remove it from ISR, stalling producers with acks=all", podId);
+        return index;
+    }
+
+    private synchronized void reset() {
+        topics.clear();
+        partitionsByBroker.clear();
+    }
+
+    private Future<Void> buildIndex() {
+        // 1. Get all topic names
+        return topicNames()
+                // 2. Get topic descriptions
+                .compose(names -> {
+                    LOGGER.debugCr(reconciliation, "Got {} topic names", names.size());
+                    LOGGER.traceCr(reconciliation, "Topic names {}", names);
+                    return describeTopics(names);
+                })
+                // 3. Index the partitions by the brokers hosting their replicas
+                .map(descriptions -> {
+                    LOGGER.debugCr(reconciliation, "Got {} topic descriptions", descriptions.size());
+                    synchronized (this) {
+                        for (TopicDescription td : descriptions) {
+                            index(td);
+                        }
+                    }
+                    return null;
+                });
+    }
+
+    private Future<Void> refreshTopics(int podId) {
+        Set<String> names = new HashSet<>();
+        synchronized (this) {
+            for (PartitionState partition : partitionsOnBroker(podId)) {
+                names.add(partition.topic.name);
             }
-            return canRoll;
-        }).recover(error -> {
-            LOGGER.warnCr(reconciliation, "Error determining whether it is safe to restart pod {}", podId, error);
-            return Future.failedFuture(error);
+        }
+
+        if (names.isEmpty()) {
+            return Future.succeededFuture();
+        }
+
+        LOGGER.debugCr(reconciliation, "Refreshing descriptions of {} topics on broker {}", names.size(), podId);
+        return describeTopics(names)
+                .map(descriptions -> {
+                    synchronized (this) {
+                        for (TopicDescription td : descriptions) {
+                            if (names.contains(td.name())) {
+                                index(td);
+                            }
+                        }
+                    }
+                    return (Void) null;
+                })
+                .recover(error -> {
+                    synchronized (this) {
+                        index = Future.failedFuture(error);
+                    }
+                    return Future.failedFuture(error);
+                });
+    }
+
+    // 4. Get topic configs (for those on $broker which were not described yet)
+    private Future<Void> describeMinIsr(int podId) {
+        Set<String> names = new HashSet<>();
+        synchronized (this) {
+            for (PartitionState partition : partitionsOnBroker(podId)) {
+                if (partition.topic.minIsr == MIN_ISR_UNKNOWN) {
+                    names.add(partition.topic.name);
+                }
+            }
+        }
+
+        if (names.isEmpty()) {
+            return Future.succeededFuture();
+        }
+
+        return topicConfigs(names).map(topicNameToConfig -> {
+            synchronized (this) {
+                topicNameToConfig.forEach((name, config) -> {
+                    TopicState topic = topics.get(name);
+                    if (topic != null) {
+                        topic.minIsr = minIsr(name, config);
+                    }
+                });
+            }
+            return null;
         });
     }
 
-    private boolean wouldAffectAvailability(int broker, Map<String, Config> nameToConfig, TopicDescription td) {
-        Config config = nameToConfig.get(td.name());
+    // 5. join
+    private synchronized boolean canRollBroker(int podId) {
+        for (PartitionState partition : partitionsOnBroker(podId)) {
+            if (wouldAffectAvailability(podId, partition)) {
+                LOGGER.debugCr(reconciliation, "Restart pod {} would remove it from ISR, stalling producers with acks=all", podId);
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private int minIsr(String topicName, Config config) {
         ConfigEntry minIsrConfig = config.get(TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG);
-        int minIsr;
         if (minIsrConfig != null && minIsrConfig.value() != null) {
-            minIsr = parseInt(minIsrConfig.value());
-            LOGGER.debugCr(reconciliation, "{} has {}={}.", td.name(), TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, minIsr);
+            int minIsr = parseInt(minIsrConfig.value());
+            LOGGER.debugCr(reconciliation, "{} has {}={}.", topicName, TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, minIsr);
+            return minIsr;
         } else {
-            minIsr = -1;
-            LOGGER.debugCr(reconciliation, "{} lacks {}.", td.name(), TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG);
+            LOGGER.debugCr(reconciliation, "{} lacks {}.", topicName, TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG);
+            return NO_MIN_ISR;
+        }
+    }
+
+    private boolean wouldAffectAvailability(int broker, PartitionState pi) {
+        String topicName = pi.topic.name;
+        int minIsr = pi.topic.minIsr;
+
+        if (minIsr >= 0) {
+            if (pi.replicas.length <= minIsr) {
+                LOGGER.debugCr(reconciliation, "{}/{} will be underreplicated (|ISR|={} and {}={}) if broker {} is restarted, but there are only {} replicas.",
+                        topicName, pi.partition, pi.isr.length, TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, minIsr, broker,
+                        pi.replicas.length);
+            } else if (pi.isr.length < minIsr
+                    && contains(pi.replicas, broker)) {
+                logIsrReplicas(pi);
+                LOGGER.infoCr(reconciliation, "{}/{} is already underreplicated (|ISR|={}, {}={}); broker {} has a replica, " +
+                                "so should not be restarted right now (it might be first to catch up).",
+                        topicName, pi.partition, pi.isr.length, TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, minIsr, broker);
+                return true;
+            } else if (pi.isr.length == minIsr
+                    && contains(pi.isr, broker)) {
+                logIsrReplicas(pi);
+                LOGGER.infoCr(reconciliation, "{}/{} will be underreplicated (|ISR|={} and {}={}) if broker {} is restarted.",
+                        topicName, pi.partition, pi.isr.length, TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, minIsr, broker);
+                return true;
+            }
         }
+        return false;
+    }
 
-        for (TopicPartitionInfo pi : td.partitions()) {
-            List<Node> isr = pi.isr();
-            if (minIsr >= 0) {
-                if (pi.replicas().size() <= minIsr) {
-                    LOGGER.debugCr(reconciliation, "{}/{} will be underreplicated (|ISR|={} and {}={}) if broker {} is restarted, but there are only {} replicas.",
-                            td.name(), pi.partition(), isr.size(), TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, minIsr, broker,
-                            pi.replicas().size());
-                } else if (isr.size() < minIsr
-                        && contains(pi.replicas(), broker)) {
-                    logIsrReplicas(td, pi, isr);
-                    LOGGER.infoCr(reconciliation, "{}/{} is already underreplicated (|ISR|={}, {}={}); broker {} has a replica, " +
-                                    "so should not be restarted right now (it might be first to catch up).",
-                            td.name(), pi.partition(), isr.size(), TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, minIsr, broker);
-                    return true;
-                } else if (isr.size() == minIsr
-                        && contains(isr, broker)) {
-                    if (minIsr < pi.replicas().size()) {
-                        logIsrReplicas(td, pi, isr);
-                        LOGGER.infoCr(reconciliation, "{}/{} will be underreplicated (|ISR|={} and {}={}) if broker {} is restarted.",
-                                td.name(), pi.partition(), isr.size(), TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, minIsr, broker);
-                        return true;
-                    } else {
-                        LOGGER.debugCr(reconciliation, "{}/{} will be underreplicated (|ISR|={} and {}={}) if broker {} is restarted, but there are only {} replicas.",
-                                td.name(), pi.partition(), isr.size(), TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, minIsr, broker,
-                                pi.replicas().size());
-                    }
-                }
+    private void logIsrReplicas(PartitionState pi) {
+        LOGGER.debugCr(reconciliation, "{}/{} has ISR={}, replicas={}", pi.topic.name, pi.partition, nodeList(pi.isr), nodeList(pi.replicas));
+    }
+
+    String nodeList(int[] nodes) {
+        return Arrays.stream(nodes).mapToObj(String::valueOf).collect(Collectors.joining(",", "[", "]"));
+    }
+
+    private static boolean contains(int[] nodes, int broker) {
+        for (int node : nodes) {
+            if (node == broker) {
+                return true;
             }
         }
         return false;
     }
 
-    private void logIsrReplicas(TopicDescription td, TopicPartitionInfo pi, List<Node> isr) {
-        LOGGER.debugCr(reconciliation, "{}/{} has ISR={}, replicas={}", td.name(), pi.partition(), nodeList(isr), nodeList(pi.replicas()));
+    private static int[] nodeIds(List<Node> nodes) {
+        int[] ids = new int[nodes.size()];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = nodes.get(i).id();
+        }
+        return ids;
     }
 
-    String nodeList(List<Node> nodes) {
-        return nodes.stream().map(n -> String.valueOf(n.id())).collect(Collectors.joining(",", "[", "]"));
+    private List<PartitionState> partitionsOnBroker(int broker) {
+        if (broker >= 0 && broker < partitionsByBroker.size()) {
+            return partitionsByBroker.get(broker);
+        } else {
+            return Collections.emptyList();
+        }
     }
 
-    private boolean contains(List<Node> isr, int broker) {
-        return isr.stream().anyMatch(node -> node.id() == broker);
+    /**
+     * Adds the partitions of the given topic to the index or updates the partitions which are already indexed.
+     * Partitions whose replicas did not change only get their ISR updated.
+     */
+    private void index(TopicDescription td) {
+        LOGGER.traceCr(reconciliation, td);
+        TopicState topic = topics.computeIfAbsent(td.name(), TopicState::new);
+
+        for (TopicPartitionInfo pd : td.partitions()) {
+            int[] replicas = nodeIds(pd.replicas());
+            int[] isr = nodeIds(pd.isr());
+
+            while (topic.partitions.size() <= pd.partition()) {
+                topic.partitions.add(null);
+            }
+
+            PartitionState partition = topic.partitions.get(pd.partition());
+            if (partition != null && Arrays.equals(partition.replicas, replicas)) {
+                partition.isr = isr;
+            } else {
+                if (partition != null) {
+                    // The partition was reassigned
+                    for (int broker : partition.replicas) {
+                        partitionsOnBroker(broker).remove(partition);
+                    }
+                }
+
+                partition = new PartitionState(topic, pd.partition(), replicas, isr);
+                topic.partitions.set(pd.partition(), partition);
+
+                for (int broker : replicas) {
+                    if (broker < 0) {
+                        continue;
+                    }
+
+                    while (partitionsByBroker.size() <= broker) {
+                        partitionsByBroker.add(new ArrayList<>());
+                    }
+                    partitionsByBroker.get(broker).add(partition);
+                }
+            }
+        }
     }
 
     private Future<Map<String, Config>> topicConfigs(Collection<String> topicNames) {
@@ -168,21 +359,6 @@ class KafkaAvailability {
         return promise.future();
     }
 
-    private Set<TopicDescription> groupTopicsByBroker(Collection<TopicDescription> tds, int podId) {
-        Set<TopicDescription> topicPartitionInfos = new HashSet<>();
-        for (TopicDescription td : tds) {
-            LOGGER.traceCr(reconciliation, td);
-            for (TopicPartitionInfo pd : td.partitions()) {
-                for (Node broker : pd.replicas()) {
-                    if (podId == broker.id()) {
-                        topicPartitionInfos.add(td);
-                    }
-                }
-            }
-        }
-        return topicPartitionInfos;
-    }
-
     protected Future<Collection<TopicDescription>> describeTopics(Set<String> names) {
         Promise<Collection<TopicDescription>> descPromise = Promise.promise();
         ac.describeTopics(names).all()
@@ -210,4 +386,34 @@ class KafkaAvailability {
                 });
         return namesPromise.future();
     }
+
+    /**
+     * The {@code min.in.sync.replicas} and the indexed partitions of a topic
+     */
+    private static class TopicState {
+        private final String name;
+        private final List<PartitionState> partitions = new ArrayList<>(1);
+        private int minIsr = MIN_ISR_UNKNOWN;
+
+        TopicState(String name) {
+            this.name = name;
+        }
+    }
+
+    /**
+     * The replicas and the ISR of a single partition
+     */
+    private static class PartitionState {
+        private final TopicState topic;
+        private final int partition;
+        private final int[] replicas;
+        private int[] isr;
+
+        PartitionState(TopicState topic, int partition, int[] replicas, int[] isr) {
+            this.topic = topic;
+            this.partition = partition;
+            this.replicas = replicas;
+            this.isr = isr;
+        }
+    }
 }
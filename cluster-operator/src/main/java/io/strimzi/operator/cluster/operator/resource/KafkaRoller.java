@@ -12,6 +12,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -112,6 +113,7 @@ public class KafkaRoller {
     protected final long operationTimeoutMs;
     protected final Vertx vertx;
     private final String cluster;
+    private final Labels podSelector;
     private final Secret clusterCaCertSecret;
     private final Secret coKeySecret;
     private final Integer numPods;
@@ -124,6 +126,7 @@ public class KafkaRoller {
     private final Reconciliation reconciliation;
     private final boolean allowReconfiguration;
     private Admin allClient;
+    private KafkaAvailability kafkaAvailability;
 
     public KafkaRoller(Reconciliation reconciliation, Vertx vertx, PodOperator podOperations,
                        long pollingIntervalMs, long operationTimeoutMs, Supplier<BackOff> backOffSupplier,
@@ -140,6 +143,7 @@ public class KafkaRoller {
                        String kafkaConfig, String kafkaLogging, KafkaVersion kafkaVersion, boolean allowReconfiguration) {
         this.namespace = sts.getMetadata().getNamespace();
         this.cluster = Labels.cluster(sts);
+        this.podSelector = Labels.EMPTY.withStrimziCluster(cluster).withStrimziName(sts.getMetadata().getName());
         this.numPods = sts.getSpec().getReplicas();
         this.backoffSupplier = backOffSupplier;
         this.clusterCaCertSecret = clusterCaCertSecret;
@@ -169,6 +173,12 @@ public class KafkaRoller {
 
     private ConcurrentHashMap<Integer, RestartContext> podToContext = new ConcurrentHashMap<>();
     private Function<Pod, List<String>> podNeedsRestart;
+    // Brokers which were already reconfigured dynamically at the start of the rolling restart
+    private final Set<Integer> reconfiguredPods = ConcurrentHashMap.newKeySet();
+    // Broker configurations described at the start of the rolling restart which were not used yet
+    private final Map<ConfigResource, Config> prefetchedConfigs = new ConcurrentHashMap<>();
+    // Reasons for restarting the pods evaluated during this rolling restart indexed by the pod name and resource version
+    private final Map<String, List<String>> restartReasons = new ConcurrentHashMap<>();
 
     /**
      * If allClient has not been initialized yet, does exactly that
@@ -193,6 +203,24 @@ public class KafkaRoller {
      * @return A Future completed when rolling is complete.
      */
     public Future<Void> rollingRestart(Function<Pod, List<String>> podNeedsRestart) {
+        return rollingRestart(podNeedsRestart, false);
+    }
+
+    /**
+     * Asynchronously perform a rolling restart of some subset of the pods one by one in the order of their index,
+     * completing the returned Future when rolling is complete. A pod is considered only once the previous pod was
+     * rolled (or found not to need rolling) and is ready. This is needed when the brokers have to be rolled in
+     * sequence, for example when adding or removing JBOD volumes. The rolling stops with the first pod which fails.
+     * Which pods get rolled is determined by {@code podNeedsRestart}.
+     * @param podNeedsRestart Predicate for determining whether a pod should be rolled.
+     * @return A Future completed when rolling is complete.
+     */
+    public Future<Void> rollingRestartInSequence(Function<Pod, List<String>> podNeedsRestart) {
+        return rollingRestart(podNeedsRestart, true);
+    }
+
+    @SuppressWarnings({"rawtypes"})
+    private Future<Void> rollingRestart(Function<Pod, List<String>> podNeedsRestart, boolean inSequence) {
         this.podNeedsRestart = podNeedsRestart;
 
         Promise<Void> result = Promise.promise();
@@ -200,16 +228,52 @@ public class KafkaRoller {
             List<Integer> podIds = new ArrayList<>(numPods);
 
             for (int podId = 0; podId < numPods; podId++) {
-                // Order the podIds unready first otherwise repeated reconciliations might each restart a pod
-                // only for it not to become ready and thus drive the cluster to a worse state.
-                podIds.add(podOperations.isReady(namespace, podName(podId)) ? podIds.size() : 0, podId);
+                if (inSequence) {
+                    podIds.add(podId);
+                } else {
+                    // Order the podIds unready first otherwise repeated reconciliations might each restart a pod
+                    // only for it not to become ready and thus drive the cluster to a worse state.
+                    podIds.add(podOperations.isReady(namespace, podName(podId)) ? podIds.size() : 0, podId);
+                }
             }
             LOGGER.debugCr(reconciliation, "Initial order for rolling restart {}", podIds);
-            List<Future> futures = new ArrayList<>(numPods);
-            for (Integer podId: podIds) {
-                futures.add(schedule(podId, 0, TimeUnit.MILLISECONDS));
+
+            try {
+                prefetchAndReconfigure(podIds);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (RuntimeException e) {
+                // The brokers will be still described and reconfigured one by one
+                LOGGER.warnCr(reconciliation, "Failed to describe or reconfigure all brokers at once", e);
+            }
+
+            Future<?> rolled;
+            if (inSequence) {
+                // The next pod is scheduled only once the previous one is done. Since there is always only one pod
+                // being rolled, the controller is not deferred to the end. The next pod is prepared while the previous
+                // one is being rolled.
+                Future<Void> sequence = Future.succeededFuture();
+                for (int i = 0; i < podIds.size(); i++) {
+                    int podId = podIds.get(i);
+                    Integer nextPodId = i + 1 < podIds.size() ? podIds.get(i + 1) : null;
+
+                    sequence = sequence.compose(ignored -> {
+                        Future<Void> podRolled = schedule(podId, 0, TimeUnit.MILLISECONDS);
+                        if (nextPodId != null) {
+                            prepare(nextPodId);
+                        }
+                        return podRolled;
+                    });
+                }
+                rolled = sequence;
+            } else {
+                List<Future> futures = new ArrayList<>(numPods);
+                for (Integer podId : podIds) {
+                    futures.add(schedule(podId, 0, TimeUnit.MILLISECONDS));
+                }
+                rolled = CompositeFuture.join(futures);
             }
-            CompositeFuture.join(futures).onComplete(ar -> {
+            rolled.onComplete(ar -> {
                 singleExecutor.shutdown();
                 try {
                     if (allClient != null) {
@@ -224,6 +288,156 @@ public class KafkaRoller {
         return result.future();
     }
 
+    /**
+     * Describes the configuration and the logging configuration of all brokers at once and dynamically reconfigures all
+     * the brokers which need reconfiguration but no restart at once. This avoids doing these requests for each broker
+     * one after another. The same rollability checks as for the reconfiguration of a single broker apply: the brokers
+     * which cannot be rolled right now and the controller are not reconfigured here. They are reconfigured (or
+     * restarted) one by one by {@link #restartIfNecessary(int, RestartContext)} together with the brokers which could
+     * not be described or reconfigured here. The configurations described here are kept for the brokers which were not
+     * reconfigured, so that the brokers which turn out to be up-to-date are not described again one by one. When the
+     * reconfiguration is not allowed, the configurations are only described.
+     *
+     * @param podIds    The IDs of the pods which should be considered
+     *
+     * @throws InterruptedException Interrupted while waiting.
+     */
+    private void prefetchAndReconfigure(List<Integer> podIds) throws InterruptedException {
+        if (!initAdminClient()) {
+            return;
+        }
+
+        Map<ConfigResource, Config> configs = describeBrokerConfigs(podIds);
+        prefetchedConfigs.putAll(configs);
+
+        if (!allowReconfiguration) {
+            return;
+        }
+
+        Map<String, Pod> pods = podOperations.list(namespace, podSelector).stream()
+                .collect(Collectors.toMap(pod -> pod.getMetadata().getName(), pod -> pod));
+
+        Map<Integer, RestartPlan> plans = new HashMap<>(podIds.size());
+        for (int podId : podIds) {
+            Config brokerConfig = configs.get(Util.getBrokersConfig(podId));
+            Config brokerLogging = configs.get(Util.getBrokersLogging(podId));
+
+            if (brokerConfig == null || brokerLogging == null) {
+                continue;
+            }
+
+            Pod pod = pods.get(podName(podId));
+            if (pod == null || !restartReasons(pod).isEmpty()) {
+                // Pods which will be restarted are handled one by one
+                continue;
+            }
+
+            KafkaBrokerConfigurationDiff diff = new KafkaBrokerConfigurationDiff(reconciliation, brokerConfig, kafkaConfig, kafkaVersion, podId);
+            KafkaBrokerLoggingConfigurationDiff loggingDiff = new KafkaBrokerLoggingConfigurationDiff(reconciliation, brokerLogging, kafkaLogging, podId);
+
+            boolean needsReconfig = diff.getDiffSize() > 0 || loggingDiff.getDiffSize() > 0;
+            if (needsReconfig && (diff.getDiffSize() == 0 || diff.canBeUpdatedDynamically())) {
+                plans.put(podId, new RestartPlan(false, true, false, diff, loggingDiff));
+            }
+        }
+
+        removeUnrollable(plans, podIds.size());
+
+        if (!plans.isEmpty()) {
+            reconfiguredPods.addAll(dynamicUpdateBrokerConfigs(plans));
+        }
+
+        // The reconfigured brokers are described again when they are considered
+        for (int podId : reconfiguredPods) {
+            prefetchedConfigs.remove(Util.getBrokersConfig(podId));
+            prefetchedConfigs.remove(Util.getBrokersLogging(podId));
+        }
+    }
+
+    /**
+     * Removes the brokers which should not be reconfigured in the batch from the given plans. These are the brokers
+     * which cannot be rolled right now and the controller (which is reconfigured last, unless it is the only broker).
+     * When the controller cannot be determined, no broker is reconfigured in the batch.
+     *
+     * @param plans     The plans of the brokers which need to be reconfigured
+     * @param podCount  The number of pods in this rolling restart
+     *
+     * @throws InterruptedException Interrupted while waiting.
+     */
+    private void removeUnrollable(Map<Integer, RestartPlan> plans, int podCount) throws InterruptedException {
+        if (plans.isEmpty()) {
+            return;
+        }
+
+        try {
+            int controller = controller(plans.keySet().iterator().next(), operationTimeoutMs, TimeUnit.MILLISECONDS, new RestartContext(backoffSupplier));
+            if (podCount > 1 && plans.remove(controller) != null) {
+                LOGGER.debugCr(reconciliation, "Pod {} is controller and will be reconfigured last", controller);
+            }
+        } catch (InterruptedException e) {
+            throw e;
+        } catch (Exception e) {
+            LOGGER.debugCr(reconciliation, "Failed to find the controller, the brokers will be reconfigured one by one", e);
+            plans.clear();
+            return;
+        }
+
+        for (Iterator<Integer> it = plans.keySet().iterator(); it.hasNext(); ) {
+            int podId = it.next();
+
+            try {
+                if (!canRoll(podId, 60_000, TimeUnit.MILLISECONDS, false)) {
+                    LOGGER.debugCr(reconciliation, "Pod {} cannot be rolled right now and will be reconfigured later", podId);
+                    it.remove();
+                }
+            } catch (ForceableProblem e) {
+                LOGGER.debugCr(reconciliation, "Failed to check whether pod {} can be rolled, it will be reconfigured later", podId, e);
+                it.remove();
+            }
+        }
+    }
+
+    /**
+     * Prepares the rolling of the given pod while the previous pod in the sequence is being rolled. It gets the pod
+     * to evaluate the reasons for restarting it and describes the configurations of the topics hosted by the broker
+     * which are needed to decide whether it can be rolled. The rollability itself is decided only when the pod is
+     * considered, because the in-sync replicas change while the previous pod is being rolled. Any errors are ignored
+     * and the pod is handled in the regular way.
+     *
+     * @param podId The pod which will be rolled next
+     */
+    /* test */ void prepare(int podId) {
+        LOGGER.debugCr(reconciliation, "Preparing the rolling of pod {}", podId);
+
+        pod(podId).onSuccess(pod -> {
+            if (pod != null) {
+                restartReasons(pod);
+            }
+        });
+
+        if (allClient != null) {
+            availability().prepare(podId);
+        }
+    }
+
+    /**
+     * Returns the reasons for restarting the given pod. The reasons are evaluated only once for each revision of the
+     * pod, so that the pod can be considered several times (e.g. when it is prepared and then rolled or when the
+     * rolling is retried) without evaluating the restart reasons again.
+     *
+     * @param pod   The pod
+     *
+     * @return  The reasons for restarting the pod. Empty list if the pod does not need to be restarted.
+     */
+    private List<String> restartReasons(Pod pod) {
+        if (pod == null || pod.getMetadata() == null || pod.getMetadata().getResourceVersion() == null) {
+            return Objects.requireNonNull(podNeedsRestart.apply(pod));
+        }
+
+        return restartReasons.computeIfAbsent(pod.getMetadata().getName() + "@" + pod.getMetadata().getResourceVersion(),
+            ignored -> Objects.requireNonNull(podNeedsRestart.apply(pod)));
+    }
+
     protected static class RestartContext {
         final Promise<Void> promise;
         final BackOff backOff;
@@ -449,7 +663,7 @@ public class KafkaRoller {
      */
     private RestartPlan restartPlan(int podId, Pod pod, RestartContext restartContext) throws ForceableProblem, InterruptedException, FatalProblem {
 
-        List<String> reasonToRestartPod = Objects.requireNonNull(podNeedsRestart.apply(pod));
+        List<String> reasonToRestartPod = restartReasons(pod);
         boolean podStuck = pod != null
                 && pod.getStatus() != null
                 && "Pending".equals(pod.getStatus().getPhase())
@@ -473,6 +687,12 @@ public class KafkaRoller {
         if (!initAdminClient()) {
             return new RestartPlan(true);
         }
+        // The prefetched configuration is used up even when the pod needs to be restarted
+        boolean prefetchedConfigUpToDate = isPrefetchedConfigUpToDate(podId);
+        if (!needsRestart && prefetchedConfigUpToDate) {
+            LOGGER.debugCr(reconciliation, "Pod {} is up-to-date according to the configuration described at the start of the rolling restart", podId);
+            return new RestartPlan(false);
+        }
         Config brokerConfig;
         try {
             brokerConfig = brokerConfig(podId);
@@ -485,7 +705,7 @@ public class KafkaRoller {
             }
         }
 
-        if (!needsRestart && allowReconfiguration) {
+        if (!needsRestart && needsConfigurationDiff(podId)) {
             LOGGER.traceCr(reconciliation, "Broker {}: description {}", podId, brokerConfig);
             diff = new KafkaBrokerConfigurationDiff(reconciliation, brokerConfig, kafkaConfig, kafkaVersion, podId);
             loggingDiff = logging(podId);
@@ -509,6 +729,44 @@ public class KafkaRoller {
         return new RestartPlan(needsRestart, needsReconfig, podStuck, diff, loggingDiff);
     }
 
+    /**
+     * Checks whether the broker responded to the describe request done at the start of the rolling restart and whether
+     * the configuration described there matches the desired configuration. The broker does not need to be described
+     * again in that case. The prefetched configuration is used only once, so it is always described again when the pod
+     * is retried.
+     *
+     * @param podId The id of the pod
+     *
+     * @return  True if the prefetched configuration of the broker is up-to-date. False otherwise.
+     */
+    private boolean isPrefetchedConfigUpToDate(int podId) {
+        Config brokerConfig = prefetchedConfigs.remove(Util.getBrokersConfig(podId));
+        Config brokerLogging = prefetchedConfigs.remove(Util.getBrokersLogging(podId));
+
+        if (brokerConfig == null || brokerLogging == null) {
+            return false;
+        } else if (!needsConfigurationDiff(podId)) {
+            return true;
+        }
+
+        return new KafkaBrokerConfigurationDiff(reconciliation, brokerConfig, kafkaConfig, kafkaVersion, podId).getDiffSize() == 0
+                && new KafkaBrokerLoggingConfigurationDiff(reconciliation, brokerLogging, kafkaLogging, podId).getDiffSize() == 0;
+    }
+
+    /**
+     * Checks whether the configuration of the broker should be compared with the desired configuration. That is not
+     * the case when reconfiguration is not allowed or when the broker was already reconfigured in the batch done at
+     * the start of the rolling restart.
+     */
+    private boolean needsConfigurationDiff(int podId) {
+        if (allowReconfiguration && reconfiguredPods.contains(podId)) {
+            LOGGER.debugCr(reconciliation, "Pod {} was already reconfigured dynamically", podId);
+            return false;
+        }
+
+        return allowReconfiguration;
+    }
+
     /**
      * Returns a config of the given broker.
      * @param brokerId The id of the broker.
@@ -535,6 +793,87 @@ public class KafkaRoller {
         );
     }
 
+    /**
+     * Describes the configuration and the logging configuration of the given brokers using a single request.
+     *
+     * @param brokerIds The ids of the brokers.
+     * @return The configs which were described successfully. Brokers which failed to respond are missing.
+     * @throws InterruptedException Interrupted while waiting.
+     */
+    @SuppressWarnings({"rawtypes"})
+    protected Map<ConfigResource, Config> describeBrokerConfigs(List<Integer> brokerIds) throws InterruptedException {
+        List<ConfigResource> resources = new ArrayList<>(brokerIds.size() * 2);
+        for (int brokerId : brokerIds) {
+            resources.add(Util.getBrokersConfig(brokerId));
+            resources.add(Util.getBrokersLogging(brokerId));
+        }
+
+        Map<ConfigResource, Future<Config>> futures = new HashMap<>(resources.size());
+        allClient.describeConfigs(resources).values()
+                .forEach((resource, future) -> futures.put(resource, Util.kafkaFutureToVertxFuture(reconciliation, vertx, future)));
+
+        try {
+            await(CompositeFuture.join(new ArrayList<Future>(futures.values())), 30, TimeUnit.SECONDS,
+                error -> new ForceableProblem("Error getting broker configs", error));
+        } catch (ForceableProblem e) {
+            LOGGER.debugCr(reconciliation, "Failed to get the configs of some brokers", e);
+        }
+
+        Map<ConfigResource, Config> configs = new HashMap<>(resources.size());
+        futures.forEach((resource, future) -> {
+            if (future.succeeded()) {
+                configs.put(resource, future.result());
+            }
+        });
+
+        return configs;
+    }
+
+    /**
+     * Dynamically reconfigures the given brokers using a single request.
+     *
+     * @param plans The restart plans with the configuration diffs of the brokers which should be reconfigured.
+     * @return The ids of the brokers which were reconfigured successfully.
+     * @throws InterruptedException Interrupted while waiting.
+     */
+    @SuppressWarnings({"rawtypes"})
+    protected Set<Integer> dynamicUpdateBrokerConfigs(Map<Integer, RestartPlan> plans) throws InterruptedException {
+        Map<ConfigResource, Collection<AlterConfigOp>> updatedConfig = new HashMap<>(plans.size() * 2);
+        for (Map.Entry<Integer, RestartPlan> plan : plans.entrySet()) {
+            updatedConfig.put(Util.getBrokersConfig(plan.getKey()), plan.getValue().diff.getConfigDiff());
+            updatedConfig.put(Util.getBrokersLogging(plan.getKey()), plan.getValue().logDiff.getLoggingDiff());
+        }
+
+        LOGGER.debugCr(reconciliation, "Altering configuration of brokers {}", plans.keySet());
+        LOGGER.traceCr(reconciliation, "Altering configuration of brokers {} with {}", plans.keySet(), updatedConfig);
+
+        Map<ConfigResource, KafkaFuture<Void>> results = allClient.incrementalAlterConfigs(updatedConfig).values();
+        Map<Integer, Future<Void>> futures = new HashMap<>(plans.size());
+        for (int podId : plans.keySet()) {
+            futures.put(podId, Util.kafkaFutureToVertxFuture(reconciliation, vertx,
+                    KafkaFuture.allOf(results.get(Util.getBrokersConfig(podId)), results.get(Util.getBrokersLogging(podId)))));
+        }
+
+        try {
+            await(CompositeFuture.join(new ArrayList<Future>(futures.values())), 30, TimeUnit.SECONDS,
+                error -> new ForceableProblem("Error doing dynamic update", error));
+        } catch (ForceableProblem e) {
+            LOGGER.debugCr(reconciliation, "Failed to update some brokers dynamically", e);
+        }
+
+        Set<Integer> updated = new HashSet<>(plans.size());
+        futures.forEach((podId, future) -> {
+            if (future.succeeded()) {
+                LOGGER.infoCr(reconciliation, "Dynamic reconfiguration for broker {} was successful.", podId);
+                updated.add(podId);
+            } else {
+                LOGGER.debugCr(reconciliation, "Broker {} could not be updated dynamically ({}), it will be updated or restarted individually", podId, future.cause());
+            }
+        });
+
+        return updated;
+    }
+
     protected void dynamicUpdateBrokerConfig(int podId, Admin ac, KafkaBrokerConfigurationDiff configurationDiff, KafkaBrokerLoggingConfigurationDiff logDiff)
             throws ForceableProblem, InterruptedException {
         Map<ConfigResource, Collection<AlterConfigOp>> updatedConfig = new HashMap<>(2);
@@ -613,7 +952,7 @@ public class KafkaRoller {
     private boolean canRoll(int podId, long timeout, TimeUnit unit, boolean ignoreSslError)
             throws ForceableProblem, InterruptedException {
         try {
-            return await(availability(allClient).canRoll(podId), timeout, unit,
+            return await(availability().canRoll(podId), timeout, unit,
                 t -> new ForceableProblem("An error while trying to determine rollability", t));
         } catch (ForceableProblem e) {
             // If we're not able to connect then roll
@@ -694,11 +1033,21 @@ public class KafkaRoller {
      * Returns an AdminClient instance bootstrapped from the given pod.
      */
     protected Admin adminClient(List<Integer> bootstrapPods, boolean ceShouldBeFatal) throws ForceableProblem, FatalProblem {
+        return adminClient(bootstrapPods, ceShouldBeFatal, false);
+    }
+
+    /**
+     * Returns an AdminClient instance bootstrapped from the given pod. When {@code dedicated} is true, the returned
+     * AdminClient is not shared with any other user (and does not share its cached metadata).
+     */
+    protected Admin adminClient(List<Integer> bootstrapPods, boolean ceShouldBeFatal, boolean dedicated) throws ForceableProblem, FatalProblem {
         List<String> podNames = bootstrapPods.stream().map(podId -> podName(podId)).collect(Collectors.toList());
         try {
             String bootstrapHostnames = podNames.stream().map(podName -> KafkaCluster.podDnsName(this.namespace, this.cluster, podName) + ":" + KafkaCluster.REPLICATION_PORT).collect(Collectors.joining(","));
             LOGGER.debugCr(reconciliation, "Creating AdminClient for {}", bootstrapHostnames);
-            return adminClientProvider.createAdminClient(bootstrapHostnames, this.clusterCaCertSecret, this.coKeySecret, "cluster-operator");
+            return dedicated
+                    ? adminClientProvider.createDedicatedAdminClient(bootstrapHostnames, this.clusterCaCertSecret, this.coKeySecret, "cluster-operator")
+                    : adminClientProvider.createAdminClient(bootstrapHostnames, this.clusterCaCertSecret, this.coKeySecret, "cluster-operator");
         } catch (KafkaException e) {
             if (ceShouldBeFatal && (e instanceof ConfigException
                     || e.getCause() instanceof ConfigException)) {
@@ -711,6 +1060,17 @@ public class KafkaRoller {
         }
     }
 
+    /**
+     * Returns the KafkaAvailability shared by all the rollability checks of this rolling restart, so that the topics
+     * are listed only once and not for every broker.
+     */
+    private KafkaAvailability availability() {
+        if (kafkaAvailability == null) {
+            kafkaAvailability = availability(allClient);
+        }
+        return kafkaAvailability;
+    }
+
     protected KafkaAvailability availability(Admin ac) {
         return new KafkaAvailability(reconciliation, ac);
     }
@@ -739,7 +1099,7 @@ public class KafkaRoller {
     @SuppressFBWarnings("RCN_REDUNDANT_NULLCHECK_WOULD_HAVE_BEEN_A_NPE") // seems to be completely spurious
     int controller(int podId, long timeout, TimeUnit unit, RestartContext restartContext) throws Exception {
         // Don't use all allClient here, because it will have cache metadata about which is the controller.
-        try (Admin ac = adminClient(singletonList(podId), false)) {
+        try (Admin ac = adminClient(singletonList(podId), false, true)) {
             Node controllerNode = null;
             try {
                 DescribeClusterResult describeClusterResult = ac.describeCluster();
@@ -41,7 +41,8 @@ public class KafkaSpecChecker {
      *                     this class to include awareness of what defaults are applied.
      * @param zkCluster The model generated based on the spec. This is requested so that default
      *                     values not included in the spec can be taken into account, without needing
-     *                     this class to include awareness of what defaults are applied.
+     *                     this class to include awareness of what defaults are applied. It is null when
+     *                     the Kafka cluster runs in the KRaft mode without ZooKeeper.
      */
     public KafkaSpecChecker(KafkaSpec spec, KafkaVersion.Lookup versions, KafkaCluster kafkaCluster, ZookeeperCluster zkCluster) {
         this.kafkaCluster = kafkaCluster;
@@ -59,8 +60,11 @@ public class KafkaSpecChecker {
         checkKafkaLogMessageFormatVersion(warnings);
         checkKafkaInterBrokerProtocolVersion(warnings);
         checkKafkaStorage(warnings);
-        checkZooKeeperStorage(warnings);
-        checkZooKeeperReplicas(warnings);
+        // There is no ZooKeeper cluster in the KRaft mode
+        if (zkCluster != null) {
+            checkZooKeeperStorage(warnings);
+            checkZooKeeperReplicas(warnings);
+        }
         return warnings;
     }
 
@@ -18,6 +18,7 @@ import io.strimzi.api.kafka.model.KafkaResources;
 import io.strimzi.operator.cluster.ClusterOperator;
 import io.strimzi.operator.cluster.model.KafkaCluster;
 import io.strimzi.operator.common.Annotations;
+import io.strimzi.operator.common.KubernetesOperationsExecutor;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.ReconciliationLogger;
 import io.strimzi.operator.common.Util;
@@ -37,6 +38,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
 
+import static io.strimzi.operator.common.KubernetesRequestMetrics.attributedTo;
+
 /**
  * Operations for {@code StatefulSets}s, which supports {@link #maybeRollingUpdate(Reconciliation, StatefulSet, Function)}
  * in addition to the usual operations.
@@ -359,7 +362,7 @@ public abstract class StatefulSetOperator extends AbstractScalableResourceOperat
      */
     public Future<Void> deleteAsync(Reconciliation reconciliation, String namespace, String name, boolean cascading) {
         Promise<Void> result = Promise.promise();
-        vertx.createSharedWorkerExecutor("kubernetes-ops-pool").executeBlocking(
+        KubernetesOperationsExecutor.executeBlocking(vertx, attributedTo(reconciliation,
             future -> {
                 try {
                     Boolean deleted = operation().inNamespace(namespace).withName(name).withPropagationPolicy(cascading ? DeletionPropagation.FOREGROUND : DeletionPropagation.ORPHAN).withGracePeriod(-1L).delete();
@@ -375,7 +378,7 @@ public abstract class StatefulSetOperator extends AbstractScalableResourceOperat
                     LOGGER.debugCr(reconciliation, "Caught exception while deleting {} {} in namespace {}", resourceKind, name, namespace, e);
                     future.fail(e);
                 }
-            }, true, result
+            }), true, result
         );
         return result.future();
     }
@@ -7,10 +7,9 @@ package io.strimzi.operator.cluster.operator.resource;
 import io.fabric8.kubernetes.api.model.Pod;
 import io.fabric8.kubernetes.api.model.Secret;
 import io.strimzi.api.kafka.model.KafkaResources;
-import io.strimzi.certs.CertAndKey;
-import io.strimzi.operator.cluster.model.Ca;
 import io.strimzi.operator.cluster.model.ZookeeperCluster;
 import io.strimzi.operator.common.BackOff;
+import io.strimzi.operator.common.PemTlsMaterial;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.ReconciliationLogger;
 import io.strimzi.operator.common.Util;
@@ -20,18 +19,12 @@ import io.vertx.core.Future;
 import io.vertx.core.Handler;
 import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
-import io.vertx.core.buffer.Buffer;
 import io.vertx.core.net.NetClientOptions;
 import io.vertx.core.net.NetSocket;
 import io.vertx.core.net.PemKeyCertOptions;
 import io.vertx.core.net.PemTrustOptions;
 
-import java.io.ByteArrayInputStream;
-import java.security.cert.CertificateException;
-import java.security.cert.CertificateFactory;
-import java.util.Base64;
 import java.util.List;
-import java.util.Map;
 import java.util.function.Supplier;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -68,45 +61,12 @@ public class ZookeeperLeaderFinder {
                 .setPemTrustOptions(trustOptions(reconciliation, clusterCaCertificateSecret));
     }
 
-    private CertificateFactory x509Factory() {
-        CertificateFactory x509;
-        try {
-            x509 = CertificateFactory.getInstance("X.509");
-        } catch (CertificateException e) {
-            throw new RuntimeException("No security provider supports X.509");
-        }
-        return x509;
-    }
-
     /**
      * Validate the cluster CA certificate(s) passed in the given Secret
      * and return the PemTrustOptions for trusting them.
      */
     protected PemTrustOptions trustOptions(Reconciliation reconciliation, Secret clusterCaCertificateSecret) {
-        Base64.Decoder decoder = Base64.getDecoder();
-        CertificateFactory x509 = x509Factory();
-        PemTrustOptions pto = new PemTrustOptions();
-        for (Map.Entry<String, String> entry : clusterCaCertificateSecret.getData().entrySet()) {
-            String entryName = entry.getKey();
-            if (entryName.endsWith(".crt")) {
-                LOGGER.infoCr(reconciliation, "Trusting certificate {} from Secret {}", entryName, clusterCaCertificateSecret.getMetadata().getName());
-                byte[] certBytes = decoder.decode(entry.getValue());
-                try {
-                    x509.generateCertificate(new ByteArrayInputStream(certBytes));
-                } catch (CertificateException e) {
-                    throw corruptCertificate(clusterCaCertificateSecret, entryName, e);
-                }
-                pto.addCertValue(Buffer.buffer(certBytes));
-            } else {
-                LOGGER.warnCr(reconciliation, "Ignoring non-certificate {} in Secret {}", entryName, clusterCaCertificateSecret.getMetadata().getName());
-            }
-        }
-        return pto;
-    }
-
-    private RuntimeException corruptCertificate(Secret secret, String certKey, CertificateException e) {
-        return new RuntimeException("Bad/corrupt certificate found in data." + certKey.replace(".", "\\.") + " of Secret "
-                + secret.getMetadata().getName() + " in namespace " + secret.getMetadata().getNamespace(), e);
+        return PemTlsMaterial.trustedCertificates(clusterCaCertificateSecret).pemTrustOptions();
     }
 
     /**
@@ -114,21 +74,7 @@ public class ZookeeperLeaderFinder {
      * and return the PemKeyCertOptions for using it for TLS authentication.
      */
     protected PemKeyCertOptions keyCertOptions(Secret coCertKeySecret) {
-        CertAndKey coCertKey = Ca.asCertAndKey(coCertKeySecret,
-                                            "cluster-operator.key", "cluster-operator.crt",
-                                        "cluster-operator.p12", "cluster-operator.password");
-        if (coCertKey == null) {
-            throw Util.missingSecretException(coCertKeySecret.getMetadata().getNamespace(), coCertKeySecret.getMetadata().getName());
-        }
-        CertificateFactory x509 = x509Factory();
-        try {
-            x509.generateCertificate(new ByteArrayInputStream(coCertKey.cert()));
-        } catch (CertificateException e) {
-            throw corruptCertificate(coCertKeySecret, "cluster-operator.crt", e);
-        }
-        return new PemKeyCertOptions()
-                .setCertValue(Buffer.buffer(coCertKey.cert()))
-                .setKeyValue(Buffer.buffer(coCertKey.key()));
+        return PemTlsMaterial.keyAndCertificate(coCertKeySecret, "cluster-operator").pemKeyCertOptions();
     }
 
     /**
@@ -5,9 +5,8 @@
 package io.strimzi.operator.cluster.operator.resource;
 
 import io.fabric8.kubernetes.api.model.Secret;
-import io.strimzi.operator.cluster.model.Ca;
 import io.strimzi.operator.cluster.model.ZookeeperCluster;
-import io.strimzi.operator.common.PasswordGenerator;
+import io.strimzi.operator.common.PemTlsMaterial;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.ReconciliationLogger;
 import io.strimzi.operator.common.Util;
@@ -45,10 +44,7 @@ public class ZookeeperScaler implements AutoCloseable {
     private final Secret clusterCaCertSecret;
     private final Secret coKeySecret;
 
-    private final String trustStorePassword;
     private File trustStoreFile;
-
-    private final String keyStorePassword;
     private File keyStoreFile;
 
     private final Reconciliation reconciliation;
@@ -78,14 +74,6 @@ public class ZookeeperScaler implements AutoCloseable {
         this.operationTimeoutMs = operationTimeoutMs;
         this.clusterCaCertSecret = clusterCaCertSecret;
         this.coKeySecret = coKeySecret;
-
-        // Setup truststore from PEM file in cluster CA secret
-        // We cannot use P12 because of custom CAs which for simplicity provide only PEM
-        PasswordGenerator pg = new PasswordGenerator(12);
-        trustStorePassword = pg.generate();
-
-        // Setup keystore from PKCS12 in cluster-operator secret
-        keyStorePassword = new String(Util.decodeFromSecret(coKeySecret, "cluster-operator.password"), StandardCharsets.US_ASCII);
     }
 
     /**
@@ -279,17 +267,19 @@ public class ZookeeperScaler implements AutoCloseable {
             try {
                 ZKClientConfig clientConfig = new ZKClientConfig();
 
-                trustStoreFile = Util.createFileTrustStore(getClass().getName(), "p12", Ca.cert(clusterCaCertSecret, Ca.CA_CRT), trustStorePassword.toCharArray());
-                keyStoreFile = Util.createFileStore(getClass().getName(), "p12", Util.decodeFromSecret(coKeySecret, "cluster-operator.p12"));
+                // The ZooKeeper client can load the TLS material only from files. The PEM files are written from the
+                // cached PEM material so that no PKCS12 stores have to be encoded and protected with passwords.
+                trustStoreFile = Util.createFileStore(getClass().getName(), "pem",
+                        PemTlsMaterial.trustedCertificates(clusterCaCertSecret).certificates().getBytes(StandardCharsets.US_ASCII));
+                keyStoreFile = Util.createFileStore(getClass().getName(), "pem",
+                        PemTlsMaterial.keyAndCertificate(coKeySecret, "cluster-operator").privateKeyAndCertificates().getBytes(StandardCharsets.US_ASCII));
 
                 clientConfig.setProperty("zookeeper.clientCnxnSocket", "org.apache.zookeeper.ClientCnxnSocketNetty");
                 clientConfig.setProperty("zookeeper.client.secure", "true");
                 clientConfig.setProperty("zookeeper.ssl.trustStore.location", trustStoreFile.getAbsolutePath());
-                clientConfig.setProperty("zookeeper.ssl.trustStore.password", trustStorePassword);
-                clientConfig.setProperty("zookeeper.ssl.trustStore.type", "PKCS12");
+                clientConfig.setProperty("zookeeper.ssl.trustStore.type", "PEM");
                 clientConfig.setProperty("zookeeper.ssl.keyStore.location", keyStoreFile.getAbsolutePath());
-                clientConfig.setProperty("zookeeper.ssl.keyStore.password", keyStorePassword);
-                clientConfig.setProperty("zookeeper.ssl.keyStore.type", "PKCS12");
+                clientConfig.setProperty("zookeeper.ssl.keyStore.type", "PEM");
                 clientConfig.setProperty("zookeeper.request.timeout", String.valueOf(operationTimeoutMs));
 
                 promise.complete(clientConfig);
@@ -6,12 +6,14 @@ package io.strimzi.operator.cluster.operator.resource.cruisecontrol;
 
 import io.strimzi.operator.cluster.operator.resource.HttpClientUtils;
 import io.vertx.core.Future;
+import io.vertx.core.Handler;
 import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
 import io.vertx.core.http.HttpClientOptions;
+import io.vertx.core.http.HttpClientResponse;
 import io.vertx.core.http.HttpMethod;
-import io.vertx.core.json.Json;
 import io.vertx.core.json.JsonObject;
+import io.vertx.core.parsetools.JsonParser;
 
 import java.net.ConnectException;
 import java.util.concurrent.TimeoutException;
@@ -123,27 +125,25 @@ public class CruiseControlApiImpl implements CruiseControlApi {
                     request.result().send(response -> {
                         if (response.succeeded()) {
                             if (response.result().statusCode() == 200 || response.result().statusCode() == 201) {
-                                response.result().bodyHandler(buffer -> {
+                                parseProposal(response.result(), result, json -> {
                                     String userTaskID = response.result().getHeader(CC_REST_API_USER_ID_HEADER);
-                                    JsonObject json = buffer.toJsonObject();
                                     CruiseControlRebalanceResponse ccResponse = new CruiseControlRebalanceResponse(userTaskID, json);
-                                    result.complete(ccResponse);
+                                    result.tryComplete(ccResponse);
                                 });
                             } else if (response.result().statusCode() == 202) {
-                                response.result().bodyHandler(buffer -> {
+                                parseProposal(response.result(), result, json -> {
                                     String userTaskID = response.result().getHeader(CC_REST_API_USER_ID_HEADER);
-                                    JsonObject json = buffer.toJsonObject();
                                     CruiseControlRebalanceResponse ccResponse = new CruiseControlRebalanceResponse(userTaskID, json);
                                     if (json.containsKey(CC_REST_API_PROGRESS_KEY)) {
                                         // If the response contains a "progress" key then the rebalance proposal has not yet completed processing
                                         ccResponse.setProposalStillCalaculating(true);
                                     } else {
-                                        result.fail(new CruiseControlRestException(
+                                        result.tryFail(new CruiseControlRestException(
                                                 "Error for request: " + host + ":" + port + path +
                                                         ". 202 Status code did not contain progress key. Server returned: " +
                                                         ccResponse.getJson().toString()));
                                     }
-                                    result.complete(ccResponse);
+                                    result.tryComplete(ccResponse);
                                 });
                             } else if (response.result().statusCode() == 500) {
                                 response.result().bodyHandler(buffer -> {
@@ -205,12 +205,12 @@ public class CruiseControlApiImpl implements CruiseControlApi {
                         if (response.succeeded()) {
                             if (response.result().statusCode() == 200 || response.result().statusCode() == 201) {
                                 String userTaskID = response.result().getHeader(CC_REST_API_USER_ID_HEADER);
-                                response.result().bodyHandler(buffer -> {
-                                    JsonObject json = buffer.toJsonObject();
-                                    JsonObject jsonUserTask = json.getJsonArray("userTasks").getJsonObject(0);
+                                parseUserTasks(response.result(), result, userTaskParser -> {
+                                    JsonObject json = userTaskParser.response();
+                                    JsonObject jsonUserTask = userTaskParser.userTask();
                                     // This should not be an error with a 200 status but we play it safe
                                     if (jsonUserTask.containsKey(CC_REST_API_ERROR_KEY)) {
-                                        result.fail(new CruiseControlRestException(
+                                        result.tryFail(new CruiseControlRestException(
                                                 "Error for request: " + host + ":" + port + path + ". Server returned: " +
                                                         json.getString(CC_REST_API_ERROR_KEY)));
                                     }
@@ -227,8 +227,7 @@ public class CruiseControlApiImpl implements CruiseControlApi {
                                             // We handle these in the same way as COMPLETED tasks so we drop down to that case.
                                         case COMPLETED:
                                             // Completed tasks will have the original rebalance proposal summary in their original response
-                                            JsonObject originalResponse = (JsonObject) Json.decodeValue(jsonUserTask.getString(
-                                                    CruiseControlRebalanceKeys.ORIGINAL_RESPONSE.getKey()));
+                                            JsonObject originalResponse = jsonUserTask.getJsonObject(CruiseControlRebalanceKeys.ORIGINAL_RESPONSE.getKey());
                                             statusJson.put(CruiseControlRebalanceKeys.SUMMARY.getKey(),
                                                     originalResponse.getJsonObject(CruiseControlRebalanceKeys.SUMMARY.getKey()));
                                             // Extract the load before/after information for the brokers
@@ -246,7 +245,7 @@ public class CruiseControlApiImpl implements CruiseControlApi {
                                         default:
                                             throw new IllegalStateException("Unexpected user task status: " + taskStatus);
                                     }
-                                    result.complete(new CruiseControlResponse(userTaskID, statusJson));
+                                    result.tryComplete(new CruiseControlResponse(userTaskID, statusJson));
                                 });
                             } else if (response.result().statusCode() == 500) {
                                 response.result().bodyHandler(buffer -> {
@@ -326,6 +325,42 @@ public class CruiseControlApiImpl implements CruiseControlApi {
         });
     }
 
+    /**
+     * Parses the optimization proposal from the response as it is received instead of buffering the whole response
+     * first. Only the summary and the broker load are kept from the proposal.
+     *
+     * @param response  HTTP response with the optimization proposal
+     * @param result    Promise which is failed when the response cannot be parsed
+     * @param handler   Handler called with the parsed proposal once the whole response is received. The promise might be
+     *                  already failed by then, so the handler has to use tryComplete and tryFail.
+     */
+    private void parseProposal(HttpClientResponse response, Promise<? extends CruiseControlResponse> result, Handler<JsonObject> handler) {
+        CruiseControlProposalParser proposalParser = new CruiseControlProposalParser();
+
+        JsonParser.newParser(response)
+                .handler(proposalParser)
+                .exceptionHandler(result::tryFail)
+                .endHandler(v -> handler.handle(proposalParser.proposal()));
+    }
+
+    /**
+     * Parses the user tasks from the response as it is received instead of buffering the whole response first. The
+     * original response of the user task is parsed right away and only the summary and the broker load are kept from it.
+     *
+     * @param response  HTTP response with the user tasks
+     * @param result    Promise which is failed when the response cannot be parsed
+     * @param handler   Handler called with the parser once the whole response is received. The promise might be
+     *                  already failed by then, so the handler has to use tryComplete and tryFail.
+     */
+    private void parseUserTasks(HttpClientResponse response, Promise<? extends CruiseControlResponse> result, Handler<CruiseControlUserTaskParser> handler) {
+        CruiseControlUserTaskParser userTaskParser = new CruiseControlUserTaskParser();
+
+        JsonParser.newParser(response)
+                .handler(userTaskParser)
+                .exceptionHandler(result::tryFail)
+                .endHandler(v -> handler.handle(userTaskParser));
+    }
+
     private void httpExceptionHandler(Promise<? extends CruiseControlResponse> result, Throwable t) {
         if (t instanceof TimeoutException) {
             // Vert.x throws a NoStackTraceTimeoutException (inherits from TimeoutException) when the request times out
@@ -0,0 +1,180 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.resource.cruisecontrol;
+
+import io.vertx.core.Handler;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.parsetools.JsonEvent;
+import io.vertx.core.parsetools.JsonEventType;
+import io.vertx.core.parsetools.JsonParser;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Streaming parser for the optimization proposals returned by the Cruise Control rebalance endpoint. The responses
+ * contain the proposed partition movements, the goal summaries and the load of every broker and host, which for large
+ * clusters can be several megabytes. This parser processes the response as a stream of JSON events and keeps only what
+ * the operator uses: the top-level scalar values (e.g. the error message), the progress, the proposal summary and the
+ * load parameters of each broker before and after the optimization. Everything else is skipped without being kept in
+ * memory.
+ */
+class CruiseControlProposalParser implements Handler<JsonEvent> {
+    private final JsonObject proposal = new JsonObject();
+    // Names of the fields holding the JSON objects and arrays which are currently open
+    private final List<String> path = new ArrayList<>();
+    // Objects and arrays which are currently being captured
+    private final List<Object> captured = new ArrayList<>();
+    private Handler<Object> onCaptured;
+
+    /**
+     * Parses the optimization proposal from a buffer
+     *
+     * @param buffer    Buffer with the JSON response from Cruise Control
+     *
+     * @return  JSON object with the summary and broker load of the optimization proposal
+     */
+    static JsonObject parse(Buffer buffer) {
+        CruiseControlProposalParser proposalParser = new CruiseControlProposalParser();
+        JsonParser parser = JsonParser.newParser().handler(proposalParser);
+        parser.handle(buffer);
+        parser.end();
+        return proposalParser.proposal();
+    }
+
+    /**
+     * @return  JSON object with the summary and broker load of the optimization proposal
+     */
+    JsonObject proposal() {
+        return proposal;
+    }
+
+    @Override
+    public void handle(JsonEvent event) {
+        switch (event.type()) {
+            case START_OBJECT:
+            case START_ARRAY:
+                if (!captured.isEmpty() || startCapture(event)) {
+                    Object container = event.type() == JsonEventType.START_OBJECT ? new JsonObject() : new JsonArray();
+
+                    if (!captured.isEmpty()) {
+                        addToCaptured(event.fieldName(), container);
+                    }
+
+                    captured.add(container);
+                }
+
+                path.add(event.fieldName());
+                break;
+            case END_OBJECT:
+            case END_ARRAY:
+                path.remove(path.size() - 1);
+
+                if (!captured.isEmpty()) {
+                    Object container = captured.remove(captured.size() - 1);
+
+                    if (captured.isEmpty()) {
+                        onCaptured.handle(container);
+                        onCaptured = null;
+                    }
+                }
+                break;
+            case VALUE:
+                if (!captured.isEmpty()) {
+                    addToCaptured(event.fieldName(), value(event));
+                } else if (path.size() == 1) {
+                    proposal.put(event.fieldName(), value(event));
+                }
+                break;
+            default:
+                throw new IllegalStateException("Unexpected JSON event " + event.type());
+        }
+    }
+
+    /**
+     * Starts capturing the JSON object or array which starts with given event if it is the summary, the progress of
+     * a proposal which is still being calculated or the load of a broker
+     *
+     * @param event     Event starting a JSON object or array
+     *
+     * @return  True if the JSON object or array should be captured. False otherwise.
+     */
+    private boolean startCapture(JsonEvent event) {
+        if (path.size() == 1
+                && (CruiseControlRebalanceKeys.SUMMARY.getKey().equals(event.fieldName())
+                    || CruiseControlApi.CC_REST_API_PROGRESS_KEY.equals(event.fieldName()))) {
+            String key = event.fieldName();
+            onCaptured = value -> proposal.put(key, value);
+        } else if (path.size() == 3
+                && event.fieldName() == null
+                && isLoadKey(path.get(1))
+                && CruiseControlRebalanceKeys.BROKERS.getKey().equals(path.get(2))) {
+            String loadKey = path.get(1);
+            onCaptured = brokerLoad -> brokers(loadKey).add(compactBrokerLoad((JsonObject) brokerLoad));
+        } else {
+            return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * Gets the value from the event. Integral numbers are returned as Integers when they fit into them to get the same
+     * types as when the whole response is decoded at once.
+     */
+    private static Object value(JsonEvent event) {
+        Object value = event.value();
+
+        if (value instanceof Long && (Long) value >= Integer.MIN_VALUE && (Long) value <= Integer.MAX_VALUE) {
+            return ((Long) value).intValue();
+        }
+
+        return value;
+    }
+
+    private void addToCaptured(String fieldName, Object value) {
+        Object parent = captured.get(captured.size() - 1);
+
+        if (parent instanceof JsonObject) {
+            ((JsonObject) parent).put(fieldName, value);
+        } else {
+            ((JsonArray) parent).add(value);
+        }
+    }
+
+    private JsonArray brokers(String loadKey) {
+        JsonObject load = proposal.getJsonObject(loadKey);
+
+        if (load == null) {
+            load = new JsonObject().put(CruiseControlRebalanceKeys.BROKERS.getKey(), new JsonArray());
+            proposal.put(loadKey, load);
+        }
+
+        return load.getJsonArray(CruiseControlRebalanceKeys.BROKERS.getKey());
+    }
+
+    private static boolean isLoadKey(String fieldName) {
+        return CruiseControlRebalanceKeys.LOAD_BEFORE_OPTIMIZATION.getKey().equals(fieldName)
+                || CruiseControlRebalanceKeys.LOAD_AFTER_OPTIMIZATION.getKey().equals(fieldName);
+    }
+
+    /**
+     * Keeps only the broker ID and the load parameters used in the KafkaRebalance resources
+     */
+    private static JsonObject compactBrokerLoad(JsonObject brokerLoad) {
+        JsonObject compact = new JsonObject();
+        compact.put(CruiseControlRebalanceKeys.BROKER_ID.getKey(), brokerLoad.getValue(CruiseControlRebalanceKeys.BROKER_ID.getKey()));
+
+        for (CruiseControlLoadParameters parameter : CruiseControlLoadParameters.values()) {
+            if (brokerLoad.containsKey(parameter.getCruiseControlKey())) {
+                compact.put(parameter.getCruiseControlKey(), brokerLoad.getValue(parameter.getCruiseControlKey()));
+            }
+        }
+
+        return compact;
+    }
+}
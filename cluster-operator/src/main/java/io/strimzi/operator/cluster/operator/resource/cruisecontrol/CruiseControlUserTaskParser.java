@@ -0,0 +1,137 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.resource.cruisecontrol;
+
+import io.vertx.core.Handler;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.parsetools.JsonEvent;
+import io.vertx.core.parsetools.JsonParser;
+
+/**
+ * Streaming parser for the responses of the Cruise Control user tasks endpoint. When the completed tasks are fetched,
+ * the original response of each rebalance task (the whole optimization proposal encoded as a JSON string) is part of
+ * the response. This parser processes the response as a stream of JSON events and keeps only the top-level scalar
+ * values (e.g. the error message) and the scalar values of the first user task. The original response of the first
+ * user task is passed to the {@link CruiseControlProposalParser} as soon as it is received, so that only its summary
+ * and broker load are kept. The original responses of any other user tasks are skipped.
+ */
+class CruiseControlUserTaskParser implements Handler<JsonEvent> {
+    // Size of the chunks in which the original response is passed to the proposal parser
+    private static final int CHUNK_SIZE = 64 * 1024;
+
+    private final JsonObject response = new JsonObject();
+    private JsonObject userTask;
+    // Depth of the JSON objects and arrays which are currently open
+    private int depth = 0;
+    private boolean inUserTasks = false;
+    private boolean inFirstUserTask = false;
+
+    /**
+     * Parses the user tasks response from a buffer
+     *
+     * @param buffer    Buffer with the JSON response from Cruise Control
+     *
+     * @return  Parser with the parsed response
+     */
+    static CruiseControlUserTaskParser parse(Buffer buffer) {
+        CruiseControlUserTaskParser userTaskParser = new CruiseControlUserTaskParser();
+        JsonParser parser = JsonParser.newParser().handler(userTaskParser);
+        parser.handle(buffer);
+        parser.end();
+        return userTaskParser;
+    }
+
+    /**
+     * @return  JSON object with the top-level scalar values of the response
+     */
+    JsonObject response() {
+        return response;
+    }
+
+    /**
+     * @return  JSON object with the scalar values of the first user task or null if the response contains no user
+     *          tasks. When the original response of the task is a JSON object, it contains only the summary and the
+     *          broker load of the optimization proposal.
+     */
+    JsonObject userTask() {
+        return userTask;
+    }
+
+    @Override
+    public void handle(JsonEvent event) {
+        switch (event.type()) {
+            case START_OBJECT:
+            case START_ARRAY:
+                if (depth == 1 && "userTasks".equals(event.fieldName())) {
+                    inUserTasks = true;
+                } else if (depth == 2 && inUserTasks && userTask == null) {
+                    userTask = new JsonObject();
+                    inFirstUserTask = true;
+                }
+
+                depth++;
+                break;
+            case END_OBJECT:
+            case END_ARRAY:
+                depth--;
+
+                if (depth == 1) {
+                    inUserTasks = false;
+                } else if (depth == 2) {
+                    inFirstUserTask = false;
+                }
+                break;
+            case VALUE:
+                if (depth == 1) {
+                    response.put(event.fieldName(), event.value());
+                } else if (depth == 3 && inFirstUserTask) {
+                    if (CruiseControlRebalanceKeys.ORIGINAL_RESPONSE.getKey().equals(event.fieldName())) {
+                        userTask.put(event.fieldName(), originalResponse(event.value()));
+                    } else {
+                        userTask.put(event.fieldName(), event.value());
+                    }
+                }
+                break;
+            default:
+                throw new IllegalStateException("Unexpected JSON event " + event.type());
+        }
+    }
+
+    /**
+     * Parses the original response of the user task. It is a JSON object encoded as a String for the rebalance tasks
+     * and a plain String (such as COMPLETED_WITH_ERROR) otherwise.
+     *
+     * @param value     The original response
+     *
+     * @return  JSON object with the summary and broker load of the optimization proposal or the unchanged value if it
+     *          is not a JSON object
+     */
+    private static Object originalResponse(Object value) {
+        if (!(value instanceof String) || !((String) value).trim().startsWith("{")) {
+            return value;
+        }
+
+        String json = (String) value;
+        CruiseControlProposalParser proposalParser = new CruiseControlProposalParser();
+        JsonParser parser = JsonParser.newParser().handler(proposalParser);
+
+        // Passing the String in chunks avoids encoding the whole multi-megabyte proposal into a Buffer at once
+        for (int start = 0; start < json.length(); ) {
+            int end = Math.min(start + CHUNK_SIZE, json.length());
+
+            if (end < json.length() && Character.isHighSurrogate(json.charAt(end - 1))) {
+                // Do not split the surrogate pairs
+                end--;
+            }
+
+            parser.handle(Buffer.buffer(json.substring(start, end)));
+            start = end;
+        }
+
+        parser.end();
+        return proposalParser.proposal();
+    }
+}
@@ -63,6 +63,7 @@ public class ClusterOperatorConfigTest {
         assertThat(config.getOperatorNamespace(), is("operator-namespace"));
         assertThat(config.getOperatorNamespaceLabels(), is(nullValue()));
         assertThat(config.featureGates().controlPlaneListenerEnabled(), is(false));
+        assertThat(config.getReconciliationStaggerMs(), is(ClusterOperatorConfig.DEFAULT_RECONCILIATION_STAGGER_MS));
     }
 
     @Test
@@ -82,7 +83,11 @@ public class ClusterOperatorConfigTest {
                 ClusterOperatorConfig.RbacScope.CLUSTER,
                 null,
                 "",
-                10);
+                10,
+                ClusterOperatorConfig.DEFAULT_SHARD_COUNT,
+                ClusterOperatorConfig.DEFAULT_SHARD_LEASE_DURATION_MS,
+                null,
+                ClusterOperatorConfig.DEFAULT_RECONCILIATION_STAGGER_MS);
 
         assertThat(config.getNamespaces(), is(singleton("namespace")));
         assertThat(config.getReconciliationIntervalMs(), is(60_000L));
@@ -357,4 +362,28 @@ public class ClusterOperatorConfigTest {
         assertThat(ClusterOperatorConfig.RbacScope.valueOf("NAMESPACE"), is(ClusterOperatorConfig.RbacScope.NAMESPACE));
         assertThat(ClusterOperatorConfig.RbacScope.valueOf("CLUSTER"), is(ClusterOperatorConfig.RbacScope.CLUSTER));
     }
+
+    @Test
+    public void testReconciliationStagger() {
+        Map<String, String> envVars = new HashMap<>(ClusterOperatorConfigTest.envVars);
+
+        envVars.put(ClusterOperatorConfig.STRIMZI_RECONCILIATION_STAGGER_MS, "250");
+        assertThat(ClusterOperatorConfig.fromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup()).getReconciliationStaggerMs(), is(250L));
+
+        envVars.put(ClusterOperatorConfig.STRIMZI_RECONCILIATION_STAGGER_MS, "0");
+        assertThat(ClusterOperatorConfig.fromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup()).getReconciliationStaggerMs(), is(0L));
+    }
+
+    @Test
+    public void testInvalidReconciliationStagger() {
+        Map<String, String> envVars = new HashMap<>(ClusterOperatorConfigTest.envVars);
+
+        envVars.put(ClusterOperatorConfig.STRIMZI_RECONCILIATION_STAGGER_MS, "100ms");
+        InvalidConfigurationException e = assertThrows(InvalidConfigurationException.class, () -> ClusterOperatorConfig.fromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup()));
+        assertThat(e.getMessage(), containsString(ClusterOperatorConfig.STRIMZI_RECONCILIATION_STAGGER_MS));
+
+        envVars.put(ClusterOperatorConfig.STRIMZI_RECONCILIATION_STAGGER_MS, "-1");
+        e = assertThrows(InvalidConfigurationException.class, () -> ClusterOperatorConfig.fromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup()));
+        assertThat(e.getMessage(), is("STRIMZI_RECONCILIATION_STAGGER_MS cannot be negative"));
+    }
 }
@@ -61,6 +61,10 @@ public class FeatureGatesTest {
         assertThat(new FeatureGates("  +ControlPlaneListener    ,    +ServiceAccountPatching").serviceAccountPatchingEnabled(), is(true));
         assertThat(new FeatureGates("+ServiceAccountPatching,-ControlPlaneListener").controlPlaneListenerEnabled(), is(false));
         assertThat(new FeatureGates("+ServiceAccountPatching,-ControlPlaneListener").serviceAccountPatchingEnabled(), is(true));
+        assertThat(new FeatureGates("+ReconciliationFastPath").reconciliationFastPathEnabled(), is(true));
+        assertThat(new FeatureGates("+ControlPlaneListener,-ReconciliationFastPath").reconciliationFastPathEnabled(), is(false));
+        assertThat(new FeatureGates("+UseKRaft").useKRaftEnabled(), is(true));
+        assertThat(new FeatureGates("+ControlPlaneListener,-UseKRaft").useKRaftEnabled(), is(false));
     }
 
     @ParallelTest
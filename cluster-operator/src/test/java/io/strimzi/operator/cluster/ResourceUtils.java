@@ -117,6 +117,7 @@ import java.util.Map;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 
+import static java.util.Collections.emptyList;
 import static java.util.Collections.emptyMap;
 import static java.util.Collections.singleton;
 import static java.util.Collections.singletonList;
@@ -670,6 +671,10 @@ public class ResourceUtils {
     }
 
     public static ResourceOperatorSupplier supplierWithMocks(boolean openShift) {
+        return supplierWithMocks(openShift, metricsProvider());
+    }
+
+    public static ResourceOperatorSupplier supplierWithMocks(boolean openShift, MetricsProvider metricsProvider) {
         RouteOperator routeOps = openShift ? mock(RouteOperator.class) : null;
 
         ResourceOperatorSupplier supplier = new ResourceOperatorSupplier(
@@ -702,7 +707,7 @@ public class ResourceUtils {
                 mock(StorageClassOperator.class),
                 mock(NodeOperator.class),
                 zookeeperScalerProvider(),
-                metricsProvider(),
+                metricsProvider,
                 adminClientProvider());
 
         when(supplier.serviceAccountOperations.reconcile(any(), anyString(), anyString(), any())).thenReturn(Future.succeededFuture());
@@ -712,6 +717,7 @@ public class ResourceUtils {
 
         if (openShift) {
             when(supplier.routeOperations.reconcile(any(), anyString(), anyString(), any())).thenReturn(Future.succeededFuture());
+            when(supplier.routeOperations.batchReconcile(any(), anyString(), any(), any())).thenReturn(Future.succeededFuture(emptyList()));
             when(supplier.routeOperations.hasAddress(any(), anyString(), anyString(), anyLong(), anyLong())).thenReturn(Future.succeededFuture());
             when(supplier.routeOperations.get(anyString(), anyString())).thenAnswer(i -> {
                 return new RouteBuilder()
@@ -724,6 +730,9 @@ public class ResourceUtils {
             });
         }
 
+        when(supplier.serviceOperations.batchReconcile(any(), anyString(), any(), any())).thenReturn(Future.succeededFuture(emptyList()));
+        when(supplier.ingressOperations.batchReconcile(any(), anyString(), any(), any())).thenReturn(Future.succeededFuture(emptyList()));
+        when(supplier.ingressV1Beta1Operations.batchReconcile(any(), anyString(), any(), any())).thenReturn(Future.succeededFuture(emptyList()));
         when(supplier.serviceOperations.hasIngressAddress(any(), anyString(), anyString(), anyLong(), anyLong())).thenReturn(Future.succeededFuture());
         when(supplier.serviceOperations.hasNodePort(any(), anyString(), anyString(), anyLong(), anyLong())).thenReturn(Future.succeededFuture());
         when(supplier.serviceOperations.get(anyString(), anyString())).thenAnswer(i ->
@@ -757,7 +766,11 @@ public class ResourceUtils {
                 ClusterOperatorConfig.RbacScope.CLUSTER,
                 null,
                 "",
-                10);
+                10,
+                ClusterOperatorConfig.DEFAULT_SHARD_COUNT,
+                ClusterOperatorConfig.DEFAULT_SHARD_LEASE_DURATION_MS,
+                null,
+                ClusterOperatorConfig.DEFAULT_RECONCILIATION_STAGGER_MS);
     }
 
     public static ClusterOperatorConfig dummyClusterOperatorConfigRolesOnly(KafkaVersion.Lookup versions, long operationTimeoutMs) {
@@ -776,7 +789,11 @@ public class ResourceUtils {
                 ClusterOperatorConfig.RbacScope.NAMESPACE,
                 null,
                 "",
-                10);
+                10,
+                ClusterOperatorConfig.DEFAULT_SHARD_COUNT,
+                ClusterOperatorConfig.DEFAULT_SHARD_LEASE_DURATION_MS,
+                null,
+                ClusterOperatorConfig.DEFAULT_RECONCILIATION_STAGGER_MS);
     }
 
     public static ClusterOperatorConfig dummyClusterOperatorConfig(KafkaVersion.Lookup versions) {
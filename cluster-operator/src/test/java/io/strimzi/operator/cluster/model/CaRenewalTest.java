@@ -19,6 +19,9 @@ import java.io.IOException;
 import java.security.cert.X509Certificate;
 import java.util.Base64;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 
@@ -43,6 +46,12 @@ public class CaRenewalTest {
                 return false;
             }
 
+            @Override
+            protected Executor certGenerationExecutor() {
+                // Generate the certificates one by one so that the invocation count matches the pod index
+                return Runnable::run;
+            }
+
             @Override
             protected CertAndKey generateSignedCert(Subject subject,
                                                     File csrFile, File keyFile, File certFile, File keyStoreFile) throws IOException {
@@ -100,6 +109,12 @@ public class CaRenewalTest {
                 return false;
             }
 
+            @Override
+            protected Executor certGenerationExecutor() {
+                // Generate the certificates one by one so that the invocation count matches the pod index
+                return Runnable::run;
+            }
+
             @Override
             protected CertAndKey generateSignedCert(Subject subject,
                                                     File csrFile, File keyFile, File certFile, File keyStoreFile) throws IOException {
@@ -186,6 +201,12 @@ public class CaRenewalTest {
                 return null;
             }
 
+            @Override
+            protected Executor certGenerationExecutor() {
+                // Generate the certificates one by one so that the invocation count matches the pod index
+                return Runnable::run;
+            }
+
             @Override
             protected CertAndKey generateSignedCert(Subject subject,
                                                     File csrFile, File keyFile, File certFile, File keyStoreFile) throws IOException {
@@ -332,4 +353,52 @@ public class CaRenewalTest {
         assertThat(new String(newCerts.get("pod2").keyStore()), is("old-keystore"));
         assertThat(newCerts.get("pod2").storePassword(), is("old-password"));
     }
-}
\ No newline at end of file
+
+    @ParallelTest
+    public void generationOfStatefulSetCertificatesInParallel() throws IOException {
+        Set<String> threads = ConcurrentHashMap.newKeySet();
+
+        Ca mockedCa = new Ca(Reconciliation.DUMMY_RECONCILIATION, null, null, null, null, null, null, null, 2, 1, true, null) {
+            @Override
+            public boolean certRenewed() {
+                return false;
+            }
+
+            @Override
+            protected CertAndKey generateSignedCert(Subject subject,
+                                                    File csrFile, File keyFile, File certFile, File keyStoreFile) throws IOException {
+                threads.add(Thread.currentThread().getName());
+
+                return new CertAndKey(
+                        ("new-key-" + subject.commonName()).getBytes(),
+                        ("new-cert-" + subject.commonName()).getBytes(),
+                        ("new-truststore-" + subject.commonName()).getBytes(),
+                        ("new-keystore-" + subject.commonName()).getBytes(),
+                        "new-password-" + subject.commonName()
+                );
+            }
+        };
+
+        int replicas = 30;
+        Function<Integer, Subject> subjectFn = i -> new Subject.Builder().withCommonName("pod" + i).build();
+        Function<Integer, String> podNameFn = i -> "pod" + i;
+
+        Map<String, CertAndKey> newCerts = mockedCa.maybeCopyOrGenerateCerts(Reconciliation.DUMMY_RECONCILIATION,
+                replicas,
+                subjectFn,
+                null,
+                podNameFn,
+                true);
+
+        assertThat(newCerts.size(), is(replicas));
+
+        for (int i = 0; i < replicas; i++) {
+            assertThat(new String(newCerts.get("pod" + i).cert()), is("new-cert-pod" + i));
+            assertThat(new String(newCerts.get("pod" + i).key()), is("new-key-pod" + i));
+            assertThat(new String(newCerts.get("pod" + i).keyStore()), is("new-keystore-pod" + i));
+            assertThat(newCerts.get("pod" + i).storePassword(), is("new-password-pod" + i));
+        }
+
+        assertThat(threads.stream().allMatch(name -> name.startsWith("cert-generation-")), is(true));
+    }
+}
@@ -6,6 +6,7 @@ package io.strimzi.operator.cluster.model;
 
 import io.fabric8.kubernetes.api.model.Affinity;
 import io.fabric8.kubernetes.api.model.AffinityBuilder;
+import io.fabric8.kubernetes.api.model.ConfigMap;
 import io.fabric8.kubernetes.api.model.ConfigMapKeySelectorBuilder;
 import io.fabric8.kubernetes.api.model.Container;
 import io.fabric8.kubernetes.api.model.EnvVar;
@@ -14,6 +15,8 @@ import io.fabric8.kubernetes.api.model.HostAlias;
 import io.fabric8.kubernetes.api.model.HostAliasBuilder;
 import io.fabric8.kubernetes.api.model.IntOrString;
 import io.fabric8.kubernetes.api.model.NodeSelectorTermBuilder;
+import io.fabric8.kubernetes.api.model.PersistentVolumeClaim;
+import io.fabric8.kubernetes.api.model.PersistentVolumeClaimBuilder;
 import io.fabric8.kubernetes.api.model.PodSecurityContextBuilder;
 import io.fabric8.kubernetes.api.model.Quantity;
 import io.fabric8.kubernetes.api.model.ResourceRequirementsBuilder;
@@ -40,11 +43,16 @@ import io.strimzi.api.kafka.model.JmxPrometheusExporterMetrics;
 import io.strimzi.api.kafka.model.JmxPrometheusExporterMetricsBuilder;
 import io.strimzi.api.kafka.model.Kafka;
 import io.strimzi.api.kafka.model.KafkaBuilder;
+import io.strimzi.api.kafka.model.KafkaResources;
 import io.strimzi.api.kafka.model.MetricsConfig;
 import io.strimzi.api.kafka.model.balancing.BrokerCapacity;
+import io.strimzi.api.kafka.model.balancing.BrokerCapacityBuilder;
+import io.strimzi.api.kafka.model.balancing.BrokerCapacityOverrideBuilder;
 import io.strimzi.api.kafka.model.storage.EphemeralStorage;
 import io.strimzi.api.kafka.model.storage.JbodStorage;
+import io.strimzi.api.kafka.model.storage.JbodStorageBuilder;
 import io.strimzi.api.kafka.model.storage.PersistentClaimStorage;
+import io.strimzi.api.kafka.model.storage.PersistentClaimStorageBuilder;
 import io.strimzi.api.kafka.model.storage.SingleVolumeStorage;
 import io.strimzi.api.kafka.model.storage.Storage;
 import io.strimzi.api.kafka.model.template.IpFamily;
@@ -52,11 +60,14 @@ import io.strimzi.api.kafka.model.template.IpFamilyPolicy;
 import io.strimzi.operator.cluster.KafkaVersionTestUtils;
 import io.strimzi.operator.cluster.ResourceUtils;
 import io.strimzi.operator.cluster.model.cruisecontrol.Capacity;
+import io.strimzi.operator.common.MetricsAndLogging;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.model.Labels;
 import io.strimzi.test.TestUtils;
 import io.strimzi.test.annotations.ParallelSuite;
 import io.strimzi.test.annotations.ParallelTest;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
 import org.junit.jupiter.api.AfterAll;
 
 import java.util.ArrayList;
@@ -65,22 +76,15 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
-import static io.strimzi.operator.cluster.model.CruiseControl.ENV_VAR_BROKER_CPU_UTILIZATION_CAPACITY;
-import static io.strimzi.operator.cluster.model.CruiseControl.ENV_VAR_BROKER_DISK_MIB_CAPACITY;
-import static io.strimzi.operator.cluster.model.CruiseControl.ENV_VAR_BROKER_INBOUND_NETWORK_KIB_PER_SECOND_CAPACITY;
-import static io.strimzi.operator.cluster.model.CruiseControl.ENV_VAR_BROKER_OUTBOUND_NETWORK_KIB_PER_SECOND_CAPACITY;
 import static io.strimzi.operator.cluster.operator.resource.cruisecontrol.CruiseControlConfigurationParameters.CRUISE_CONTROL_ANOMALY_DETECTION_CONFIG_KEY;
 import static io.strimzi.operator.cluster.operator.resource.cruisecontrol.CruiseControlConfigurationParameters.CRUISE_CONTROL_DEFAULT_GOALS_CONFIG_KEY;
-import static io.strimzi.operator.cluster.model.cruisecontrol.Capacity.DEFAULT_BROKER_CPU_UTILIZATION_CAPACITY;
-import static io.strimzi.operator.cluster.model.cruisecontrol.Capacity.DEFAULT_BROKER_DISK_MIB_CAPACITY;
-import static io.strimzi.operator.cluster.model.cruisecontrol.Capacity.DEFAULT_BROKER_INBOUND_NETWORK_KIB_PER_SECOND_CAPACITY;
-import static io.strimzi.operator.cluster.model.cruisecontrol.Capacity.DEFAULT_BROKER_OUTBOUND_NETWORK_KIB_PER_SECOND_CAPACITY;
 import static java.util.Collections.emptyList;
 import static java.util.Collections.singletonList;
 import static java.util.Collections.singletonMap;
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.hasItem;
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
 import static org.hamcrest.CoreMatchers.notNullValue;
 import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -174,26 +178,27 @@ public class CruiseControlTest {
         expected.add(new EnvVarBuilder().withName(CruiseControl.ENV_VAR_STRIMZI_KAFKA_BOOTSTRAP_SERVERS).withValue(CruiseControl.defaultBootstrapServers(cluster)).build());
         expected.add(new EnvVarBuilder().withName(KafkaMirrorMakerCluster.ENV_VAR_STRIMZI_KAFKA_GC_LOG_ENABLED).withValue(Boolean.toString(AbstractModel.DEFAULT_JVM_GC_LOGGING_ENABLED)).build());
         expected.add(new EnvVarBuilder().withName(CruiseControl.ENV_VAR_MIN_INSYNC_REPLICAS).withValue(minInsyncReplicas).build());
-        expected.add(new EnvVarBuilder().withName(ENV_VAR_BROKER_DISK_MIB_CAPACITY).withValue(Double.toString(DEFAULT_BROKER_DISK_MIB_CAPACITY)).build());
-        expected.add(new EnvVarBuilder().withName(ENV_VAR_BROKER_CPU_UTILIZATION_CAPACITY).withValue(Integer.toString(DEFAULT_BROKER_CPU_UTILIZATION_CAPACITY)).build());
-        expected.add(new EnvVarBuilder().withName(ENV_VAR_BROKER_INBOUND_NETWORK_KIB_PER_SECOND_CAPACITY).withValue(Double.toString(DEFAULT_BROKER_INBOUND_NETWORK_KIB_PER_SECOND_CAPACITY)).build());
-        expected.add(new EnvVarBuilder().withName(ENV_VAR_BROKER_OUTBOUND_NETWORK_KIB_PER_SECOND_CAPACITY).withValue(Double.toString(DEFAULT_BROKER_OUTBOUND_NETWORK_KIB_PER_SECOND_CAPACITY)).build());
         expected.add(new EnvVarBuilder().withName(KafkaMirrorMakerCluster.ENV_VAR_KAFKA_HEAP_OPTS).withValue(kafkaHeapOpts).build());
         expected.add(new EnvVarBuilder().withName(CruiseControl.ENV_VAR_CRUISE_CONTROL_CONFIGURATION).withValue(configuration.getConfiguration()).build());
 
         return expected;
     }
 
-    public String getCapacityConfigurationFromEnvVar(Kafka resource, String envVar) {
-        CruiseControl cc = CruiseControl.fromCrd(Reconciliation.DUMMY_RECONCILIATION, resource, VERSIONS);
-        Deployment dep = cc.generateDeployment(true, null, null, null);
-        List<Container> containers = dep.getSpec().getTemplate().getSpec().getContainers();
-
-        // checks on the main Cruise Control container
-        Container ccContainer = containers.stream().filter(container -> ccImage.equals(container.getImage())).findFirst().orElseThrow();
-        List<EnvVar> ccEnvVars = ccContainer.getEnv();
+    private JsonObject getBrokerCapacity(Kafka resource, int brokerId) {
+        return getBrokerCapacity(resource, Collections.emptyMap(), brokerId);
+    }
 
-        return ccEnvVars.stream().filter(var -> envVar.equals(var.getName())).map(EnvVar::getValue).findFirst().orElseThrow();
+    private JsonObject getBrokerCapacity(Kafka resource, Map<Integer, Double> brokerDiskMiB, int brokerId) {
+        CruiseControl cc = CruiseControl.fromCrd(Reconciliation.DUMMY_RECONCILIATION, resource, VERSIONS, brokerDiskMiB);
+        ConfigMap configMap = cc.generateMetricsAndLogConfigMap(new MetricsAndLogging(null, null));
+        JsonArray capacities = new JsonObject(configMap.getData().get(CruiseControl.CAPACITY_CONFIG_FILENAME)).getJsonArray("brokerCapacities");
+
+        return capacities.stream()
+                .map(JsonObject.class::cast)
+                .filter(capacity -> String.valueOf(brokerId).equals(capacity.getString("brokerId")))
+                .map(capacity -> capacity.getJsonObject("capacity"))
+                .findFirst()
+                .orElseThrow();
     }
 
     @ParallelTest
@@ -218,10 +223,17 @@ public class CruiseControlTest {
             .build();
 
         Capacity generatedCapacity = new Capacity(resource.getSpec());
-        assertThat(getCapacityConfigurationFromEnvVar(resource, ENV_VAR_BROKER_DISK_MIB_CAPACITY), is(Double.toString(generatedCapacity.getDiskMiB())));
-        assertThat(getCapacityConfigurationFromEnvVar(resource, ENV_VAR_BROKER_CPU_UTILIZATION_CAPACITY), is(Integer.toString(generatedCapacity.getCpuUtilization())));
-        assertThat(getCapacityConfigurationFromEnvVar(resource, ENV_VAR_BROKER_INBOUND_NETWORK_KIB_PER_SECOND_CAPACITY), is(Double.toString(generatedCapacity.getInboundNetworkKiBPerSecond())));
-        assertThat(getCapacityConfigurationFromEnvVar(resource, ENV_VAR_BROKER_OUTBOUND_NETWORK_KIB_PER_SECOND_CAPACITY), is(Double.toString(generatedCapacity.getOutboundNetworkKiBPerSecond())));
+
+        for (int brokerId : List.of(Capacity.DEFAULT_BROKER_ID, 0)) {
+            JsonObject brokerCapacity = getBrokerCapacity(resource, brokerId);
+            assertThat(brokerCapacity.getString("DISK"), is(Double.toString(generatedCapacity.getDiskMiB())));
+            assertThat(brokerCapacity.getString("CPU"), is(Integer.toString(generatedCapacity.getCpuUtilization())));
+            assertThat(brokerCapacity.getString("NW_IN"), is(Double.toString(generatedCapacity.getInboundNetworkKiBPerSecond())));
+            assertThat(brokerCapacity.getString("NW_OUT"), is(Double.toString(generatedCapacity.getOutboundNetworkKiBPerSecond())));
+        }
+
+        // The user defined disk capacity takes precedence over the size of the volumes
+        assertThat(getBrokerCapacity(resource, singletonMap(0, 500_000.0), 0).getString("DISK"), is(Double.toString(generatedCapacity.getDiskMiB())));
 
         // Test generated disk capacity
         JbodStorage jbodStorage = new JbodStorage();
@@ -239,7 +251,7 @@ public class CruiseControlTest {
 
         jbodStorage.setVolumes(volumes);
 
-        resource = new KafkaBuilder(ResourceUtils.createKafka(namespace, cluster, replicas, image, healthDelay, healthTimeout))
+        resource = new KafkaBuilder(ResourceUtils.createKafka(namespace, cluster, 3, image, healthDelay, healthTimeout))
             .editSpec()
                 .editKafka()
                     .withVersion(version)
@@ -250,7 +262,94 @@ public class CruiseControlTest {
             .build();
 
         generatedCapacity = new Capacity(resource.getSpec());
-        assertThat(getCapacityConfigurationFromEnvVar(resource, ENV_VAR_BROKER_DISK_MIB_CAPACITY), is(Double.toString(generatedCapacity.getDiskMiB())));
+        assertThat(getBrokerCapacity(resource, Capacity.DEFAULT_BROKER_ID).getString("DISK"), is(Double.toString(generatedCapacity.getDiskMiB())));
+        assertThat(getBrokerCapacity(resource, 0).getString("DISK"), is(Double.toString(generatedCapacity.getDiskMiB())));
+
+        // Brokers with differently sized volumes
+        Map<Integer, Double> brokerDiskMiB = Map.of(0, 150_000.0, 1, 200_000.0);
+        assertThat(getBrokerCapacity(resource, brokerDiskMiB, 0).getString("DISK"), is("150000.0"));
+        assertThat(getBrokerCapacity(resource, brokerDiskMiB, 1).getString("DISK"), is("200000.0"));
+        assertThat(getBrokerCapacity(resource, brokerDiskMiB, 2).getString("DISK"), is(Double.toString(generatedCapacity.getDiskMiB())));
+        assertThat(getBrokerCapacity(resource, brokerDiskMiB, Capacity.DEFAULT_BROKER_ID).getString("DISK"), is(Double.toString(generatedCapacity.getDiskMiB())));
+    }
+
+    @ParallelTest
+    public void testBrokerCapacityOverrides() {
+        BrokerCapacity brokerCapacity = new BrokerCapacityBuilder()
+                .withInboundNetwork("50000KiB/s")
+                .withOverrides(new BrokerCapacityOverrideBuilder()
+                            .withBrokers(0, 2)
+                            .withDisk("200Gi")
+                            .withCpuUtilization(50)
+                            .withInboundNetwork("100000KiB/s")
+                        .build(),
+                        new BrokerCapacityOverrideBuilder()
+                            .withBrokers(5)
+                            .withOutboundNetwork("20000KiB/s")
+                        .build())
+                .build();
+
+        Kafka resource = new KafkaBuilder(ResourceUtils.createKafka(namespace, cluster, 3, image, healthDelay, healthTimeout))
+            .editSpec()
+                .editKafka()
+                    .withVersion(version)
+                    .withStorage(new PersistentClaimStorageBuilder().withSize("100Gi").build())
+                .endKafka()
+                .withNewCruiseControl()
+                    .withImage(ccImage)
+                    .withBrokerCapacity(brokerCapacity)
+                .endCruiseControl()
+            .endSpec()
+            .build();
+
+        JsonObject broker0 = getBrokerCapacity(resource, 0);
+        assertThat(broker0.getString("DISK"), is("204800.0"));
+        assertThat(broker0.getString("CPU"), is("50"));
+        assertThat(broker0.getString("NW_IN"), is("100000.0"));
+        assertThat(broker0.getString("NW_OUT"), is(Double.toString(Capacity.DEFAULT_BROKER_OUTBOUND_NETWORK_KIB_PER_SECOND_CAPACITY)));
+
+        JsonObject broker1 = getBrokerCapacity(resource, 1);
+        assertThat(broker1.getString("DISK"), is("102400.0"));
+        assertThat(broker1.getString("CPU"), is(Integer.toString(Capacity.DEFAULT_BROKER_CPU_UTILIZATION_CAPACITY)));
+        assertThat(broker1.getString("NW_IN"), is("50000.0"));
+
+        assertThat(getBrokerCapacity(resource, 2), is(broker0));
+
+        // Brokers which do not exist yet can be overridden as well
+        JsonObject broker5 = getBrokerCapacity(resource, 5);
+        assertThat(broker5.getString("DISK"), is("102400.0"));
+        assertThat(broker5.getString("NW_OUT"), is("20000.0"));
+
+        // Overrides do not change the default capacity
+        assertThat(getBrokerCapacity(resource, Capacity.DEFAULT_BROKER_ID), is(broker1));
+    }
+
+    @ParallelTest
+    public void testCapacityConfigurationHashAnnotation() {
+        Kafka resource = new KafkaBuilder(ResourceUtils.createKafka(namespace, cluster, replicas, image, healthDelay, healthTimeout))
+            .editSpec()
+                .editKafka()
+                    .withVersion(version)
+                .endKafka()
+                .withCruiseControl(cruiseControlSpec)
+            .endSpec()
+            .build();
+
+        String hash = CruiseControl.fromCrd(Reconciliation.DUMMY_RECONCILIATION, resource, VERSIONS)
+                .generateDeployment(true, null, null, null)
+                .getSpec().getTemplate().getMetadata().getAnnotations().get(CruiseControl.ANNO_STRIMZI_CAPACITY_CONFIGURATION_HASH);
+        assertThat(hash, is(notNullValue()));
+
+        String sameHash = CruiseControl.fromCrd(Reconciliation.DUMMY_RECONCILIATION, resource, VERSIONS, Collections.emptyMap())
+                .generateDeployment(true, null, null, null)
+                .getSpec().getTemplate().getMetadata().getAnnotations().get(CruiseControl.ANNO_STRIMZI_CAPACITY_CONFIGURATION_HASH);
+        assertThat(sameHash, is(hash));
+
+        // The pods are rolled when the capacity of a broker changes
+        String differentHash = CruiseControl.fromCrd(Reconciliation.DUMMY_RECONCILIATION, resource, VERSIONS, singletonMap(0, 1_000_000.0))
+                .generateDeployment(true, null, null, null)
+                .getSpec().getTemplate().getMetadata().getAnnotations().get(CruiseControl.ANNO_STRIMZI_CAPACITY_CONFIGURATION_HASH);
+        assertThat(differentHash, is(not(hash)));
     }
 
     @ParallelTest
@@ -573,7 +672,8 @@ public class CruiseControlTest {
         // Check Pods
         podLabels.putAll(expectedLabels());
         assertThat(dep.getSpec().getTemplate().getMetadata().getLabels(), is(podLabels));
-        assertThat(dep.getSpec().getTemplate().getMetadata().getAnnotations(), is(podAnots));
+        assertThat(dep.getSpec().getTemplate().getMetadata().getAnnotations().entrySet().containsAll(podAnots.entrySet()), is(true));
+        assertThat(dep.getSpec().getTemplate().getMetadata().getAnnotations().get(CruiseControl.ANNO_STRIMZI_CAPACITY_CONFIGURATION_HASH), is(notNullValue()));
         assertThat(dep.getSpec().getTemplate().getSpec().getPriorityClassName(), is("top-priority"));
         assertThat(dep.getSpec().getTemplate().getSpec().getSchedulerName(), is("my-scheduler"));
         assertThat(dep.getSpec().getTemplate().getSpec().getAffinity(), is(affinity));
@@ -950,6 +1050,56 @@ public class CruiseControlTest {
         assertThat(cc.getMetricsConfigInCm(), is(nullValue()));
     }
 
+    @ParallelTest
+    public void testBrokerDiskCapacitiesFromVolumes() {
+        JbodStorage storage = new JbodStorageBuilder()
+                .withVolumes(new PersistentClaimStorageBuilder().withId(0).withSize("100Gi").build(),
+                        new PersistentClaimStorageBuilder().withId(1).withSize("100Gi").build())
+                .build();
+
+        Kafka kafkaAssembly = new KafkaBuilder(ResourceUtils.createKafka(namespace, cluster, 3, image, healthDelay, healthTimeout))
+                .editSpec()
+                    .editKafka()
+                        .withStorage(storage)
+                    .endKafka()
+                .endSpec()
+                .build();
+
+        KafkaCluster kafkaCluster = KafkaCluster.fromCrd(Reconciliation.DUMMY_RECONCILIATION, kafkaAssembly, VERSIONS);
+        List<PersistentVolumeClaim> desiredPvcs = kafkaCluster.generatePersistentVolumeClaims(storage);
+
+        List<PersistentVolumeClaim> existingPvcs = new ArrayList<>();
+        for (PersistentVolumeClaim pvc : desiredPvcs) {
+            String name = pvc.getMetadata().getName();
+
+            if (name.equals("data-0-" + KafkaResources.kafkaPodName(cluster, 0))) {
+                // Volume which was provisioned bigger than requested
+                existingPvcs.add(new PersistentVolumeClaimBuilder(pvc)
+                        .withNewStatus()
+                            .withCapacity(singletonMap("storage", new Quantity("200Gi")))
+                        .endStatus()
+                        .build());
+            } else if (name.equals("data-1-" + KafkaResources.kafkaPodName(cluster, 2))) {
+                // Volume which is being resized
+                existingPvcs.add(new PersistentVolumeClaimBuilder(pvc)
+                        .editSpec()
+                            .withNewResources()
+                                .withRequests(singletonMap("storage", new Quantity("150Gi")))
+                            .endResources()
+                        .endSpec()
+                        .build());
+            } else if (!name.endsWith("-1")) {
+                // Volumes of broker 1 do not exist yet
+                existingPvcs.add(pvc);
+            }
+        }
+
+        Map<Integer, Double> brokerDiskMiB = Capacity.brokerDiskCapacities(storage, 3, desiredPvcs, existingPvcs);
+        assertThat(brokerDiskMiB.get(0), is(307_200.0));
+        assertThat(brokerDiskMiB.get(1), is(204_800.0));
+        assertThat(brokerDiskMiB.get(2), is(256_000.0));
+    }
+
     @AfterAll
     public static void cleanUp() {
         ResourceUtils.cleanUpTemporaryTLSFiles();
@@ -4,6 +4,9 @@
  */
 package io.strimzi.operator.cluster.model;
 
+import io.fabric8.kubernetes.api.model.Quantity;
+import io.fabric8.kubernetes.api.model.ResourceRequirements;
+import io.fabric8.kubernetes.api.model.ResourceRequirementsBuilder;
 import io.strimzi.api.kafka.model.CertSecretSource;
 import io.strimzi.api.kafka.model.CertSecretSourceBuilder;
 import io.strimzi.api.kafka.model.CruiseControlSpec;
@@ -12,7 +15,9 @@ import io.strimzi.api.kafka.model.KafkaAuthorization;
 import io.strimzi.api.kafka.model.KafkaAuthorizationKeycloakBuilder;
 import io.strimzi.api.kafka.model.KafkaAuthorizationOpaBuilder;
 import io.strimzi.api.kafka.model.KafkaAuthorizationSimpleBuilder;
+import io.strimzi.api.kafka.model.KafkaPerformanceProfile;
 import io.strimzi.api.kafka.model.Rack;
+import io.strimzi.api.kafka.model.RackBuilder;
 import io.strimzi.api.kafka.model.listener.KafkaListenerAuthenticationOAuth;
 import io.strimzi.api.kafka.model.listener.KafkaListenerAuthenticationOAuthBuilder;
 import io.strimzi.api.kafka.model.listener.arraylistener.GenericKafkaListener;
@@ -102,7 +107,7 @@ public class KafkaBrokerConfigurationBuilderTest {
     @ParallelTest
     public void testNoRackAwareness()  {
         String configuration = new KafkaBrokerConfigurationBuilder()
-                .withRackId(null)
+                .withRackId(null, null)
                 .build();
 
         assertThat(configuration, isEquivalent(""));
@@ -111,7 +116,7 @@ public class KafkaBrokerConfigurationBuilderTest {
     @ParallelTest
     public void testRackId()  {
         String configuration = new KafkaBrokerConfigurationBuilder()
-                .withRackId(new Rack("failure-domain.kubernetes.io/zone"))
+                .withRackId(new Rack("failure-domain.kubernetes.io/zone"), null)
                 .build();
 
         assertThat(configuration, isEquivalent("broker.rack=${STRIMZI_RACK_ID}"));
@@ -121,13 +126,46 @@ public class KafkaBrokerConfigurationBuilderTest {
     public void testRackAndBrokerId()  {
         String configuration = new KafkaBrokerConfigurationBuilder()
                 .withBrokerId()
-                .withRackId(new Rack("failure-domain.kubernetes.io/zone"))
+                .withRackId(new Rack("failure-domain.kubernetes.io/zone"), null)
                 .build();
 
         assertThat(configuration, isEquivalent("broker.id=${STRIMZI_BROKER_ID}\n" +
                                                                 "broker.rack=${STRIMZI_RACK_ID}"));
     }
 
+    @ParallelTest
+    public void testRackWithClosestReplicaFetching()  {
+        Rack rack = new RackBuilder()
+                .withTopologyKey("failure-domain.kubernetes.io/zone")
+                .withClosestReplicaFetching(true)
+                .build();
+
+        String configuration = new KafkaBrokerConfigurationBuilder()
+                .withRackId(rack, null)
+                .build();
+
+        assertThat(configuration, isEquivalent("broker.rack=${STRIMZI_RACK_ID}\n" +
+                                                                "replica.selector.class=org.apache.kafka.common.replica.RackAwareReplicaSelector"));
+    }
+
+    @ParallelTest
+    public void testRackWithClosestReplicaFetchingAndUserReplicaSelector()  {
+        Rack rack = new RackBuilder()
+                .withTopologyKey("failure-domain.kubernetes.io/zone")
+                .withClosestReplicaFetching(true)
+                .build();
+
+        Map<String, Object> userConfiguration = new HashMap<>();
+        userConfiguration.put("replica.selector.class", "com.example.MyReplicaSelector");
+        KafkaConfiguration kafkaConfiguration = new KafkaConfiguration(Reconciliation.DUMMY_RECONCILIATION, userConfiguration.entrySet());
+
+        String configuration = new KafkaBrokerConfigurationBuilder()
+                .withRackId(rack, kafkaConfiguration)
+                .build();
+
+        assertThat(configuration, isEquivalent("broker.rack=${STRIMZI_RACK_ID}"));
+    }
+
     @ParallelTest
     public void testZookeeperConfig()  {
         String configuration = new KafkaBrokerConfigurationBuilder()
@@ -332,6 +370,82 @@ public class KafkaBrokerConfigurationBuilderTest {
                                                             "transaction.state.log.min.isr=2"));
     }
 
+    @ParallelTest
+    public void testThroughputPerformanceProfile()  {
+        ResourceRequirements resources = new ResourceRequirementsBuilder()
+                .addToLimits("cpu", new Quantity("4"))
+                .addToLimits("memory", new Quantity("4Gi"))
+                .build();
+
+        String configuration = new KafkaBrokerConfigurationBuilder()
+                .withPerformanceProfile(KafkaPerformanceProfile.THROUGHPUT, resources, null)
+                .build();
+
+        assertThat(configuration, isEquivalent("num.network.threads=4\n" +
+                                                            "num.io.threads=8\n" +
+                                                            "num.replica.fetchers=2\n" +
+                                                            "log.cleaner.threads=1\n" +
+                                                            "socket.send.buffer.bytes=524288\n" +
+                                                            "socket.receive.buffer.bytes=524288"));
+    }
+
+    @ParallelTest
+    public void testLatencyPerformanceProfile()  {
+        ResourceRequirements resources = new ResourceRequirementsBuilder()
+                .addToRequests("cpu", new Quantity("5500m"))
+                .addToRequests("memory", new Quantity("4Gi"))
+                .build();
+
+        String configuration = new KafkaBrokerConfigurationBuilder()
+                .withPerformanceProfile(KafkaPerformanceProfile.LATENCY, resources, null)
+                .build();
+
+        assertThat(configuration, isEquivalent("num.network.threads=6\n" +
+                                                            "num.io.threads=8\n" +
+                                                            "num.replica.fetchers=6\n" +
+                                                            "log.cleaner.threads=1"));
+    }
+
+    @ParallelTest
+    public void testPerformanceProfileDoesNotOverrideUserConfiguration()  {
+        ResourceRequirements resources = new ResourceRequirementsBuilder()
+                .addToLimits("cpu", new Quantity("16"))
+                .addToLimits("memory", new Quantity("16Gi"))
+                .build();
+
+        Map<String, Object> userConfiguration = new HashMap<>();
+        userConfiguration.put("num.io.threads", 10);
+        userConfiguration.put("socket.send.buffer.bytes", 102400);
+        KafkaConfiguration kafkaConfiguration = new KafkaConfiguration(Reconciliation.DUMMY_RECONCILIATION, userConfiguration.entrySet());
+
+        String configuration = new KafkaBrokerConfigurationBuilder()
+                .withPerformanceProfile(KafkaPerformanceProfile.THROUGHPUT, resources, kafkaConfiguration)
+                .withUserConfiguration(kafkaConfiguration)
+                .build();
+
+        assertThat(configuration, isEquivalent("num.network.threads=16\n" +
+                                                            "num.replica.fetchers=8\n" +
+                                                            "log.cleaner.threads=4\n" +
+                                                            "socket.receive.buffer.bytes=1048576\n" +
+                                                            "num.io.threads=10\n" +
+                                                            "socket.send.buffer.bytes=102400"));
+    }
+
+    @ParallelTest
+    public void testPerformanceProfileWithoutResources()  {
+        String configuration = new KafkaBrokerConfigurationBuilder()
+                .withPerformanceProfile(KafkaPerformanceProfile.THROUGHPUT, null, null)
+                .build();
+
+        assertThat(configuration, isEquivalent(""));
+
+        configuration = new KafkaBrokerConfigurationBuilder()
+                .withPerformanceProfile(null, new ResourceRequirementsBuilder().addToLimits("cpu", new Quantity("4")).build(), null)
+                .build();
+
+        assertThat(configuration, isEquivalent(""));
+    }
+
     @ParallelTest
     public void testEphemeralStorageLogDirs()  {
         Storage storage = new EphemeralStorageBuilder()
@@ -558,6 +672,54 @@ public class KafkaBrokerConfigurationBuilderTest {
                 "ssl.endpoint.identification.algorithm=HTTPS"));
     }
 
+    @ParallelTest
+    public void testKRaft()  {
+        String configuration = new KafkaBrokerConfigurationBuilder()
+                .withKRaft("my-cluster", "my-namespace", 3)
+                .build();
+
+        assertThat(configuration, isEquivalent("process.roles=broker,controller",
+                "node.id=${STRIMZI_BROKER_ID}",
+                "controller.listener.names=CONTROLPLANE-9090",
+                "controller.quorum.voters=0@my-cluster-kafka-0.my-cluster-kafka-brokers.my-namespace.svc:9090,1@my-cluster-kafka-1.my-cluster-kafka-brokers.my-namespace.svc:9090,2@my-cluster-kafka-2.my-cluster-kafka-brokers.my-namespace.svc:9090"));
+    }
+
+    @ParallelTest
+    public void testWithPlainListenersInKRaftMode()  {
+        GenericKafkaListener listener = new GenericKafkaListenerBuilder()
+                .withName("plain")
+                .withPort(9092)
+                .withType(KafkaListenerType.INTERNAL)
+                .withTls(false)
+                .build();
+
+        String configuration = new KafkaBrokerConfigurationBuilder()
+                .withListeners("my-cluster", "my-namespace", singletonList(listener), true, true)
+                .build();
+
+        assertThat(configuration, isEquivalent("listener.name.controlplane-9090.ssl.client.auth=required",
+                "listener.name.controlplane-9090.ssl.keystore.location=/tmp/kafka/cluster.keystore.p12",
+                "listener.name.controlplane-9090.ssl.keystore.password=${CERTS_STORE_PASSWORD}",
+                "listener.name.controlplane-9090.ssl.keystore.type=PKCS12",
+                "listener.name.controlplane-9090.ssl.truststore.location=/tmp/kafka/cluster.truststore.p12",
+                "listener.name.controlplane-9090.ssl.truststore.password=${CERTS_STORE_PASSWORD}",
+                "listener.name.controlplane-9090.ssl.truststore.type=PKCS12",
+                "listener.name.replication-9091.ssl.keystore.location=/tmp/kafka/cluster.keystore.p12",
+                "listener.name.replication-9091.ssl.keystore.password=${CERTS_STORE_PASSWORD}",
+                "listener.name.replication-9091.ssl.keystore.type=PKCS12",
+                "listener.name.replication-9091.ssl.truststore.location=/tmp/kafka/cluster.truststore.p12",
+                "listener.name.replication-9091.ssl.truststore.password=${CERTS_STORE_PASSWORD}",
+                "listener.name.replication-9091.ssl.truststore.type=PKCS12",
+                "listener.name.replication-9091.ssl.client.auth=required",
+                "listeners=CONTROLPLANE-9090://0.0.0.0:9090,REPLICATION-9091://0.0.0.0:9091,PLAIN-9092://0.0.0.0:9092",
+                "advertised.listeners=REPLICATION-9091://my-cluster-kafka-${STRIMZI_BROKER_ID}.my-cluster-kafka-brokers.my-namespace.svc:9091,PLAIN-9092://${STRIMZI_PLAIN_9092_ADVERTISED_HOSTNAME}:${STRIMZI_PLAIN_9092_ADVERTISED_PORT}",
+                "listener.security.protocol.map=CONTROLPLANE-9090:SSL,REPLICATION-9091:SSL,PLAIN-9092:PLAINTEXT",
+                "inter.broker.listener.name=REPLICATION-9091",
+                "sasl.enabled.mechanisms=",
+                "ssl.secure.random.implementation=SHA1PRNG",
+                "ssl.endpoint.identification.algorithm=HTTPS"));
+    }
+
     @ParallelTest
     public void testWithPlainListenersWithSaslAuth()  {
         GenericKafkaListener listener = new GenericKafkaListenerBuilder()
@@ -9,6 +9,7 @@ import io.fabric8.kubernetes.api.model.ConfigMapKeySelectorBuilder;
 import io.fabric8.kubernetes.api.model.Container;
 import io.fabric8.kubernetes.api.model.ContainerPort;
 import io.fabric8.kubernetes.api.model.EnvVar;
+import io.fabric8.kubernetes.api.model.EnvVarBuilder;
 import io.fabric8.kubernetes.api.model.HasMetadata;
 import io.fabric8.kubernetes.api.model.HostAlias;
 import io.fabric8.kubernetes.api.model.HostAliasBuilder;
@@ -103,11 +104,14 @@ import static io.strimzi.test.TestUtils.set;
 import static java.util.Arrays.asList;
 import static java.util.Collections.emptyList;
 import static java.util.Collections.emptyMap;
+import static java.util.Collections.emptySet;
 import static java.util.Collections.singletonList;
 import static java.util.Collections.singletonMap;
+import static org.hamcrest.CoreMatchers.containsString;
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.hasItem;
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
 import static org.hamcrest.CoreMatchers.notNullValue;
 import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -3708,4 +3712,95 @@ public class KafkaClusterTest {
         assertThat(kc.isMetricsEnabled(), is(false));
         assertThat(kc.getMetricsConfigInCm(), is(nullValue()));
     }
+
+    @ParallelTest
+    public void testKRaft() {
+        Kafka kafkaAssembly = new KafkaBuilder(ResourceUtils.createKafka(namespace, cluster, replicas, image, healthDelay, healthTimeout))
+                .editMetadata()
+                    .withUid("5f3b0c3e-6b5e-4d2b-9a3c-2a7d6c1e8f40")
+                .endMetadata()
+                .build();
+
+        KafkaCluster kc = KafkaCluster.fromCrd(Reconciliation.DUMMY_RECONCILIATION, kafkaAssembly, VERSIONS, null, 0, true);
+        assertThat(kc.isKRaftEnabled(), is(true));
+
+        List<EnvVar> envVars = kc.getEnvVars();
+        assertThat(envVars, hasItem(new EnvVarBuilder().withName(KafkaCluster.ENV_VAR_STRIMZI_KRAFT_ENABLED).withValue("true").build()));
+        assertThat(envVars, hasItem(new EnvVarBuilder().withName(KafkaCluster.ENV_VAR_STRIMZI_CLUSTER_ID).withValue("XzsMPmteTSuaPCp9bB6PQA").build()));
+
+        kc.generateAncillaryConfigMap(new MetricsAndLogging(null, null), emptySet(), emptySet(), false);
+        assertThat(kc.getBrokersConfiguration(), containsString("process.roles=broker,controller\n"));
+        assertThat(kc.getBrokersConfiguration(), not(containsString("zookeeper.connect")));
+        assertThat(KafkaCluster.isKRaftStatefulSet(kc.generateStatefulSet(false, null, null)), is(true));
+
+        // Without the KRaft mode
+        kc = KafkaCluster.fromCrd(Reconciliation.DUMMY_RECONCILIATION, kafkaAssembly, VERSIONS, null, 0, false);
+        assertThat(kc.isKRaftEnabled(), is(false));
+        assertThat(kc.getEnvVars().stream().anyMatch(env -> KafkaCluster.ENV_VAR_STRIMZI_KRAFT_ENABLED.equals(env.getName())), is(false));
+
+        kc.generateAncillaryConfigMap(new MetricsAndLogging(null, null), emptySet(), emptySet(), false);
+        assertThat(kc.getBrokersConfiguration(), containsString("zookeeper.connect"));
+        assertThat(kc.getBrokersConfiguration(), not(containsString("process.roles")));
+        assertThat(KafkaCluster.isKRaftStatefulSet(kc.generateStatefulSet(false, null, null)), is(false));
+    }
+
+    @ParallelTest
+    public void testKRaftClusterId() {
+        Kafka kafkaAssembly = new KafkaBuilder(ResourceUtils.createKafka(namespace, cluster, replicas, image, healthDelay, healthTimeout))
+                .editMetadata()
+                    .withUid("5f3b0c3e-6b5e-4d2b-9a3c-2a7d6c1e8f40")
+                .endMetadata()
+                .build();
+
+        // Kafka cluster IDs are 22 characters long URL-safe Base64 strings
+        assertThat(KafkaCluster.kraftClusterId(kafkaAssembly), is("XzsMPmteTSuaPCp9bB6PQA"));
+
+        // Without UID, the ID is derived from the namespace and name
+        Kafka withoutUid = ResourceUtils.createKafka(namespace, cluster, replicas, image, healthDelay, healthTimeout);
+        assertThat(KafkaCluster.kraftClusterId(withoutUid), is(KafkaCluster.kraftClusterId(withoutUid)));
+        assertThat(KafkaCluster.kraftClusterId(withoutUid).length(), is(22));
+    }
+
+    @ParallelTest
+    public void testKRaftValidation() {
+        Kafka kafkaAssembly = new KafkaBuilder(ResourceUtils.createKafka(namespace, cluster, replicas, image, healthDelay, healthTimeout))
+                .editSpec()
+                    .editKafka()
+                        .withVersion(KafkaVersionTestUtils.PREVIOUS_KAFKA_VERSION)
+                        .withStorage(new JbodStorageBuilder()
+                                .withVolumes(new PersistentClaimStorageBuilder().withId(0).withSize("100Gi").build(),
+                                        new PersistentClaimStorageBuilder().withId(1).withSize("100Gi").build())
+                                .build())
+                        .withNewKafkaAuthorizationSimple()
+                        .endKafkaAuthorizationSimple()
+                        .withListeners(new GenericKafkaListenerBuilder()
+                                .withName("plain")
+                                .withPort(9092)
+                                .withType(KafkaListenerType.INTERNAL)
+                                .withTls(false)
+                                .withNewKafkaListenerAuthenticationScramSha512Auth()
+                                .endKafkaListenerAuthenticationScramSha512Auth()
+                                .build())
+                    .endKafka()
+                    .withNewEntityOperator()
+                        .withNewTopicOperator()
+                        .endTopicOperator()
+                    .endEntityOperator()
+                    .withNewCruiseControl()
+                    .endCruiseControl()
+                .endSpec()
+                .build();
+
+        InvalidResourceException ex = assertThrows(InvalidResourceException.class,
+            () -> KafkaCluster.fromCrd(Reconciliation.DUMMY_RECONCILIATION, kafkaAssembly, VERSIONS, null, replicas + 1, true));
+
+        assertThat(ex.getMessage(), is("Kafka " + namespace + "/" + cluster + " has invalid configuration for the KRaft mode: " +
+                "the KRaft mode requires Kafka 2.8.0 or newer, " +
+                "JBOD storage with multiple volumes is not supported, " +
+                "authorization using Kafka ACLs is not supported, " +
+                "SCRAM-SHA-512 authentication is not supported, " +
+                "scaling the Kafka cluster is not supported, " +
+                "the Topic Operator is not supported, " +
+                "Cruise Control is not supported"));
+    }
 }
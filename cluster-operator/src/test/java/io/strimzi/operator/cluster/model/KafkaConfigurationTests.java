@@ -94,4 +94,12 @@ public class KafkaConfigurationTests {
     public void validVersion() {
         assertNoError("inter.broker.protocol.version", "2.5-IV0");
     }
+
+    @ParallelTest
+    public void configModelIsCached() {
+        KafkaConfiguration.preloadConfigModels(KafkaVersionTestUtils.getKafkaVersionLookup());
+
+        assertThat(KafkaConfiguration.readConfigModel(kafkaVersion) == KafkaConfiguration.readConfigModel(kafkaVersion), is(true));
+        assertThat(KafkaConfiguration.readConfigModel(kafkaVersion).containsKey("log.flush.interval.messages"), is(true));
+    }
 }
@@ -492,6 +492,44 @@ public class KafkaConnectBuildTest {
         assertThat(pod.getSpec().getContainers().get(0).getArgs(), is(expectedArgs));
     }
 
+    @ParallelTest
+    public void testKanikoLayerCaching()   {
+        List<String> expectedArgs = new ArrayList<>(defaultArgs);
+        expectedArgs.add("--cache=true");
+        expectedArgs.add("--cache-repo=my-registry/my-cache");
+
+        KafkaConnect kc = new KafkaConnectBuilder()
+                .withNewMetadata()
+                    .withName(cluster)
+                    .withNamespace(namespace)
+                .endMetadata()
+                .withNewSpec()
+                    .withBootstrapServers("my-kafka:9092")
+                    .withNewBuild()
+                        .withNewDockerOutput()
+                            .withImage("my-image:latest")
+                            .withNewPushSecret("my-docker-credentials")
+                            .withAdditionalKanikoOptions("--cache=true", "--cache-repo=my-registry/my-cache")
+                        .endDockerOutput()
+                        .withPlugins(new PluginBuilder().withName("my-connector").withArtifacts(jarArtifactWithChecksum).build(),
+                                new PluginBuilder().withName("my-connector2").withArtifacts(jarArtifactNoChecksum).build())
+                    .endBuild()
+                .endSpec()
+                .build();
+
+        KafkaConnectBuild build = KafkaConnectBuild.fromCrd(new Reconciliation("test", kc.getKind(), kc.getMetadata().getNamespace(), kc.getMetadata().getName()), kc, VERSIONS);
+
+        Pod pod = build.generateBuilderPod(true, ImagePullPolicy.IFNOTPRESENT, null, null);
+        assertThat(pod.getSpec().getContainers().get(0).getArgs(), is(expectedArgs));
+
+        // With layer caching, each plugin is downloaded in its own build stage
+        String dockerfile = build.generateDockerfile().getDockerfile();
+        assertThat(dockerfile, containsString(" AS plugin-my-connector\n"));
+        assertThat(dockerfile, containsString(" AS plugin-my-connector2\n"));
+        assertThat(dockerfile, containsString("COPY --from=plugin-my-connector /opt/kafka/plugins/my-connector /opt/kafka/plugins/my-connector\n"));
+        assertThat(dockerfile, containsString("COPY --from=plugin-my-connector2 /opt/kafka/plugins/my-connector2 /opt/kafka/plugins/my-connector2\n"));
+    }
+
     @ParallelTest
     public void testInvalidKanikoOptions()   {
         KafkaConnect kc = new KafkaConnectBuilder()
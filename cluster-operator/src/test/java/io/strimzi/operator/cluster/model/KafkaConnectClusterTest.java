@@ -1559,6 +1559,20 @@ public class KafkaConnectClusterTest {
         assertThat(crb.getSubjects().get(0).getName(), is(kafkaConnectCluster.getServiceAccountName()));
     }
 
+    @ParallelTest
+    public void testRackWithClosestReplicaFetchingIsRejected() {
+        KafkaConnect kafkaConnect = new KafkaConnectBuilder(this.resource)
+                .editOrNewSpec()
+                    .withNewRack()
+                        .withTopologyKey("my-topology-label")
+                        .withClosestReplicaFetching(true)
+                    .endRack()
+                .endSpec()
+                .build();
+
+        assertThrows(InvalidResourceException.class, () -> KafkaConnectCluster.fromCrd(Reconciliation.DUMMY_RECONCILIATION, kafkaConnect, VERSIONS));
+    }
+
     @ParallelTest
     public void testNullClusterRoleBinding() {
         String testNamespace = "other-namespace";
@@ -396,4 +396,107 @@ public class KafkaConnectDockerfileTest {
                 "\n" +
                 "USER 1001\n\n"));
     }
+
+    @ParallelTest
+    public void testLayeredDockerfileWithoutPlugins()   {
+        Build connectBuild = new BuildBuilder()
+                .withPlugins(new PluginBuilder()
+                        .withName("my-connector-plugin")
+                        .withArtifacts(emptyList())
+                        .build())
+                .build();
+
+        KafkaConnectDockerfile df = new KafkaConnectDockerfile("myImage:latest", connectBuild, true);
+
+        assertThat(df.getDockerfile(), isEquivalent("FROM myImage:latest",
+                "USER root:root",
+                "USER 1001"));
+    }
+
+    @ParallelTest
+    public void testLayeredDockerfile()   {
+        Build connectBuild = new BuildBuilder()
+                .withPlugins(new PluginBuilder()
+                            .withName("my-connector-plugin")
+                            .withArtifacts(jarArtifactWithChecksum)
+                            .build(),
+                        new PluginBuilder()
+                            .withName("my-connector-plugin2")
+                            .withArtifacts(tgzArtifactNoChecksum)
+                            .build())
+                .build();
+
+        KafkaConnectDockerfile df = new KafkaConnectDockerfile("myImage:latest", connectBuild, true);
+
+        assertThat(df.getDockerfile(), is("##############################\n" +
+                "##############################\n" +
+                "# This file is automatically generated by the Strimzi Cluster Operator\n" +
+                "# Any changes to this file will be ignored and overwritten!\n" +
+                "##############################\n" +
+                "##############################\n" +
+                "\n" +
+                "##########\n" +
+                "# Connector plugin my-connector-plugin\n" +
+                "##########\n" +
+                "FROM myImage:latest AS plugin-my-connector-plugin\n" +
+                "\n" +
+                "USER root:root\n" +
+                "\n" +
+                "RUN mkdir -p /opt/kafka/plugins/my-connector-plugin/0df6d15c \\\n" +
+                "      && curl -L --output /opt/kafka/plugins/my-connector-plugin/0df6d15c/0df6d15c.jar https://mydomain.tld/my2.jar \\\n" +
+                "      && echo \"sha-512-checksum /opt/kafka/plugins/my-connector-plugin/0df6d15c/0df6d15c.jar\" > /opt/kafka/plugins/my-connector-plugin/0df6d15c/0df6d15c.jar.sha512 \\\n" +
+                "      && sha512sum --check /opt/kafka/plugins/my-connector-plugin/0df6d15c/0df6d15c.jar.sha512 \\\n" +
+                "      && rm -f /opt/kafka/plugins/my-connector-plugin/0df6d15c/0df6d15c.jar.sha512\n" +
+                "\n" +
+                "##########\n" +
+                "# Connector plugin my-connector-plugin2\n" +
+                "##########\n" +
+                "FROM myImage:latest AS plugin-my-connector-plugin2\n" +
+                "\n" +
+                "USER root:root\n" +
+                "\n" +
+                "RUN mkdir -p /opt/kafka/plugins/my-connector-plugin2/6718766b \\\n" +
+                "      && curl -L --output /opt/kafka/plugins/my-connector-plugin2/6718766b.tgz https://mydomain.tld/my.tgz \\\n" +
+                "      && tar xvfz /opt/kafka/plugins/my-connector-plugin2/6718766b.tgz -C /opt/kafka/plugins/my-connector-plugin2/6718766b \\\n" +
+                "      && rm -vf /opt/kafka/plugins/my-connector-plugin2/6718766b.tgz\n" +
+                "\n" +
+                "##########\n" +
+                "# Kafka Connect image\n" +
+                "##########\n" +
+                "FROM myImage:latest\n" +
+                "\n" +
+                "USER root:root\n" +
+                "\n" +
+                "COPY --from=plugin-my-connector-plugin /opt/kafka/plugins/my-connector-plugin /opt/kafka/plugins/my-connector-plugin\n" +
+                "COPY --from=plugin-my-connector-plugin2 /opt/kafka/plugins/my-connector-plugin2 /opt/kafka/plugins/my-connector-plugin2\n" +
+                "\n" +
+                "USER 1001\n\n"));
+    }
+
+    @ParallelTest
+    public void testLayeredDockerfilePluginStageDependsOnlyOnItsArtifacts()   {
+        Build connectBuild = new BuildBuilder()
+                .withPlugins(new PluginBuilder().withName("my-connector-plugin").withArtifacts(jarArtifactWithChecksum).build(),
+                        new PluginBuilder().withName("my-connector-plugin2").withArtifacts(zipArtifactNoChecksum).build())
+                .build();
+
+        Build changedConnectBuild = new BuildBuilder()
+                .withPlugins(new PluginBuilder().withName("my-connector-plugin").withArtifacts(jarArtifactWithChecksum).build(),
+                        new PluginBuilder().withName("my-connector-plugin2").withArtifacts(zipArtifactWithChecksum).build())
+                .build();
+
+        String dockerfile = new KafkaConnectDockerfile("myImage:latest", connectBuild, true).getDockerfile();
+        String changedDockerfile = new KafkaConnectDockerfile("myImage:latest", changedConnectBuild, true).getDockerfile();
+
+        // The stage of the unchanged plugin stays the same, the stage of the changed plugin is different
+        assertThat(pluginStage(changedDockerfile, "my-connector-plugin"), is(pluginStage(dockerfile, "my-connector-plugin")));
+        assertThat(pluginStage(changedDockerfile, "my-connector-plugin2").equals(pluginStage(dockerfile, "my-connector-plugin2")), is(false));
+    }
+
+    private static String pluginStage(String dockerfile, String plugin)  {
+        int start = dockerfile.indexOf("FROM myImage:latest AS plugin-" + plugin + "\n");
+        int end = dockerfile.indexOf("##########", start);
+
+        return dockerfile.substring(start, end);
+    }
 }
@@ -1548,6 +1548,20 @@ public class KafkaMirrorMaker2ClusterTest {
         });
     }
 
+    @ParallelTest
+    public void testRackWithClosestReplicaFetchingIsRejected() {
+        KafkaMirrorMaker2 resource = new KafkaMirrorMaker2Builder(this.resource)
+                .editSpec()
+                    .withNewRack()
+                        .withTopologyKey("my-topology-label")
+                        .withClosestReplicaFetching(true)
+                    .endRack()
+                .endSpec()
+                .build();
+
+        assertThrows(InvalidResourceException.class, () -> KafkaMirrorMaker2Cluster.fromCrd(Reconciliation.DUMMY_RECONCILIATION, resource, VERSIONS));
+    }
+
     @ParallelTest
     public void testNetworkPolicy() {
         KafkaMirrorMaker2 resource = new KafkaMirrorMaker2Builder(this.resourceWithMetrics)
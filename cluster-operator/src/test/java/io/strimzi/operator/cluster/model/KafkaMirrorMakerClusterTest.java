@@ -14,7 +14,9 @@ import io.fabric8.kubernetes.api.model.HostAlias;
 import io.fabric8.kubernetes.api.model.HostAliasBuilder;
 import io.fabric8.kubernetes.api.model.IntOrString;
 import io.fabric8.kubernetes.api.model.LocalObjectReference;
+import io.fabric8.kubernetes.api.model.NodeSelectorRequirement;
 import io.fabric8.kubernetes.api.model.OwnerReference;
+import io.fabric8.kubernetes.api.model.PodSpec;
 import io.fabric8.kubernetes.api.model.Probe;
 import io.fabric8.kubernetes.api.model.Quantity;
 import io.fabric8.kubernetes.api.model.ResourceRequirementsBuilder;
@@ -22,6 +24,7 @@ import io.fabric8.kubernetes.api.model.ServiceAccount;
 import io.fabric8.kubernetes.api.model.apps.Deployment;
 import io.fabric8.kubernetes.api.model.PodSecurityContextBuilder;
 import io.fabric8.kubernetes.api.model.policy.v1beta1.PodDisruptionBudget;
+import io.fabric8.kubernetes.api.model.rbac.ClusterRoleBinding;
 import io.strimzi.api.kafka.model.CertSecretSource;
 import io.strimzi.api.kafka.model.CertSecretSourceBuilder;
 import io.strimzi.api.kafka.model.ContainerEnvVar;
@@ -1520,4 +1523,86 @@ public class KafkaMirrorMakerClusterTest {
         assertThat(kmm.isMetricsEnabled(), is(false));
         assertThat(kmm.getMetricsConfigInCm(), is(nullValue()));
     }
+
+    @ParallelTest
+    public void testGenerateDeploymentWithRack() {
+        KafkaMirrorMaker resource = new KafkaMirrorMakerBuilder(this.resource)
+                .editSpec()
+                    .withNewRack("my-topology-key")
+                .endSpec()
+                .build();
+
+        KafkaMirrorMakerCluster model = KafkaMirrorMakerCluster.fromCrd(Reconciliation.DUMMY_RECONCILIATION, resource, VERSIONS);
+        Deployment deployment = model.generateDeployment(new HashMap<>(), true, null, null);
+        PodSpec podSpec = deployment.getSpec().getTemplate().getSpec();
+
+        assertThat(podSpec.getInitContainers().size(), is(1));
+        Container initContainer = podSpec.getInitContainers().get(0);
+        assertThat(initContainer.getName(), is(AbstractModel.INIT_NAME));
+        assertThat(initContainer.getArgs(), is(singletonList("/opt/strimzi/bin/kafka_init_run.sh")));
+        assertThat(initContainer.getEnv().stream()
+                .anyMatch(env -> AbstractModel.ENV_VAR_KAFKA_INIT_RACK_TOPOLOGY_KEY.equals(env.getName()) && "my-topology-key".equals(env.getValue())), is(true));
+        assertThat(initContainer.getVolumeMounts().get(0).getName(), is(AbstractModel.INIT_VOLUME_NAME));
+        assertThat(initContainer.getVolumeMounts().get(0).getMountPath(), is(AbstractModel.INIT_VOLUME_MOUNT));
+
+        assertThat(podSpec.getVolumes().stream().anyMatch(volume -> AbstractModel.INIT_VOLUME_NAME.equals(volume.getName())), is(true));
+        assertThat(podSpec.getContainers().get(0).getVolumeMounts().stream()
+                .anyMatch(mount -> AbstractModel.INIT_VOLUME_NAME.equals(mount.getName()) && AbstractModel.INIT_VOLUME_MOUNT.equals(mount.getMountPath())), is(true));
+
+        NodeSelectorRequirement selector = podSpec.getAffinity().getNodeAffinity().getRequiredDuringSchedulingIgnoredDuringExecution()
+                .getNodeSelectorTerms().get(0).getMatchExpressions().get(0);
+        assertThat(selector.getKey(), is("my-topology-key"));
+        assertThat(selector.getOperator(), is("Exists"));
+    }
+
+    @ParallelTest
+    public void testGenerateDeploymentWithoutRack() {
+        Deployment deployment = mm.generateDeployment(new HashMap<>(), true, null, null);
+        PodSpec podSpec = deployment.getSpec().getTemplate().getSpec();
+
+        assertThat(podSpec.getInitContainers().size(), is(0));
+        assertThat(podSpec.getVolumes().stream().anyMatch(volume -> AbstractModel.INIT_VOLUME_NAME.equals(volume.getName())), is(false));
+    }
+
+    @ParallelTest
+    public void testClusterRoleBindingRack() {
+        String testNamespace = "other-namespace";
+
+        KafkaMirrorMaker resource = new KafkaMirrorMakerBuilder(this.resource)
+                .editOrNewMetadata()
+                    .withNamespace(testNamespace)
+                .endMetadata()
+                .editSpec()
+                    .withNewRack("my-topology-key")
+                .endSpec()
+                .build();
+
+        KafkaMirrorMakerCluster model = KafkaMirrorMakerCluster.fromCrd(Reconciliation.DUMMY_RECONCILIATION, resource, VERSIONS);
+        ClusterRoleBinding crb = model.generateClusterRoleBinding();
+
+        assertThat(crb.getMetadata().getName(), is(KafkaMirrorMakerResources.initContainerClusterRoleBindingName(cluster, testNamespace)));
+        assertThat(crb.getMetadata().getNamespace(), is(nullValue()));
+        assertThat(crb.getSubjects().get(0).getNamespace(), is(testNamespace));
+        assertThat(crb.getSubjects().get(0).getName(), is(model.getServiceAccountName()));
+        assertThat(crb.getRoleRef().getName(), is("strimzi-kafka-client"));
+    }
+
+    @ParallelTest
+    public void testRackWithClosestReplicaFetchingIsRejected() {
+        KafkaMirrorMaker resource = new KafkaMirrorMakerBuilder(this.resource)
+                .editSpec()
+                    .withNewRack()
+                        .withTopologyKey("my-topology-key")
+                        .withClosestReplicaFetching(true)
+                    .endRack()
+                .endSpec()
+                .build();
+
+        assertThrows(InvalidResourceException.class, () -> KafkaMirrorMakerCluster.fromCrd(Reconciliation.DUMMY_RECONCILIATION, resource, VERSIONS));
+    }
+
+    @ParallelTest
+    public void testNullClusterRoleBinding() {
+        assertThat(mm.generateClusterRoleBinding(), is(nullValue()));
+    }
 }
@@ -0,0 +1,274 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.assembly;
+
+import io.fabric8.kubernetes.api.model.PodBuilder;
+import io.fabric8.kubernetes.api.model.PodConditionBuilder;
+import io.fabric8.kubernetes.api.model.SecretBuilder;
+import io.fabric8.kubernetes.api.model.ServiceBuilder;
+import io.fabric8.kubernetes.api.model.apps.StatefulSet;
+import io.fabric8.kubernetes.api.model.apps.StatefulSetBuilder;
+import io.strimzi.api.kafka.model.Kafka;
+import io.strimzi.api.kafka.model.KafkaBuilder;
+import io.strimzi.api.kafka.model.KafkaResources;
+import io.strimzi.operator.KubernetesVersion;
+import io.strimzi.operator.PlatformFeaturesAvailability;
+import io.strimzi.operator.cluster.ClusterOperator;
+import io.strimzi.operator.cluster.ClusterOperatorConfig;
+import io.strimzi.operator.cluster.KafkaVersionTestUtils;
+import io.strimzi.operator.cluster.ResourceUtils;
+import io.strimzi.operator.cluster.model.KafkaCluster;
+import io.strimzi.operator.cluster.model.KafkaVersion;
+import io.strimzi.operator.cluster.operator.resource.ResourceOperatorSupplier;
+import io.strimzi.operator.common.PasswordGenerator;
+import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.operator.common.model.Labels;
+import io.strimzi.operator.common.operator.MockCertManager;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.junit5.Checkpoint;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.util.Collections.singleton;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(VertxExtension.class)
+public class KafkaAssemblyOperatorFastPathTest {
+    private static final KafkaVersion.Lookup VERSIONS = KafkaVersionTestUtils.getKafkaVersionLookup();
+    private static final String NAMESPACE = "testns";
+    private static final String NAME = "my-cluster";
+
+    private static Vertx vertx;
+
+    private final Map<String, String> secretVersions = new ConcurrentHashMap<>();
+    private final Map<String, String> podVersions = new ConcurrentHashMap<>();
+    private final Map<String, String> serviceVersions = new ConcurrentHashMap<>();
+    private ResourceOperatorSupplier supplier;
+
+    @BeforeAll
+    public static void before() {
+        vertx = Vertx.vertx();
+    }
+
+    @AfterAll
+    public static void after() {
+        vertx.close();
+    }
+
+    private static ClusterOperatorConfig config(String featureGates) {
+        return new ClusterOperatorConfig(
+                singleton(NAMESPACE),
+                60_000,
+                ClusterOperatorConfig.DEFAULT_OPERATION_TIMEOUT_MS,
+                300_000,
+                false,
+                true,
+                VERSIONS,
+                null,
+                null,
+                null,
+                null,
+                ClusterOperatorConfig.RbacScope.CLUSTER,
+                null,
+                featureGates,
+                10,
+                ClusterOperatorConfig.DEFAULT_SHARD_COUNT,
+                ClusterOperatorConfig.DEFAULT_SHARD_LEASE_DURATION_MS,
+                null,
+                ClusterOperatorConfig.DEFAULT_RECONCILIATION_STAGGER_MS);
+    }
+
+    private static Kafka kafka(long generation) {
+        return new KafkaBuilder(ResourceUtils.createKafka(NAMESPACE, NAME, 3, "my-image", 120, 30))
+                .editMetadata()
+                    .withGeneration(generation)
+                .endMetadata()
+                .build();
+    }
+
+    private static Reconciliation periodic() {
+        return new Reconciliation(ClusterOperator.PERIODIC_RECONCILIATION_TRIGGER, Kafka.RESOURCE_KIND, NAMESPACE, NAME);
+    }
+
+    @BeforeEach
+    public void setup() {
+        secretVersions.clear();
+        podVersions.clear();
+        podVersions.put(NAME + "-kafka-0", "100");
+        serviceVersions.clear();
+        serviceVersions.put(KafkaResources.bootstrapServiceName(NAME), "200");
+
+        supplier = ResourceUtils.supplierWithMocks(false);
+
+        when(supplier.secretOperations.getAsync(anyString(), anyString())).thenAnswer(i -> {
+            String name = i.getArgument(1);
+            return Future.succeededFuture(new SecretBuilder()
+                    .withNewMetadata()
+                        .withName(name)
+                        .withNamespace(NAMESPACE)
+                        .withResourceVersion(secretVersions.getOrDefault(name, "1"))
+                    .endMetadata()
+                    .build());
+        });
+
+        StatefulSet sts = new StatefulSetBuilder()
+                .withNewMetadata()
+                    .withName(KafkaResources.kafkaStatefulSetName(NAME))
+                    .withGeneration(1L)
+                    .withResourceVersion("10")
+                .endMetadata()
+                .withNewSpec()
+                    .withReplicas(1)
+                .endSpec()
+                .withNewStatus()
+                    .withObservedGeneration(1L)
+                    .withReadyReplicas(1)
+                .endStatus()
+                .build();
+
+        when(supplier.kafkaSetOperations.listAsync(anyString(), any(Labels.class))).thenReturn(Future.succeededFuture(List.of(sts)));
+        when(supplier.deploymentOperations.listAsync(anyString(), any(Labels.class))).thenReturn(Future.succeededFuture(List.of()));
+        when(supplier.podOperations.listAsync(anyString(), any(Labels.class))).thenAnswer(i -> Future.succeededFuture(List.of(new PodBuilder()
+                .withNewMetadata()
+                    .withName(NAME + "-kafka-0")
+                    .withResourceVersion(podVersions.get(NAME + "-kafka-0"))
+                .endMetadata()
+                .withNewStatus()
+                    .withConditions(new PodConditionBuilder().withType("Ready").withStatus("True").build())
+                .endStatus()
+                .build())));
+        when(supplier.serviceOperations.listAsync(anyString(), any(Labels.class))).thenAnswer(i -> Future.succeededFuture(List.of(new ServiceBuilder()
+                .withNewMetadata()
+                    .withName(KafkaResources.bootstrapServiceName(NAME))
+                    .withResourceVersion(serviceVersions.get(KafkaResources.bootstrapServiceName(NAME)))
+                .endMetadata()
+                .build())));
+        when(supplier.secretOperations.listAsync(anyString(), any(Labels.class))).thenAnswer(i -> Future.succeededFuture(List.of(new SecretBuilder()
+                .withNewMetadata()
+                    .withName(KafkaCluster.brokersSecretName(NAME))
+                    .withResourceVersion(secretVersions.getOrDefault(KafkaCluster.brokersSecretName(NAME), "1"))
+                .endMetadata()
+                .build())));
+        when(supplier.configMapOperations.listAsync(anyString(), any(Labels.class))).thenReturn(Future.succeededFuture(List.of()));
+        when(supplier.networkPolicyOperator.listAsync(anyString(), any(Labels.class))).thenReturn(Future.succeededFuture(List.of()));
+        when(supplier.podDisruptionBudgetOperator.listAsync(anyString(), any(Labels.class))).thenReturn(Future.succeededFuture(List.of()));
+        when(supplier.ingressV1Beta1Operations.listAsync(anyString(), any(Labels.class))).thenReturn(Future.succeededFuture(List.of()));
+    }
+
+    @Test
+    public void testPeriodicReconciliationUsesFastPath(VertxTestContext context) {
+        MockKafkaAssemblyOperator kao = new MockKafkaAssemblyOperator(vertx, supplier, config("+ReconciliationFastPath"));
+        Kafka kafka = kafka(1L);
+
+        Checkpoint async = context.checkpoint();
+        kao.createOrUpdate(periodic(), kafka)
+                .compose(status -> kao.createOrUpdate(periodic(), kafka))
+                .onComplete(context.succeeding(status -> context.verify(() -> {
+                    assertThat(kao.fullReconciliations.get(), is(1));
+                    assertThat(status.getObservedGeneration(), is(1L));
+                    assertThat(status.getConditions().get(0).getType(), is("Ready"));
+                    async.flag();
+                })));
+    }
+
+    @Test
+    public void testChangedInputsTriggerFullReconciliation(VertxTestContext context) {
+        MockKafkaAssemblyOperator kao = new MockKafkaAssemblyOperator(vertx, supplier, config("+ReconciliationFastPath"));
+
+        Checkpoint async = context.checkpoint();
+        kao.createOrUpdate(periodic(), kafka(1L))
+                // New generation of the custom resource
+                .compose(status -> kao.createOrUpdate(periodic(), kafka(2L)))
+                .compose(status -> {
+                    // Renewed CA certificate
+                    secretVersions.put(KafkaResources.clusterCaCertificateSecretName(NAME), "2");
+                    return kao.createOrUpdate(periodic(), kafka(2L));
+                })
+                .compose(status -> {
+                    // Pod changed outside of the reconciliation
+                    podVersions.put(NAME + "-kafka-0", "101");
+                    return kao.createOrUpdate(periodic(), kafka(2L));
+                })
+                .compose(status -> {
+                    // Service changed outside of the reconciliation
+                    serviceVersions.put(KafkaResources.bootstrapServiceName(NAME), "201");
+                    return kao.createOrUpdate(periodic(), kafka(2L));
+                })
+                .compose(status -> {
+                    // Broker certificates Secret changed outside of the reconciliation
+                    secretVersions.put(KafkaCluster.brokersSecretName(NAME), "2");
+                    return kao.createOrUpdate(periodic(), kafka(2L));
+                })
+                // Not periodic reconciliation
+                .compose(status -> kao.createOrUpdate(new Reconciliation("watch", Kafka.RESOURCE_KIND, NAMESPACE, NAME), kafka(2L)))
+                .onComplete(context.succeeding(status -> context.verify(() -> {
+                    assertThat(kao.fullReconciliations.get(), is(7));
+                    async.flag();
+                })));
+    }
+
+    @Test
+    public void testFailedReconciliationIsNotReused(VertxTestContext context) {
+        MockKafkaAssemblyOperator kao = new MockKafkaAssemblyOperator(vertx, supplier, config("+ReconciliationFastPath"));
+        Kafka kafka = kafka(1L);
+        kao.fail = true;
+
+        Checkpoint async = context.checkpoint();
+        kao.createOrUpdate(periodic(), kafka)
+                .recover(error -> {
+                    kao.fail = false;
+                    return kao.createOrUpdate(periodic(), kafka);
+                })
+                .onComplete(context.succeeding(status -> context.verify(() -> {
+                    assertThat(kao.fullReconciliations.get(), is(2));
+                    async.flag();
+                })));
+    }
+
+    @Test
+    public void testFastPathDisabledByDefault(VertxTestContext context) {
+        MockKafkaAssemblyOperator kao = new MockKafkaAssemblyOperator(vertx, supplier, config(""));
+        Kafka kafka = kafka(1L);
+
+        Checkpoint async = context.checkpoint();
+        kao.createOrUpdate(periodic(), kafka)
+                .compose(status -> kao.createOrUpdate(periodic(), kafka))
+                .onComplete(context.succeeding(status -> context.verify(() -> {
+                    assertThat(kao.fullReconciliations.get(), is(2));
+                    async.flag();
+                })));
+    }
+
+    static class MockKafkaAssemblyOperator extends KafkaAssemblyOperator {
+        final AtomicInteger fullReconciliations = new AtomicInteger(0);
+        volatile boolean fail = false;
+
+        MockKafkaAssemblyOperator(Vertx vertx, ResourceOperatorSupplier supplier, ClusterOperatorConfig config) {
+            super(vertx, new PlatformFeaturesAvailability(false, KubernetesVersion.V1_18), new MockCertManager(),
+                    new PasswordGenerator(10, "a", "a"), supplier, config);
+        }
+
+        @Override
+        Future<Void> reconcile(ReconciliationState reconcileState) {
+            fullReconciliations.incrementAndGet();
+            return fail ? Future.failedFuture(new RuntimeException("Failed")) : Future.succeededFuture();
+        }
+    }
+}
@@ -0,0 +1,242 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.assembly;
+
+import io.fabric8.kubernetes.api.model.ConfigMap;
+import io.fabric8.kubernetes.api.model.EnvVarBuilder;
+import io.fabric8.kubernetes.api.model.apps.StatefulSet;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.strimzi.api.kafka.Crds;
+import io.strimzi.api.kafka.KafkaList;
+import io.strimzi.api.kafka.model.Kafka;
+import io.strimzi.api.kafka.model.KafkaBuilder;
+import io.strimzi.api.kafka.model.listener.arraylistener.GenericKafkaListenerBuilder;
+import io.strimzi.api.kafka.model.listener.arraylistener.KafkaListenerType;
+import io.strimzi.api.kafka.model.storage.EphemeralStorage;
+import io.strimzi.operator.KubernetesVersion;
+import io.strimzi.operator.PlatformFeaturesAvailability;
+import io.strimzi.operator.cluster.ClusterOperatorConfig;
+import io.strimzi.operator.cluster.KafkaVersionTestUtils;
+import io.strimzi.operator.cluster.ResourceUtils;
+import io.strimzi.operator.cluster.model.InvalidResourceException;
+import io.strimzi.operator.cluster.model.KafkaCluster;
+import io.strimzi.operator.cluster.model.KafkaVersion;
+import io.strimzi.operator.cluster.model.ZookeeperCluster;
+import io.strimzi.operator.cluster.operator.resource.ResourceOperatorSupplier;
+import io.strimzi.operator.cluster.operator.resource.ZookeeperLeaderFinder;
+import io.strimzi.operator.common.PasswordGenerator;
+import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.operator.common.operator.MockCertManager;
+import io.strimzi.test.mockkube.MockKube;
+import io.vertx.core.Vertx;
+import io.vertx.junit5.Checkpoint;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.Collections;
+
+import static java.util.Collections.singleton;
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.CoreMatchers.hasItem;
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+@ExtendWith(VertxExtension.class)
+public class KafkaAssemblyOperatorKRaftMockTest {
+    private static final String NAMESPACE = "my-namespace";
+    private static final String CLUSTER_NAME = "my-cluster";
+    private static final KafkaVersion.Lookup VERSIONS = KafkaVersionTestUtils.getKafkaVersionLookup();
+    private static final KubernetesVersion KUBERNETES_VERSION = KubernetesVersion.V1_16;
+
+    private static Vertx vertx;
+
+    private KubernetesClient client;
+    private KafkaAssemblyOperator operator;
+
+    @BeforeAll
+    public static void before() {
+        vertx = Vertx.vertx();
+    }
+
+    @AfterAll
+    public static void after() {
+        vertx.close();
+        ResourceUtils.cleanUpTemporaryTLSFiles();
+    }
+
+    private static Kafka kafka(boolean withTopicOperator) {
+        KafkaBuilder builder = new KafkaBuilder()
+                .withNewMetadata()
+                    .withName(CLUSTER_NAME)
+                    .withNamespace(NAMESPACE)
+                .endMetadata()
+                .withNewSpec()
+                    .withNewKafka()
+                        .withReplicas(3)
+                        .withStorage(new EphemeralStorage())
+                        .withListeners(new GenericKafkaListenerBuilder()
+                                .withName("plain")
+                                .withPort(9092)
+                                .withType(KafkaListenerType.INTERNAL)
+                                .withTls(false)
+                                .build())
+                    .endKafka()
+                    .withNewZookeeper()
+                        .withReplicas(3)
+                        .withStorage(new EphemeralStorage())
+                    .endZookeeper()
+                    .withNewEntityOperator()
+                        .withNewUserOperator()
+                        .endUserOperator()
+                    .endEntityOperator()
+                .endSpec();
+
+        if (withTopicOperator) {
+            builder.editSpec()
+                        .editEntityOperator()
+                            .withNewTopicOperator()
+                            .endTopicOperator()
+                        .endEntityOperator()
+                    .endSpec();
+        }
+
+        return builder.build();
+    }
+
+    private void init(Kafka kafka) {
+        client = new MockKube()
+                .withCustomResourceDefinition(Crds.kafka(), Kafka.class, KafkaList.class)
+                    .withInitialInstances(Collections.singleton(kafka))
+                .end()
+                .build();
+
+        operator = operator("+UseKRaft");
+    }
+
+    private KafkaAssemblyOperator operator(String featureGates) {
+        ClusterOperatorConfig config = new ClusterOperatorConfig(
+                singleton(NAMESPACE),
+                60_000,
+                ClusterOperatorConfig.DEFAULT_OPERATION_TIMEOUT_MS,
+                300_000,
+                false,
+                true,
+                VERSIONS,
+                null,
+                null,
+                null,
+                null,
+                ClusterOperatorConfig.RbacScope.CLUSTER,
+                null,
+                featureGates,
+                10,
+                ClusterOperatorConfig.DEFAULT_SHARD_COUNT,
+                ClusterOperatorConfig.DEFAULT_SHARD_LEASE_DURATION_MS,
+                null,
+                ClusterOperatorConfig.DEFAULT_RECONCILIATION_STAGGER_MS);
+
+        ZookeeperLeaderFinder leaderFinder = ResourceUtils.zookeeperLeaderFinder(vertx, client);
+        ResourceOperatorSupplier supplier = new ResourceOperatorSupplier(vertx, client, leaderFinder,
+                ResourceUtils.adminClientProvider(), ResourceUtils.zookeeperScalerProvider(),
+                ResourceUtils.metricsProvider(), new PlatformFeaturesAvailability(true, KUBERNETES_VERSION),
+                config.featureGates(), 2_000);
+
+        return new KafkaAssemblyOperator(vertx, new PlatformFeaturesAvailability(true, KUBERNETES_VERSION),
+                new MockCertManager(), new PasswordGenerator(10, "a", "a"), supplier, config);
+    }
+
+    @Test
+    public void testReconcileWithoutZooKeeper(VertxTestContext context) {
+        init(kafka(false));
+
+        Checkpoint async = context.checkpoint();
+        operator.reconcile(new Reconciliation("test-trigger", Kafka.RESOURCE_KIND, NAMESPACE, CLUSTER_NAME))
+            .onComplete(context.succeeding(v -> context.verify(() -> {
+                StatefulSet kafkaSts = client.apps().statefulSets().inNamespace(NAMESPACE).withName(KafkaCluster.kafkaClusterName(CLUSTER_NAME)).get();
+                assertThat(kafkaSts, is(notNullValue()));
+                assertThat(kafkaSts.getSpec().getTemplate().getSpec().getContainers().get(0).getEnv(),
+                        hasItem(new EnvVarBuilder().withName("STRIMZI_KRAFT_ENABLED").withValue("true").build()));
+
+                ConfigMap kafkaCm = client.configMaps().inNamespace(NAMESPACE).withName(KafkaCluster.metricAndLogConfigsName(CLUSTER_NAME)).get();
+                assertThat(kafkaCm.getData().get(KafkaCluster.BROKER_CONFIGURATION_FILENAME), containsString("process.roles=broker,controller"));
+                assertThat(kafkaCm.getData().get(KafkaCluster.BROKER_CONFIGURATION_FILENAME), not(containsString("zookeeper.connect")));
+
+                // No ZooKeeper resources are created
+                assertThat(client.apps().statefulSets().inNamespace(NAMESPACE).withName(ZookeeperCluster.zookeeperClusterName(CLUSTER_NAME)).get(), is(nullValue()));
+                assertThat(client.configMaps().inNamespace(NAMESPACE).withName(ZookeeperCluster.zookeeperMetricAndLogConfigsName(CLUSTER_NAME)).get(), is(nullValue()));
+                assertThat(client.secrets().inNamespace(NAMESPACE).withName(ZookeeperCluster.nodesSecretName(CLUSTER_NAME)).get(), is(nullValue()));
+
+                async.flag();
+            })));
+    }
+
+    @Test
+    public void testReconcileWithTopicOperatorFails(VertxTestContext context) {
+        init(kafka(true));
+
+        Checkpoint async = context.checkpoint();
+        operator.reconcile(new Reconciliation("test-trigger", Kafka.RESOURCE_KIND, NAMESPACE, CLUSTER_NAME))
+            .onComplete(context.failing(e -> context.verify(() -> {
+                assertThat(e, instanceOf(InvalidResourceException.class));
+                assertThat(e.getMessage(), containsString("the Topic Operator is not supported"));
+                assertThat(client.apps().statefulSets().inNamespace(NAMESPACE).withName(KafkaCluster.kafkaClusterName(CLUSTER_NAME)).get(), is(nullValue()));
+
+                async.flag();
+            })));
+    }
+
+    @Test
+    public void testEnablingKRaftOnExistingZooKeeperClusterFails(VertxTestContext context) {
+        init(kafka(false));
+        KafkaAssemblyOperator zooKeeperOperator = operator(null);
+        Reconciliation reconciliation = new Reconciliation("test-trigger", Kafka.RESOURCE_KIND, NAMESPACE, CLUSTER_NAME);
+
+        Checkpoint async = context.checkpoint();
+        zooKeeperOperator.reconcile(reconciliation)
+            .onComplete(context.succeeding(v -> context.verify(() -> {
+                assertThat(client.apps().statefulSets().inNamespace(NAMESPACE).withName(ZookeeperCluster.zookeeperClusterName(CLUSTER_NAME)).get(), is(notNullValue()));
+            })))
+            .compose(v -> operator.reconcile(reconciliation))
+            .onComplete(context.failing(e -> context.verify(() -> {
+                assertThat(e, instanceOf(InvalidResourceException.class));
+                assertThat(e.getMessage(), containsString("uses ZooKeeper and cannot be switched to the KRaft mode"));
+
+                // The existing cluster is not reconfigured
+                StatefulSet kafkaSts = client.apps().statefulSets().inNamespace(NAMESPACE).withName(KafkaCluster.kafkaClusterName(CLUSTER_NAME)).get();
+                assertThat(KafkaCluster.isKRaftStatefulSet(kafkaSts), is(false));
+                assertThat(client.apps().statefulSets().inNamespace(NAMESPACE).withName(ZookeeperCluster.zookeeperClusterName(CLUSTER_NAME)).get(), is(notNullValue()));
+
+                async.flag();
+            })));
+    }
+
+    @Test
+    public void testDisablingKRaftOnExistingKRaftClusterFails(VertxTestContext context) {
+        init(kafka(false));
+        KafkaAssemblyOperator zooKeeperOperator = operator(null);
+        Reconciliation reconciliation = new Reconciliation("test-trigger", Kafka.RESOURCE_KIND, NAMESPACE, CLUSTER_NAME);
+
+        Checkpoint async = context.checkpoint();
+        operator.reconcile(reconciliation)
+            .compose(v -> zooKeeperOperator.reconcile(reconciliation))
+            .onComplete(context.failing(e -> context.verify(() -> {
+                assertThat(e, instanceOf(InvalidResourceException.class));
+                assertThat(e.getMessage(), containsString("runs in the KRaft mode and cannot be switched to ZooKeeper"));
+
+                // No ZooKeeper cluster is deployed
+                assertThat(client.apps().statefulSets().inNamespace(NAMESPACE).withName(ZookeeperCluster.zookeeperClusterName(CLUSTER_NAME)).get(), is(nullValue()));
+
+                async.flag();
+            })));
+    }
+}
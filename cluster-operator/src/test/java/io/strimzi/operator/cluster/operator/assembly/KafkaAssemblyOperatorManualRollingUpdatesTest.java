@@ -29,6 +29,8 @@ import io.strimzi.operator.common.model.Labels;
 import io.strimzi.operator.common.operator.MockCertManager;
 import io.strimzi.operator.common.operator.resource.CrdOperator;
 import io.strimzi.operator.common.operator.resource.PodOperator;
+import io.strimzi.operator.common.operator.resource.ReconcileResult;
+import io.strimzi.operator.common.operator.resource.SecretOperator;
 import io.vertx.core.Future;
 import io.vertx.core.Vertx;
 import io.vertx.junit5.Checkpoint;
@@ -44,6 +46,7 @@ import org.mockito.Mockito;
 import java.text.ParseException;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Date;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
@@ -139,6 +142,7 @@ public class KafkaAssemblyOperatorManualRollingUpdatesTest {
                 .onComplete(context.succeeding(v -> context.verify(() -> {
                     Mockito.verify(mockKafkaSetOps, never()).maybeRollingUpdate(any(), any(), any());
                     Mockito.verify(mockZkSetOps, never()).maybeRollingUpdate(any(), any(), any());
+                    assertThat(kao.kafkaPodNeedsRestart.apply(podWithName("my-cluster-kafka-0")), is(Collections.emptyList()));
 
                     async.flag();
                 })));
@@ -218,8 +222,9 @@ public class KafkaAssemblyOperatorManualRollingUpdatesTest {
                     assertThat(zkPodNeedsRestart.apply(podWithName("my-cluster-zookeeper-1")), is(Collections.singletonList("manual rolling update")));
                     assertThat(zkPodNeedsRestart.apply(podWithName("my-cluster-zookeeper-2")), is(Collections.singletonList("manual rolling update")));
 
-                    // Verify Kafka rolling updates
-                    assertThat(kao.maybeRollKafkaInvocations, is(1));
+                    // Verify Kafka rolling updates are planned and the annotation is kept until the pods are rolled
+                    assertThat(kao.maybeRollKafkaInvocations, is(0));
+                    assertThat(kao.state.kafkaStatefulSetManualRollingUpdate, is(true));
                     assertThat(kao.kafkaPodNeedsRestart.apply(podWithName("my-cluster-kafka-0")), is(Collections.singletonList("manual rolling update")));
                     assertThat(kao.kafkaPodNeedsRestart.apply(podWithName("my-cluster-kafka-1")), is(Collections.singletonList("manual rolling update")));
                     assertThat(kao.kafkaPodNeedsRestart.apply(podWithName("my-cluster-kafka-2")), is(Collections.singletonList("manual rolling update")));
@@ -308,8 +313,9 @@ public class KafkaAssemblyOperatorManualRollingUpdatesTest {
                     assertThat(zkPodNeedsRestart.apply(podWithName("my-cluster-zookeeper-1")), is(Collections.singletonList("manual rolling update annotation on a pod")));
                     assertThat(zkPodNeedsRestart.apply(podWithName("my-cluster-zookeeper-2")), is(Collections.singletonList("manual rolling update annotation on a pod")));
 
-                    // Verify Kafka rolling updates
-                    assertThat(kao.maybeRollKafkaInvocations, is(1));
+                    // Verify Kafka rolling updates are planned
+                    assertThat(kao.maybeRollKafkaInvocations, is(0));
+                    assertThat(kao.state.kafkaStatefulSetManualRollingUpdate, is(false));
                     assertThat(kao.kafkaPodNeedsRestart.apply(podWithName("my-cluster-kafka-0")), is(Collections.singletonList("manual rolling update annotation on a pod")));
                     assertThat(kao.kafkaPodNeedsRestart.apply(podWithName("my-cluster-kafka-1")), is(Collections.singletonList("manual rolling update annotation on a pod")));
                     assertThat(kao.kafkaPodNeedsRestart.apply(podWithName("my-cluster-kafka-2")), is(Collections.emptyList()));
@@ -318,6 +324,88 @@ public class KafkaAssemblyOperatorManualRollingUpdatesTest {
                 })));
     }
 
+    @Test
+    public void testStatefulSetManualRollingUpdateAnnotationIsKeptUntilPodsAreRolled(VertxTestContext context) throws ParseException {
+        Kafka kafka = new KafkaBuilder()
+                .withNewMetadata()
+                    .withName(clusterName)
+                    .withNamespace(namespace)
+                    .withGeneration(2L)
+                .endMetadata()
+                .withNewSpec()
+                    .withNewKafka()
+                        .withReplicas(3)
+                        .withListeners(new GenericKafkaListenerBuilder()
+                                .withName("plain")
+                                .withPort(9092)
+                                .withType(KafkaListenerType.INTERNAL)
+                                .withTls(false)
+                                .build())
+                        .withNewEphemeralStorage()
+                        .endEphemeralStorage()
+                    .endKafka()
+                    .withNewZookeeper()
+                        .withReplicas(3)
+                        .withNewEphemeralStorage()
+                        .endEphemeralStorage()
+                    .endZookeeper()
+                .endSpec()
+                .build();
+        KafkaCluster kafkaCluster = KafkaCluster.fromCrd(Reconciliation.DUMMY_RECONCILIATION, kafka, VERSIONS);
+        ZookeeperCluster zkCluster = ZookeeperCluster.fromCrd(Reconciliation.DUMMY_RECONCILIATION, kafka, VERSIONS);
+
+        ResourceOperatorSupplier supplier = ResourceUtils.supplierWithMocks(false);
+
+        StatefulSetOperator mockKafkaSetOps = supplier.kafkaSetOperations;
+        when(mockKafkaSetOps.getAsync(any(), any())).thenAnswer(i -> {
+            StatefulSet sts = kafkaCluster.generateStatefulSet(false, null, null);
+            sts.getMetadata().getAnnotations().put(Annotations.ANNO_STRIMZI_IO_MANUAL_ROLLING_UPDATE, "true");
+            return Future.succeededFuture(sts);
+        });
+        ArgumentCaptor<StatefulSet> kafkaStsCaptor = ArgumentCaptor.forClass(StatefulSet.class);
+        when(mockKafkaSetOps.reconcile(any(), any(), any(), kafkaStsCaptor.capture())).thenAnswer(i -> Future.succeededFuture(ReconcileResult.patched(i.getArgument(3))));
+
+        SecretOperator mockSecretOps = supplier.secretOperations;
+        when(mockSecretOps.reconcile(any(), any(), any(), any())).thenAnswer(i -> Future.succeededFuture(ReconcileResult.created(i.getArgument(3))));
+
+        StatefulSetOperator mockZkSetOps = supplier.zkSetOperations;
+        when(mockZkSetOps.getAsync(any(), any())).thenReturn(Future.succeededFuture(zkCluster.generateStatefulSet(false, null, null)));
+
+        PodOperator mockPodOps = supplier.podOperations;
+        when(mockPodOps.listAsync(any(), eq(zkCluster.getSelectorLabels()))).thenReturn(Future.succeededFuture(Collections.emptyList()));
+        when(mockPodOps.listAsync(any(), eq(kafkaCluster.getSelectorLabels()))).thenReturn(Future.succeededFuture(Collections.emptyList()));
+
+        CrdOperator mockKafkaOps = supplier.kafkaOperator;
+        when(mockKafkaOps.getAsync(eq(namespace), eq(clusterName))).thenReturn(Future.succeededFuture(kafka));
+        when(mockKafkaOps.get(eq(namespace), eq(clusterName))).thenReturn(kafka);
+        when(mockKafkaOps.updateStatusAsync(any(), any())).thenReturn(Future.succeededFuture());
+
+        MockKafkaAssemblyOperator kao = new MockKafkaAssemblyOperator(
+                vertx, new PlatformFeaturesAvailability(false, kubernetesVersion),
+                certManager,
+                passwordGenerator,
+                supplier,
+                config);
+        kao.rollKafka = true;
+
+        Checkpoint async = context.checkpoint();
+        kao.reconcile(new Reconciliation("test-trigger", Kafka.RESOURCE_KIND, namespace, clusterName))
+                .onComplete(context.succeeding(v -> context.verify(() -> {
+                    // Verify the Kafka pods are rolled once
+                    assertThat(kao.maybeRollKafkaInvocations, is(1));
+                    assertThat(kao.kafkaPodNeedsRestart.apply(podWithName("my-cluster-kafka-0")), is(Collections.singletonList("manual rolling update")));
+
+                    // Verify the annotation was kept when updating the StatefulSet and removed after the pods were rolled
+                    List<StatefulSet> kafkaStatefulSets = kafkaStsCaptor.getAllValues();
+                    assertThat(kafkaStatefulSets.size(), is(2));
+                    assertThat(Annotations.booleanAnnotation(kafkaStatefulSets.get(0), Annotations.ANNO_STRIMZI_IO_MANUAL_ROLLING_UPDATE, false), is(true));
+                    assertThat(Annotations.booleanAnnotation(kafkaStatefulSets.get(1), Annotations.ANNO_STRIMZI_IO_MANUAL_ROLLING_UPDATE, false), is(false));
+                    assertThat(kao.state.kafkaStatefulSetManualRollingUpdate, is(false));
+
+                    async.flag();
+                })));
+    }
+
     // Internal utility methods
     private Pod podWithName(String name) {
         return podWithNameAndAnnotations(name, Collections.emptyMap());
@@ -335,6 +423,8 @@ public class KafkaAssemblyOperatorManualRollingUpdatesTest {
     class MockKafkaAssemblyOperator extends KafkaAssemblyOperator  {
         int maybeRollKafkaInvocations = 0;
         Function<Pod, List<String>> kafkaPodNeedsRestart = null;
+        ReconciliationState state = null;
+        boolean rollKafka = false;
 
         public MockKafkaAssemblyOperator(Vertx vertx, PlatformFeaturesAvailability pfa, CertManager certManager, PasswordGenerator passwordGenerator, ResourceOperatorSupplier supplier, ClusterOperatorConfig config) {
             super(vertx, pfa, certManager, passwordGenerator, supplier, config);
@@ -351,6 +441,18 @@ public class KafkaAssemblyOperatorManualRollingUpdatesTest {
                     .compose(state -> state.getZookeeperDescription())
                     .compose(state -> state.zkManualRollingUpdate())
                     .compose(state -> state.kafkaManualRollingUpdate())
+                    .compose(state -> {
+                        this.state = state;
+
+                        if (rollKafka) {
+                            return state.reconcileCas(Date::new)
+                                    .compose(i -> state.kafkaStatefulSet())
+                                    .compose(i -> state.kafkaRollingUpdate());
+                        } else {
+                            kafkaPodNeedsRestart = state.kafkaRestartPlan.podNeedsRestart(pod -> Collections.emptyList());
+                            return Future.succeededFuture(state);
+                        }
+                    })
                     .mapEmpty();
         }
 
@@ -51,8 +51,10 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 
+import java.util.ArrayList;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import static java.util.Collections.emptyList;
@@ -65,7 +67,6 @@ import static org.hamcrest.Matchers.hasEntry;
 import static org.hamcrest.Matchers.hasSize;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
-import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
@@ -448,7 +449,11 @@ public class KafkaAssemblyOperatorNonParametrizedTest {
                 ClusterOperatorConfig.RbacScope.CLUSTER,
                 Labels.fromMap(Map.of("selectorLabel", "value")),
                 "",
-                10);
+                10,
+                ClusterOperatorConfig.DEFAULT_SHARD_COUNT,
+                ClusterOperatorConfig.DEFAULT_SHARD_LEASE_DURATION_MS,
+                null,
+                ClusterOperatorConfig.DEFAULT_RECONCILIATION_STAGGER_MS);
 
         KafkaAssemblyOperator op = new KafkaAssemblyOperator(vertx, new PlatformFeaturesAvailability(false, KubernetesVersion.V1_19), certManager, passwordGenerator,
                 supplier, config);
@@ -534,16 +539,22 @@ public class KafkaAssemblyOperatorNonParametrizedTest {
 
         // Mock ingress v1beta1 ops
         IngressV1Beta1Operator mockIngressV1Beta1ops = supplier.ingressV1Beta1Operations;
-        ArgumentCaptor<io.fabric8.kubernetes.api.model.networking.v1beta1.Ingress> ingressV1Beta1Captor = ArgumentCaptor.forClass(io.fabric8.kubernetes.api.model.networking.v1beta1.Ingress.class);
+        List<io.fabric8.kubernetes.api.model.networking.v1beta1.Ingress> reconciledIngressesV1Beta1 = new ArrayList<>();
         when(mockIngressV1Beta1ops.listAsync(eq(NAMESPACE), any(Labels.class))).thenReturn(Future.succeededFuture(emptyList()));
-        when(mockIngressV1Beta1ops.reconcile(any(), anyString(), anyString(), ingressV1Beta1Captor.capture())).thenReturn(Future.succeededFuture(ReconcileResult.created(new io.fabric8.kubernetes.api.model.networking.v1beta1.Ingress())));
+        when(mockIngressV1Beta1ops.batchReconcile(any(), eq(NAMESPACE), any(), any(Labels.class))).thenAnswer(i -> {
+            reconciledIngressesV1Beta1.addAll(i.getArgument(2));
+            return Future.succeededFuture(emptyList());
+        });
         when(mockIngressV1Beta1ops.hasIngressAddress(any(), eq(NAMESPACE), any(), anyLong(), anyLong())).thenReturn(Future.succeededFuture());
 
         // Mock ingress v1 ops
         IngressOperator mockIngressOps = supplier.ingressOperations;
-        ArgumentCaptor<Ingress> ingressCaptor = ArgumentCaptor.forClass(Ingress.class);
+        List<Ingress> reconciledIngresses = new ArrayList<>();
         when(mockIngressOps.listAsync(eq(NAMESPACE), any(Labels.class))).thenReturn(Future.succeededFuture(emptyList()));
-        when(mockIngressOps.reconcile(any(), anyString(), anyString(), ingressCaptor.capture())).thenReturn(Future.succeededFuture(ReconcileResult.created(new Ingress())));
+        when(mockIngressOps.batchReconcile(any(), eq(NAMESPACE), any(), any(Labels.class))).thenAnswer(i -> {
+            reconciledIngresses.addAll(i.getArgument(2));
+            return Future.succeededFuture(emptyList());
+        });
         when(mockIngressOps.hasIngressAddress(any(), eq(NAMESPACE), any(), anyLong(), anyLong())).thenReturn(Future.succeededFuture());
 
         KafkaAssemblyOperator op = new MockKafkaAssemblyOperatorForIngressTests(vertx, new PlatformFeaturesAvailability(false, KubernetesVersion.V1_16), certManager, passwordGenerator,
@@ -553,11 +564,11 @@ public class KafkaAssemblyOperatorNonParametrizedTest {
         Checkpoint async = context.checkpoint();
         op.reconcile(reconciliation)
                 .onComplete(context.succeeding(v -> context.verify(() -> {
-                    assertThat(ingressCaptor.getAllValues().size(), is(0));
-                    assertThat(ingressV1Beta1Captor.getAllValues().size(), is(4));
+                    assertThat(reconciledIngresses.size(), is(0));
+                    assertThat(reconciledIngressesV1Beta1.size(), is(4));
 
                     verify(mockIngressOps, never()).list(any(), any());
-                    verify(mockIngressOps, never()).reconcile(any(), any(), any(), any());
+                    verify(mockIngressOps, never()).batchReconcile(any(), any(), any(), any());
                     verify(mockIngressOps, never()).hasIngressAddress(any(), any(), any(), anyLong(), anyLong());
 
                     async.flag();
@@ -623,16 +634,22 @@ public class KafkaAssemblyOperatorNonParametrizedTest {
 
         // Mock ingress v1beta1 ops
         IngressV1Beta1Operator mockIngressV1Beta1ops = supplier.ingressV1Beta1Operations;
-        ArgumentCaptor<io.fabric8.kubernetes.api.model.networking.v1beta1.Ingress> ingressV1Beta1Captor = ArgumentCaptor.forClass(io.fabric8.kubernetes.api.model.networking.v1beta1.Ingress.class);
+        List<io.fabric8.kubernetes.api.model.networking.v1beta1.Ingress> reconciledIngressesV1Beta1 = new ArrayList<>();
         when(mockIngressV1Beta1ops.listAsync(eq(NAMESPACE), any(Labels.class))).thenReturn(Future.succeededFuture(emptyList()));
-        when(mockIngressV1Beta1ops.reconcile(any(), anyString(), anyString(), ingressV1Beta1Captor.capture())).thenReturn(Future.succeededFuture(ReconcileResult.created(new io.fabric8.kubernetes.api.model.networking.v1beta1.Ingress())));
+        when(mockIngressV1Beta1ops.batchReconcile(any(), eq(NAMESPACE), any(), any(Labels.class))).thenAnswer(i -> {
+            reconciledIngressesV1Beta1.addAll(i.getArgument(2));
+            return Future.succeededFuture(emptyList());
+        });
         when(mockIngressV1Beta1ops.hasIngressAddress(any(), eq(NAMESPACE), any(), anyLong(), anyLong())).thenReturn(Future.succeededFuture());
 
         // Mock ingress v1 ops
         IngressOperator mockIngressOps = supplier.ingressOperations;
-        ArgumentCaptor<Ingress> ingressCaptor = ArgumentCaptor.forClass(Ingress.class);
+        List<Ingress> reconciledIngresses = new ArrayList<>();
         when(mockIngressOps.listAsync(eq(NAMESPACE), any(Labels.class))).thenReturn(Future.succeededFuture(emptyList()));
-        when(mockIngressOps.reconcile(any(), anyString(), anyString(), ingressCaptor.capture())).thenReturn(Future.succeededFuture(ReconcileResult.created(new Ingress())));
+        when(mockIngressOps.batchReconcile(any(), eq(NAMESPACE), any(), any(Labels.class))).thenAnswer(i -> {
+            reconciledIngresses.addAll(i.getArgument(2));
+            return Future.succeededFuture(emptyList());
+        });
         when(mockIngressOps.hasIngressAddress(any(), eq(NAMESPACE), any(), anyLong(), anyLong())).thenReturn(Future.succeededFuture());
 
         KafkaAssemblyOperator op = new MockKafkaAssemblyOperatorForIngressTests(vertx, new PlatformFeaturesAvailability(false, KubernetesVersion.V1_19), certManager, passwordGenerator,
@@ -642,11 +659,11 @@ public class KafkaAssemblyOperatorNonParametrizedTest {
         Checkpoint async = context.checkpoint();
         op.reconcile(reconciliation)
                 .onComplete(context.succeeding(v -> context.verify(() -> {
-                    assertThat(ingressCaptor.getAllValues().size(), is(4));
-                    assertThat(ingressV1Beta1Captor.getAllValues().size(), is(0));
+                    assertThat(reconciledIngresses.size(), is(4));
+                    assertThat(reconciledIngressesV1Beta1.size(), is(0));
 
                     verify(mockIngressV1Beta1ops, never()).list(any(), any());
-                    verify(mockIngressV1Beta1ops, never()).reconcile(any(), any(), any(), any());
+                    verify(mockIngressV1Beta1ops, never()).batchReconcile(any(), any(), any(), any());
                     verify(mockIngressV1Beta1ops, never()).hasIngressAddress(any(), any(), any(), anyLong(), anyLong());
 
                     async.flag();
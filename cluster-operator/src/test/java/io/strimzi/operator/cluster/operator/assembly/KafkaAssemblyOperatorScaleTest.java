@@ -0,0 +1,174 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.assembly;
+
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.strimzi.api.kafka.Crds;
+import io.strimzi.api.kafka.KafkaList;
+import io.strimzi.api.kafka.model.Kafka;
+import io.strimzi.api.kafka.model.KafkaBuilder;
+import io.strimzi.api.kafka.model.listener.arraylistener.GenericKafkaListenerBuilder;
+import io.strimzi.api.kafka.model.listener.arraylistener.KafkaListenerType;
+import io.strimzi.api.kafka.model.storage.EphemeralStorage;
+import io.strimzi.operator.KubernetesVersion;
+import io.strimzi.operator.PlatformFeaturesAvailability;
+import io.strimzi.operator.cluster.ClusterOperatorConfig;
+import io.strimzi.operator.cluster.FeatureGates;
+import io.strimzi.operator.cluster.KafkaVersionTestUtils;
+import io.strimzi.operator.cluster.ResourceUtils;
+import io.strimzi.operator.cluster.model.KafkaVersion;
+import io.strimzi.operator.cluster.operator.resource.ResourceOperatorSupplier;
+import io.strimzi.operator.common.AdminClientProvider;
+import io.strimzi.operator.common.PasswordGenerator;
+import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.operator.common.ScaleTestHarness;
+import io.strimzi.operator.common.operator.MockCertManager;
+import io.strimzi.test.mockkube.MockKube;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.junit5.Checkpoint;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+import org.apache.kafka.clients.admin.Admin;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+
+/**
+ * Reconciles a fleet of Kafka clusters against MockKube and stubbed Kafka Admin clients and reports the reconciliation
+ * latencies, event loop blocking and the API calls done by the KafkaAssemblyOperator. The number of Kafka clusters can
+ * be configured using the {@code strimzi.scale.kafkas} system property.
+ */
+@ExtendWith(VertxExtension.class)
+public class KafkaAssemblyOperatorScaleTest {
+    private static final String NAMESPACE = "my-namespace";
+    private static final KafkaVersion.Lookup VERSIONS = KafkaVersionTestUtils.getKafkaVersionLookup();
+    private static final KubernetesVersion KUBERNETES_VERSION = KubernetesVersion.V1_16;
+
+    private static Vertx vertx;
+
+    @BeforeAll
+    public static void before() {
+        vertx = Vertx.vertx();
+    }
+
+    @AfterAll
+    public static void after() {
+        vertx.close();
+        ResourceUtils.cleanUpTemporaryTLSFiles();
+    }
+
+    private static Kafka kafka(String name) {
+        return new KafkaBuilder()
+                .withNewMetadata()
+                    .withName(name)
+                    .withNamespace(NAMESPACE)
+                .endMetadata()
+                .withNewSpec()
+                    .withNewKafka()
+                        .withReplicas(3)
+                        .withStorage(new EphemeralStorage())
+                        .withListeners(new GenericKafkaListenerBuilder()
+                                    .withName("plain")
+                                    .withPort(9092)
+                                    .withType(KafkaListenerType.INTERNAL)
+                                    .withTls(false)
+                                    .build(),
+                                new GenericKafkaListenerBuilder()
+                                    .withName("tls")
+                                    .withPort(9093)
+                                    .withType(KafkaListenerType.INTERNAL)
+                                    .withTls(true)
+                                    .build())
+                    .endKafka()
+                    .withNewZookeeper()
+                        .withReplicas(3)
+                        .withStorage(new EphemeralStorage())
+                    .endZookeeper()
+                    .withNewEntityOperator()
+                        .withNewTopicOperator()
+                        .endTopicOperator()
+                        .withNewUserOperator()
+                        .endUserOperator()
+                    .endEntityOperator()
+                .endSpec()
+                .build();
+    }
+
+    @Test
+    public void testReconcileFleet(VertxTestContext context) {
+        int fleetSize = ScaleTestHarness.fleetSize("strimzi.scale.kafkas", 2);
+        int rounds = ScaleTestHarness.rounds();
+
+        Set<Kafka> fleet = IntStream.range(0, fleetSize)
+                .mapToObj(i -> kafka("my-cluster-" + i))
+                .collect(Collectors.toSet());
+
+        MockKube mockKube = new MockKube();
+        KubernetesClient client = mockKube
+                .withCustomResourceDefinition(Crds.kafka(), Kafka.class, KafkaList.class)
+                    .withInitialInstances(fleet)
+                .end()
+                .build();
+
+        List<Admin> adminClients = new CopyOnWriteArrayList<>();
+        AdminClientProvider stubAdminClientProvider = ResourceUtils.adminClientProvider();
+        AdminClientProvider adminClientProvider = (bootstrapHostnames, clusterCaCertSecret, keyCertSecret, keyCertName) -> {
+            Admin admin = stubAdminClientProvider.createAdminClient(bootstrapHostnames, clusterCaCertSecret, keyCertSecret, keyCertName);
+            adminClients.add(admin);
+            return admin;
+        };
+
+        ResourceOperatorSupplier supplier = new ResourceOperatorSupplier(vertx, client, ResourceUtils.zookeeperLeaderFinder(vertx, client),
+                adminClientProvider, ResourceUtils.zookeeperScalerProvider(), ResourceUtils.metricsProvider(),
+                new PlatformFeaturesAvailability(true, KUBERNETES_VERSION), FeatureGates.NONE, 2_000);
+        ClusterOperatorConfig config = ResourceUtils.dummyClusterOperatorConfig(VERSIONS);
+        KafkaAssemblyOperator operator = new KafkaAssemblyOperator(vertx, new PlatformFeaturesAvailability(true, KUBERNETES_VERSION),
+                new MockCertManager(), new PasswordGenerator(10, "a", "a"), supplier, config);
+
+        List<Supplier<Future<?>>> reconciliations = new ArrayList<>(fleetSize);
+        for (Kafka kafka : fleet) {
+            reconciliations.add(() -> operator.reconcile(new Reconciliation("scale-test", Kafka.RESOURCE_KIND, NAMESPACE, kafka.getMetadata().getName())));
+        }
+
+        ScaleTestHarness harness = new ScaleTestHarness(vertx, "kafka-assembly-operator", fleetSize);
+        harness.start();
+
+        Future<Void> result = Future.succeededFuture();
+        for (int round = 0; round < rounds; round++) {
+            result = result.compose(v -> harness.round(reconciliations));
+        }
+
+        Checkpoint async = context.checkpoint();
+        result.onComplete(context.succeeding(v -> context.verify(() -> {
+            harness.addApiCalls(mockKube.apiCalls().snapshot());
+            for (Admin admin : adminClients) {
+                harness.addMockInvocations("Admin", admin);
+            }
+
+            Map<String, Object> report = harness.stop();
+
+            assertThat(report.get("reconciliations"), is(fleetSize * rounds));
+            assertThat(report.get("failedReconciliations"), is(0));
+            assertThat(mockKube.apiCalls().count("StatefulSet", "create"), is(2L * fleetSize));
+            assertThat(mockKube.apiCalls().total(), is(greaterThan(0L)));
+            async.flag();
+        })));
+    }
+}
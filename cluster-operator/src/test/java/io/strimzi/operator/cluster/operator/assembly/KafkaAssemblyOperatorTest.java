@@ -498,6 +498,11 @@ public class KafkaAssemblyOperatorTest {
             return Future.succeededFuture(svc);
         });
         when(mockServiceOps.reconcile(any(), anyString(), anyString(), serviceCaptor.capture())).thenReturn(Future.succeededFuture(ReconcileResult.created(new Service())));
+        List<Service> batchReconciledServices = new ArrayList<>();
+        when(mockServiceOps.batchReconcile(any(), eq(kafkaNamespace), any(), any(Labels.class))).thenAnswer(i -> {
+            batchReconciledServices.addAll(i.getArgument(2));
+            return Future.succeededFuture(emptyList());
+        });
         when(mockServiceOps.endpointReadiness(any(), anyString(), any(), anyLong(), anyLong())).thenReturn(Future.succeededFuture());
         when(mockServiceOps.listAsync(eq(kafkaNamespace), any(Labels.class))).thenReturn(Future.succeededFuture(emptyList()));
 
@@ -580,7 +585,7 @@ public class KafkaAssemblyOperatorTest {
         Set<String> expectedPvcs = new HashSet<>(zkPvcs.keySet());
         expectedPvcs.addAll(kafkaPvcs.keySet());
         ArgumentCaptor<PersistentVolumeClaim> pvcCaptor = ArgumentCaptor.forClass(PersistentVolumeClaim.class);
-        when(mockPvcOps.reconcile(any(), anyString(), anyString(), pvcCaptor.capture())).thenReturn(Future.succeededFuture());
+        when(mockPvcOps.reconcile(any(), anyString(), anyString(), any(), pvcCaptor.capture())).thenReturn(Future.succeededFuture());
 
         Set<String> expectedSecrets = set(
                 KafkaCluster.clientsCaKeySecretName(kafkaName),
@@ -667,10 +672,13 @@ public class KafkaAssemblyOperatorTest {
                     .build())
         );
 
-        ArgumentCaptor<Route> routeCaptor = ArgumentCaptor.forClass(Route.class);
-        ArgumentCaptor<String> routeNameCaptor = ArgumentCaptor.forClass(String.class);
+        Set<String> batchReconciledRoutes = new HashSet<>();
         if (openShift) {
-            when(mockRouteOps.reconcile(any(), eq(kafkaNamespace), routeNameCaptor.capture(), routeCaptor.capture())).thenReturn(Future.succeededFuture(ReconcileResult.created(new Route())));
+            when(mockRouteOps.batchReconcile(any(), eq(kafkaNamespace), any(), any(Labels.class))).thenAnswer(i -> {
+                List<Route> routes = i.getArgument(2);
+                routes.forEach(route -> batchReconciledRoutes.add(route.getMetadata().getName()));
+                return Future.succeededFuture(emptyList());
+            });
         }
 
         KafkaAssemblyOperator ops = new KafkaAssemblyOperator(vertx, new PlatformFeaturesAvailability(openShift, kubernetesVersion),
@@ -713,7 +721,8 @@ public class KafkaAssemblyOperatorTest {
                     }
                 }
 
-                List<Service> capturedServices = serviceCaptor.getAllValues();
+                List<Service> capturedServices = new ArrayList<>(serviceCaptor.getAllValues());
+                capturedServices.addAll(batchReconciledServices);
 
                 assertThat(capturedServices.stream().filter(Objects::nonNull).map(svc -> svc.getMetadata().getName()).collect(Collectors.toSet()).size(),
                         is(expectedServices.size()));
@@ -742,7 +751,7 @@ public class KafkaAssemblyOperatorTest {
                     assertThat(pvc.getMetadata().getAnnotations(), hasKey(AbstractModel.ANNO_STRIMZI_IO_DELETE_CLAIM));
                 }
 
-                // Verify deleted routes
+                // Verify reconciled routes
                 if (openShift) {
                     Set<String> expectedRoutes = set(KafkaCluster.serviceName(kafkaName));
 
@@ -750,9 +759,9 @@ public class KafkaAssemblyOperatorTest {
                         expectedRoutes.add(KafkaCluster.externalServiceName(kafkaName, i));
                     }
 
-                    assertThat(captured(routeNameCaptor), is(expectedRoutes));
+                    assertThat(batchReconciledRoutes, is(expectedRoutes));
                 } else {
-                    assertThat(routeNameCaptor.getAllValues(), hasSize(0));
+                    assertThat(batchReconciledRoutes, hasSize(0));
                 }
 
                 async.flag();
@@ -781,10 +790,6 @@ public class KafkaAssemblyOperatorTest {
                 .build();
     }
 
-    private static <T> Set<T> captured(ArgumentCaptor<T> captor) {
-        return new HashSet<>(captor.getAllValues());
-    }
-
     @ParameterizedTest
     @MethodSource("data")
     public void testUpdateClusterNoop(Params params, VertxTestContext context) {
@@ -973,6 +978,7 @@ public class KafkaAssemblyOperatorTest {
                     return Future.succeededFuture(Collections.EMPTY_LIST);
                 });
 
+        when(mockPvcOps.reconcile(any(), anyString(), anyString(), any(), any())).thenReturn(Future.succeededFuture());
         when(mockPvcOps.reconcile(any(), anyString(), anyString(), any())).thenReturn(Future.succeededFuture());
 
         // Mock CM get
@@ -1204,6 +1210,7 @@ public class KafkaAssemblyOperatorTest {
         // Mock Service patch (both service and headless service
         ArgumentCaptor<String> patchedServicesCaptor = ArgumentCaptor.forClass(String.class);
         when(mockServiceOps.reconcile(any(), eq(clusterNamespace), patchedServicesCaptor.capture(), any())).thenReturn(Future.succeededFuture());
+        when(mockServiceOps.batchReconcile(any(), eq(clusterNamespace), any(), any(Labels.class))).thenReturn(Future.succeededFuture(emptyList()));
         // Mock Secrets patch
         when(mockSecretOps.reconcile(any(), eq(clusterNamespace), any(), any())).thenReturn(Future.succeededFuture());
 
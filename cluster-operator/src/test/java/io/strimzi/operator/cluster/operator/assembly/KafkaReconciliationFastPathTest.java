@@ -0,0 +1,189 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.assembly;
+
+import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.api.model.PodBuilder;
+import io.fabric8.kubernetes.api.model.PodConditionBuilder;
+import io.fabric8.kubernetes.api.model.SecretBuilder;
+import io.fabric8.kubernetes.api.model.ServiceBuilder;
+import io.fabric8.kubernetes.api.model.apps.Deployment;
+import io.fabric8.kubernetes.api.model.apps.DeploymentBuilder;
+import io.fabric8.kubernetes.api.model.apps.StatefulSet;
+import io.fabric8.kubernetes.api.model.apps.StatefulSetBuilder;
+import io.strimzi.api.kafka.model.KafkaBuilder;
+import io.strimzi.api.kafka.model.KafkaSpec;
+import io.strimzi.api.kafka.model.status.ConditionBuilder;
+import io.strimzi.api.kafka.model.status.KafkaStatus;
+import io.strimzi.api.kafka.model.status.KafkaStatusBuilder;
+import io.strimzi.test.annotations.ParallelSuite;
+import io.strimzi.test.annotations.ParallelTest;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+@ParallelSuite
+public class KafkaReconciliationFastPathTest {
+    private static final String CLUSTER = "my-namespace/my-cluster";
+
+    private static StatefulSet statefulSet(String name, int replicas, int readyReplicas, String resourceVersion) {
+        return new StatefulSetBuilder()
+                .withNewMetadata()
+                    .withName(name)
+                    .withGeneration(2L)
+                    .withResourceVersion(resourceVersion)
+                .endMetadata()
+                .withNewSpec()
+                    .withReplicas(replicas)
+                .endSpec()
+                .withNewStatus()
+                    .withObservedGeneration(2L)
+                    .withReadyReplicas(readyReplicas)
+                .endStatus()
+                .build();
+    }
+
+    private static Deployment deployment(String name, long observedGeneration) {
+        return new DeploymentBuilder()
+                .withNewMetadata()
+                    .withName(name)
+                    .withGeneration(3L)
+                    .withResourceVersion("1000")
+                .endMetadata()
+                .withNewSpec()
+                    .withReplicas(1)
+                .endSpec()
+                .withNewStatus()
+                    .withObservedGeneration(observedGeneration)
+                    .withReadyReplicas(1)
+                .endStatus()
+                .build();
+    }
+
+    private static Pod pod(String name, String ready) {
+        return new PodBuilder()
+                .withNewMetadata()
+                    .withName(name)
+                    .withResourceVersion("2000")
+                .endMetadata()
+                .withNewStatus()
+                    .withConditions(new PodConditionBuilder()
+                            .withType("Ready")
+                            .withStatus(ready)
+                            .build())
+                .endStatus()
+                .build();
+    }
+
+    private static KafkaStatus status() {
+        return new KafkaStatusBuilder()
+                .withObservedGeneration(1L)
+                .withConditions(new ConditionBuilder().withType("Ready").withStatus("True").build())
+                .build();
+    }
+
+    @ParallelTest
+    public void testFingerprint() {
+        String fingerprint = KafkaReconciliationFastPath.fingerprint(Map.of("generation", "1", "Secret/my-secret", "123"));
+
+        assertThat(KafkaReconciliationFastPath.fingerprint(Map.of("Secret/my-secret", "123", "generation", "1")), is(fingerprint));
+        assertThat(KafkaReconciliationFastPath.fingerprint(Map.of("generation", "2", "Secret/my-secret", "123")), is(not(fingerprint)));
+        assertThat(KafkaReconciliationFastPath.fingerprint(Map.of("generation", "1", "Secret/my-secret", "124")), is(not(fingerprint)));
+        assertThat(KafkaReconciliationFastPath.fingerprint(Map.of("generation", "1")), is(not(fingerprint)));
+    }
+
+    @ParallelTest
+    public void testReferencedConfigMapsAndSecrets() {
+        KafkaSpec spec = new KafkaBuilder()
+                .withNewSpec()
+                    .withNewKafka()
+                        .withReplicas(3)
+                        .withNewJmxPrometheusExporterMetricsConfig()
+                            .withNewValueFrom()
+                                .withNewConfigMapKeyRef("metrics.yaml", "kafka-metrics", false)
+                            .endValueFrom()
+                        .endJmxPrometheusExporterMetricsConfig()
+                        .withNewExternalLogging()
+                            .withNewValueFrom()
+                                .withNewConfigMapKeyRef("log4j.properties", "kafka-logging", false)
+                            .endValueFrom()
+                        .endExternalLogging()
+                        .withNewEphemeralStorage()
+                        .endEphemeralStorage()
+                    .endKafka()
+                    .withNewZookeeper()
+                        .withReplicas(3)
+                        .withNewExternalLogging()
+                            .withNewValueFrom()
+                                .withNewConfigMapKeyRef("log4j.properties", "zookeeper-logging", false)
+                            .endValueFrom()
+                        .endExternalLogging()
+                        .withNewEphemeralStorage()
+                        .endEphemeralStorage()
+                    .endZookeeper()
+                .endSpec()
+                .build()
+                .getSpec();
+
+        assertThat(KafkaReconciliationFastPath.referencedConfigMaps(spec), is(Set.of("kafka-metrics", "kafka-logging", "zookeeper-logging")));
+        assertThat(KafkaReconciliationFastPath.referencedSecrets(spec), is(Set.of()));
+    }
+
+    @ParallelTest
+    public void testOwnedResources() {
+        Map<String, String> resources = KafkaReconciliationFastPath.ownedResources(
+                List.of(statefulSet("my-cluster-kafka", 3, 3, "10")),
+                List.of(deployment("my-cluster-entity-operator", 3L)),
+                List.of(pod("my-cluster-kafka-0", "True")),
+                List.of(new ServiceBuilder().withNewMetadata().withName("my-cluster-kafka-brokers").withResourceVersion("3000").endMetadata().build(),
+                        new SecretBuilder().withNewMetadata().withName("my-cluster-kafka-brokers").withResourceVersion("3001").endMetadata().build()));
+
+        assertThat(resources, is(Map.of("StatefulSet/my-cluster-kafka", "10",
+                "Deployment/my-cluster-entity-operator", "1000",
+                "Pod/my-cluster-kafka-0", "2000",
+                "Service/my-cluster-kafka-brokers", "3000",
+                "Secret/my-cluster-kafka-brokers", "3001")));
+
+        // Not ready workloads
+        assertThat(KafkaReconciliationFastPath.ownedResources(List.of(statefulSet("my-cluster-kafka", 3, 2, "10")), List.of(), List.of(), List.of()), is(nullValue()));
+        assertThat(KafkaReconciliationFastPath.ownedResources(List.of(), List.of(deployment("my-cluster-entity-operator", 2L)), List.of(), List.of()), is(nullValue()));
+        assertThat(KafkaReconciliationFastPath.ownedResources(List.of(), List.of(), List.of(pod("my-cluster-kafka-0", "False")), List.of()), is(nullValue()));
+    }
+
+    @ParallelTest
+    public void testUnchangedStatus() {
+        KafkaReconciliationFastPath fastPath = new KafkaReconciliationFastPath();
+        Map<String, String> workloads = Map.of("StatefulSet/my-cluster-kafka", "10");
+
+        assertThat(fastPath.lastFingerprint(CLUSTER), is(nullValue()));
+        assertThat(fastPath.unchangedStatus(CLUSTER, "abc", workloads), is(nullValue()));
+
+        fastPath.recordSuccess(CLUSTER, "abc", workloads, status());
+
+        assertThat(fastPath.lastFingerprint(CLUSTER), is("abc"));
+        assertThat(fastPath.unchangedStatus(CLUSTER, "abc", workloads), is(status()));
+        assertThat(fastPath.unchangedStatus(CLUSTER, "def", workloads), is(nullValue()));
+        assertThat(fastPath.unchangedStatus(CLUSTER, "abc", Map.of("StatefulSet/my-cluster-kafka", "11")), is(nullValue()));
+        assertThat(fastPath.unchangedStatus(CLUSTER, "abc", null), is(nullValue()));
+
+        // The returned status is a copy
+        fastPath.unchangedStatus(CLUSTER, "abc", workloads).setObservedGeneration(5L);
+        assertThat(fastPath.unchangedStatus(CLUSTER, "abc", workloads), is(status()));
+
+        // Not ready workloads after the reconciliation
+        fastPath.recordSuccess(CLUSTER, "abc", null, status());
+        assertThat(fastPath.lastFingerprint(CLUSTER), is(nullValue()));
+
+        fastPath.recordSuccess(CLUSTER, "abc", workloads, status());
+        fastPath.forget(CLUSTER);
+        assertThat(fastPath.unchangedStatus(CLUSTER, "abc", workloads), is(nullValue()));
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.assembly;
+
+import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.api.model.PodBuilder;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.function.Function;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class KafkaRestartPlanTest {
+    private static Pod pod(String name) {
+        return new PodBuilder()
+                .withNewMetadata()
+                    .withName(name)
+                .endMetadata()
+                .build();
+    }
+
+    @Test
+    public void testNoTriggers() {
+        KafkaRestartPlan plan = new KafkaRestartPlan();
+        Function<Pod, List<String>> podNeedsRestart = plan.podNeedsRestart(pod -> singletonList("pod has old generation"));
+
+        assertThat(podNeedsRestart.apply(pod("my-cluster-kafka-0")), is(singletonList("pod has old generation")));
+        assertThat(plan.inSequence(), is(false));
+        assertThat(plan.restartsAvoided(), is(0));
+    }
+
+    @Test
+    public void testTriggersAreMerged() {
+        KafkaRestartPlan plan = new KafkaRestartPlan();
+        plan.add(pod -> singletonList("manual rolling update"));
+        plan.add(pod -> "my-cluster-kafka-1".equals(pod.getMetadata().getName()) ? singletonList("manual rolling update annotation on a pod") : null);
+
+        Function<Pod, List<String>> podNeedsRestart = plan.podNeedsRestart(pod -> "my-cluster-kafka-2".equals(pod.getMetadata().getName()) ? emptyList() : singletonList("pod has old generation"));
+
+        assertThat(podNeedsRestart.apply(pod("my-cluster-kafka-0")), is(asList("manual rolling update", "pod has old generation")));
+        assertThat(podNeedsRestart.apply(pod("my-cluster-kafka-1")), is(asList("manual rolling update", "manual rolling update annotation on a pod", "pod has old generation")));
+        assertThat(podNeedsRestart.apply(pod("my-cluster-kafka-2")), is(singletonList("manual rolling update")));
+        // Asking again about the same pod (e.g. when retrying) does not change the number of avoided restarts
+        assertThat(podNeedsRestart.apply(pod("my-cluster-kafka-1")), is(asList("manual rolling update", "manual rolling update annotation on a pod", "pod has old generation")));
+
+        assertThat(plan.inSequence(), is(false));
+        assertThat(plan.restartsAvoided(), is(3));
+    }
+
+    @Test
+    public void testTriggerInSequence() {
+        KafkaRestartPlan plan = new KafkaRestartPlan();
+        plan.add(pod -> singletonList("manual rolling update"));
+        plan.addInSequence(pod -> singletonList("JBOD volumes were added or removed"));
+
+        Function<Pod, List<String>> podNeedsRestart = plan.podNeedsRestart(pod -> emptyList());
+
+        assertThat(podNeedsRestart.apply(pod("my-cluster-kafka-0")), is(asList("manual rolling update", "JBOD volumes were added or removed")));
+        assertThat(plan.inSequence(), is(true));
+        assertThat(plan.restartsAvoided(), is(1));
+    }
+
+    @Test
+    public void testEarlyRestartTakesOverPlannedTriggers() {
+        KafkaRestartPlan plan = new KafkaRestartPlan();
+        plan.add(pod -> singletonList("manual rolling update"));
+
+        Function<Pod, List<String>> podNeedsEarlyRestart = plan.podNeedsEarlyRestart(pod -> singletonList("trust new cluster CA certificate signed by new key"));
+        assertThat(podNeedsEarlyRestart.apply(pod("my-cluster-kafka-0")), is(asList("manual rolling update", "trust new cluster CA certificate signed by new key")));
+
+        // The manual rolling update was already done by the early restart
+        Function<Pod, List<String>> podNeedsRestart = plan.podNeedsRestart(pod -> singletonList("pod has old generation"));
+        assertThat(podNeedsRestart.apply(pod("my-cluster-kafka-0")), is(singletonList("pod has old generation")));
+
+        assertThat(plan.restartsAvoided(), is(1));
+    }
+}
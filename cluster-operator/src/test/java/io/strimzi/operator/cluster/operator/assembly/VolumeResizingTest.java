@@ -10,10 +10,13 @@ import io.fabric8.kubernetes.api.model.PersistentVolumeClaimStatusBuilder;
 import io.fabric8.kubernetes.api.model.Quantity;
 import io.fabric8.kubernetes.api.model.storage.StorageClass;
 import io.fabric8.kubernetes.api.model.storage.StorageClassBuilder;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import io.strimzi.api.kafka.model.Kafka;
 import io.strimzi.api.kafka.model.KafkaBuilder;
 import io.strimzi.api.kafka.model.listener.arraylistener.GenericKafkaListenerBuilder;
 import io.strimzi.api.kafka.model.listener.arraylistener.KafkaListenerType;
+import io.strimzi.api.kafka.model.status.Condition;
 import io.strimzi.certs.CertManager;
 import io.strimzi.operator.cluster.ClusterOperatorConfig;
 import io.strimzi.operator.PlatformFeaturesAvailability;
@@ -23,8 +26,10 @@ import io.strimzi.operator.cluster.model.KafkaCluster;
 import io.strimzi.operator.cluster.model.KafkaVersion;
 import io.strimzi.operator.KubernetesVersion;
 import io.strimzi.operator.cluster.operator.resource.ResourceOperatorSupplier;
+import io.strimzi.operator.common.MicrometerMetricsProvider;
 import io.strimzi.operator.common.PasswordGenerator;
 import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.operator.common.model.Labels;
 import io.strimzi.operator.common.operator.MockCertManager;
 import io.strimzi.operator.common.operator.resource.PvcOperator;
 import io.strimzi.operator.common.operator.resource.StorageClassOperator;
@@ -38,12 +43,16 @@ import org.mockito.ArgumentMatchers;
 
 import java.util.List;
 
+import static java.util.Collections.emptyList;
 import static java.util.Collections.singletonMap;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 public class VolumeResizingTest {
@@ -113,9 +122,10 @@ public class VolumeResizingTest {
         PvcOperator mockPvcOps = supplier.pvcOperations;
 
         when(mockPvcOps.getAsync(eq(namespace), ArgumentMatchers.startsWith("data-"))).thenReturn(Future.succeededFuture());
+        when(mockPvcOps.listAsync(eq(namespace), any(Labels.class))).thenReturn(Future.succeededFuture(emptyList()));
 
         ArgumentCaptor<PersistentVolumeClaim> pvcCaptor = ArgumentCaptor.forClass(PersistentVolumeClaim.class);
-        when(mockPvcOps.reconcile(any(), anyString(), anyString(), pvcCaptor.capture())).thenReturn(Future.succeededFuture());
+        when(mockPvcOps.reconcile(any(), anyString(), anyString(), any(), pvcCaptor.capture())).thenReturn(Future.succeededFuture());
 
         // Mock the StorageClass Operator
         StorageClassOperator mockSco = supplier.storageClassOperations;
@@ -161,9 +171,10 @@ public class VolumeResizingTest {
                     String pvcName = invocation.getArgument(1);
                     return Future.succeededFuture(realPvcs.stream().filter(pvc -> pvcName.equals(pvc.getMetadata().getName())).findFirst().orElse(null));
                 });
+        when(mockPvcOps.listAsync(eq(namespace), any(Labels.class))).thenReturn(Future.succeededFuture(realPvcs));
 
         ArgumentCaptor<PersistentVolumeClaim> pvcCaptor = ArgumentCaptor.forClass(PersistentVolumeClaim.class);
-        when(mockPvcOps.reconcile(any(), anyString(), anyString(), pvcCaptor.capture())).thenReturn(Future.succeededFuture());
+        when(mockPvcOps.reconcile(any(), anyString(), anyString(), any(), pvcCaptor.capture())).thenReturn(Future.succeededFuture());
 
         // Mock the StorageClass Operator
         StorageClassOperator mockSco = supplier.storageClassOperations;
@@ -218,9 +229,10 @@ public class VolumeResizingTest {
                     String pvcName = invocation.getArgument(1);
                     return Future.succeededFuture(realPvcs.stream().filter(pvc -> pvcName.equals(pvc.getMetadata().getName())).findFirst().orElse(null));
                 });
+        when(mockPvcOps.listAsync(eq(namespace), any(Labels.class))).thenReturn(Future.succeededFuture(realPvcs));
 
         ArgumentCaptor<PersistentVolumeClaim> pvcCaptor = ArgumentCaptor.forClass(PersistentVolumeClaim.class);
-        when(mockPvcOps.reconcile(any(), anyString(), anyString(), pvcCaptor.capture())).thenReturn(Future.succeededFuture());
+        when(mockPvcOps.reconcile(any(), anyString(), anyString(), any(), pvcCaptor.capture())).thenReturn(Future.succeededFuture());
 
         // Mock the StorageClass Operator
         StorageClassOperator mockSco = supplier.storageClassOperations;
@@ -275,9 +287,10 @@ public class VolumeResizingTest {
                     String pvcName = invocation.getArgument(1);
                     return Future.succeededFuture(realPvcs.stream().filter(pvc -> pvcName.equals(pvc.getMetadata().getName())).findFirst().orElse(null));
                 });
+        when(mockPvcOps.listAsync(eq(namespace), any(Labels.class))).thenReturn(Future.succeededFuture(realPvcs));
 
         ArgumentCaptor<PersistentVolumeClaim> pvcCaptor = ArgumentCaptor.forClass(PersistentVolumeClaim.class);
-        when(mockPvcOps.reconcile(any(), anyString(), anyString(), pvcCaptor.capture())).thenReturn(Future.succeededFuture());
+        when(mockPvcOps.reconcile(any(), anyString(), anyString(), any(), pvcCaptor.capture())).thenReturn(Future.succeededFuture());
 
         // Mock the StorageClass Operator
         StorageClassOperator mockSco = supplier.storageClassOperations;
@@ -335,9 +348,10 @@ public class VolumeResizingTest {
                     String pvcName = invocation.getArgument(1);
                     return Future.succeededFuture(realPvcs.stream().filter(pvc -> pvcName.equals(pvc.getMetadata().getName())).findFirst().orElse(null));
                 });
+        when(mockPvcOps.listAsync(eq(namespace), any(Labels.class))).thenReturn(Future.succeededFuture(realPvcs));
 
         ArgumentCaptor<PersistentVolumeClaim> pvcCaptor = ArgumentCaptor.forClass(PersistentVolumeClaim.class);
-        when(mockPvcOps.reconcile(any(), anyString(), anyString(), pvcCaptor.capture())).thenReturn(Future.succeededFuture());
+        when(mockPvcOps.reconcile(any(), anyString(), anyString(), any(), pvcCaptor.capture())).thenReturn(Future.succeededFuture());
 
         // Mock the StorageClass Operator
         StorageClassOperator mockSco = supplier.storageClassOperations;
@@ -395,9 +409,10 @@ public class VolumeResizingTest {
                     String pvcName = invocation.getArgument(1);
                     return Future.succeededFuture(realPvcs.stream().filter(pvc -> pvcName.equals(pvc.getMetadata().getName())).findFirst().orElse(null));
                 });
+        when(mockPvcOps.listAsync(eq(namespace), any(Labels.class))).thenReturn(Future.succeededFuture(realPvcs));
 
         ArgumentCaptor<PersistentVolumeClaim> pvcCaptor = ArgumentCaptor.forClass(PersistentVolumeClaim.class);
-        when(mockPvcOps.reconcile(any(), anyString(), anyString(), pvcCaptor.capture())).thenReturn(Future.succeededFuture());
+        when(mockPvcOps.reconcile(any(), anyString(), anyString(), any(), pvcCaptor.capture())).thenReturn(Future.succeededFuture());
 
         // Mock the StorageClass Operator
         StorageClassOperator mockSco = supplier.storageClassOperations;
@@ -457,9 +472,10 @@ public class VolumeResizingTest {
                     String pvcName = invocation.getArgument(1);
                     return Future.succeededFuture(realPvcs.stream().filter(pvc -> pvcName.equals(pvc.getMetadata().getName())).findFirst().orElse(null));
                 });
+        when(mockPvcOps.listAsync(eq(namespace), any(Labels.class))).thenReturn(Future.succeededFuture(realPvcs));
 
         ArgumentCaptor<PersistentVolumeClaim> pvcCaptor = ArgumentCaptor.forClass(PersistentVolumeClaim.class);
-        when(mockPvcOps.reconcile(any(), anyString(), anyString(), pvcCaptor.capture())).thenReturn(Future.succeededFuture());
+        when(mockPvcOps.reconcile(any(), anyString(), anyString(), any(), pvcCaptor.capture())).thenReturn(Future.succeededFuture());
 
         // Mock the StorageClass Operator
         StorageClassOperator mockSco = supplier.storageClassOperations;
@@ -491,6 +507,127 @@ public class VolumeResizingTest {
                 });
     }
 
+    @Test
+    public void testVolumesResizedUsingListedPvcsAndCachedStorageClass()  {
+        Kafka kafka = getKafkaCrd();
+        KafkaCluster kafkaCluster = KafkaCluster.fromCrd(Reconciliation.DUMMY_RECONCILIATION, kafka, VERSIONS);
+        ResourceOperatorSupplier supplier = ResourceUtils.supplierWithMocks(false);
+
+        // Mock the PVC Operator
+        PvcOperator mockPvcOps = supplier.pvcOperations;
+
+        List<PersistentVolumeClaim> realPvcs = kafkaCluster.generatePersistentVolumeClaims(kafka.getSpec().getKafka().getStorage());
+
+        for (PersistentVolumeClaim pvc : realPvcs)    {
+            pvc.getSpec().getResources().getRequests().put("storage", new Quantity("10Gi"));
+            pvc.setStatus(new PersistentVolumeClaimStatusBuilder()
+                    .withPhase("Bound")
+                    .withCapacity(pvc.getSpec().getResources().getRequests())
+                    .build());
+        }
+
+        when(mockPvcOps.listAsync(eq(namespace), any(Labels.class))).thenReturn(Future.succeededFuture(realPvcs));
+
+        ArgumentCaptor<PersistentVolumeClaim> currentCaptor = ArgumentCaptor.forClass(PersistentVolumeClaim.class);
+        ArgumentCaptor<PersistentVolumeClaim> pvcCaptor = ArgumentCaptor.forClass(PersistentVolumeClaim.class);
+        when(mockPvcOps.reconcile(any(), anyString(), anyString(), currentCaptor.capture(), pvcCaptor.capture())).thenReturn(Future.succeededFuture());
+
+        // Mock the StorageClass Operator
+        StorageClassOperator mockSco = supplier.storageClassOperations;
+
+        when(mockSco.getAsync(eq("mysc")))
+                .thenAnswer(invocation -> {
+                    StorageClass sc = new StorageClassBuilder()
+                            .withNewMetadata()
+                                .withName("mysc")
+                            .endMetadata()
+                            .withAllowVolumeExpansion(true)
+                            .build();
+
+                    return Future.succeededFuture(sc);
+                });
+
+        MockKafkaAssemblyOperator kao = new MockKafkaAssemblyOperator(vertx, new PlatformFeaturesAvailability(false, kubernetesVersion),
+                certManager,
+                passwordGenerator,
+                supplier,
+                config);
+
+        Future<KafkaAssemblyOperator.ReconciliationState> result = kao.resizeVolumes(new Reconciliation("test-trigger", Kafka.RESOURCE_KIND, namespace, clusterName),
+                kafka, kafkaCluster.generatePersistentVolumeClaims(kafka.getSpec().getKafka().getStorage()), kafkaCluster);
+
+        assertThat(result.succeeded(), is(true));
+
+        // The PVCs are listed once and the Storage Class is fetched once
+        verify(mockPvcOps, never()).getAsync(any(), any());
+        verify(mockSco, times(1)).getAsync(eq("mysc"));
+
+        assertThat(pvcCaptor.getAllValues().size(), is(3));
+        assertThat(currentCaptor.getAllValues(), is(realPvcs));
+
+        // The resizing is reported in the status
+        List<Condition> conditions = result.result().kafkaStatus.getConditions();
+        assertThat(conditions.size(), is(1));
+        assertThat(conditions.get(0).getType(), is("Warning"));
+        assertThat(conditions.get(0).getReason(), is(KafkaAssemblyOperator.PVC_RESIZING_REASON));
+        assertThat(conditions.get(0).getMessage(), is("3 of 3 persistent volume claims of testkafka-kafka are being resized."));
+    }
+
+    @Test
+    public void testPvcsResizingGauge()  {
+        Kafka kafka = getKafkaCrd();
+        KafkaCluster kafkaCluster = KafkaCluster.fromCrd(Reconciliation.DUMMY_RECONCILIATION, kafka, VERSIONS);
+        MeterRegistry registry = new SimpleMeterRegistry();
+        ResourceOperatorSupplier supplier = ResourceUtils.supplierWithMocks(false, new MicrometerMetricsProvider(registry));
+        Reconciliation reconciliation = new Reconciliation("test-trigger", Kafka.RESOURCE_KIND, namespace, clusterName);
+
+        // Mock the PVC Operator
+        PvcOperator mockPvcOps = supplier.pvcOperations;
+
+        List<PersistentVolumeClaim> resizingPvcs = kafkaCluster.generatePersistentVolumeClaims(kafka.getSpec().getKafka().getStorage());
+        for (PersistentVolumeClaim pvc : resizingPvcs)    {
+            pvc.setStatus(new PersistentVolumeClaimStatusBuilder()
+                    .withPhase("Bound")
+                    .withConditions(new PersistentVolumeClaimConditionBuilder()
+                            .withStatus("True")
+                            .withType("Resizing")
+                            .build())
+                    .withCapacity(singletonMap("storage", new Quantity("10Gi")))
+                    .build());
+        }
+
+        List<PersistentVolumeClaim> resizedPvcs = kafkaCluster.generatePersistentVolumeClaims(kafka.getSpec().getKafka().getStorage());
+        for (PersistentVolumeClaim pvc : resizedPvcs)    {
+            pvc.setStatus(new PersistentVolumeClaimStatusBuilder()
+                    .withPhase("Bound")
+                    .withCapacity(pvc.getSpec().getResources().getRequests())
+                    .build());
+        }
+
+        when(mockPvcOps.listAsync(eq(namespace), any(Labels.class)))
+                .thenReturn(Future.succeededFuture(resizingPvcs))
+                .thenReturn(Future.succeededFuture(resizedPvcs));
+        when(mockPvcOps.reconcile(any(), anyString(), anyString(), any(), any())).thenReturn(Future.succeededFuture());
+
+        MockKafkaAssemblyOperator kao = new MockKafkaAssemblyOperator(vertx, new PlatformFeaturesAvailability(false, kubernetesVersion),
+                certManager,
+                passwordGenerator,
+                supplier,
+                config);
+
+        // The volumes are resizing
+        assertThat(kao.resizeVolumes(reconciliation, kafka, kafkaCluster.generatePersistentVolumeClaims(kafka.getSpec().getKafka().getStorage()), kafkaCluster).succeeded(), is(true));
+        assertThat(registry.get("strimzi.pvc.resizing").tag("name", "testkafka-kafka").gauge().value(), is(3.0));
+
+        // The resizing is complete => the same gauge goes back to 0
+        assertThat(kao.resizeVolumes(reconciliation, kafka, kafkaCluster.generatePersistentVolumeClaims(kafka.getSpec().getKafka().getStorage()), kafkaCluster).succeeded(), is(true));
+        assertThat(registry.get("strimzi.pvc.resizing").tag("name", "testkafka-kafka").gauge().value(), is(0.0));
+
+        // The gauge is removed when the cluster is deleted
+        assertThat(kao.delete(reconciliation).succeeded(), is(true));
+        assertThat(registry.find("strimzi.pvc.resizing").gauges().isEmpty(), is(true));
+    }
+
     // This allows to test the resizing on its own without any other methods being called and mocked
     class MockKafkaAssemblyOperator extends KafkaAssemblyOperator  {
         public MockKafkaAssemblyOperator(Vertx vertx, PlatformFeaturesAvailability pfa, CertManager certManager, PasswordGenerator passwordGenerator, ResourceOperatorSupplier supplier, ClusterOperatorConfig config) {
@@ -26,6 +26,7 @@ import org.apache.kafka.common.errors.UnknownTopicOrPartitionException;
 import org.apache.kafka.common.internals.KafkaFutureImpl;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -34,15 +35,19 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
+import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.instanceOf;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(VertxExtension.class)
@@ -640,4 +645,149 @@ public class KafkaAvailabilityTest {
             }
         }
     }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testTopicsAreListedOnceAndDescribedPerBroker(VertxTestContext context) {
+        KSB ksb = new KSB()
+                .addNewTopic("A", false)
+                    .addToConfig(TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, "1")
+                    .addNewPartition(0)
+                        .replicaOn(0, 1, 2)
+                        .leader(0)
+                        .isr(0, 1, 2)
+                    .endPartition()
+                .endTopic()
+                .addNewTopic("B", false)
+                    .addToConfig(TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, "1")
+                    .addNewPartition(0)
+                        .replicaOn(0, 1, 2)
+                        .leader(1)
+                        .isr(0, 1, 2)
+                    .endPartition()
+                .endTopic()
+
+                .addBroker(3);
+
+        Admin ac = ksb.ac();
+        KafkaAvailability kafkaAvailability = new KafkaAvailability(new Reconciliation("dummy", "kind", "namespace", "A"), ac);
+
+        Checkpoint a = context.checkpoint();
+        kafkaAvailability.canRoll(0)
+                .compose(canRoll -> kafkaAvailability.canRoll(1))
+                .compose(canRoll -> kafkaAvailability.canRoll(2))
+                .compose(canRoll -> kafkaAvailability.canRoll(3))
+                .onComplete(context.succeeding(canRoll -> context.verify(() -> {
+                    assertTrue(canRoll);
+                    verify(ac, times(1)).listTopics(any());
+                    // The index is built for broker 0, then the topics are described again for brokers 1 and 2. Broker
+                    // 3 has no replicas, so nothing is described for it.
+                    ArgumentCaptor<Collection<String>> described = ArgumentCaptor.forClass(Collection.class);
+                    verify(ac, times(3)).describeTopics(described.capture());
+                    assertThat(new HashSet<>(described.getAllValues().get(1)), is(Set.of("A", "B")));
+                    assertThat(new HashSet<>(described.getAllValues().get(2)), is(Set.of("A", "B")));
+                    // The configs are described only for the first broker, all topics are on it
+                    verify(ac, times(1)).describeConfigs(any());
+                    a.flag();
+                })));
+    }
+
+    @Test
+    public void testPrepareDescribesTopicConfigsAhead(VertxTestContext context) {
+        KSB ksb = new KSB()
+                .addNewTopic("A", false)
+                    .addToConfig(TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, "2")
+                    .addNewPartition(0)
+                        .replicaOn(0, 1, 2)
+                        .leader(0)
+                        .isr(0, 1, 2)
+                    .endPartition()
+                .endTopic()
+                .addNewTopic("B", false)
+                    .addToConfig(TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, "2")
+                    .addNewPartition(0)
+                        .replicaOn(1, 2, 3)
+                        .leader(1)
+                        .isr(1, 2, 3)
+                    .endPartition()
+                .endTopic();
+
+        Admin ac = ksb.ac();
+        KafkaAvailability kafkaAvailability = new KafkaAvailability(new Reconciliation("dummy", "kind", "namespace", "A"), ac);
+
+        Checkpoint a = context.checkpoint();
+        kafkaAvailability.prepare(1)
+                .compose(ignored -> {
+                    context.verify(() -> verify(ac, times(1)).describeConfigs(any()));
+                    return kafkaAvailability.canRoll(1);
+                })
+                .onComplete(context.succeeding(canRoll -> context.verify(() -> {
+                    assertTrue(canRoll);
+                    // The topic configs described by prepare() are reused, the topics on broker 1 are described again
+                    verify(ac, times(1)).describeConfigs(any());
+                    verify(ac, times(2)).describeTopics(any());
+                    a.flag();
+                })));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testTopicsOfCheckedBrokerAreRefreshed(VertxTestContext context) {
+        KSB ksb = new KSB()
+                .addNewTopic("A", false)
+                    .addToConfig(TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, "2")
+                    .addNewPartition(0)
+                        .replicaOn(0, 1, 2)
+                        .leader(0)
+                        .isr(0, 1, 2)
+                    .endPartition()
+                .endTopic()
+                .addNewTopic("B", false)
+                    .addToConfig(TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, "2")
+                    .addNewPartition(0)
+                        .replicaOn(1, 2, 3)
+                        .leader(1)
+                        .isr(1, 2, 3)
+                    .endPartition()
+                .endTopic()
+                .addNewTopic("C", false)
+                    .addToConfig(TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, "2")
+                    .addNewPartition(0)
+                        .replicaOn(3, 4, 5)
+                        .leader(3)
+                        .isr(3, 4, 5)
+                    .endPartition()
+                .endTopic();
+
+        Admin ac = ksb.ac();
+        KafkaAvailability kafkaAvailability = new KafkaAvailability(new Reconciliation("dummy", "kind", "namespace", "A"), ac);
+
+        Checkpoint a = context.checkpoint();
+        kafkaAvailability.canRoll(0)
+                .compose(canRoll -> {
+                    context.verify(() -> assertTrue(canRoll, "broker 0 should be rollable, having all brokers in its ISR"));
+
+                    // Broker 3 falls out of the ISR of B/0 for reasons unrelated to the rolling restart
+                    ksb.addNewTopic("B", false).addNewPartition(0).isr(1, 2);
+                    return kafkaAvailability.canRoll(1);
+                })
+                .compose(canRoll -> {
+                    context.verify(() -> assertFalse(canRoll, "broker 1 should not be rollable, B/0 would be below min isr"));
+
+                    // Broker 3 caught up
+                    ksb.addNewTopic("B", false).addNewPartition(0).isr(1, 2, 3);
+                    return kafkaAvailability.canRoll(1);
+                })
+                .onComplete(context.succeeding(canRoll -> context.verify(() -> {
+                    assertTrue(canRoll, "broker 1 should be rollable, having all brokers in its ISR again");
+
+                    ArgumentCaptor<Collection<String>> described = ArgumentCaptor.forClass(Collection.class);
+                    verify(ac, times(3)).describeTopics(described.capture());
+                    // Only the topics with a replica on broker 1 are described again, topic C is not
+                    assertThat(new HashSet<>(described.getAllValues().get(1)), is(Set.of("A", "B")));
+                    assertThat(new HashSet<>(described.getAllValues().get(2)), is(Set.of("A", "B")));
+                    verify(ac, times(1)).listTopics(any());
+                    a.flag();
+                })));
+    }
 }
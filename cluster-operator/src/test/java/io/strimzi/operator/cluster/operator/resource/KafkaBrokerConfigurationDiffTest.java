@@ -132,6 +132,26 @@ public class KafkaBrokerConfigurationDiffTest {
         assertConfig(kcd, new ConfigEntry("min.insync.replicas", "2"));
     }
 
+    @Test
+    public void testChangedPerformanceProfileValues() {
+        // Thread pools derived from the performance profile can be updated dynamically
+        List<ConfigEntry> ces = Arrays.asList(new ConfigEntry("num.io.threads", "16", false, true, false),
+                new ConfigEntry("num.network.threads", "8", false, true, false));
+        KafkaBrokerConfigurationDiff kcd = new KafkaBrokerConfigurationDiff(Reconciliation.DUMMY_RECONCILIATION, getCurrentConfiguration(emptyList()),
+                getDesiredConfiguration(ces), kafkaVersion, brokerId);
+        assertThat(kcd.getDiffSize(), is(2));
+        assertThat(kcd.canBeUpdatedDynamically(), is(true));
+        assertConfig(kcd, new ConfigEntry("num.io.threads", "16"));
+        assertConfig(kcd, new ConfigEntry("num.network.threads", "8"));
+
+        // Socket buffers are read-only and need a rolling update
+        ces = singletonList(new ConfigEntry("socket.send.buffer.bytes", "524288", false, true, false));
+        kcd = new KafkaBrokerConfigurationDiff(Reconciliation.DUMMY_RECONCILIATION, getCurrentConfiguration(emptyList()),
+                getDesiredConfiguration(ces), kafkaVersion, brokerId);
+        assertThat(kcd.getDiffSize(), is(1));
+        assertThat(kcd.canBeUpdatedDynamically(), is(false));
+    }
+
     @Test
     public void testChangedPresentValueToDefault() {
         List<ConfigEntry> ces = singletonList(new ConfigEntry("min.insync.replicas", "1", false, true, false));
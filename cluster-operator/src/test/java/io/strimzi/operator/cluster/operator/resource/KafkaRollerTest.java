@@ -7,15 +7,19 @@ package io.strimzi.operator.cluster.operator.resource;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.TreeSet;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import io.fabric8.kubernetes.api.model.Pod;
 import io.fabric8.kubernetes.api.model.PodBuilder;
@@ -25,6 +29,7 @@ import io.fabric8.kubernetes.api.model.apps.StatefulSetBuilder;
 import io.strimzi.operator.cluster.KafkaVersionTestUtils;
 import io.strimzi.operator.common.BackOff;
 import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.operator.common.Util;
 import io.strimzi.operator.common.model.Labels;
 import io.strimzi.operator.common.operator.resource.PodOperator;
 import io.strimzi.operator.common.operator.resource.TimeoutException;
@@ -36,7 +41,9 @@ import io.vertx.junit5.VertxTestContext;
 import org.apache.kafka.clients.admin.Admin;
 import org.apache.kafka.clients.admin.AdminClient;
 import org.apache.kafka.clients.admin.Config;
+import org.apache.kafka.clients.admin.ConfigEntry;
 import org.apache.kafka.clients.admin.TopicDescription;
+import org.apache.kafka.common.config.ConfigResource;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.junit.jupiter.api.AfterAll;
@@ -128,6 +135,67 @@ public class KafkaRollerTest {
                 asList(2, 3, 4, 0, 1));
     }
 
+    @Test
+    public void testRollInSequenceWithPod2AsController(VertxTestContext testContext) {
+        PodOperator podOps = mockPodOps(podId -> succeededFuture());
+        StatefulSet sts = buildStatefulSet();
+        TestingKafkaRoller kafkaRoller = rollerWithControllers(sts, podOps, 2);
+
+        Checkpoint async = testContext.checkpoint();
+        kafkaRoller.rollingRestartInSequence(pod -> singletonList("roll"))
+            .onComplete(testContext.succeeding(v -> {
+                // The controller is not deferred to the end
+                testContext.verify(() -> assertThat(restarted(), is(asList(0, 1, 2, 3, 4))));
+                assertNoUnclosedAdminClient(testContext, kafkaRoller);
+                async.flag();
+            }));
+    }
+
+    @Test
+    public void testRollInSequencePreparesNextPod(VertxTestContext testContext) {
+        PodOperator podOps = mockPodOps(podId -> succeededFuture());
+        StatefulSet sts = buildStatefulSet();
+        TestingKafkaRoller kafkaRoller = rollerWithControllers(sts, podOps, -1);
+        AtomicInteger evaluations = new AtomicInteger(0);
+
+        Checkpoint async = testContext.checkpoint();
+        kafkaRoller.rollingRestartInSequence(pod -> {
+            evaluations.incrementAndGet();
+            return singletonList("roll");
+        })
+            .onComplete(testContext.succeeding(v -> {
+                testContext.verify(() -> {
+                    assertThat(restarted(), is(asList(0, 1, 2, 3, 4)));
+                    // Each pod is prepared before the previous pod is restarted
+                    assertThat(kafkaRoller.prepared, is(asList(asList(1, 0), asList(2, 1), asList(3, 2), asList(4, 3))));
+                    // The restart reasons are evaluated only once for each pod
+                    assertThat(evaluations.get(), is(5));
+                });
+                assertNoUnclosedAdminClient(testContext, kafkaRoller);
+                async.flag();
+            }));
+    }
+
+    @Test
+    public void testRollInSequenceStopsAtFailedPod(VertxTestContext testContext) {
+        PodOperator podOps = mockPodOps(podId ->
+                podId == 1 ? failedFuture(new TimeoutException("Timeout")) : succeededFuture()
+        );
+        StatefulSet sts = buildStatefulSet();
+        TestingKafkaRoller kafkaRoller = rollerWithControllers(sts, podOps, -1);
+
+        Checkpoint async = testContext.checkpoint();
+        kafkaRoller.rollingRestartInSequence(pod -> singletonList("roll"))
+            .onComplete(testContext.failing(e -> {
+                testContext.verify(() -> {
+                    assertThat(e, instanceOf(KafkaRoller.FatalProblem.class));
+                    assertThat(restarted(), is(asList(0, 1)));
+                });
+                assertNoUnclosedAdminClient(testContext, kafkaRoller);
+                async.flag();
+            }));
+    }
+
     @Test
     public void pod0NotReadyAfterRolling(VertxTestContext testContext) throws InterruptedException {
         PodOperator podOps = mockPodOps(podId ->
@@ -440,6 +508,116 @@ public class KafkaRollerTest {
             asList(0, 1, 4));
     }
 
+    @Test
+    public void testDynamicUpdatesAreBatched(VertxTestContext testContext) {
+        PodOperator podOps = mockPodOps(podId -> succeededFuture());
+        StatefulSet sts = buildStatefulSet();
+        TestingKafkaRoller kafkaRoller = new TestingKafkaRoller(sts, null, null, podOps, "min.insync.replicas=2",
+                noException(), null, noException(), noException(), noException(),
+            brokerId -> succeededFuture(true), 2);
+
+        Checkpoint async = testContext.checkpoint();
+        kafkaRoller.rollingRestart(pod -> emptyList())
+                .onComplete(testContext.succeeding(v -> testContext.verify(() -> {
+                    // All brokers are described at once and all apart from the controller are reconfigured at once
+                    assertThat(kafkaRoller.describedBrokers.size(), is(1));
+                    assertThat(new TreeSet<>(kafkaRoller.describedBrokers.get(0)), is(new TreeSet<>(asList(0, 1, 2, 3, 4))));
+                    assertThat(kafkaRoller.batchUpdatedBrokers, is(singletonList(new TreeSet<>(asList(0, 1, 3, 4)))));
+                    assertThat(kafkaRoller.updatedBrokers, is(singletonList(2)));
+                    // The reconfigured brokers are described again one by one
+                    assertThat(new TreeSet<>(kafkaRoller.singleDescribedBrokers), is(new TreeSet<>(asList(0, 1, 2, 3, 4))));
+                    assertThat(restarted(), is(emptyList()));
+                    assertNoUnclosedAdminClient(testContext, kafkaRoller);
+                    async.flag();
+                })));
+    }
+
+    @Test
+    public void testUpToDateBrokersAreNotDescribedAgain(VertxTestContext testContext) {
+        PodOperator podOps = mockPodOps(podId -> succeededFuture());
+        StatefulSet sts = buildStatefulSet();
+        TestingKafkaRoller kafkaRoller = new TestingKafkaRoller(sts, null, null, podOps,
+                noException(), null, noException(), noException(), noException(),
+            brokerId -> succeededFuture(true), 2);
+
+        Checkpoint async = testContext.checkpoint();
+        kafkaRoller.rollingRestart(pod -> podName2Number(pod.getMetadata().getName()) == 3 ? singletonList("roll") : emptyList())
+                .onComplete(testContext.succeeding(v -> testContext.verify(() -> {
+                    // Only the broker which is restarted is described again
+                    assertThat(kafkaRoller.describedBrokers.size(), is(1));
+                    assertThat(kafkaRoller.singleDescribedBrokers, is(singletonList(3)));
+                    assertThat(kafkaRoller.batchUpdatedBrokers, is(emptyList()));
+                    assertThat(kafkaRoller.updatedBrokers, is(emptyList()));
+                    assertThat(restarted(), is(singletonList(3)));
+                    assertNoUnclosedAdminClient(testContext, kafkaRoller);
+                    async.flag();
+                })));
+    }
+
+    @Test
+    public void testFailedBatchedDynamicUpdateFallsBackToSingleBroker(VertxTestContext testContext) {
+        PodOperator podOps = mockPodOps(podId -> succeededFuture());
+        StatefulSet sts = buildStatefulSet();
+        AtomicInteger alterCalls = new AtomicInteger();
+        AtomicInteger describeCalls = new AtomicInteger();
+        // Broker 3 fails the batched update and broker 1 cannot be described in the batch, but both work on their own
+        TestingKafkaRoller kafkaRoller = new TestingKafkaRoller(sts, null, null, podOps, "min.insync.replicas=2",
+                noException(), null, noException(),
+            podId -> podId == 3 && alterCalls.getAndIncrement() == 0 ? new KafkaRoller.ForceableProblem("could not alter config") : null,
+            podId -> podId == 1 && describeCalls.getAndIncrement() == 0 ? new KafkaRoller.ForceableProblem("could not get config") : null,
+            brokerId -> succeededFuture(true), 2);
+
+        Checkpoint async = testContext.checkpoint();
+        kafkaRoller.rollingRestart(pod -> emptyList())
+                .onComplete(testContext.succeeding(v -> testContext.verify(() -> {
+                    assertThat(kafkaRoller.batchUpdatedBrokers, is(singletonList(new TreeSet<>(asList(0, 3, 4)))));
+                    assertThat(new TreeSet<>(kafkaRoller.updatedBrokers), is(new TreeSet<>(asList(1, 2, 3))));
+                    assertThat(restarted(), is(emptyList()));
+                    assertNoUnclosedAdminClient(testContext, kafkaRoller);
+                    async.flag();
+                })));
+    }
+
+    @Test
+    public void testBatchedDynamicUpdateSkipsUnrollableBrokers(VertxTestContext testContext) {
+        PodOperator podOps = mockPodOps(podId -> succeededFuture());
+        StatefulSet sts = buildStatefulSet();
+        AtomicInteger canRollCalls = new AtomicInteger();
+        // Broker 1 cannot be rolled when the batch is prepared, but it can be rolled later
+        TestingKafkaRoller kafkaRoller = new TestingKafkaRoller(sts, null, null, podOps, "min.insync.replicas=2",
+                noException(), null, noException(), noException(), noException(),
+            brokerId -> succeededFuture(brokerId != 1 || canRollCalls.getAndIncrement() > 0), 2);
+
+        Checkpoint async = testContext.checkpoint();
+        kafkaRoller.rollingRestart(pod -> emptyList())
+                .onComplete(testContext.succeeding(v -> testContext.verify(() -> {
+                    assertThat(kafkaRoller.batchUpdatedBrokers, is(singletonList(new TreeSet<>(asList(0, 3, 4)))));
+                    assertThat(new TreeSet<>(kafkaRoller.updatedBrokers), is(new TreeSet<>(asList(1, 2))));
+                    assertThat(restarted(), is(emptyList()));
+                    assertNoUnclosedAdminClient(testContext, kafkaRoller);
+                    async.flag();
+                })));
+    }
+
+    @Test
+    public void testBrokersToBeRestartedAreNotReconfiguredInBatch(VertxTestContext testContext) {
+        PodOperator podOps = mockPodOps(podId -> succeededFuture());
+        StatefulSet sts = buildStatefulSet();
+        TestingKafkaRoller kafkaRoller = new TestingKafkaRoller(sts, null, null, podOps, "min.insync.replicas=2",
+                noException(), null, noException(), noException(), noException(),
+            brokerId -> succeededFuture(true), 2);
+
+        Checkpoint async = testContext.checkpoint();
+        kafkaRoller.rollingRestart(pod -> podName2Number(pod.getMetadata().getName()) == 0 ? singletonList("roll") : emptyList())
+                .onComplete(testContext.succeeding(v -> testContext.verify(() -> {
+                    assertThat(kafkaRoller.batchUpdatedBrokers, is(singletonList(new TreeSet<>(asList(1, 3, 4)))));
+                    assertThat(kafkaRoller.updatedBrokers, is(singletonList(2)));
+                    assertThat(restarted(), is(singletonList(0)));
+                    assertNoUnclosedAdminClient(testContext, kafkaRoller);
+                    async.flag();
+                })));
+    }
+
     private TestingKafkaRoller rollerWithControllers(StatefulSet sts, PodOperator podOps, int... controllers) {
         return new TestingKafkaRoller(sts, null, null, podOps,
                 noException(), null, noException(), noException(), noException(),
@@ -526,9 +704,18 @@ public class KafkaRollerTest {
                     .withNewMetadata()
                         .withNamespace(invocation.getArgument(0))
                         .withName(invocation.getArgument(1))
+                        .withResourceVersion("1")
                     .endMetadata()
                 .build()
         );
+        when(podOps.list(any(), any(Labels.class))).thenAnswer(
+            invocation -> IntStream.range(0, 5)
+                    .mapToObj(podId -> podOps.get(invocation.getArgument(0), ssName() + "-" + podId))
+                    .collect(Collectors.toList())
+        );
+        when(podOps.getAsync(any(), any())).thenAnswer(
+            invocation -> succeededFuture(podOps.get(invocation.getArgument(0), invocation.getArgument(1)))
+        );
         when(podOps.readiness(any(), any(), any(), anyLong(), anyLong())).thenAnswer(invocationOnMock ->  {
             String podName = invocationOnMock.getArgument(2);
             return readiness.apply(podName2Number(podName));
@@ -573,9 +760,29 @@ public class KafkaRollerTest {
         private final Function<Integer, ForceableProblem> alterConfigsException;
         private final Function<Integer, ForceableProblem> getConfigsException;
         private final int[] controllers;
+        private final List<List<Integer>> describedBrokers = new ArrayList<>();
+        private final List<Integer> singleDescribedBrokers = new ArrayList<>();
+        private final List<Set<Integer>> batchUpdatedBrokers = new ArrayList<>();
+        private final List<Integer> updatedBrokers = new ArrayList<>();
+        // Prepared pods together with the number of pods restarted before they were prepared
+        private final List<List<Integer>> prepared = new ArrayList<>();
+
+        private TestingKafkaRoller(StatefulSet sts, Secret clusterCaCertSecret, Secret coKeySecret,
+                                   PodOperator podOps,
+                                   Function<List<Integer>, RuntimeException> acOpenException,
+                                   Throwable acCloseException,
+                                   Function<Integer, Throwable> controllerException,
+                                   Function<Integer, ForceableProblem> alterConfigsException,
+                                   Function<Integer, ForceableProblem> getConfigsException,
+                                   Function<Integer, Future<Boolean>> canRollFn,
+                                  int... controllers) {
+            this(sts, clusterCaCertSecret, coKeySecret, podOps, "", acOpenException, acCloseException, controllerException,
+                    alterConfigsException, getConfigsException, canRollFn, controllers);
+        }
 
         private TestingKafkaRoller(StatefulSet sts, Secret clusterCaCertSecret, Secret coKeySecret,
                                    PodOperator podOps,
+                                   String kafkaConfig,
                                    Function<List<Integer>, RuntimeException> acOpenException,
                                    Throwable acCloseException,
                                    Function<Integer, Throwable> controllerException,
@@ -585,7 +792,7 @@ public class KafkaRollerTest {
                                   int... controllers) {
             super(new Reconciliation("test", "Kafka", stsNamespace(), clusterName()), KafkaRollerTest.vertx, podOps, 500, 1000,
                 () -> new BackOff(10L, 2, 4),
-                sts, clusterCaCertSecret, coKeySecret, "", "", KafkaVersionTestUtils.getLatestVersion(), true);
+                sts, clusterCaCertSecret, coKeySecret, kafkaConfig, "", KafkaVersionTestUtils.getLatestVersion(), true);
             this.controllers = controllers;
             this.controllerCall = 0;
             Objects.requireNonNull(acOpenException);
@@ -658,6 +865,7 @@ public class KafkaRollerTest {
 
         @Override
         protected Config brokerConfig(int brokerId) throws ForceableProblem, InterruptedException {
+            singleDescribedBrokers.add(brokerId);
             ForceableProblem problem = getConfigsException.apply(brokerId);
             if (problem != null) {
                 throw problem;
@@ -666,7 +874,36 @@ public class KafkaRollerTest {
 
         @Override
         protected Config brokerLogging(int brokerId) throws ForceableProblem, InterruptedException {
-            return new Config(emptyList());
+            return brokerLogging();
+        }
+
+        @Override
+        protected Map<ConfigResource, Config> describeBrokerConfigs(List<Integer> brokerIds) {
+            describedBrokers.add(brokerIds);
+
+            Map<ConfigResource, Config> configs = new HashMap<>();
+            for (int brokerId : brokerIds) {
+                if (getConfigsException.apply(brokerId) == null) {
+                    configs.put(Util.getBrokersConfig(brokerId), new Config(emptyList()));
+                    configs.put(Util.getBrokersLogging(brokerId), brokerLogging());
+                }
+            }
+
+            return configs;
+        }
+
+        private Config brokerLogging() {
+            // Matches the default logging configuration
+            return new Config(singletonList(new ConfigEntry("root", "WARN")));
+        }
+
+        @Override
+        protected Set<Integer> dynamicUpdateBrokerConfigs(Map<Integer, RestartPlan> plans) {
+            batchUpdatedBrokers.add(new TreeSet<>(plans.keySet()));
+
+            return plans.keySet().stream()
+                    .filter(podId -> alterConfigsException.apply(podId) == null)
+                    .collect(Collectors.toSet());
         }
 
         @Override
@@ -675,6 +912,13 @@ public class KafkaRollerTest {
             if (problem != null) {
                 throw problem;
             }
+            updatedBrokers.add(podId);
+        }
+
+        @Override
+        void prepare(int podId) {
+            prepared.add(asList(podId, restarted.size()));
+            super.prepare(podId);
         }
 
         @Override
@@ -127,6 +127,17 @@ public class KafkaSpecCheckerTest {
         assertThat(warning.getMessage(), is("Running ZooKeeper with two nodes is not advisable as both replicas will be needed to avoid downtime. It is recommended that a minimum of three replicas are used."));
     }
 
+    @Test
+    public void checkZookeeperIgnoredInKRaftMode() {
+        Kafka kafka = ResourceUtils.createKafka(NAMESPACE, NAME, 2, IMAGE, HEALTH_DELAY, HEALTH_TIMEOUT);
+        KafkaVersion.Lookup versions = KafkaVersionTestUtils.getKafkaVersionLookup();
+        KafkaCluster kafkaCluster = KafkaCluster.fromCrd(Reconciliation.DUMMY_RECONCILIATION, kafka, versions, null, 0, true);
+
+        // There is no ZooKeeper cluster in the KRaft mode
+        KafkaSpecChecker checker = new KafkaSpecChecker(kafka.getSpec(), versions, kafkaCluster, null);
+        assertThat(checker.run(), empty());
+    }
+
     @Test
     public void checkZookeeperEvenReplicas() {
         Kafka kafka = ResourceUtils.createKafka(NAMESPACE, NAME, 4, IMAGE, HEALTH_DELAY, HEALTH_TIMEOUT);
@@ -0,0 +1,87 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.resource.cruisecontrol;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.parsetools.JsonParser;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Objects;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+
+public class CruiseControlProposalParserTest {
+    private static final String VERBOSE_PROPOSAL = "io/strimzi/operator/cluster/operator/assembly/CruiseControlJSON/CC-Rebalance-no-goals-verbose.json";
+
+    private static Buffer readResource(String resource) throws IOException {
+        try (InputStream is = Objects.requireNonNull(CruiseControlProposalParserTest.class.getClassLoader().getResourceAsStream(resource))) {
+            return Buffer.buffer(is.readAllBytes());
+        }
+    }
+
+    private static void assertProposal(JsonObject parsed, JsonObject original) {
+        assertThat(parsed.fieldNames(), containsInAnyOrder("summary", "loadBeforeOptimization", "loadAfterOptimization", "version"));
+        assertThat(parsed.getJsonObject("summary"), is(original.getJsonObject("summary")));
+        assertThat(parsed.getValue("version"), is(original.getValue("version")));
+
+        for (String loadKey : new String[] {"loadBeforeOptimization", "loadAfterOptimization"}) {
+            JsonArray parsedBrokers = parsed.getJsonObject(loadKey).getJsonArray("brokers");
+            JsonArray originalBrokers = original.getJsonObject(loadKey).getJsonArray("brokers");
+            assertThat(parsedBrokers.size(), is(originalBrokers.size()));
+
+            for (int i = 0; i < originalBrokers.size(); i++) {
+                JsonObject parsedBroker = parsedBrokers.getJsonObject(i);
+                JsonObject originalBroker = originalBrokers.getJsonObject(i);
+
+                // Only the broker ID and the load parameters are kept
+                assertThat(parsedBroker.size(), is(CruiseControlLoadParameters.values().length + 1));
+                assertThat(parsedBroker.getValue("Broker"), is(originalBroker.getValue("Broker")));
+
+                for (CruiseControlLoadParameters parameter : CruiseControlLoadParameters.values()) {
+                    assertThat(parsedBroker.getValue(parameter.getCruiseControlKey()), is(originalBroker.getValue(parameter.getCruiseControlKey())));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testParseProposal() throws IOException {
+        Buffer buffer = readResource(VERBOSE_PROPOSAL);
+
+        assertProposal(CruiseControlProposalParser.parse(buffer), buffer.toJsonObject());
+    }
+
+    @Test
+    public void testParseProposalInChunks() throws IOException {
+        Buffer buffer = readResource(VERBOSE_PROPOSAL);
+
+        CruiseControlProposalParser proposalParser = new CruiseControlProposalParser();
+        JsonParser parser = JsonParser.newParser().handler(proposalParser);
+        for (int i = 0; i < buffer.length(); i += 7) {
+            parser.handle(buffer.getBuffer(i, Math.min(i + 7, buffer.length())));
+        }
+        parser.end();
+
+        assertProposal(proposalParser.proposal(), buffer.toJsonObject());
+    }
+
+    @Test
+    public void testParseProposalInProgress() {
+        JsonObject progress = new JsonObject()
+                .put("progress", new JsonArray().add(new JsonObject().put("operation", "Rebalance")))
+                .put("version", 1);
+
+        JsonObject parsed = CruiseControlProposalParser.parse(progress.toBuffer());
+
+        assertThat(parsed.fieldNames(), containsInAnyOrder("progress", "version"));
+        assertThat(parsed.getJsonArray("progress"), is(progress.getJsonArray("progress")));
+    }
+}
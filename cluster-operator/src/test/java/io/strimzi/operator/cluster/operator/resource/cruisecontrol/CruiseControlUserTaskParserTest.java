@@ -0,0 +1,80 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.resource.cruisecontrol;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Objects;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+
+public class CruiseControlUserTaskParserTest {
+    private static final String VERBOSE_COMPLETED = "io/strimzi/operator/cluster/operator/assembly/CruiseControlJSON/CC-User-task-rebalance-no-goals-verbose-completed.json";
+    private static final String COMPLETED_WITH_ERROR = "io/strimzi/operator/cluster/operator/assembly/CruiseControlJSON/CC-User-task-status-completed-with-error.json";
+
+    private static Buffer readResource(String resource) throws IOException {
+        try (InputStream is = Objects.requireNonNull(CruiseControlUserTaskParserTest.class.getClassLoader().getResourceAsStream(resource))) {
+            return Buffer.buffer(is.readAllBytes());
+        }
+    }
+
+    @Test
+    public void testParseCompletedUserTask() throws IOException {
+        Buffer buffer = readResource(VERBOSE_COMPLETED);
+        JsonObject original = buffer.toJsonObject().getJsonArray("userTasks").getJsonObject(0);
+        JsonObject originalResponse = new JsonObject(original.getString("originalResponse"));
+
+        CruiseControlUserTaskParser parser = CruiseControlUserTaskParser.parse(buffer);
+
+        assertThat(parser.response().getValue("version"), is(1L));
+        assertThat(parser.userTask().getString("Status"), is("Completed"));
+        assertThat(parser.userTask().getString("UserTaskId"), is(original.getString("UserTaskId")));
+
+        // Only the summary and the broker load are kept from the original response
+        JsonObject parsedResponse = parser.userTask().getJsonObject("originalResponse");
+        assertThat(parsedResponse.fieldNames(), containsInAnyOrder("summary", "loadBeforeOptimization", "loadAfterOptimization", "version"));
+        assertThat(parsedResponse.getJsonObject("summary"), is(originalResponse.getJsonObject("summary")));
+        assertThat(parsedResponse.getJsonObject("loadAfterOptimization").getJsonArray("brokers").size(),
+                is(originalResponse.getJsonObject("loadAfterOptimization").getJsonArray("brokers").size()));
+    }
+
+    @Test
+    public void testParseCompletedWithErrorUserTask() throws IOException {
+        CruiseControlUserTaskParser parser = CruiseControlUserTaskParser.parse(readResource(COMPLETED_WITH_ERROR));
+
+        assertThat(parser.userTask().getString("Status"), is("CompletedWithError"));
+        assertThat(parser.userTask().getString("originalResponse"), is("COMPLETED_WITH_ERROR"));
+    }
+
+    @Test
+    public void testOnlyFirstUserTaskIsKept() {
+        JsonObject response = new JsonObject()
+                .put("userTasks", new JsonArray()
+                        .add(new JsonObject().put("Status", "Active").put("UserTaskId", "first"))
+                        .add(new JsonObject().put("Status", "Completed").put("UserTaskId", "second")
+                                .put("originalResponse", new JsonObject().put("summary", new JsonObject()).encode())))
+                .put("version", 1);
+
+        CruiseControlUserTaskParser parser = CruiseControlUserTaskParser.parse(response.toBuffer());
+
+        assertThat(parser.userTask().fieldNames(), containsInAnyOrder("Status", "UserTaskId"));
+        assertThat(parser.userTask().getString("UserTaskId"), is("first"));
+    }
+
+    @Test
+    public void testParseResponseWithoutUserTasks() {
+        CruiseControlUserTaskParser parser = CruiseControlUserTaskParser.parse(new JsonObject().put("userTasks", new JsonArray()).put("version", 1).toBuffer());
+
+        assertThat(parser.userTask(), is(nullValue()));
+    }
+}
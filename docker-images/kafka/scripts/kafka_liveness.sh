@@ -5,6 +5,9 @@ if [ -f /var/opt/kafka/kafka-ready ] ; then
   rm -f /var/opt/kafka/zk-connected 2&> /dev/null
   # Test listening on replication port 9091
   netstat -lnt | grep -Eq 'tcp6?[[:space:]]+[0-9]+[[:space:]]+[0-9]+[[:space:]]+[^ ]+:9091.*LISTEN[[:space:]]*'
+elif [ "$STRIMZI_KRAFT_ENABLED" = "true" ] ; then
+  # Not yet ready and there is no ZK in the KRaft mode, so test listening on controller port 9090
+  netstat -lnt | grep -Eq 'tcp6?[[:space:]]+[0-9]+[[:space:]]+[0-9]+[[:space:]]+[^ ]+:9090.*LISTEN[[:space:]]*'
 else
   # Not yet ready, so test ZK connected state
   test -f /var/opt/kafka/zk-connected
@@ -107,6 +107,17 @@ EOF
     done
 fi
 
+if [ -n "$STRIMZI_RACK_ID" ]; then
+    # The connectors reference the client.rack.reference key. It is resolved on the worker running the connector to a
+    # reference to the client.rack key, which is resolved on the workers running the tasks to their own rack.
+    RACK_CONFIGURATION=$(cat <<EOF
+# Rack
+client.rack=${STRIMZI_RACK_ID}
+client.rack.reference=\${file:/tmp/strimzi-mirrormaker2-connector.properties:client.rack}
+EOF
+)
+fi
+
 # Write the config file
 cat <<EOF
 ${TLS_CONFIGURATION}
@@ -116,4 +127,5 @@ ${OAUTH_TRUSTED_CERTS_CONFIGURATION}
 ${OAUTH_CLIENT_SECRETS_CONFIGURATION}
 ${OAUTH_ACCESS_TOKENS_CONFIGURATION}
 ${OAUTH_REFRESH_TOKENS_CONFIGURATION}
+${RACK_CONFIGURATION}
 EOF
\ No newline at end of file
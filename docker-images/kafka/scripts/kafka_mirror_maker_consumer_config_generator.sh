@@ -71,6 +71,10 @@ EOF
 )
 fi
 
+if [ -n "$STRIMZI_RACK_ID" ]; then
+    RACK_CONFIGURATION="client.rack=${STRIMZI_RACK_ID}"
+fi
+
 # Write the config file
 cat <<EOF
 # Bootstrap servers
@@ -84,4 +88,5 @@ security.protocol=${SECURITY_PROTOCOL}
 ${TLS_CONFIGURATION}
 ${TLS_AUTH_CONFIGURATION}
 ${SASL_AUTH_CONFIGURATION}
+${RACK_CONFIGURATION}
 EOF
\ No newline at end of file
@@ -1,6 +1,13 @@
 #!/usr/bin/env bash
 set -e
 
+# Get client rack if it's enabled from the file $KAFKA_HOME/init/rack.id (if it exists). This file is generated by the
+# init-container used when rack awareness is enabled.
+if [ -e "$KAFKA_HOME/init/rack.id" ]; then
+  STRIMZI_RACK_ID=$(cat "$KAFKA_HOME/init/rack.id")
+  export STRIMZI_RACK_ID
+fi
+
 # Generate temporary keystore password
 CERTS_STORE_PASSWORD=$(< /dev/urandom tr -dc _A-Z-a-z-0-9 | head -c32)
 export CERTS_STORE_PASSWORD
@@ -14,7 +14,12 @@ if [ -z "$KAFKA_LOG4J_OPTS" ]; then
 fi
 
 rm -f /var/opt/kafka/kafka-ready /var/opt/kafka/zk-connected 2> /dev/null
-KAFKA_OPTS="$KAFKA_OPTS -javaagent:$(ls "$KAFKA_HOME"/libs/kafka-agent*.jar)=/var/opt/kafka/kafka-ready:/var/opt/kafka/zk-connected"
+if [ "$STRIMZI_KRAFT_ENABLED" = "true" ]; then
+  # There is no ZooKeeper session to watch in the KRaft mode
+  KAFKA_OPTS="$KAFKA_OPTS -javaagent:$(ls "$KAFKA_HOME"/libs/kafka-agent*.jar)=/var/opt/kafka/kafka-ready"
+else
+  KAFKA_OPTS="$KAFKA_OPTS -javaagent:$(ls "$KAFKA_HOME"/libs/kafka-agent*.jar)=/var/opt/kafka/kafka-ready:/var/opt/kafka/zk-connected"
+fi
 export KAFKA_OPTS
 
 . ./set_kafka_jmx_options.sh "${KAFKA_JMX_ENABLED}" "${KAFKA_JMX_USERNAME}" "${KAFKA_JMX_PASSWORD}"
@@ -47,6 +52,11 @@ echo "Starting Kafka with configuration:"
 ./kafka_config_generator.sh | tee /tmp/strimzi.properties | sed -e 's/sasl.jaas.config=.*/sasl.jaas.config=[hidden]/g' -e 's/password=.*/password=[hidden]/g'
 echo ""
 
+if [ "$STRIMZI_KRAFT_ENABLED" = "true" ]; then
+  # Format the storage with the cluster ID when it is used for the first time
+  "${KAFKA_HOME}/bin/kafka-storage.sh" format -t "$STRIMZI_CLUSTER_ID" -c /tmp/strimzi.properties --ignore-formatted
+fi
+
 if [ -z "$KAFKA_HEAP_OPTS" ] && [ -n "${DYNAMIC_HEAP_FRACTION}" ]; then
     . ./dynamic_resources.sh
     # Calculate a max heap size based some DYNAMIC_HEAP_FRACTION of the heap
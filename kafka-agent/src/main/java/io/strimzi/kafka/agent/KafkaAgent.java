@@ -22,6 +22,8 @@ import java.io.IOException;
  * Yammer Metric and once it reaches the value 3 (meaning "running as broker", see {@code kafka.server.BrokerState}),
  * creates a given file.
  * The presence of this file is tested via a Kube "exec" readiness probe to determine when the broker is ready.
+ * Unless the broker runs in the KRaft mode (without ZooKeeper), the agent also creates another file while the broker
+ * is connected to ZooKeeper.
  */
 public class KafkaAgent {
 
@@ -67,7 +69,7 @@ public class KafkaAgent {
                     }
                 }
                 if (brokerState != null
-                        && sessionState != null) {
+                        && (sessionState != null || sessionConnectedFile == null)) {
                     metricsRegistry.removeListener(this);
                     LOGGER.info("Starting poller");
                     Thread pollerThread = new Thread(poller(),
@@ -86,7 +88,9 @@ public class KafkaAgent {
             @Override
             public void run() {
                 while (true) {
-                    handleSessionState();
+                    if (sessionConnectedFile != null) {
+                        handleSessionState();
+                    }
 
                     if (handleBrokerState()) {
                         break;
@@ -160,16 +164,17 @@ public class KafkaAgent {
      */
     public static void premain(String agentArgs) {
         int index = agentArgs.indexOf(':');
-        if (index == -1) {
+        if (agentArgs.isEmpty() || index == 0 || index == agentArgs.length() - 1) {
             LOGGER.error("Unable to parse arguments {}", agentArgs);
             System.exit(1);
         } else {
-            File brokerReadyFile = new File(agentArgs.substring(0, index));
-            File sessionConnectedFile = new File(agentArgs.substring(index + 1));
+            // In the KRaft mode, only the broker readiness file is given
+            File brokerReadyFile = new File(index == -1 ? agentArgs : agentArgs.substring(0, index));
+            File sessionConnectedFile = index == -1 ? null : new File(agentArgs.substring(index + 1));
             if (brokerReadyFile.exists() && !brokerReadyFile.delete()) {
                 LOGGER.error("Broker readiness file already exists and could not be deleted: {}", brokerReadyFile);
                 System.exit(1);
-            } else if (sessionConnectedFile.exists() && !sessionConnectedFile.delete()) {
+            } else if (sessionConnectedFile != null && sessionConnectedFile.exists() && !sessionConnectedFile.delete()) {
                 LOGGER.error("Session connected file already exists and could not be deleted: {}", sessionConnectedFile);
                 System.exit(1);
             } else {
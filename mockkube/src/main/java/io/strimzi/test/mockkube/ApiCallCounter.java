@@ -0,0 +1,99 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.test.mockkube;
+
+import org.mockito.stubbing.Answer;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts the calls made through the client returned by {@link MockKube#build()}, grouped by resource kind and verb.
+ * Only the calls made by the code under test are counted. Calls which MockKube itself does while handling another
+ * call (for example creating the Pods of a StatefulSet, or the get done by an edit) are not counted, because a real
+ * Kubernetes API server would do them on its own.
+ */
+public class ApiCallCounter {
+    private final Map<String, Map<String, LongAdder>> counts = new ConcurrentHashMap<>();
+    private final ThreadLocal<int[]> depth = ThreadLocal.withInitial(() -> new int[1]);
+
+    /**
+     * Wraps the given answer so that each invocation is counted as a call with the given verb on the given kind.
+     *
+     * @param kind      The resource kind (e.g. Pod)
+     * @param verb      The verb (e.g. get, list, patch)
+     * @param answer    The answer to wrap
+     * @param <T>       The type of the answer
+     *
+     * @return  Answer which records the call and delegates to {@code answer}
+     */
+    <T> Answer<T> counted(String kind, String verb, Answer<T> answer) {
+        return invocation -> {
+            int[] d = depth.get();
+            if (d[0] == 0) {
+                counts.computeIfAbsent(kind, k -> new ConcurrentHashMap<>())
+                        .computeIfAbsent(verb, v -> new LongAdder())
+                        .increment();
+            }
+
+            d[0]++;
+            try {
+                return answer.answer(invocation);
+            } finally {
+                d[0]--;
+            }
+        };
+    }
+
+    /**
+     * @param kind  The resource kind
+     * @param verb  The verb
+     *
+     * @return  The number of calls with the given verb made on the given kind
+     */
+    public long count(String kind, String verb) {
+        Map<String, LongAdder> byVerb = counts.get(kind);
+        LongAdder count = byVerb != null ? byVerb.get(verb) : null;
+        return count != null ? count.sum() : 0L;
+    }
+
+    /**
+     * @return  The total number of counted calls
+     */
+    public long total() {
+        return counts.values().stream()
+                .flatMap(byVerb -> byVerb.values().stream())
+                .mapToLong(LongAdder::sum)
+                .sum();
+    }
+
+    /**
+     * @return  Sorted copy of the current counts as a map of kind to a map of verb to number of calls
+     */
+    public Map<String, Map<String, Long>> snapshot() {
+        Map<String, Map<String, Long>> snapshot = new TreeMap<>();
+
+        for (Map.Entry<String, Map<String, LongAdder>> kind : counts.entrySet()) {
+            Map<String, Long> byVerb = new TreeMap<>();
+
+            for (Map.Entry<String, LongAdder> verb : kind.getValue().entrySet()) {
+                byVerb.put(verb.getKey(), verb.getValue().sum());
+            }
+
+            snapshot.put(kind.getKey(), byVerb);
+        }
+
+        return snapshot;
+    }
+
+    /**
+     * Resets all the counts to zero
+     */
+    public void reset() {
+        counts.clear();
+    }
+}
@@ -39,7 +39,7 @@ class DeploymentMockBuilder extends MockBuilder<Deployment, DeploymentList, Roll
 
     @Override
     protected void mockCreate(String resourceName, RollableScalableResource<Deployment> resource) {
-        when(resource.create(any(Deployment.class))).thenAnswer(invocation -> {
+        when(resource.create(any(Deployment.class))).thenAnswer(counted("create", invocation -> {
             checkNotExists(resourceName);
             Deployment deployment = invocation.getArgument(0);
             LOGGER.debug("create {} {} -> {}", resourceType, resourceName, deployment);
@@ -68,12 +68,12 @@ class DeploymentMockBuilder extends MockBuilder<Deployment, DeploymentList, Roll
                 });
             }
             return deployment;
-        });
+        }));
     }
 
     @Override
     protected void mockPatch(String resourceName, RollableScalableResource<Deployment> resource) {
-        when(resource.patch(any(Deployment.class))).thenAnswer(invocation -> {
+        when(resource.patch(any(Deployment.class))).thenAnswer(counted("patch", invocation -> {
             Deployment deployment = invocation.getArgument(0);
             String deploymentName = deployment.getMetadata().getName();
             // Initialize the map with empty collection in cases where deployment was initialized with zero replicas
@@ -120,6 +120,6 @@ class DeploymentMockBuilder extends MockBuilder<Deployment, DeploymentList, Roll
             podsForDeployments.get(deploymentName).addAll(newPodNames);
 
             return deployment;
-        });
+        }));
     }
 }
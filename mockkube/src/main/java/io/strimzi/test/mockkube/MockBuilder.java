@@ -20,6 +20,7 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.mockito.ArgumentMatchers;
 import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
 import org.mockito.stubbing.OngoingStubbing;
 
 import java.io.ByteArrayOutputStream;
@@ -81,6 +82,7 @@ class MockBuilder<T extends HasMetadata,
     protected final String resourceType;
     protected final Collection<PredicatedWatcher<T>> watchers = Collections.synchronizedList(new ArrayList<>(2));
     private List<Observer<T>> observers = null;
+    private ApiCallCounter apiCallCounter = null;
 
     public void assertNumWatchers(int expectedNumWatchers) {
         if (watchers.size() != expectedNumWatchers) {
@@ -109,6 +111,38 @@ class MockBuilder<T extends HasMetadata,
         return this;
     }
 
+    /**
+     * Counts the calls done through the mocks built by this builder in the given {@code apiCallCounter}
+     *
+     * @param apiCallCounter The counter
+     *
+     * @return This builder
+     */
+    MockBuilder<T, L, R> withApiCallCounter(ApiCallCounter apiCallCounter) {
+        this.apiCallCounter = apiCallCounter;
+        return this;
+    }
+
+    /**
+     * Wraps the given answer so that its invocations are counted as calls with the given verb when this builder has
+     * an {@link ApiCallCounter}.
+     *
+     * @param verb      The verb (e.g. get, list, patch)
+     * @param answer    The answer
+     * @param <X>       The type of the answer
+     *
+     * @return  The wrapped answer
+     */
+    protected <X> Answer<X> counted(String verb, Answer<X> answer) {
+        return invocation -> {
+            if (apiCallCounter != null) {
+                return apiCallCounter.counted(resourceType, verb, answer).answer(invocation);
+            } else {
+                return answer.answer(invocation);
+            }
+        };
+    }
+
     @SuppressWarnings("unchecked")
     protected T copyResource(T resource) {
         if (resource == null) {
@@ -134,15 +168,15 @@ class MockBuilder<T extends HasMetadata,
         MixedOperation<T, L, R> mixed = mock(MixedOperation.class);
 
         when(mixed.inNamespace(any())).thenReturn(mixed);
-        when(mixed.list()).thenAnswer(i -> mockList(p -> true));
+        when(mixed.list()).thenAnswer(counted("list", i -> mockList(p -> true)));
         when(mixed.withLabels(any())).thenAnswer(i -> {
             MixedOperation<T, L, R> mixedWithLabels = mock(MixedOperation.class);
             Map<String, String> labels = i.getArgument(0);
-            when(mixedWithLabels.list()).thenAnswer(i2 -> mockList(p -> {
+            when(mixedWithLabels.list()).thenAnswer(counted("list", i2 -> mockList(p -> {
                 Map<String, String> m = new HashMap(p.getMetadata().getLabels());
                 m.keySet().retainAll(labels.keySet());
                 return labels.equals(m);
-            }));
+            })));
             return mixedWithLabels;
         });
         when(mixed.withName(any())).thenAnswer(invocation -> {
@@ -151,17 +185,17 @@ class MockBuilder<T extends HasMetadata,
             nameScopedMocks(resourceName, resource);
             return resource;
         });
-        when(mixed.watch(any())).thenAnswer(i -> {
+        when(mixed.watch(any())).thenAnswer(counted("watch", i -> {
             Watcher watcher = i.getArgument(0);
             LOGGER.debug("Watcher {} installed on {}", watcher, mixed);
             return addWatcher(PredicatedWatcher.watcher(resourceTypeClass.getName(), watcher));
-        });
-        when(mixed.create((T) any())).thenAnswer(i -> {
+        }));
+        when(mixed.create((T) any())).thenAnswer(counted("create", i -> {
             T resource = i.getArgument(0);
             String resourceName = resource.getMetadata().getName();
             return doCreate(resourceName, resource);
-        });
-        when(mixed.create()).thenAnswer(i -> {
+        }));
+        when(mixed.create()).thenAnswer(counted("create", i -> {
             T resource = i.getArgument(0);
             String resourceName = resource.getMetadata().getName();
             if (db.containsKey(resourceName)) {
@@ -169,20 +203,20 @@ class MockBuilder<T extends HasMetadata,
             } else {
                 return doCreate(resourceName, resource);
             }
-        });
-        when(mixed.createOrReplace()).thenAnswer(i -> {
+        }));
+        when(mixed.createOrReplace()).thenAnswer(counted("createOrReplace", i -> {
             T resource = i.getArgument(0);
             return doCreate(resource.getMetadata().getName(), resource);
-        });
-        when(mixed.createOrReplace((T) any())).thenAnswer(i -> {
+        }));
+        when(mixed.createOrReplace((T) any())).thenAnswer(counted("createOrReplace", i -> {
             T resource = i.getArgument(0);
             return doCreate(resource.getMetadata().getName(), resource);
-        });
-        when(mixed.delete(ArgumentMatchers.<T[]>any())).thenAnswer(i -> {
+        }));
+        when(mixed.delete(ArgumentMatchers.<T[]>any())).thenAnswer(counted("delete", i -> {
             T resource = i.getArgument(0);
             String resourceName = resource.getMetadata().getName();
             return doDelete(resourceName);
-        });
+        }));
         when(mixed.withLabel(any())).thenAnswer(i -> {
             String label = i.getArgument(0);
             return mockWithLabel(label);
@@ -233,13 +267,13 @@ class MockBuilder<T extends HasMetadata,
     @SuppressWarnings("unchecked")
     MixedOperation<T, L, R> mockWithLabelPredicate(Predicate<T> predicate) {
         MixedOperation<T, L, R> mixedWithLabels = mock(MixedOperation.class);
-        when(mixedWithLabels.list()).thenAnswer(i2 -> {
+        when(mixedWithLabels.list()).thenAnswer(counted("list", i2 -> {
             return mockList(predicate);
-        });
-        when(mixedWithLabels.watch(any())).thenAnswer(i2 -> {
+        }));
+        when(mixedWithLabels.watch(any())).thenAnswer(counted("watch", i2 -> {
             Watcher watcher = i2.getArgument(0);
             return addWatcher(PredicatedWatcher.predicatedWatcher(resourceTypeClass.getName(), "watch on labeled", predicate, watcher));
-        });
+        }));
         return mixedWithLabels;
     }
 
@@ -271,28 +305,28 @@ class MockBuilder<T extends HasMetadata,
         mockWatch(resourceName, resource);
         mockCreate(resourceName, resource);
         mockSetStatus(resourceName, resource);
-        when(resource.createOrReplace(any())).thenAnswer(i -> {
+        when(resource.createOrReplace(any())).thenAnswer(counted("createOrReplace", i -> {
             T resource2 = i.getArgument(0);
             if (db.containsKey(resourceName)) {
                 return resource.patch(resource2);
             } else {
                 return doCreate(resourceName, resource2);
             }
-        });
+        }));
 
         when(resource.withGracePeriod(anyLong())).thenReturn(resource);
         mockWithPropagationPolicy(resource);
         mockPatch(resourceName, resource);
-        when(resource.edit()).thenAnswer(i -> {
+        when(resource.edit()).thenAnswer(counted("edit", i -> {
             T t = resource.get();
             Function f = i.getArgument(0);
             return doPatch(t.getMetadata().getName(), resource, (T) f.apply(t));
-        });
-        when(resource.edit(any(UnaryOperator.class))).thenAnswer(i -> {
+        }));
+        when(resource.edit(any(UnaryOperator.class))).thenAnswer(counted("edit", i -> {
             T t = resource.get();
             Function f = i.getArgument(0);
             return doPatch(t.getMetadata().getName(), resource, (T) f.apply(t));
-        });
+        }));
         mockDelete(resourceName, resource);
         mockIsReady(resourceName, resource);
 
@@ -332,9 +366,9 @@ class MockBuilder<T extends HasMetadata,
     }
 
     protected void mockDelete(String resourceName, R resource) {
-        when(resource.withPropagationPolicy(DeletionPropagation.FOREGROUND).delete()).thenAnswer(i -> {
+        when(resource.withPropagationPolicy(DeletionPropagation.FOREGROUND).delete()).thenAnswer(counted("delete", i -> {
             return doDelete(resourceName);
-        });
+        }));
     }
 
     private Object doDelete(String resourceName) {
@@ -370,9 +404,9 @@ class MockBuilder<T extends HasMetadata,
 
     @SuppressWarnings("unchecked")
     protected void mockPatch(String resourceName, R resource) {
-        when(resource.patch((T) any())).thenAnswer(invocation -> {
+        when(resource.patch((T) any())).thenAnswer(counted("patch", invocation -> {
             return doPatch(resourceName, resource, invocation.getArgument(0));
-        });
+        }));
     }
 
     private T doPatch(String resourceName, R resource, T instance) {
@@ -389,9 +423,9 @@ class MockBuilder<T extends HasMetadata,
     }
 
     protected void mockWatch(String resourceName, R resource) {
-        when(resource.watch(any())).thenAnswer(i -> {
+        when(resource.watch(any())).thenAnswer(counted("watch", i -> {
             return mockedWatcher(resourceName, i);
-        });
+        }));
     }
 
     private Watch mockedWatcher(String resourceName, InvocationOnMock i) {
@@ -410,10 +444,10 @@ class MockBuilder<T extends HasMetadata,
 
     @SuppressWarnings("unchecked")
     protected void mockCreate(String resourceName, R resource) {
-        when(resource.create((T) any())).thenAnswer(i -> {
+        when(resource.create((T) any())).thenAnswer(counted("create", i -> {
             T argument = i.getArgument(0);
             return doCreate(resourceName, argument);
-        });
+        }));
     }
 
     private T doCreate(String resourceName, T argument) {
@@ -444,28 +478,28 @@ class MockBuilder<T extends HasMetadata,
     }
 
     protected OngoingStubbing<T> mockGet(String resourceName, R resource) {
-        return when(resource.get()).thenAnswer(i -> {
+        return when(resource.get()).thenAnswer(counted("get", i -> {
             T r = copyResource(db.get(resourceName));
             LOGGER.debug("{} {} get {}", resourceType, resourceName, r);
             return r;
-        });
+        }));
     }
 
     protected OngoingStubbing<Boolean> mockIsReady(String resourceName, R resource) {
-        return when(resource.isReady()).thenAnswer(i -> {
+        return when(resource.isReady()).thenAnswer(counted("get", i -> {
             LOGGER.debug("{} {} is ready", resourceType, resourceName);
             return Boolean.TRUE;
-        });
+        }));
     }
 
     @SuppressWarnings("unchecked")
     protected OngoingStubbing<T> mockSetStatus(String resourceName, R resource) {
-        return when(resource.updateStatus((T) any())).thenAnswer(i -> {
+        return when(resource.updateStatus((T) any())).thenAnswer(counted("updateStatus", i -> {
             T r = i.getArgument(0);
             updateStatus(r.getMetadata().getNamespace(), r.getMetadata().getName(), r);
             LOGGER.debug("{} {} setStatus {}", resourceType, resourceName, r);
             return copyResource(db.get(resourceName));
-        });
+        }));
     }
 
     public void updateStatus(String resourceNamespace, String resourceName, T resourceWithStatus) {
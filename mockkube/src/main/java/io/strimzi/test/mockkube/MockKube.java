@@ -125,6 +125,7 @@ public class MockKube {
     private MockBuilder<io.fabric8.kubernetes.api.model.networking.v1beta1.Ingress, io.fabric8.kubernetes.api.model.networking.v1beta1.IngressList, Resource<io.fabric8.kubernetes.api.model.networking.v1beta1.Ingress>> ingressV1Beta1MockBuilder;
     private DeploymentMockBuilder deploymentMockBuilder;
     private KubernetesClient mockClient;
+    private final ApiCallCounter apiCallCounter = new ApiCallCounter();
 
     public MockKube withInitialCms(Set<ConfigMap> initialCms) {
         this.cmDb.putAll(db(initialCms));
@@ -243,9 +244,17 @@ public class MockKube {
         mockBuilders.put(mockBuilder.resourceTypeClass, mockBuilder);
         mockBuilders2.put(plural, mockBuilder);
         mockBuilders3.put(plural, mockBuilder.resourceTypeClass);
+        mockBuilder.withApiCallCounter(apiCallCounter);
         return mockBuilder;
     }
 
+    /**
+     * @return  The counter of the calls done through the client returned by {@link #build()}
+     */
+    public ApiCallCounter apiCalls() {
+        return apiCallCounter;
+    }
+
     @SuppressWarnings("unchecked")
     @SuppressFBWarnings("BC_UNCONFIRMED_CAST_OF_RETURN_VALUE")
     public KubernetesClient build() {
@@ -406,7 +415,9 @@ public class MockKube {
         buildStatefulSets(MockBuilder<Pod, PodList, PodResource<Pod>> podMockBuilder, MixedOperation<Pod, PodList, PodResource<Pod>> mockPods,
                           MixedOperation<PersistentVolumeClaim, PersistentVolumeClaimList,
                                   Resource<PersistentVolumeClaim>> mockPvcs) {
-        MixedOperation<StatefulSet, StatefulSetList, RollableScalableResource<StatefulSet>> result = new StatefulSetMockBuilder(podMockBuilder, ssDb, podDb, mockPods, mockPvcs).build();
+        MixedOperation<StatefulSet, StatefulSetList, RollableScalableResource<StatefulSet>> result = new StatefulSetMockBuilder(podMockBuilder, ssDb, podDb, mockPods, mockPvcs)
+                .withApiCallCounter(apiCallCounter)
+                .build();
         return result;
     }
 
@@ -30,12 +30,12 @@ class ServiceMockBuilder extends MockBuilder<Service, ServiceList, ServiceResour
     /** Override Service creation to also create Endpoints */
     @Override
     protected void mockCreate(String resourceName, ServiceResource<Service> resource) {
-        when(resource.create(any(Service.class))).thenAnswer(i -> {
+        when(resource.create(any(Service.class))).thenAnswer(counted("create", i -> {
             Service argument = i.getArgument(0);
             db.put(resourceName, copyResource(argument));
             LOGGER.debug("create {} (and endpoint) {} ", resourceType, resourceName);
             endpointsDb.put(resourceName, new Endpoints());
             return argument;
-        });
+        }));
     }
 }
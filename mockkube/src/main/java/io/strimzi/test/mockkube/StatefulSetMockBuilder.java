@@ -90,42 +90,42 @@ class StatefulSetMockBuilder extends MockBuilder<StatefulSet, StatefulSetList, R
     }
 
     private void mockNoncascadingDelete(String resourceName, EditReplacePatchDeletable<StatefulSet> c) {
-        when(c.delete()).thenAnswer(i -> {
+        when(c.delete()).thenAnswer(counted("delete", i -> {
             LOGGER.info("delete {} {}", resourceType, resourceName);
             StatefulSet removed = db.remove(resourceName);
             return removed != null;
-        });
+        }));
     }
 
     private void mockNoncascadingPatch(String resourceName, EditReplacePatchDeletable<StatefulSet> c) {
-        when(c.patch(any(StatefulSet.class))).thenAnswer(patchInvocation -> {
+        when(c.patch(any(StatefulSet.class))).thenAnswer(counted("patch", patchInvocation -> {
             StatefulSet argument = patchInvocation.getArgument(0);
             return doPatch(resourceName, argument, argument.getSpec().getReplicas());
-        });
+        }));
     }
 
     private void mockScale(String resourceName, RollableScalableResource<StatefulSet> resource) {
-        when(resource.scale(anyInt(), anyBoolean())).thenAnswer(invocation -> {
+        when(resource.scale(anyInt(), anyBoolean())).thenAnswer(counted("scale", invocation -> {
             checkDoesExist(resourceName);
             StatefulSet sts = copyResource(db.get(resourceName));
             int newScale = invocation.getArgument(0);
             int oldScale = sts.getSpec().getReplicas();
             sts.getSpec().setReplicas(newScale);
             return doPatch(resourceName, sts, oldScale);
-        });
-        when(resource.scale(anyInt())).thenAnswer(invocation -> {
+        }));
+        when(resource.scale(anyInt())).thenAnswer(counted("scale", invocation -> {
             checkDoesExist(resourceName);
             StatefulSet sts = copyResource(db.get(resourceName));
             int newScale = invocation.getArgument(0);
             int oldScale = sts.getSpec().getReplicas();
             sts.getSpec().setReplicas(newScale);
             return doPatch(resourceName, sts, oldScale);
-        });
+        }));
     }
 
     @Override
     protected void mockCreate(String resourceName, RollableScalableResource<StatefulSet> resource) {
-        when(resource.create(any(StatefulSet.class))).thenAnswer(cinvocation -> {
+        when(resource.create(any(StatefulSet.class))).thenAnswer(counted("create", cinvocation -> {
             checkNotExists(resourceName);
             StatefulSet argument = cinvocation.getArgument(0);
             LOGGER.debug("create {} {} -> {}", resourceType, resourceName, argument);
@@ -160,7 +160,7 @@ class StatefulSetMockBuilder extends MockBuilder<StatefulSet, StatefulSetList, R
                 }
             }
             return argument;
-        });
+        }));
     }
 
     private Pod doCreatePod(StatefulSet sts, String podName) {
@@ -192,7 +192,7 @@ class StatefulSetMockBuilder extends MockBuilder<StatefulSet, StatefulSetList, R
 
     @Override
     protected void mockDelete(String resourceName, RollableScalableResource<StatefulSet> resource) {
-        when(resource.withPropagationPolicy(DeletionPropagation.FOREGROUND).delete()).thenAnswer(i -> {
+        when(resource.withPropagationPolicy(DeletionPropagation.FOREGROUND).delete()).thenAnswer(counted("delete", i -> {
             LOGGER.debug("delete {} {}", resourceType, resourceName);
             StatefulSet removed = db.remove(resourceName);
             if (removed != null) {
@@ -204,7 +204,7 @@ class StatefulSetMockBuilder extends MockBuilder<StatefulSet, StatefulSetList, R
                 }
             }
             return removed != null;
-        });
+        }));
     }
 
     private StatefulSet doPatch(String resourceName, StatefulSet argument, int oldScale) {
@@ -4,9 +4,14 @@
  */
 package io.strimzi.operator;
 
+import io.fabric8.kubernetes.api.model.APIGroup;
+import io.fabric8.kubernetes.api.model.APIGroupList;
+import io.fabric8.kubernetes.api.model.GroupVersionForDiscovery;
 import io.fabric8.kubernetes.client.KubernetesClient;
 import io.fabric8.kubernetes.client.VersionInfo;
+import io.fabric8.kubernetes.client.utils.Serialization;
 import io.strimzi.operator.common.Util;
+import io.vertx.core.CompositeFuture;
 import io.vertx.core.Future;
 import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
@@ -17,7 +22,9 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import java.text.ParseException;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * Gives a info about certain features availability regarding to kubernetes version
@@ -25,42 +32,60 @@ import java.util.Map;
 public class PlatformFeaturesAvailability {
     private static final Logger LOGGER = LogManager.getLogger(PlatformFeaturesAvailability.class.getName());
 
+    private static final String ROUTES_API = "route.openshift.io/v1";
+    private static final String BUILDS_API = "build.openshift.io/v1";
+    private static final String APPS_API = "apps.openshift.io/v1";
+    private static final String IMAGES_API = "image.openshift.io/v1";
+
     private boolean routes = false;
     private boolean builds = false;
     private boolean images = false;
     private boolean apps = false;
     private KubernetesVersion kubernetesVersion;
 
+    /**
+     * Detects the Kubernetes version and the available OpenShift APIs. The version and the APIs are detected in
+     * parallel. The APIs are discovered using a single request to the /apis discovery endpoint. When the discovery
+     * endpoint cannot be used, the individual APIs are checked in parallel instead.
+     *
+     * @param vertx     Vert.x instance
+     * @param client    Fabric8 Kubernetes client
+     *
+     * @return  Future with the PlatformFeaturesAvailability instance
+     */
     public static Future<PlatformFeaturesAvailability> create(Vertx vertx, KubernetesClient client) {
-        Promise<PlatformFeaturesAvailability> pfaPromise = Promise.promise();
         OkHttpClient httpClient = getOkHttpClient(client);
+        String masterUrl = client.getMasterUrl().toString();
 
         PlatformFeaturesAvailability pfa = new PlatformFeaturesAvailability();
 
-        Future<VersionInfo> futureVersion = getVersionInfo(vertx, client);
-
-        futureVersion.compose(versionInfo -> {
-            String major = versionInfo.getMajor().equals("") ? Integer.toString(KubernetesVersion.MINIMAL_SUPPORTED_MAJOR) : versionInfo.getMajor();
-            String minor = versionInfo.getMinor().equals("") ? Integer.toString(KubernetesVersion.MINIMAL_SUPPORTED_MINOR) : versionInfo.getMinor();
-            pfa.setKubernetesVersion(new KubernetesVersion(Integer.parseInt(major.split("\\D")[0]), Integer.parseInt(minor.split("\\D")[0])));
-
-            return checkApiAvailability(vertx, httpClient, client.getMasterUrl().toString(), "route.openshift.io", "v1");
-        }).compose(supported -> {
-            pfa.setRoutes(supported);
-            return checkApiAvailability(vertx, httpClient, client.getMasterUrl().toString(), "build.openshift.io", "v1");
-        }).compose(supported -> {
-            pfa.setBuilds(supported);
-            return checkApiAvailability(vertx, httpClient, client.getMasterUrl().toString(), "apps.openshift.io", "v1");
-        }).compose(supported -> {
-            pfa.setApps(supported);
-            return checkApiAvailability(vertx, httpClient, client.getMasterUrl().toString(), "image.openshift.io", "v1");
-        }).compose(supported -> {
-            pfa.setImages(supported);
-            return Future.succeededFuture(pfa);
-        })
-        .onComplete(pfaPromise);
-
-        return pfaPromise.future();
+        Future<VersionInfo> futureVersion = getVersionInfo(vertx, client)
+                .onSuccess(versionInfo -> {
+                    String major = versionInfo.getMajor().equals("") ? Integer.toString(KubernetesVersion.MINIMAL_SUPPORTED_MAJOR) : versionInfo.getMajor();
+                    String minor = versionInfo.getMinor().equals("") ? Integer.toString(KubernetesVersion.MINIMAL_SUPPORTED_MINOR) : versionInfo.getMinor();
+                    pfa.setKubernetesVersion(new KubernetesVersion(Integer.parseInt(major.split("\\D")[0]), Integer.parseInt(minor.split("\\D")[0])));
+                });
+
+        Future<Void> futureApis = discoverApis(vertx, httpClient, masterUrl)
+                .map(groupVersions -> {
+                    pfa.setRoutes(groupVersions.contains(ROUTES_API));
+                    pfa.setBuilds(groupVersions.contains(BUILDS_API));
+                    pfa.setApps(groupVersions.contains(APPS_API));
+                    pfa.setImages(groupVersions.contains(IMAGES_API));
+                    return (Void) null;
+                })
+                .recover(error -> {
+                    LOGGER.warn("Discovery of the available APIs failed. The APIs will be checked individually.", error);
+
+                    Future<Boolean> routes = checkApiAvailability(vertx, httpClient, masterUrl, ROUTES_API).onSuccess(pfa::setRoutes);
+                    Future<Boolean> builds = checkApiAvailability(vertx, httpClient, masterUrl, BUILDS_API).onSuccess(pfa::setBuilds);
+                    Future<Boolean> apps = checkApiAvailability(vertx, httpClient, masterUrl, APPS_API).onSuccess(pfa::setApps);
+                    Future<Boolean> images = checkApiAvailability(vertx, httpClient, masterUrl, IMAGES_API).onSuccess(pfa::setImages);
+
+                    return CompositeFuture.join(routes, builds, apps, images).map((Void) null);
+                });
+
+        return CompositeFuture.all(futureVersion, futureApis).map(pfa);
     }
 
     private static OkHttpClient getOkHttpClient(KubernetesClient client)   {
@@ -152,19 +177,60 @@ public class PlatformFeaturesAvailability {
                 LOGGER.error("Detection of Kubernetes version failed.", e);
                 request.fail(e);
             }
-        }, promise);
+        }, false, promise);
+
+        return promise.future();
+    }
+
+    /**
+     * Gets the group versions of all APIs available in the Kubernetes cluster from the /apis discovery endpoint
+     *
+     * @param vertx         Vert.x instance
+     * @param httpClient    HTTP client used to call the API server
+     * @param masterUrl     URL of the Kubernetes API server
+     *
+     * @return  Future with the set of the available group versions (e.g. route.openshift.io/v1)
+     */
+    private static Future<Set<String>> discoverApis(Vertx vertx, OkHttpClient httpClient, String masterUrl)   {
+        Promise<Set<String>> promise = Promise.promise();
+
+        vertx.executeBlocking(request -> {
+            try (Response resp = httpClient.newCall(new Request.Builder().get().url(masterUrl + "apis").build()).execute()) {
+                if (resp.code() >= 200 && resp.code() < 300 && resp.body() != null) {
+                    APIGroupList groups = Serialization.unmarshal(resp.body().byteStream(), APIGroupList.class);
+
+                    Set<String> groupVersions = new HashSet<>();
+                    if (groups != null && groups.getGroups() != null) {
+                        for (APIGroup group : groups.getGroups()) {
+                            if (group.getVersions() != null) {
+                                for (GroupVersionForDiscovery version : group.getVersions()) {
+                                    groupVersions.add(version.getGroupVersion());
+                                }
+                            }
+                        }
+                    }
+
+                    LOGGER.debug("{} returned {} available APIs", resp.request().url(), groupVersions.size());
+                    request.complete(groupVersions);
+                } else {
+                    request.fail("API discovery " + resp.request().url() + " returned " + resp.code());
+                }
+            } catch (Exception e) {
+                request.fail(e);
+            }
+        }, false, promise);
 
         return promise.future();
     }
 
-    private static Future<Boolean> checkApiAvailability(Vertx vertx, OkHttpClient httpClient, String masterUrl, String api, String version)   {
+    private static Future<Boolean> checkApiAvailability(Vertx vertx, OkHttpClient httpClient, String masterUrl, String groupVersion)   {
         Promise<Boolean> promise = Promise.promise();
 
         vertx.executeBlocking(request -> {
             try {
                 Boolean isSupported;
 
-                Response resp = httpClient.newCall(new Request.Builder().get().url(masterUrl + "apis/" + api + "/" + version).build()).execute();
+                Response resp = httpClient.newCall(new Request.Builder().get().url(masterUrl + "apis/" + groupVersion).build()).execute();
                 if (resp.code() >= 200 && resp.code() < 300) {
                     LOGGER.debug("{} returned {}. This API is supported.", resp.request().url(), resp.code());
                     isSupported = true;
@@ -176,10 +242,10 @@ public class PlatformFeaturesAvailability {
                 resp.close();
                 request.complete(isSupported);
             } catch (Exception e) {
-                LOGGER.error("Detection of {}/{} API failed. This API will be disabled.", api, version, e);
+                LOGGER.error("Detection of {} API failed. This API will be disabled.", groupVersion, e);
                 request.complete(false);
             }
-        }, promise);
+        }, false, promise);
 
         return promise.future();
     }
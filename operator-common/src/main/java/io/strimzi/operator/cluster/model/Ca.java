@@ -21,9 +21,11 @@ import io.strimzi.operator.common.Util;
 import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.security.KeyStoreException;
+import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.security.cert.Certificate;
 import java.security.cert.CertificateException;
@@ -38,11 +40,19 @@ import java.time.format.SignStyle;
 import java.util.ArrayList;
 import java.util.Base64;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -64,6 +74,15 @@ public abstract class Ca {
 
     protected static final ReconciliationLogger LOGGER = ReconciliationLogger.create(Ca.class);
 
+    private static final int CERTIFICATE_DETAILS_CACHE_SIZE = 1024;
+    private static final Map<String, CertificateDetails> CERTIFICATE_DETAILS_CACHE = Collections.synchronizedMap(
+            new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, CertificateDetails> eldest) {
+                    return size() > CERTIFICATE_DETAILS_CACHE_SIZE;
+                }
+            });
+
     private static final DateTimeFormatter DATE_TIME_FORMATTER = new DateTimeFormatterBuilder()
             .appendValue(YEAR, 4, 10, SignStyle.EXCEEDS_PAD)
             .appendLiteral('-')
@@ -316,11 +335,6 @@ public abstract class Ca {
      * @throws IOException If the cert could not be generated.
      */
     public CertAndKey generateSignedCert(String commonName, String organization) throws IOException {
-        File csrFile = File.createTempFile("tls", "csr");
-        File keyFile = File.createTempFile("tls", "key");
-        File certFile = File.createTempFile("tls", "cert");
-        File keyStoreFile = File.createTempFile("tls", "p12");
-
         Subject.Builder subject = new Subject.Builder();
 
         if (organization != null) {
@@ -329,19 +343,14 @@ public abstract class Ca {
 
         subject.withCommonName(commonName);
 
-        CertAndKey result = generateSignedCert(subject.build(),
-                csrFile, keyFile, certFile, keyStoreFile);
-
-        delete(reconciliation, csrFile);
-        delete(reconciliation, keyFile);
-        delete(reconciliation, certFile);
-        delete(reconciliation, keyStoreFile);
-        return result;
+        return generateSignedCert(subject.build());
     }
 
     /**
      * Copy already existing certificates from provided Secret based on number of effective replicas
      * and maybe generate new ones for new replicas (i.e. scale-up).
+     * The certificates of the individual pods are checked and generated in parallel using the
+     * {@link #certGenerationExecutor()}.
      */
     protected Map<String, CertAndKey> maybeCopyOrGenerateCerts(
            Reconciliation reconciliation,
@@ -357,78 +366,153 @@ public abstract class Ca {
             replicasInSecret = (int) secret.getData().keySet().stream().filter(k -> k.contains(".crt")).count();
         }
 
-        File brokerCsrFile = File.createTempFile("tls", "broker-csr");
-        File brokerKeyFile = File.createTempFile("tls", "broker-key");
-        File brokerCertFile = File.createTempFile("tls", "broker-cert");
-        File brokerKeyStoreFile = File.createTempFile("tls", "broker-p12");
-
+        Executor executor = certGenerationExecutor();
         int replicasInNewSecret = Math.min(replicasInSecret, replicas);
-        Map<String, CertAndKey> certs = new HashMap<>(replicasInNewSecret);
+        Map<String, CompletableFuture<CertAndKey>> futures = new LinkedHashMap<>(replicas);
         // copying the minimum number of certificates already existing in the secret
         // scale up -> it will copy all certificates
         // scale down -> it will copy just the requested number of replicas
         for (int i = 0; i < replicasInNewSecret; i++) {
             String podName = podNameFn.apply(i);
-            LOGGER.debugCr(reconciliation, "Certificate for {} already exists", podName);
             Subject subject = subjectFn.apply(i);
 
-            CertAndKey certAndKey;
-            if (secret.getData().get(podName + ".p12") != null &&
-                    !secret.getData().get(podName + ".p12").isEmpty() &&
-                    secret.getData().get(podName + ".password") != null &&
-                    !secret.getData().get(podName + ".password").isEmpty()) {
+            futures.put(podName, supplyAsync(() -> maybeCopyOrGenerateCert(reconciliation, subject, secret, podName, isMaintenanceTimeWindowsSatisfied), executor));
+        }
 
-                certAndKey = asCertAndKey(secret,
-                        podName + ".key", podName + ".crt",
-                        podName + ".p12", podName + ".password");
-            } else {
-                // coming from an older operator version, the secret exists but without keystore and password
-                certAndKey = addKeyAndCertToKeyStore(subject.commonName(),
-                        Base64.getDecoder().decode(secret.getData().get(podName + ".key")),
-                        Base64.getDecoder().decode(secret.getData().get(podName + ".crt")));
-            }
+        // generate the missing number of certificates
+        // scale up -> generate new certificates for added replicas
+        // scale down -> does nothing
+        for (int i = replicasInSecret; i < replicas; i++) {
+            String podName = podNameFn.apply(i);
+            Subject subject = subjectFn.apply(i);
 
-            List<String> reasons = new ArrayList<>(2);
+            LOGGER.debugCr(reconciliation, "Certificate for {} to generate", podName);
+            futures.put(podName, supplyAsync(() -> generateSignedCert(subject), executor));
+        }
 
-            if (certSubjectChanged(certAndKey, subject, podName))   {
-                reasons.add("DNS names changed");
+        Map<String, CertAndKey> certs = new HashMap<>(futures.size());
+        for (Map.Entry<String, CompletableFuture<CertAndKey>> future : futures.entrySet()) {
+            try {
+                certs.put(future.getKey(), future.getValue().join());
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof UncheckedIOException) {
+                    throw ((UncheckedIOException) e.getCause()).getCause();
+                } else if (e.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) e.getCause();
+                } else {
+                    throw e;
+                }
             }
+        }
 
-            if (isExpiring(secret, podName + ".crt") && isMaintenanceTimeWindowsSatisfied)  {
-                reasons.add("certificate is expiring");
-            }
+        return certs;
+    }
 
-            if (renewalType.equals(RenewalType.CREATE)) {
-                reasons.add("certificate added");
-            }
+    /**
+     * Copies the certificate of a single pod from the existing Secret or generates a new one when the existing
+     * certificate has different subject alternative names, is expiring or the CA was just created.
+     */
+    private CertAndKey maybeCopyOrGenerateCert(Reconciliation reconciliation, Subject subject, Secret secret, String podName,
+                                               boolean isMaintenanceTimeWindowsSatisfied) throws IOException {
+        LOGGER.debugCr(reconciliation, "Certificate for {} already exists", podName);
+
+        CertAndKey certAndKey;
+        if (secret.getData().get(podName + ".p12") != null &&
+                !secret.getData().get(podName + ".p12").isEmpty() &&
+                secret.getData().get(podName + ".password") != null &&
+                !secret.getData().get(podName + ".password").isEmpty()) {
+
+            certAndKey = asCertAndKey(secret,
+                    podName + ".key", podName + ".crt",
+                    podName + ".p12", podName + ".password");
+        } else {
+            // coming from an older operator version, the secret exists but without keystore and password
+            certAndKey = addKeyAndCertToKeyStore(subject.commonName(),
+                    Base64.getDecoder().decode(secret.getData().get(podName + ".key")),
+                    Base64.getDecoder().decode(secret.getData().get(podName + ".crt")));
+        }
 
-            if (!reasons.isEmpty())  {
-                LOGGER.debugCr(reconciliation, "Certificate for pod {} need to be regenerated because: {}", podName, String.join(", ", reasons));
+        List<String> reasons = new ArrayList<>(2);
 
-                CertAndKey newCertAndKey = generateSignedCert(subject, brokerCsrFile, brokerKeyFile, brokerCertFile, brokerKeyStoreFile);
-                certs.put(podName, newCertAndKey);
-            }   else {
-                certs.put(podName, certAndKey);
-            }
+        if (certSubjectChanged(certAndKey, subject, podName))   {
+            reasons.add("DNS names changed");
         }
 
-        // generate the missing number of certificates
-        // scale up -> generate new certificates for added replicas
-        // scale down -> does nothing
-        for (int i = replicasInSecret; i < replicas; i++) {
-            String podName = podNameFn.apply(i);
+        if (isExpiring(secret, podName + ".crt") && isMaintenanceTimeWindowsSatisfied)  {
+            reasons.add("certificate is expiring");
+        }
 
-            LOGGER.debugCr(reconciliation, "Certificate for {} to generate", podName);
-            CertAndKey k = generateSignedCert(subjectFn.apply(i),
-                    brokerCsrFile, brokerKeyFile, brokerCertFile, brokerKeyStoreFile);
-            certs.put(podName, k);
+        if (renewalType.equals(RenewalType.CREATE)) {
+            reasons.add("certificate added");
         }
-        delete(reconciliation, brokerCsrFile);
-        delete(reconciliation, brokerKeyFile);
-        delete(reconciliation, brokerCertFile);
-        delete(reconciliation, brokerKeyStoreFile);
 
-        return certs;
+        if (!reasons.isEmpty())  {
+            LOGGER.debugCr(reconciliation, "Certificate for pod {} need to be regenerated because: {}", podName, String.join(", ", reasons));
+
+            return generateSignedCert(subject);
+        }   else {
+            return certAndKey;
+        }
+    }
+
+    /**
+     * Generates a certificate signed by this CA using its own set of temporary files, so that several certificates
+     * can be generated in parallel.
+     */
+    private CertAndKey generateSignedCert(Subject subject) throws IOException {
+        File csrFile = File.createTempFile("tls", "csr");
+        File keyFile = File.createTempFile("tls", "key");
+        File certFile = File.createTempFile("tls", "cert");
+        File keyStoreFile = File.createTempFile("tls", "p12");
+
+        try {
+            return generateSignedCert(subject, csrFile, keyFile, certFile, keyStoreFile);
+        } finally {
+            delete(reconciliation, csrFile);
+            delete(reconciliation, keyFile);
+            delete(reconciliation, certFile);
+            delete(reconciliation, keyStoreFile);
+        }
+    }
+
+    /**
+     * Returns the executor used to check and generate the certificates of the individual pods. By default, this is a
+     * pool bounded by the number of available processors which is shared by all CAs.
+     *
+     * @return  The executor used for certificate generation
+     */
+    protected Executor certGenerationExecutor() {
+        return CertGenerationPool.EXECUTOR;
+    }
+
+    private static <T> CompletableFuture<T> supplyAsync(IOSupplier<T> supplier, Executor executor) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return supplier.get();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }, executor);
+    }
+
+    @FunctionalInterface
+    private interface IOSupplier<T> {
+        T get() throws IOException;
+    }
+
+    /**
+     * Lazily initialized holder of the shared certificate generation pool. The certificates are generated by
+     * OpenSSL processes, so the pool is bounded by the number of CPUs to not overload the operator container.
+     */
+    private static class CertGenerationPool {
+        private static final AtomicInteger THREAD_COUNTER = new AtomicInteger(0);
+        private static final ExecutorService EXECUTOR = Executors.newFixedThreadPool(
+                Math.max(2, Runtime.getRuntime().availableProcessors()),
+            runnable -> {
+                Thread thread = new Thread(runnable, "cert-generation-" + THREAD_COUNTER.getAndIncrement());
+                thread.setDaemon(true);
+                return thread;
+            });
     }
 
     /**
@@ -442,9 +526,11 @@ public abstract class Ca {
         boolean isExpiring = false;
 
         try {
-            X509Certificate currentCert = cert(secret, certKey);
-            isExpiring = certNeedsRenewal(currentCert);
-        } catch (RuntimeException e) {
+            if (secret != null && secret.getData() != null && secret.getData().get(certKey) != null) {
+                CertificateDetails details = certificateDetails(Base64.getDecoder().decode(secret.getData().get(certKey)));
+                isExpiring = certNeedsRenewal(details.notAfter);
+            }
+        } catch (CertificateException | RuntimeException e) {
             // TODO: We should mock the certificates properly so that this doesn't fail in tests (not now => long term :-o)
             LOGGER.debugCr(reconciliation, "Failed to parse existing certificate", e);
         }
@@ -483,12 +569,7 @@ public abstract class Ca {
         List<String> subjectAltNames = null;
 
         try {
-            X509Certificate cert = x509Certificate(certificate);
-            Collection<List<?>> altNames = cert.getSubjectAlternativeNames();
-            subjectAltNames = altNames.stream()
-                    .filter(name -> name.get(1) instanceof String)
-                    .map(item -> (String) item.get(1))
-                    .collect(Collectors.toList());
+            subjectAltNames = certificateDetails(certificate).subjectAltNames;
         } catch (CertificateException | RuntimeException e) {
             // TODO: We should mock the certificates properly so that this doesn't fail in tests (not now => long term :-o)
             LOGGER.debugCr(reconciliation, "Failed to parse existing certificate", e);
@@ -497,6 +578,56 @@ public abstract class Ca {
         return subjectAltNames;
     }
 
+    /**
+     * Returns the details of the certificate needed to decide whether it has to be renewed. The certificates are
+     * parsed only once and cached based on their SHA-256 fingerprint. So the periodic reconciliations which find the
+     * same certificates in the Secrets do not need to parse them again.
+     *
+     * @param certificate   X509 certificate as a byte array
+     * @return  The certificate details
+     * @throws CertificateException If the certificate cannot be parsed
+     */
+    /*test*/ static CertificateDetails certificateDetails(byte[] certificate) throws CertificateException {
+        String fingerprint = fingerprint(certificate);
+        CertificateDetails details = CERTIFICATE_DETAILS_CACHE.get(fingerprint);
+
+        if (details == null) {
+            X509Certificate cert = x509Certificate(certificate);
+            Collection<List<?>> altNames = cert.getSubjectAlternativeNames();
+            List<String> subjectAltNames = altNames == null ? null : altNames.stream()
+                    .filter(name -> name.get(1) instanceof String)
+                    .map(item -> (String) item.get(1))
+                    .collect(Collectors.toUnmodifiableList());
+
+            details = new CertificateDetails(subjectAltNames, cert.getNotAfter());
+            CERTIFICATE_DETAILS_CACHE.put(fingerprint, details);
+        }
+
+        return details;
+    }
+
+    private static String fingerprint(byte[] certificate) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(certificate);
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new RuntimeException("No security provider with support for SHA-256", e);
+        }
+    }
+
+    /**
+     * Details parsed from a certificate which are used to decide whether it needs to be renewed
+     */
+    /*test*/ static class CertificateDetails {
+        final List<String> subjectAltNames;
+        final Date notAfter;
+
+        CertificateDetails(List<String> subjectAltNames, Date notAfter) {
+            this.subjectAltNames = subjectAltNames;
+            this.notAfter = notAfter;
+        }
+    }
+
     /**
      * Create the CA {@code Secrets} if they don't exist, otherwise if within the renewal period then either renew the CA cert
      * or replace the CA cert and key, according to the configured policy.
@@ -817,8 +948,11 @@ public abstract class Ca {
     }
 
     public boolean certNeedsRenewal(X509Certificate cert)  {
-        Date notAfter = cert.getNotAfter();
-        LOGGER.traceCr(reconciliation, "Certificate {} expires on {}", cert.getSubjectDN(), notAfter);
+        LOGGER.traceCr(reconciliation, "Certificate {} expires on {}", cert.getSubjectDN(), cert.getNotAfter());
+        return certNeedsRenewal(cert.getNotAfter());
+    }
+
+    private boolean certNeedsRenewal(Date notAfter)  {
         long msTillExpired = notAfter.getTime() - System.currentTimeMillis();
         return msTillExpired < renewalDays * 24L * 60L * 60L * 1000L;
     }
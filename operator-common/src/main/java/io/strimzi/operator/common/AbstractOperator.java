@@ -34,6 +34,7 @@ import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
 import io.vertx.core.shareddata.Lock;
 
+import java.lang.management.ManagementFactory;
 import java.util.ArrayList;
 import java.util.LinkedHashSet;
 import java.util.Map;
@@ -42,6 +43,8 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
@@ -89,11 +92,19 @@ public abstract class AbstractOperator<
     private final Counter failedReconciliationsCounter;
     private final Counter successfulReconciliationsCounter;
     private final Counter lockedReconciliationsCounter;
+    private final Counter dispatchedWatchEventsCounter;
+    private final Counter filteredWatchEventsCounter;
     private final AtomicInteger pausedResourceCounter;
     private final AtomicInteger resourceCounter;
     private final Timer reconciliationsTimer;
     private final Map<String, AtomicInteger> resourcesStateCounter;
 
+    private final Timer firstReconciliationTimer;
+    private final AtomicBoolean firstReconciliationDone = new AtomicBoolean(false);
+
+    private volatile ShardManager shardManager;
+    private volatile ReconciliationStagger stagger;
+
     public AbstractOperator(Vertx vertx, String kind, O resourceOperator, MetricsProvider metrics, Labels selectorLabels) {
         this.vertx = vertx;
         this.kind = kind;
@@ -129,6 +140,14 @@ public abstract class AbstractOperator<
                 "Number of reconciliations skipped because another reconciliation for the same resource was still running",
                 metricTags);
 
+        dispatchedWatchEventsCounter = metrics.counter(METRICS_PREFIX + "watch.events.dispatched",
+                "Number of watch events which triggered a reconciliation",
+                metricTags);
+
+        filteredWatchEventsCounter = metrics.counter(METRICS_PREFIX + "watch.events.filtered",
+                "Number of watch events which did not trigger a reconciliation because the resource did not change in a relevant way",
+                metricTags);
+
         resourceCounter = metrics.gauge(METRICS_PREFIX + "resources",
                 "Number of custom resources the operator sees",
                 metricTags);
@@ -137,6 +156,10 @@ public abstract class AbstractOperator<
                 "The time the reconciliation takes to complete",
                 metricTags);
 
+        firstReconciliationTimer = metrics.timer(METRICS_PREFIX + "reconciliations.first",
+                "The time from the start of the operator until its first reconciliation completed",
+                metricTags);
+
         resourcesStateCounter = new ConcurrentHashMap<>();
     }
 
@@ -145,6 +168,39 @@ public abstract class AbstractOperator<
         return kind;
     }
 
+    /**
+     * Enables sharding of the custom resources across several operator replicas. When set, only the custom resources
+     * from the shards owned by this replica are reconciled and the others are ignored.
+     *
+     * @param shardManager  Shard manager which decides which custom resources are owned by this replica
+     */
+    public void setShardManager(ShardManager shardManager) {
+        this.shardManager = shardManager;
+    }
+
+    /**
+     * Sets the reconciliation stagger used to defer the reconciliations of the already reconciled resources when the
+     * watch is created. It has to be set before the watch is created.
+     *
+     * @param stagger   Reconciliation stagger shared by all operators
+     */
+    public void setReconciliationStagger(ReconciliationStagger stagger) {
+        this.stagger = stagger;
+    }
+
+    /**
+     * Checks whether the custom resource with given namespace and name should be reconciled by this operator replica.
+     * Without sharding, all resources are owned.
+     *
+     * @param resource  Namespace and name of the custom resource
+     *
+     * @return  True if the resource belongs to a shard owned by this operator replica
+     */
+    public boolean isInOwnedShard(NamespaceAndName resource) {
+        ShardManager shards = this.shardManager;
+        return shards == null || shards.owns(resource);
+    }
+
     /**
      * Gets the name of the lock to be used for operating on the given {@code namespace} and
      * cluster {@code name}
@@ -192,6 +248,11 @@ public abstract class AbstractOperator<
         String namespace = reconciliation.namespace();
         String name = reconciliation.name();
 
+        if (!isInOwnedShard(new NamespaceAndName(namespace, name))) {
+            LOGGER.debugCr(reconciliation, "{} {} in namespace {} belongs to a shard owned by another operator replica and will be ignored", kind, name, namespace);
+            return Future.succeededFuture();
+        }
+
         reconciliationsCounter.increment();
         Timer.Sample reconciliationTimerSample = Timer.start(metrics.meterRegistry());
 
@@ -451,6 +512,7 @@ public abstract class AbstractOperator<
                 .map(resourceList ->
                         resourceList.stream()
                                 .map(resource -> new NamespaceAndName(resource.getMetadata().getNamespace(), resource.getMetadata().getName()))
+                                .filter(this::isInOwnedShard)
                                 .collect(Collectors.toSet()));
     }
 
@@ -472,7 +534,7 @@ public abstract class AbstractOperator<
      * @return A future which completes when the watcher has been created.
      */
     public Future<Watch> createWatch(String namespace, Consumer<WatcherException> onClose) {
-        return async(vertx, () -> resourceOperator.watch(namespace, selector(), new OperatorWatcher<>(this, namespace, onClose)));
+        return async(vertx, () -> resourceOperator.watch(namespace, selector(), new OperatorWatcher<>(this, namespace, onClose, dispatchedWatchEventsCounter, filteredWatchEventsCounter, stagger)));
     }
 
     public Consumer<WatcherException> recreateWatch(String namespace) {
@@ -494,6 +556,14 @@ public abstract class AbstractOperator<
      * Log the reconciliation outcome.
      */
     private void handleResult(Reconciliation reconciliation, AsyncResult<Void> result, Timer.Sample reconciliationTimerSample) {
+        LOGGER.debugCr(reconciliation, "Reconciliation made {} Kubernetes API requests", reconciliation.kubernetesRequests());
+
+        if (!(result.cause() instanceof UnableToAcquireLockException) && firstReconciliationDone.compareAndSet(false, true)) {
+            long sinceStartMs = System.currentTimeMillis() - ManagementFactory.getRuntimeMXBean().getStartTime();
+            firstReconciliationTimer.record(sinceStartMs, TimeUnit.MILLISECONDS);
+            LOGGER.infoCr(reconciliation, "First {} reconciliation completed {}ms after the operator start", kind, sinceStartMs);
+        }
+
         if (result.succeeded()) {
             updateResourceState(reconciliation, true, null);
             successfulReconciliationsCounter.increment();
@@ -22,4 +22,18 @@ public interface AdminClientProvider {
      * @return Instance of Kafka Admin interface
      */
     Admin createAdminClient(String bootstrapHostnames, Secret clusterCaCertSecret, Secret keyCertSecret, String keyCertName);
+
+    /**
+     * Create a Kafka Admin interface instance which is not shared with any other user even when the provider reuses
+     * the Admin clients. By default, this is the same as {@link #createAdminClient(String, Secret, Secret, String)}.
+     *
+     * @param bootstrapHostnames Kafka hostname to connect to for administration operations
+     * @param clusterCaCertSecret Secret containing the cluster CA certificate for TLS encryption
+     * @param keyCertSecret Secret containing keystore for TLS client authentication
+     * @param keyCertName Key inside the keyCertSecret for getting the keystore and the corresponding password
+     * @return Instance of Kafka Admin interface
+     */
+    default Admin createDedicatedAdminClient(String bootstrapHostnames, Secret clusterCaCertSecret, Secret keyCertSecret, String keyCertName) {
+        return createAdminClient(bootstrapHostnames, clusterCaCertSecret, keyCertSecret, keyCertName);
+    }
 }
@@ -0,0 +1,177 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common;
+
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Context;
+import io.vertx.core.Handler;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+
+import java.util.ArrayDeque;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Executes the blocking Kubernetes operations done through the Fabric8 Kubernetes client (get, list, create, patch or
+ * delete). By default, they are executed on the shared {@code kubernetes-ops-pool} worker pool which is sized using the
+ * {@code STRIMZI_OPERATIONS_THREAD_POOL_SIZE} environment variable. When running on a JDK which supports virtual
+ * threads (Java 21 and newer), they can be executed on virtual threads instead so that the size of the worker pool
+ * does not limit how many reconciliations can talk to the Kubernetes API server at the same time.
+ */
+public class KubernetesOperationsExecutor {
+    private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(KubernetesOperationsExecutor.class);
+
+    /**
+     * Name of the shared worker pool used for the blocking Kubernetes operations
+     */
+    public static final String WORKER_POOL_NAME = "kubernetes-ops-pool";
+
+    /**
+     * Environment variable used to enable the virtual thread executor
+     */
+    public static final String VIRTUAL_THREADS_ENV = "STRIMZI_OPERATIONS_VIRTUAL_THREADS";
+
+    // Key of the context data holding the executor which keeps the ordered operations of the context in order
+    private static final String ORDERED_EXECUTOR_KEY = KubernetesOperationsExecutor.class.getName() + ".ordered";
+
+    private static volatile ExecutorService virtualThreadExecutor = null;
+
+    private KubernetesOperationsExecutor() { }
+
+    /**
+     * Enables the virtual thread executor when it is enabled in the environment variables and supported by the JDK.
+     * When the JDK does not support virtual threads, a warning is logged and the worker pool keeps being used.
+     *
+     * @param env   Map with the environment variables
+     *
+     * @return  True if the virtual thread executor is used. False otherwise.
+     */
+    public static boolean configure(Map<String, String> env) {
+        if (Boolean.parseBoolean(env.get(VIRTUAL_THREADS_ENV))) {
+            if (virtualThreadExecutor == null) {
+                try {
+                    // Looked up using reflection because the operators are compiled for Java 11
+                    virtualThreadExecutor = (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+                    LOGGER.infoOp("Blocking Kubernetes operations will be executed on virtual threads");
+                } catch (ReflectiveOperationException e) {
+                    LOGGER.warnOp("{} is enabled, but virtual threads are not supported by this JDK. The {} worker pool will be used instead.",
+                            VIRTUAL_THREADS_ENV, WORKER_POOL_NAME);
+                }
+            }
+        }
+
+        return virtualThreadExecutor != null;
+    }
+
+    /**
+     * Executes the blocking code and calls the result handler on the context of the caller once the promise passed to
+     * the blocking code is completed. This mirrors {@link io.vertx.core.WorkerExecutor#executeBlocking(Handler, boolean, Handler)}
+     * of the {@code kubernetes-ops-pool} worker pool. When running on virtual threads, the ordered calls from the same
+     * context are executed one after another as well.
+     *
+     * @param vertx                 Vert.x instance
+     * @param blockingCodeHandler   The blocking code
+     * @param ordered               Whether the calls from the same context should be executed in order
+     * @param resultHandler         Handler called with the result of the blocking code
+     * @param <T>                   Type of the result
+     */
+    public static <T> void executeBlocking(Vertx vertx, Handler<Promise<T>> blockingCodeHandler, boolean ordered, Handler<AsyncResult<T>> resultHandler) {
+        ExecutorService executor = virtualThreadExecutor;
+
+        if (executor == null) {
+            vertx.createSharedWorkerExecutor(WORKER_POOL_NAME).executeBlocking(blockingCodeHandler, ordered, resultHandler);
+        } else {
+            Context context = vertx.getOrCreateContext();
+
+            (ordered ? orderedExecutor(context, executor) : executor).execute(() -> {
+                Promise<T> promise = Promise.promise();
+
+                try {
+                    blockingCodeHandler.handle(promise);
+                } catch (Throwable t) {
+                    promise.tryFail(t);
+                }
+
+                promise.future().onComplete(res -> context.runOnContext(v -> resultHandler.handle(res)));
+            });
+        }
+    }
+
+    /**
+     * Gets the executor which executes the ordered calls from the given context one after another
+     *
+     * @param context   The context of the caller
+     * @param executor  The executor used to execute the calls
+     *
+     * @return  The ordered executor of the context
+     */
+    private static Executor orderedExecutor(Context context, Executor executor) {
+        synchronized (context) {
+            OrderedExecutor ordered = context.get(ORDERED_EXECUTOR_KEY);
+
+            if (ordered == null || ordered.executor != executor) {
+                ordered = new OrderedExecutor(executor);
+                context.put(ORDERED_EXECUTOR_KEY, ordered);
+            }
+
+            return ordered;
+        }
+    }
+
+    /* test */ static void useExecutor(ExecutorService executor) {
+        virtualThreadExecutor = executor;
+    }
+
+    /* test */ static void reset() {
+        ExecutorService executor = virtualThreadExecutor;
+        virtualThreadExecutor = null;
+
+        if (executor != null) {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * Executes the tasks one after another using the underlying executor. The next task is submitted to the
+     * underlying executor only once the previous one finished.
+     */
+    private static class OrderedExecutor implements Executor {
+        private final Executor executor;
+        private final Queue<Runnable> tasks = new ArrayDeque<>();
+        private boolean running = false;
+
+        OrderedExecutor(Executor executor) {
+            this.executor = executor;
+        }
+
+        @Override
+        public synchronized void execute(Runnable task) {
+            tasks.add(() -> {
+                try {
+                    task.run();
+                } finally {
+                    next();
+                }
+            });
+
+            if (!running) {
+                next();
+            }
+        }
+
+        private synchronized void next() {
+            Runnable task = tasks.poll();
+            running = task != null;
+
+            if (running) {
+                executor.execute(task);
+            }
+        }
+    }
+}
@@ -0,0 +1,318 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common;
+
+import io.fabric8.kubernetes.client.Config;
+import io.fabric8.kubernetes.client.ConfigBuilder;
+import io.fabric8.kubernetes.client.DefaultKubernetesClient;
+import io.fabric8.kubernetes.client.utils.HttpClientUtils;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.vertx.core.Handler;
+import io.vertx.core.Promise;
+import okhttp3.Interceptor;
+import okhttp3.MediaType;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import okio.Buffer;
+import okio.BufferedSource;
+import okio.ForwardingSource;
+import okio.Okio;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * OkHttp interceptor which records metrics about the requests done by the operator against the Kubernetes API server.
+ * For every request, it records the latency, the size of the response and whether the request was throttled (HTTP 429)
+ * or failed on the server side (HTTP 5xx). All the metrics are tagged with the kind of the resource (the resource name
+ * used in the API path, for example {@code pods} or {@code kafkas/status}), the verb (for example {@code get},
+ * {@code list}, {@code watch} or {@code patch}) and the name of the operator.
+ *
+ * Requests done from code running inside {@link #attributedTo(Reconciliation, Handler)} are also counted against the
+ * reconciliation. When a request budget is configured, a warning is logged as soon as a reconciliation makes more
+ * requests than the budget allows.
+ */
+public class KubernetesRequestMetrics implements Interceptor {
+    private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(KubernetesRequestMetrics.class);
+
+    /**
+     * Environment variable used to configure the maximum number of Kubernetes API requests per reconciliation
+     */
+    public static final String REQUEST_BUDGET_ENV = "STRIMZI_KUBERNETES_REQUEST_BUDGET";
+
+    private static final String METRICS_PREFIX = "strimzi.kubernetes.";
+    private static final ThreadLocal<Reconciliation> RECONCILIATION = new ThreadLocal<>();
+
+    private final MetricsProvider metrics;
+    private final String operator;
+    private final int requestBudget;
+    private final Map<String, RequestMeters> meters = new ConcurrentHashMap<>();
+
+    /**
+     * Constructor
+     *
+     * @param metrics           Metrics provider used to register the metrics
+     * @param operator          Name of the operator used as a tag of the metrics
+     * @param requestBudget     Maximum number of requests a single reconciliation should make. 0 disables the budget.
+     */
+    public KubernetesRequestMetrics(MetricsProvider metrics, String operator, int requestBudget) {
+        this.metrics = metrics;
+        this.operator = operator;
+        this.requestBudget = requestBudget;
+    }
+
+    /**
+     * Reads the request budget from the environment variables
+     *
+     * @param env   Map with the environment variables
+     *
+     * @return  The request budget or 0 if no budget is configured
+     */
+    public static int requestBudget(Map<String, String> env) {
+        String budget = env.get(REQUEST_BUDGET_ENV);
+
+        if (budget == null || budget.isEmpty()) {
+            return 0;
+        }
+
+        try {
+            return Integer.parseInt(budget);
+        } catch (NumberFormatException e) {
+            throw new InvalidConfigurationException("Failed to parse " + REQUEST_BUDGET_ENV + " environment variable: " + budget);
+        }
+    }
+
+    /**
+     * Creates a Kubernetes client which uses the default configuration (the same as {@code new DefaultKubernetesClient()})
+     * and records the metrics of its requests.
+     *
+     * @return  New Kubernetes client
+     */
+    public DefaultKubernetesClient createClient() {
+        Config config = new ConfigBuilder().build();
+        OkHttpClient httpClient = HttpClientUtils.createHttpClient(config)
+                .newBuilder()
+                .addInterceptor(this)
+                .build();
+
+        return new DefaultKubernetesClient(httpClient, config);
+    }
+
+    /**
+     * Wraps a blocking code handler so that the Kubernetes API requests it makes are counted against the given
+     * reconciliation.
+     *
+     * @param reconciliation        The reconciliation
+     * @param blockingCodeHandler   The blocking code handler
+     * @param <T>                   Type of the result of the blocking code
+     *
+     * @return  Handler which runs the blocking code handler with the reconciliation set
+     */
+    public static <T> Handler<Promise<T>> attributedTo(Reconciliation reconciliation, Handler<Promise<T>> blockingCodeHandler) {
+        return promise -> {
+            Reconciliation previous = RECONCILIATION.get();
+            RECONCILIATION.set(reconciliation);
+
+            try {
+                blockingCodeHandler.handle(promise);
+            } finally {
+                if (previous != null) {
+                    RECONCILIATION.set(previous);
+                } else {
+                    RECONCILIATION.remove();
+                }
+            }
+        };
+    }
+
+    @Override
+    public Response intercept(Chain chain) throws IOException {
+        Request request = chain.request();
+        RequestMeters requestMeters = meters(request);
+
+        Reconciliation reconciliation = RECONCILIATION.get();
+        if (reconciliation != null) {
+            int requests = reconciliation.recordKubernetesRequest();
+
+            if (requestBudget > 0 && requests == requestBudget + 1) {
+                LOGGER.warnCr(reconciliation, "Reconciliation exceeded its budget of {} Kubernetes API requests with {} {}",
+                        requestBudget, requestMeters.verb, requestMeters.kind);
+            }
+        }
+
+        long start = System.nanoTime();
+        Response response;
+        try {
+            response = chain.proceed(request);
+        } finally {
+            requestMeters.latency.record(Duration.ofNanos(System.nanoTime() - start));
+        }
+
+        if (response.code() == 429) {
+            requestMeters.failed("429").increment();
+        } else if (response.code() >= 500) {
+            requestMeters.failed("5xx").increment();
+        }
+
+        ResponseBody body = response.body();
+        if (body == null || response.code() == 101) {
+            // Watches are upgraded to WebSockets => there is no body to measure
+            return response;
+        } else {
+            return response.newBuilder()
+                    .body(new MeasuredResponseBody(body, requestMeters.responseSize))
+                    .build();
+        }
+    }
+
+    private RequestMeters meters(Request request) {
+        List<String> segments = request.url().pathSegments();
+        // Requests outside of the resource APIs (e.g. /version or API discovery) are reported with kind "none"
+        String kind = "none";
+        boolean named = true;
+
+        // Core API paths start with /api/<version>, the other API groups with /apis/<group>/<version>
+        int i = segments.isEmpty() ? 0 : ("api".equals(segments.get(0)) ? 2 : ("apis".equals(segments.get(0)) ? 3 : segments.size()));
+
+        if (i < segments.size()) {
+            if ("namespaces".equals(segments.get(i)) && i + 2 < segments.size()) {
+                // Namespaced resource => skip the namespace
+                i += 2;
+            }
+
+            kind = segments.get(i);
+            named = i + 1 < segments.size();
+
+            if (i + 2 < segments.size()) {
+                // Subresource such as status or scale
+                kind = kind + "/" + segments.get(i + 2);
+            }
+        }
+
+        String resourceKind = kind;
+        String verb = verb(request, named);
+
+        return meters.computeIfAbsent(resourceKind + " " + verb, key -> new RequestMeters(resourceKind, verb));
+    }
+
+    private static String verb(Request request, boolean named) {
+        switch (request.method()) {
+            case "GET":
+                if ("true".equals(request.url().queryParameter("watch"))) {
+                    return "watch";
+                } else {
+                    return named ? "get" : "list";
+                }
+            case "POST":
+                return "create";
+            case "PUT":
+                return "update";
+            case "PATCH":
+                return "patch";
+            case "DELETE":
+                return named ? "delete" : "deletecollection";
+            default:
+                return request.method().toLowerCase(Locale.ENGLISH);
+        }
+    }
+
+    /**
+     * Meters for a single combination of kind and verb
+     */
+    private class RequestMeters {
+        private final String kind;
+        private final String verb;
+        private final Tags tags;
+        private final Timer latency;
+        private final DistributionSummary responseSize;
+        private final Map<String, Counter> failed = new ConcurrentHashMap<>(2);
+
+        RequestMeters(String kind, String verb) {
+            this.kind = kind;
+            this.verb = verb;
+            this.tags = Tags.of("kind", kind, "verb", verb, "operator", operator);
+
+            this.latency = Timer.builder(METRICS_PREFIX + "requests")
+                    .description("Latency of the requests to the Kubernetes API server")
+                    .tags(tags)
+                    .sla(Duration.ofMillis(10), Duration.ofMillis(25), Duration.ofMillis(50),
+                            Duration.ofMillis(100), Duration.ofMillis(250), Duration.ofMillis(500), Duration.ofSeconds(1),
+                            Duration.ofMillis(2_500), Duration.ofSeconds(5), Duration.ofSeconds(10))
+                    .register(metrics.meterRegistry());
+
+            this.responseSize = DistributionSummary.builder(METRICS_PREFIX + "response.size")
+                    .description("Size of the responses from the Kubernetes API server")
+                    .baseUnit("bytes")
+                    .tags(tags)
+                    .register(metrics.meterRegistry());
+        }
+
+        Counter failed(String status) {
+            return failed.computeIfAbsent(status, s -> metrics.counter(METRICS_PREFIX + "requests.failed",
+                    "Number of Kubernetes API requests which were throttled (429) or failed on the server side (5xx)",
+                    tags.and("status", s)));
+        }
+    }
+
+    /**
+     * Response body which records the number of bytes read from it once it is closed
+     */
+    private static class MeasuredResponseBody extends ResponseBody {
+        private final ResponseBody delegate;
+        private final BufferedSource source;
+        private long bytesRead = 0;
+        private boolean recorded = false;
+
+        MeasuredResponseBody(ResponseBody delegate, DistributionSummary responseSize) {
+            this.delegate = delegate;
+            this.source = Okio.buffer(new ForwardingSource(delegate.source()) {
+                @Override
+                public long read(Buffer sink, long byteCount) throws IOException {
+                    long read = super.read(sink, byteCount);
+
+                    if (read >= 0) {
+                        bytesRead += read;
+                    }
+
+                    return read;
+                }
+
+                @Override
+                public void close() throws IOException {
+                    if (!recorded) {
+                        recorded = true;
+                        responseSize.record(bytesRead);
+                    }
+
+                    super.close();
+                }
+            });
+        }
+
+        @Override
+        public MediaType contentType() {
+            return delegate.contentType();
+        }
+
+        @Override
+        public long contentLength() {
+            return delegate.contentLength();
+        }
+
+        @Override
+        public BufferedSource source() {
+            return source;
+        }
+    }
+}
@@ -5,25 +5,55 @@
 package io.strimzi.operator.common;
 
 import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.api.model.ObjectMeta;
 import io.fabric8.kubernetes.client.Watcher;
 import io.fabric8.kubernetes.client.WatcherException;
+import io.micrometer.core.instrument.Counter;
 
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
+import java.util.stream.Collectors;
 
 /**
  * The fabric8 Watcher used to trigger reconciliation of an {@link Operator}.
+ *
+ * MODIFIED events which do not change the resource in a way which matters to the operator do not trigger the
+ * reconciliation. That includes the events caused by the status updates done by the operator itself and the changes
+ * of annotations and labels outside of the Strimzi domain. The resource is considered changed when its
+ * metadata.generation changed (i.e. its spec changed), when it is being deleted or when any of its Strimzi annotations
+ * or labels (such as the manual rolling update, pause reconciliation or rebalance annotations) changed. Resources
+ * without the metadata.generation are always reconciled.
+ *
+ * When a reconciliation stagger is set, the reconciliations triggered by the ADDED events of the resources which were
+ * already successfully reconciled are deferred using the stagger instead of being started right away.
+ *
  * @param <T> The resource type
  */
 class OperatorWatcher<T extends HasMetadata> implements Watcher<T> {
     private final String namespace;
     private final Consumer<WatcherException> onClose;
     private Operator operator;
+    private final Counter dispatchedCounter;
+    private final Counter filteredCounter;
+    private final ReconciliationStagger stagger;
+    // Last seen relevant state of the watched resources indexed by their namespace and name
+    private final Map<String, WatchedState> lastSeen = new ConcurrentHashMap<>();
     private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(OperatorWatcher.class);
 
-    OperatorWatcher(Operator operator, String namespace, Consumer<WatcherException> onClose) {
+    OperatorWatcher(Operator operator, String namespace, Consumer<WatcherException> onClose, Counter dispatchedCounter, Counter filteredCounter) {
+        this(operator, namespace, onClose, dispatchedCounter, filteredCounter, null);
+    }
+
+    OperatorWatcher(Operator operator, String namespace, Consumer<WatcherException> onClose, Counter dispatchedCounter, Counter filteredCounter, ReconciliationStagger stagger) {
         this.namespace = namespace;
         this.onClose = onClose;
         this.operator = operator;
+        this.dispatchedCounter = dispatchedCounter;
+        this.filteredCounter = filteredCounter;
+        this.stagger = stagger;
     }
 
     @Override
@@ -35,8 +65,22 @@ class OperatorWatcher<T extends HasMetadata> implements Watcher<T> {
             case DELETED:
             case MODIFIED:
                 Reconciliation reconciliation = new Reconciliation("watch", operator.kind(), namespace, name);
+
+                if (!changed(action, resource)) {
+                    LOGGER.debugCr(reconciliation, "{} {} in namespace {} was {} without any relevant changes", operator.kind(), name, namespace, action);
+                    filteredCounter.increment();
+                    break;
+                }
+
                 LOGGER.infoCr(reconciliation, "{} {} in namespace {} was {}", operator.kind(), name, namespace, action);
-                operator.reconcile(reconciliation);
+                dispatchedCounter.increment();
+
+                if (stagger != null && action == Action.ADDED && ReconciliationStagger.isReconciled(resource)) {
+                    LOGGER.debugCr(reconciliation, "{} {} in namespace {} is already reconciled and its reconciliation will be deferred", operator.kind(), name, namespace);
+                    stagger.schedule(() -> operator.reconcile(reconciliation));
+                } else {
+                    operator.reconcile(reconciliation);
+                }
                 break;
             case ERROR:
                 LOGGER.errorCr(new Reconciliation("watch", operator.kind(), namespace, name), "Failed {} {} in namespace{} ", operator.kind(), name, namespace);
@@ -48,8 +92,81 @@ class OperatorWatcher<T extends HasMetadata> implements Watcher<T> {
         }
     }
 
+    /**
+     * Records the state of the resource from the event and checks whether the resource changed in a way which
+     * requires a reconciliation. Only MODIFIED events can be filtered out.
+     *
+     * @param action    The watch action
+     * @param resource  The resource from the watch event
+     *
+     * @return  True if the resource should be reconciled. False otherwise.
+     */
+    private boolean changed(Action action, T resource) {
+        String key = resource.getMetadata().getNamespace() + "/" + resource.getMetadata().getName();
+
+        if (action == Action.DELETED) {
+            lastSeen.remove(key);
+            return true;
+        }
+
+        WatchedState current = new WatchedState(resource.getMetadata());
+        WatchedState previous = lastSeen.put(key, current);
+
+        return action != Action.MODIFIED
+                || previous == null
+                || current.generation == null
+                || !current.equals(previous);
+    }
+
     @Override
     public void onClose(WatcherException e) {
         onClose.accept(e);
     }
+
+    /**
+     * The parts of the resource metadata which decide whether the resource needs to be reconciled
+     */
+    private static class WatchedState {
+        private final Long generation;
+        private final boolean deleting;
+        private final Map<String, String> annotations;
+        private final Map<String, String> labels;
+
+        WatchedState(ObjectMeta metadata) {
+            this.generation = metadata.getGeneration();
+            this.deleting = metadata.getDeletionTimestamp() != null;
+            this.annotations = strimziEntries(metadata.getAnnotations());
+            this.labels = strimziEntries(metadata.getLabels());
+        }
+
+        private static Map<String, String> strimziEntries(Map<String, String> map) {
+            if (map == null || map.isEmpty()) {
+                return Collections.emptyMap();
+            }
+
+            return map.entrySet().stream()
+                    .filter(entry -> entry.getKey().startsWith(Annotations.STRIMZI_DOMAIN))
+                    .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            } else if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+
+            WatchedState that = (WatchedState) o;
+            return deleting == that.deleting
+                    && Objects.equals(generation, that.generation)
+                    && annotations.equals(that.annotations)
+                    && labels.equals(that.labels);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(generation, deleting, annotations, labels);
+        }
+    }
 }
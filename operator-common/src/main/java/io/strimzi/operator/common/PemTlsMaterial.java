@@ -0,0 +1,174 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common;
+
+import io.fabric8.kubernetes.api.model.Secret;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.net.PemKeyCertOptions;
+import io.vertx.core.net.PemTrustOptions;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.cert.CertificateException;
+import java.security.cert.CertificateFactory;
+import java.util.Base64;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * TLS trust or key material in the PEM format. It is used to configure the Kafka Admin clients, the ZooKeeper clients
+ * and the Vert.x clients of the operators directly from memory instead of from PKCS12 keystores and truststores
+ * written into temporary files.
+ *
+ * The material is decoded and validated only once for each Secret it comes from and is shared by all the clients
+ * using it. It is reused for as long as the resource version of the Secret stays the same. A new generation of the CA
+ * certificate or a renewed client certificate changes the resource version of the Secret and the material is parsed
+ * again. Secrets without a resource version (for example Secrets which were not read from Kubernetes) are never cached.
+ */
+public class PemTlsMaterial {
+    // Cached material indexed by the namespace and name of the Secret and by the name of the key and certificate
+    private static final Map<String, PemTlsMaterial> CACHE = new ConcurrentHashMap<>();
+
+    private final String resourceVersion;
+    private final String certificates;
+    private final String privateKey;
+
+    private PemTlsMaterial(String resourceVersion, String certificates, String privateKey) {
+        this.resourceVersion = resourceVersion;
+        this.certificates = certificates;
+        this.privateKey = privateKey;
+    }
+
+    /**
+     * Gets the trust material with all the certificates (the data entries ending with .crt) from the Secret with the
+     * CA certificates. During the CA renewal, the Secret contains both the current and the old CA certificates and
+     * all of them are trusted.
+     *
+     * @param caCertSecret  Secret with the CA certificates
+     *
+     * @return  Trust material with the CA certificates
+     */
+    public static PemTlsMaterial trustedCertificates(Secret caCertSecret) {
+        return cached(caCertSecret, "", resourceVersion -> {
+            StringBuilder pem = new StringBuilder();
+
+            // Sorted to get the same PEM content for the same Secret data
+            for (Map.Entry<String, String> entry : new TreeMap<>(caCertSecret.getData()).entrySet()) {
+                if (entry.getKey().endsWith(".crt")) {
+                    pem.append(validCertificate(caCertSecret, entry.getKey()));
+                }
+            }
+
+            return new PemTlsMaterial(resourceVersion, pem.toString(), null);
+        });
+    }
+
+    /**
+     * Gets the key material with the private key and certificate stored under the keys {@code <keyCertName>.key}
+     * and {@code <keyCertName>.crt} in the Secret
+     *
+     * @param keyCertSecret Secret with the private key and certificate
+     * @param keyCertName   Name of the private key and certificate inside the Secret
+     *
+     * @return  Key material with the private key and the certificate
+     */
+    public static PemTlsMaterial keyAndCertificate(Secret keyCertSecret, String keyCertName) {
+        return cached(keyCertSecret, keyCertName, resourceVersion -> {
+            String certificate = validCertificate(keyCertSecret, keyCertName + ".crt");
+            String key = new String(entry(keyCertSecret, keyCertName + ".key"), StandardCharsets.US_ASCII);
+
+            return new PemTlsMaterial(resourceVersion, certificate, key);
+        });
+    }
+
+    private static PemTlsMaterial cached(Secret secret, String keyCertName, Function<String, PemTlsMaterial> parser) {
+        if (secret.getData() == null) {
+            throw Util.missingSecretException(secret.getMetadata().getNamespace(), secret.getMetadata().getName());
+        }
+
+        String resourceVersion = secret.getMetadata() != null ? secret.getMetadata().getResourceVersion() : null;
+
+        if (resourceVersion == null) {
+            return parser.apply(null);
+        }
+
+        String cacheKey = secret.getMetadata().getNamespace() + "/" + secret.getMetadata().getName() + "/" + keyCertName;
+        PemTlsMaterial material = CACHE.get(cacheKey);
+
+        if (material == null || !resourceVersion.equals(material.resourceVersion)) {
+            material = parser.apply(resourceVersion);
+            CACHE.put(cacheKey, material);
+        }
+
+        return material;
+    }
+
+    private static byte[] entry(Secret secret, String key) {
+        String data = secret.getData().get(key);
+
+        if (data == null) {
+            throw new RuntimeException("The Secret " + secret.getMetadata().getNamespace() + "/" + secret.getMetadata().getName() + " is missing the key " + key);
+        }
+
+        return Base64.getDecoder().decode(data);
+    }
+
+    private static String validCertificate(Secret secret, String key) {
+        byte[] certificate = entry(secret, key);
+
+        try {
+            CertificateFactory.getInstance("X.509").generateCertificate(new ByteArrayInputStream(certificate));
+        } catch (CertificateException e) {
+            throw new RuntimeException("Bad/corrupt certificate found in data." + key.replace(".", "\\.") + " of Secret "
+                    + secret.getMetadata().getName() + " in namespace " + secret.getMetadata().getNamespace(), e);
+        }
+
+        String pem = new String(certificate, StandardCharsets.US_ASCII);
+        return pem.endsWith("\n") ? pem : pem + "\n";
+    }
+
+    /**
+     * @return  The certificates in the PEM format
+     */
+    public String certificates() {
+        return certificates;
+    }
+
+    /**
+     * @return  The private key in the PEM format or null if this is trust material only
+     */
+    public String privateKey() {
+        return privateKey;
+    }
+
+    /**
+     * @return  The private key followed by the certificates in the PEM format as used in the PEM key store files
+     */
+    public String privateKeyAndCertificates() {
+        return privateKey + (privateKey.endsWith("\n") ? "" : "\n") + certificates;
+    }
+
+    /**
+     * @return  Vert.x options for trusting the certificates
+     */
+    public PemTrustOptions pemTrustOptions() {
+        return new PemTrustOptions().addCertValue(Buffer.buffer(certificates, "US-ASCII"));
+    }
+
+    /**
+     * @return  Vert.x options for using the private key and certificate for TLS client authentication
+     */
+    public PemKeyCertOptions pemKeyCertOptions() {
+        return new PemKeyCertOptions()
+                .setCertValue(Buffer.buffer(certificates, "US-ASCII"))
+                .setKeyValue(Buffer.buffer(privateKey, "US-ASCII"));
+    }
+
+    /* test */ static void clearCache() {
+        CACHE.clear();
+    }
+}
@@ -0,0 +1,330 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common;
+
+import io.fabric8.kubernetes.api.model.Secret;
+import io.vertx.core.Vertx;
+import org.apache.kafka.clients.admin.Admin;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.LongSupplier;
+
+/**
+ * AdminClientProvider which keeps the Admin clients created by another provider and reuses them across
+ * reconciliations instead of creating a new Admin client (with its own TLS handshakes, metadata bootstrap and network
+ * thread) every time.
+ *
+ * There is at most one pooled Admin client for each bootstrap address. The pooled Admin client is used only by the
+ * callers using the same credentials. When the cluster CA certificate or the client certificate change (for example
+ * because they were renewed), the old Admin client is closed and a new one is created. The Admin clients returned by
+ * this provider are shared and closing them only returns them to the pool. Admin clients which were not used for
+ * longer than the idle timeout are closed. Admin clients which were not used for some time are health-checked before
+ * they are used again and replaced when the Kafka cluster cannot be reached with them.
+ */
+public class PooledAdminClientProvider implements AdminClientProvider {
+    private static final Logger LOGGER = LogManager.getLogger(PooledAdminClientProvider.class);
+
+    /* test */ static final long IDLE_TIMEOUT_MS = 600_000L;
+    /* test */ static final long HEALTH_CHECK_INTERVAL_MS = 60_000L;
+    private static final long HEALTH_CHECK_TIMEOUT_MS = 5_000L;
+
+    private final AdminClientProvider delegate;
+    private final LongSupplier clock;
+
+    // Guarded by this
+    private final Map<String, PooledAdmin> pool = new HashMap<>();
+
+    /**
+     * Constructor
+     *
+     * @param vertx     Vert.x instance used to periodically close the idle Admin clients
+     * @param delegate  AdminClientProvider used to create the pooled Admin clients
+     */
+    public PooledAdminClientProvider(Vertx vertx, AdminClientProvider delegate) {
+        this(delegate, System::currentTimeMillis);
+
+        vertx.setPeriodic(IDLE_TIMEOUT_MS, timerId -> vertx.executeBlocking(promise -> {
+            evictIdle();
+            promise.complete();
+        }, false, null));
+    }
+
+    /* test */ PooledAdminClientProvider(AdminClientProvider delegate, LongSupplier clock) {
+        this.delegate = delegate;
+        this.clock = clock;
+    }
+
+    /**
+     * Returns a pooled Kafka Admin client for given bootstrap address and credentials. A new Admin client is created
+     * when there is no usable pooled Admin client. The returned Admin client should be closed when it is not used
+     * anymore to return it to the pool.
+     *
+     * @param bootstrapHostnames Kafka hostname to connect to for administration operations
+     * @param clusterCaCertSecret Secret containing the cluster CA certificate for TLS encryption
+     * @param keyCertSecret Secret containing keystore for TLS client authentication
+     * @param keyCertName Key inside the keyCertSecret for getting the keystore and the corresponding password
+     * @return Instance of Kafka Admin interface
+     */
+    @Override
+    public Admin createAdminClient(String bootstrapHostnames, Secret clusterCaCertSecret, Secret keyCertSecret, String keyCertName) {
+        evictIdle();
+
+        String fingerprint = credentialsFingerprint(clusterCaCertSecret, keyCertSecret, keyCertName);
+        PooledAdmin pooled = acquire(bootstrapHostnames, fingerprint);
+
+        if (pooled != null && !healthy(pooled)) {
+            LOGGER.debug("Pooled Admin client for {} failed the health check and will be replaced", bootstrapHostnames);
+            invalidate(pooled);
+            release(pooled);
+            pooled = null;
+        }
+
+        if (pooled == null) {
+            LOGGER.debug("Creating pooled Admin client for {}", bootstrapHostnames);
+            pooled = add(new PooledAdmin(bootstrapHostnames, fingerprint,
+                    delegate.createAdminClient(bootstrapHostnames, clusterCaCertSecret, keyCertSecret, keyCertName), clock.getAsLong()));
+        }
+
+        return lease(pooled);
+    }
+
+    /**
+     * Returns the Admin client which is not shared with any other user, even when the same bootstrap address and
+     * credentials are used. This is useful when the cached metadata of the pooled Admin client cannot be used.
+     *
+     * @param bootstrapHostnames Kafka hostname to connect to for administration operations
+     * @param clusterCaCertSecret Secret containing the cluster CA certificate for TLS encryption
+     * @param keyCertSecret Secret containing keystore for TLS client authentication
+     * @param keyCertName Key inside the keyCertSecret for getting the keystore and the corresponding password
+     * @return Instance of Kafka Admin interface
+     */
+    @Override
+    public Admin createDedicatedAdminClient(String bootstrapHostnames, Secret clusterCaCertSecret, Secret keyCertSecret, String keyCertName) {
+        return delegate.createDedicatedAdminClient(bootstrapHostnames, clusterCaCertSecret, keyCertSecret, keyCertName);
+    }
+
+    /**
+     * Closes the pooled Admin clients which were not used for longer than the idle timeout.
+     */
+    public void evictIdle() {
+        List<Admin> toClose = new ArrayList<>();
+        long now = clock.getAsLong();
+
+        synchronized (this) {
+            for (Iterator<PooledAdmin> it = pool.values().iterator(); it.hasNext(); ) {
+                PooledAdmin pooled = it.next();
+
+                if (pooled.leases == 0 && now - pooled.lastUsed > IDLE_TIMEOUT_MS) {
+                    LOGGER.debug("Closing idle pooled Admin client for {}", pooled.bootstrapHostnames);
+                    it.remove();
+                    pooled.invalid = true;
+                    toClose.add(pooled.admin);
+                }
+            }
+        }
+
+        toClose.forEach(PooledAdminClientProvider::closeQuietly);
+    }
+
+    /**
+     * @return  Number of pooled Admin clients
+     */
+    /* test */ synchronized int size() {
+        return pool.size();
+    }
+
+    private synchronized PooledAdmin acquire(String bootstrapHostnames, String fingerprint) {
+        PooledAdmin pooled = pool.get(bootstrapHostnames);
+
+        if (pooled == null) {
+            return null;
+        } else if (!pooled.fingerprint.equals(fingerprint)) {
+            LOGGER.debug("Credentials used for {} changed and the pooled Admin client will be replaced", bootstrapHostnames);
+            invalidate(pooled);
+            return null;
+        } else {
+            pooled.leases++;
+            return pooled;
+        }
+    }
+
+    private PooledAdmin add(PooledAdmin pooled) {
+        PooledAdmin replaced;
+
+        synchronized (this) {
+            pooled.leases++;
+            replaced = pool.put(pooled.bootstrapHostnames, pooled);
+        }
+
+        if (replaced != null) {
+            // Another thread created the Admin client for the same bootstrap address at the same time
+            invalidate(replaced);
+        }
+
+        return pooled;
+    }
+
+    private boolean healthy(PooledAdmin pooled) {
+        long now = clock.getAsLong();
+
+        if (now - pooled.lastHealthCheck < HEALTH_CHECK_INTERVAL_MS) {
+            return true;
+        }
+
+        try {
+            pooled.admin.describeCluster().clusterId().get(HEALTH_CHECK_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+            pooled.lastHealthCheck = now;
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (Exception e) {
+            LOGGER.debug("Health check of the pooled Admin client for {} failed", pooled.bootstrapHostnames, e);
+            return false;
+        }
+    }
+
+    private void invalidate(PooledAdmin pooled) {
+        boolean close;
+
+        synchronized (this) {
+            pool.remove(pooled.bootstrapHostnames, pooled);
+            close = !pooled.invalid && pooled.leases == 0;
+            pooled.invalid = true;
+        }
+
+        if (close) {
+            closeQuietly(pooled.admin);
+        }
+    }
+
+    private void release(PooledAdmin pooled) {
+        boolean close;
+
+        synchronized (this) {
+            pooled.leases--;
+            pooled.lastUsed = clock.getAsLong();
+            close = pooled.invalid && pooled.leases == 0;
+        }
+
+        if (close) {
+            closeQuietly(pooled.admin);
+        }
+    }
+
+    /**
+     * Wraps the pooled Admin client into a proxy which returns it to the pool when it is closed
+     */
+    private Admin lease(PooledAdmin pooled) {
+        AtomicBoolean released = new AtomicBoolean(false);
+
+        return (Admin) Proxy.newProxyInstance(Admin.class.getClassLoader(), new Class<?>[] {Admin.class}, (proxy, method, args) -> {
+            if (method.getDeclaringClass() == Object.class) {
+                switch (method.getName()) {
+                    case "equals":
+                        return proxy == args[0];
+                    case "hashCode":
+                        return System.identityHashCode(proxy);
+                    default:
+                        return "PooledAdmin(" + pooled.bootstrapHostnames + ")";
+                }
+            } else if ("close".equals(method.getName())) {
+                if (released.compareAndSet(false, true)) {
+                    release(pooled);
+                }
+
+                return null;
+            } else if (released.get()) {
+                throw new IllegalStateException("The Admin client for " + pooled.bootstrapHostnames + " was already closed");
+            }
+
+            try {
+                return method.invoke(pooled.admin, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        });
+    }
+
+    private static void closeQuietly(Admin admin) {
+        try {
+            admin.close(Duration.ofSeconds(30));
+        } catch (RuntimeException e) {
+            LOGGER.debug("Exception closing pooled Admin client", e);
+        }
+    }
+
+    /**
+     * Calculates the fingerprint of the credentials used by the Admin client
+     *
+     * @param clusterCaCertSecret Secret containing the cluster CA certificate
+     * @param keyCertSecret Secret containing keystore for TLS client authentication
+     * @param keyCertName Key inside the keyCertSecret for getting the keystore and the corresponding password
+     *
+     * @return  The fingerprint
+     */
+    /* test */ static String credentialsFingerprint(Secret clusterCaCertSecret, Secret keyCertSecret, String keyCertName) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+
+            update(digest, secretData(clusterCaCertSecret, "ca.crt"));
+            update(digest, keyCertName);
+            update(digest, secretData(keyCertSecret, keyCertName + ".p12"));
+            update(digest, secretData(keyCertSecret, keyCertName + ".password"));
+
+            return Base64.getEncoder().encodeToString(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new RuntimeException("Failed to get the SHA-256 message digest", e);
+        }
+    }
+
+    private static String secretData(Secret secret, String key) {
+        return secret != null && secret.getData() != null ? secret.getData().get(key) : null;
+    }
+
+    private static void update(MessageDigest digest, String value) {
+        digest.update(String.valueOf(value).getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) '\n');
+    }
+
+    /**
+     * Pooled Admin client
+     */
+    private static class PooledAdmin {
+        private final String bootstrapHostnames;
+        private final String fingerprint;
+        private final Admin admin;
+
+        // Guarded by the PooledAdminClientProvider instance
+        private int leases = 0;
+        private long lastUsed;
+        private boolean invalid = false;
+
+        private volatile long lastHealthCheck;
+
+        PooledAdmin(String bootstrapHostnames, String fingerprint, Admin admin, long now) {
+            this.bootstrapHostnames = bootstrapHostnames;
+            this.fingerprint = fingerprint;
+            this.admin = admin;
+            this.lastUsed = now;
+            this.lastHealthCheck = now;
+        }
+    }
+}
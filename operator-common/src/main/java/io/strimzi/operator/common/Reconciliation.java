@@ -28,6 +28,7 @@ public class Reconciliation {
     private final String name;
     private final int id;
     private final Marker marker;
+    private final AtomicInteger kubernetesRequests = new AtomicInteger();
 
     public Reconciliation(String trigger, String kind, String namespace, String assemblyName) {
         this.trigger = trigger;
@@ -38,6 +39,10 @@ public class Reconciliation {
         this.marker = MarkerManager.getMarker(this.kind + "(" + this.namespace + "/" + this.name + ")");
     }
 
+    public String trigger() {
+        return trigger;
+    }
+
     public String kind() {
         return kind;
     }
@@ -54,6 +59,22 @@ public class Reconciliation {
         return marker;
     }
 
+    /**
+     * Records a request to the Kubernetes API server done as part of this reconciliation
+     *
+     * @return  The number of Kubernetes API requests done by this reconciliation so far
+     */
+    public int recordKubernetesRequest() {
+        return kubernetesRequests.incrementAndGet();
+    }
+
+    /**
+     * @return  The number of Kubernetes API requests done by this reconciliation so far
+     */
+    public int kubernetesRequests() {
+        return kubernetesRequests.get();
+    }
+
     public String toString() {
         return "Reconciliation #" + id + "(" + trigger + ") " + kind() + "(" + namespace() + "/" + name() + ")";
     }
@@ -0,0 +1,79 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common;
+
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.client.CustomResource;
+import io.strimzi.api.kafka.model.status.Status;
+import io.vertx.core.Vertx;
+
+/**
+ * Spreads out the reconciliations of the custom resources which do not need to be reconciled right away. When the
+ * watches are created (at the operator startup or when they are recreated), the Kubernetes API server sends ADDED
+ * events for all existing resources. Reconciling all of them at once delays the reconciliations of the resources
+ * which really changed by many minutes in big deployments. The resources which were already successfully reconciled
+ * (their status has the Ready condition and observed the current generation) are instead reconciled one after
+ * another with the configured interval between them. A single instance is shared by the operators of all kinds and
+ * namespaces, so that the deferred reconciliations are spread across all of them.
+ */
+public class ReconciliationStagger {
+    private final Vertx vertx;
+    private final long intervalMs;
+
+    // The earliest time when the next deferred reconciliation can start
+    private long nextStartMs;
+
+    /**
+     * Constructs the reconciliation stagger
+     *
+     * @param vertx         Vert.x instance
+     * @param intervalMs    Interval between the deferred reconciliations in milliseconds
+     */
+    public ReconciliationStagger(Vertx vertx, long intervalMs) {
+        this.vertx = vertx;
+        this.intervalMs = intervalMs;
+        this.nextStartMs = System.currentTimeMillis();
+    }
+
+    /**
+     * Checks whether the resource was already successfully reconciled in its current generation. Only such resources
+     * can have their reconciliation deferred.
+     *
+     * @param resource  The custom resource
+     *
+     * @return  True if the status of the resource is Ready and it observed the current generation
+     */
+    public static boolean isReconciled(HasMetadata resource) {
+        if (!(resource instanceof CustomResource)
+                || resource.getMetadata().getGeneration() == null
+                || resource.getMetadata().getDeletionTimestamp() != null) {
+            return false;
+        }
+
+        Object status = ((CustomResource<?, ?>) resource).getStatus();
+
+        return status instanceof Status
+                && ((Status) status).getObservedGeneration() == resource.getMetadata().getGeneration()
+                && ((Status) status).getConditions() != null
+                && ((Status) status).getConditions().stream().anyMatch(condition -> "Ready".equals(condition.getType()) && "True".equals(condition.getStatus()));
+    }
+
+    /**
+     * Schedules the deferred reconciliation. It is started the configured interval after the previously scheduled one.
+     *
+     * @param reconciliation    Runnable which starts the reconciliation
+     */
+    public synchronized void schedule(Runnable reconciliation) {
+        long now = System.currentTimeMillis();
+        long startAt = Math.max(now, nextStartMs);
+        nextStartMs = startAt + intervalMs;
+
+        if (startAt > now) {
+            vertx.setTimer(startAt - now, timerId -> reconciliation.run());
+        } else {
+            vertx.runOnContext(v -> reconciliation.run());
+        }
+    }
+}
@@ -0,0 +1,482 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common;
+
+import io.fabric8.kubernetes.api.model.coordination.v1.Lease;
+import io.fabric8.kubernetes.api.model.coordination.v1.LeaseBuilder;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.strimzi.operator.common.model.Labels;
+import io.strimzi.operator.common.model.NamespaceAndName;
+import io.strimzi.operator.common.operator.resource.LeaseOperator;
+import io.vertx.core.CompositeFuture;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
+
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Splits the custom resources handled by the operator into a fixed number of shards and coordinates which operator
+ * replica owns which shard using Kubernetes {@code Lease} resources. This allows several operator replicas to run at
+ * the same time, each reconciling only the resources from its own shards.
+ *
+ * Each replica maintains a member Lease to announce that it is alive. Based on the set of live members, every replica
+ * independently computes the same shard assignment using rendezvous hashing (so that only the shards of the joining
+ * or leaving member move when the membership changes). A replica then tries to acquire the shard Leases assigned to it
+ * and releases the shard Leases which are now assigned to someone else. A shard is owned only while its Lease is held,
+ * so a shard never has two owners at the same time, apart from reconciliations which are already in progress during
+ * the hand-over.
+ *
+ * The member Lease is deleted when the replica stops. Member Leases which were not renewed in time (for example
+ * because the replica crashed) are deleted by the other replicas, so that the Leases of the Pods which are gone do not
+ * pile up in the operator namespace.
+ */
+public class ShardManager {
+    private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(ShardManager.class);
+
+    public static final String SHARD_GROUP_LABEL = Labels.STRIMZI_DOMAIN + "shard-group";
+    public static final String SHARD_LEASE_TYPE_LABEL = Labels.STRIMZI_DOMAIN + "shard-lease-type";
+    private static final String MEMBER_TYPE = "member";
+    private static final String SHARD_TYPE = "shard";
+
+    private final Vertx vertx;
+    private final LeaseOperator leaseOperator;
+    private final String namespace;
+    private final String group;
+    private final String identity;
+    private final int shardCount;
+    private final long leaseDurationMs;
+
+    private final AtomicInteger ownedShardsGauge;
+    private final AtomicInteger membersGauge;
+    private final AtomicInteger renewalLagGauge;
+    private final Counter rebalancesCounter;
+
+    private final List<Handler<Set<Integer>>> acquiredHandlers = new CopyOnWriteArrayList<>();
+    private volatile Set<Integer> ownedShards = Collections.emptySet();
+    private volatile long lastRenewalMs;
+    private boolean tickInProgress = false;
+    private long timerId = -1;
+
+    /**
+     * Constructor
+     *
+     * @param vertx             Vert.x instance
+     * @param leaseOperator     Lease operator used to manage the member and shard Leases
+     * @param metrics           Metrics provider
+     * @param namespace         Namespace where the Leases are managed (normally the operator namespace)
+     * @param group             Name of the group of operator replicas sharing the shards, used as the Lease name prefix
+     * @param identity          Unique identity of this operator replica (normally its Pod name)
+     * @param shardCount        Number of shards
+     * @param leaseDurationMs   Duration of the Leases. The Leases are renewed three times per duration.
+     */
+    public ShardManager(Vertx vertx, LeaseOperator leaseOperator, MetricsProvider metrics, String namespace, String group, String identity, int shardCount, long leaseDurationMs) {
+        if (shardCount <= 0) {
+            throw new IllegalArgumentException("The number of shards has to be positive");
+        }
+
+        this.vertx = vertx;
+        this.leaseOperator = leaseOperator;
+        this.namespace = namespace;
+        this.group = group;
+        this.identity = identity;
+        this.shardCount = shardCount;
+        this.leaseDurationMs = leaseDurationMs;
+
+        Tags metricTags = Tags.of(Tag.of("identity", identity));
+        this.ownedShardsGauge = metrics.gauge(AbstractOperator.METRICS_PREFIX + "shards.owned",
+                "Number of shards owned by this operator replica",
+                metricTags);
+        this.membersGauge = metrics.gauge(AbstractOperator.METRICS_PREFIX + "shards.members",
+                "Number of live operator replicas sharing the shards",
+                metricTags);
+        this.renewalLagGauge = metrics.gauge(AbstractOperator.METRICS_PREFIX + "shards.renewal.lag",
+                "Time in milliseconds since this operator replica last renewed its Leases",
+                metricTags);
+        this.rebalancesCounter = metrics.counter(AbstractOperator.METRICS_PREFIX + "shards.rebalances",
+                "Number of times the set of shards owned by this operator replica changed",
+                metricTags);
+    }
+
+    /**
+     * Computes the shard of given custom resource.
+     *
+     * @param resource      Namespace and name of the custom resource
+     * @param shardCount    Number of shards
+     *
+     * @return  The shard to which the resource belongs
+     */
+    public static int shardOf(NamespaceAndName resource, int shardCount) {
+        return Math.floorMod(mix(resource.hashCode()), shardCount);
+    }
+
+    /**
+     * Selects the member which should own given shard using rendezvous (highest random weight) hashing. All replicas
+     * compute the same result from the same set of members, and membership changes move only the shards of the
+     * joining or leaving members.
+     *
+     * @param shard     The shard
+     * @param members   Identities of the live members
+     *
+     * @return  Identity of the member which should own the shard or null if there are no members
+     */
+    /*test*/ static String desiredOwner(int shard, Set<String> members) {
+        String owner = null;
+        int ownerScore = 0;
+
+        for (String member : members) {
+            int score = mix(member.hashCode() * 31 + shard);
+
+            if (owner == null || score > ownerScore || (score == ownerScore && member.compareTo(owner) < 0)) {
+                owner = member;
+                ownerScore = score;
+            }
+        }
+
+        return owner;
+    }
+
+    /**
+     * The Murmur3 finalizer used to spread the String hash codes (which are very similar for similar names).
+     */
+    private static int mix(int h) {
+        h ^= h >>> 16;
+        h *= 0x85ebca6b;
+        h ^= h >>> 13;
+        h *= 0xc2b2ae35;
+        h ^= h >>> 16;
+        return h;
+    }
+
+    /**
+     * Checks whether given Lease is expired. Leases without holder are considered expired as well.
+     *
+     * @param lease     The Lease
+     * @param nowMs     Current time in milliseconds
+     *
+     * @return  True if the Lease is not held by anyone anymore
+     */
+    /*test*/ static boolean isExpired(Lease lease, long nowMs) {
+        if (lease.getSpec() == null
+                || lease.getSpec().getHolderIdentity() == null
+                || lease.getSpec().getHolderIdentity().isEmpty()
+                || lease.getSpec().getRenewTime() == null
+                || lease.getSpec().getLeaseDurationSeconds() == null) {
+            return true;
+        }
+
+        long expiresMs = lease.getSpec().getRenewTime().toInstant().toEpochMilli() + lease.getSpec().getLeaseDurationSeconds() * 1_000L;
+        return expiresMs < nowMs;
+    }
+
+    /**
+     * Checks whether the given custom resource belongs to one of the shards owned by this operator replica.
+     *
+     * @param resource  Namespace and name of the custom resource
+     *
+     * @return  True if this replica should reconcile the custom resource
+     */
+    public boolean owns(NamespaceAndName resource) {
+        return ownedShards.contains(shardOf(resource, shardCount));
+    }
+
+    /**
+     * @return  The shards currently owned by this operator replica
+     */
+    public Set<Integer> ownedShards() {
+        return ownedShards;
+    }
+
+    /**
+     * Registers a handler which is called with the newly acquired shards whenever this replica takes over some shards.
+     * This can be used to reconcile the resources from these shards without waiting for the next periodic
+     * reconciliation.
+     *
+     * @param handler   Handler called with the set of newly acquired shards
+     */
+    public void onShardsAcquired(Handler<Set<Integer>> handler) {
+        acquiredHandlers.add(handler);
+    }
+
+    /**
+     * Joins the group of operator replicas, does the initial shard assignment and starts the periodic renewal of the
+     * Leases.
+     *
+     * @return  Future which completes when the initial shard assignment is done
+     */
+    public Future<Void> start() {
+        LOGGER.infoOp("Starting shard manager {} in namespace {} with {} shards", identity, namespace, shardCount);
+
+        return tick().onComplete(res -> {
+            timerId = vertx.setPeriodic(Math.max(leaseDurationMs / 3, 1L), id -> tick());
+        });
+    }
+
+    /**
+     * Stops the periodic renewal of the Leases, deletes the member Lease of this replica and releases all shards owned
+     * by this replica so that other replicas can take them over without waiting for the Leases to expire.
+     *
+     * @return  Future which completes when the shards were released
+     */
+    public Future<Void> stop() {
+        LOGGER.infoOp("Stopping shard manager {} in namespace {}", identity, namespace);
+
+        if (timerId != -1) {
+            vertx.cancelTimer(timerId);
+            timerId = -1;
+        }
+
+        Set<Integer> toRelease = ownedShards;
+        ownedShards = Collections.emptySet();
+        ownedShardsGauge.set(0);
+
+        Future<Void> memberDeleted = leaseOperator.deleteAsync(namespace, memberLeaseName());
+        Future<Void> shardsReleased = leaseOperator.listAsync(namespace, Labels.fromMap(Map.of(SHARD_GROUP_LABEL, group)))
+                .compose(leases -> {
+                    @SuppressWarnings({ "rawtypes" })
+                    List<Future> futures = new ArrayList<>();
+
+                    for (Lease lease : leases) {
+                        if (toRelease.contains(shardOfLease(lease)) && isHeldByMe(lease)) {
+                            futures.add(leaseOperator.compareAndSet(releasedLease(lease)));
+                        }
+                    }
+
+                    return CompositeFuture.join(futures);
+                })
+                .map((Void) null);
+
+        return CompositeFuture.join(memberDeleted, shardsReleased).map((Void) null);
+    }
+
+    /**
+     * Renews the membership Lease, recomputes the shard assignment and acquires or releases the shard Leases
+     * accordingly.
+     *
+     * @return  Future which completes when the shard assignment was updated
+     */
+    /*test*/ Future<Void> tick() {
+        if (tickInProgress) {
+            LOGGER.debugOp("Previous shard assignment is still in progress");
+            return Future.succeededFuture();
+        }
+
+        tickInProgress = true;
+        long startMs = System.currentTimeMillis();
+
+        return leaseOperator.getAsync(namespace, memberLeaseName())
+                .compose(current -> leaseOperator.compareAndSet(heldLease(current, memberLeaseName(), MEMBER_TYPE)))
+                .compose(renewed -> {
+                    lastRenewalMs = startMs;
+                    return leaseOperator.listAsync(namespace, Labels.fromMap(Map.of(SHARD_GROUP_LABEL, group)));
+                })
+                .compose(leases -> updateShards(leases, startMs))
+                .onComplete(res -> {
+                    if (res.failed()) {
+                        LOGGER.warnOp("Failed to update the shard assignment of {}", identity, res.cause());
+
+                        if (System.currentTimeMillis() - lastRenewalMs > leaseDurationMs && !ownedShards.isEmpty()) {
+                            // Our Leases might have expired already and been taken over by others
+                            LOGGER.warnOp("Leases of {} could not be renewed in time and all shards will be dropped", identity);
+                            setOwnedShards(Collections.emptySet());
+                        }
+                    }
+
+                    renewalLagGauge.set((int) Math.min(Integer.MAX_VALUE, System.currentTimeMillis() - lastRenewalMs));
+                    tickInProgress = false;
+                });
+    }
+
+    private Future<Void> updateShards(List<Lease> leases, long nowMs) {
+        Set<String> members = new TreeSet<>();
+        Map<Integer, Lease> shardLeases = new HashMap<>(shardCount);
+
+        for (Lease lease : leases) {
+            Map<String, String> labels = lease.getMetadata().getLabels();
+            String type = labels != null ? labels.get(SHARD_LEASE_TYPE_LABEL) : null;
+
+            if (MEMBER_TYPE.equals(type)) {
+                if (!isExpired(lease, nowMs)) {
+                    members.add(lease.getSpec().getHolderIdentity());
+                } else if (!memberLeaseName().equals(lease.getMetadata().getName())) {
+                    deleteExpiredMember(lease);
+                }
+            } else if (SHARD_TYPE.equals(type)) {
+                int shard = shardOfLease(lease);
+
+                if (shard >= 0) {
+                    shardLeases.put(shard, lease);
+                }
+            }
+        }
+
+        // We just renewed our own membership, so we are a member even if the list was served from a stale cache
+        members.add(identity);
+        membersGauge.set(members.size());
+
+        Set<Integer> newOwned = Collections.synchronizedSet(new HashSet<>(shardCount));
+        @SuppressWarnings({ "rawtypes" })
+        List<Future> futures = new ArrayList<>(shardCount);
+
+        for (int shard = 0; shard < shardCount; shard++) {
+            int s = shard;
+            Lease current = shardLeases.get(shard);
+            boolean heldByMe = current != null && isHeldByMe(current) && !isExpired(current, nowMs);
+
+            if (identity.equals(desiredOwner(shard, members))) {
+                if (current == null || heldByMe || isExpired(current, nowMs)) {
+                    futures.add(leaseOperator.compareAndSet(heldLease(current, shardLeaseName(shard), SHARD_TYPE))
+                            .map(lease -> {
+                                newOwned.add(s);
+                                return null;
+                            })
+                            .otherwise(error -> {
+                                LOGGER.debugOp("Failed to acquire shard {}", s, error);
+                                return null;
+                            }));
+                } else {
+                    LOGGER.debugOp("Shard {} is assigned to {} but still held by {}", shard, identity, current.getSpec().getHolderIdentity());
+                }
+            } else if (heldByMe) {
+                LOGGER.infoOp("Releasing shard {} which is now assigned to {}", shard, desiredOwner(shard, members));
+                futures.add(leaseOperator.compareAndSet(releasedLease(current))
+                        .otherwise(error -> {
+                            LOGGER.warnOp("Failed to release shard {}", s, error);
+                            return null;
+                        }));
+            }
+        }
+
+        return CompositeFuture.join(futures)
+                .map(i -> {
+                    setOwnedShards(newOwned);
+                    return null;
+                });
+    }
+
+    /**
+     * Deletes the member Lease of a replica which did not renew it in time. Several replicas might try to delete the
+     * same Lease, so the failures are only logged. When the replica is in fact still alive, it recreates its member
+     * Lease in its next round.
+     */
+    private void deleteExpiredMember(Lease lease) {
+        String name = lease.getMetadata().getName();
+        LOGGER.infoOp("Deleting expired member Lease {}", name);
+
+        leaseOperator.deleteAsync(namespace, name)
+                .onFailure(error -> LOGGER.debugOp("Failed to delete expired member Lease {}", name, error));
+    }
+
+    private void setOwnedShards(Set<Integer> newOwned) {
+        Set<Integer> previous = ownedShards;
+        Set<Integer> owned = Collections.unmodifiableSet(new TreeSet<>(newOwned));
+        ownedShards = owned;
+        ownedShardsGauge.set(owned.size());
+
+        if (!owned.equals(previous)) {
+            rebalancesCounter.increment();
+            LOGGER.infoOp("Operator {} now owns shards {}", identity, owned);
+
+            Set<Integer> acquired = new TreeSet<>(owned);
+            acquired.removeAll(previous);
+
+            if (!acquired.isEmpty()) {
+                for (Handler<Set<Integer>> handler : acquiredHandlers) {
+                    handler.handle(Collections.unmodifiableSet(acquired));
+                }
+            }
+        }
+    }
+
+    private boolean isHeldByMe(Lease lease) {
+        return lease.getSpec() != null && identity.equals(lease.getSpec().getHolderIdentity());
+    }
+
+    private int shardOfLease(Lease lease) {
+        String prefix = group + "-" + SHARD_TYPE + "-";
+        String name = lease.getMetadata().getName();
+
+        if (name.startsWith(prefix)) {
+            try {
+                int shard = Integer.parseInt(name.substring(prefix.length()));
+                return shard < shardCount ? shard : -1;
+            } catch (NumberFormatException e) {
+                return -1;
+            }
+        } else {
+            return -1;
+        }
+    }
+
+    private String memberLeaseName() {
+        return group + "-" + MEMBER_TYPE + "-" + identity;
+    }
+
+    private String shardLeaseName(int shard) {
+        return group + "-" + SHARD_TYPE + "-" + shard;
+    }
+
+    /**
+     * Creates the desired Lease held by this replica. The resource version of the current Lease is kept to make sure
+     * the Lease is replaced only if nobody else modified it in the meantime.
+     */
+    private Lease heldLease(Lease current, String name, String type) {
+        ZonedDateTime now = ZonedDateTime.now(ZoneOffset.UTC);
+        int durationSeconds = (int) Math.max(1L, leaseDurationMs / 1_000L);
+
+        if (current == null) {
+            return new LeaseBuilder()
+                    .withNewMetadata()
+                        .withName(name)
+                        .withNamespace(namespace)
+                        .withLabels(Map.of(SHARD_GROUP_LABEL, group, SHARD_LEASE_TYPE_LABEL, type))
+                    .endMetadata()
+                    .withNewSpec()
+                        .withHolderIdentity(identity)
+                        .withLeaseDurationSeconds(durationSeconds)
+                        .withAcquireTime(now)
+                        .withRenewTime(now)
+                        .withLeaseTransitions(0)
+                    .endSpec()
+                    .build();
+        } else {
+            boolean transition = !isHeldByMe(current);
+            int transitions = current.getSpec() != null && current.getSpec().getLeaseTransitions() != null ? current.getSpec().getLeaseTransitions() : 0;
+
+            return new LeaseBuilder(current)
+                    .editOrNewSpec()
+                        .withHolderIdentity(identity)
+                        .withLeaseDurationSeconds(durationSeconds)
+                        .withAcquireTime(transition ? now : current.getSpec().getAcquireTime())
+                        .withRenewTime(now)
+                        .withLeaseTransitions(transition ? transitions + 1 : transitions)
+                    .endSpec()
+                    .build();
+        }
+    }
+
+    private Lease releasedLease(Lease current) {
+        return new LeaseBuilder(current)
+                .editOrNewSpec()
+                    .withHolderIdentity(null)
+                    .withRenewTime(null)
+                    .withAcquireTime(null)
+                .endSpec()
+                .build();
+    }
+}
@@ -49,6 +49,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.StringTokenizer;
 import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BooleanSupplier;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
@@ -109,7 +110,7 @@ public class Util {
         Handler<Long> handler = new Handler<Long>() {
             @Override
             public void handle(Long timerId) {
-                vertx.createSharedWorkerExecutor("kubernetes-ops-pool").executeBlocking(
+                KubernetesOperationsExecutor.executeBlocking(vertx,
                     future -> {
                         try {
                             if (completed.getAsBoolean())   {
@@ -302,6 +303,48 @@ public class Util {
         }
     }
 
+    /**
+     * Runs the operations with at most {@code maxConcurrency} of them in progress at the same time. A failure of one
+     * operation does not stop the other operations.
+     *
+     * @param maxConcurrency    Maximum number of operations in progress at the same time
+     * @param operations        The operations
+     * @param <T>               Type of the operation results
+     *
+     * @return  A future which completes with the results of the operations in the same order once all of them complete.
+     *          It fails if any of the operations failed.
+     */
+    @SuppressWarnings({"rawtypes"})
+    public static <T> Future<List<T>> executeWithBoundedConcurrency(int maxConcurrency, List<Supplier<Future<T>>> operations) {
+        List<Promise<T>> results = new ArrayList<>(operations.size());
+        List<Future> futures = new ArrayList<>(operations.size());
+
+        for (int i = 0; i < operations.size(); i++) {
+            Promise<T> result = Promise.promise();
+            results.add(result);
+            futures.add(result.future());
+        }
+
+        AtomicInteger next = new AtomicInteger(0);
+        for (int i = 0; i < Math.min(maxConcurrency, operations.size()); i++) {
+            executeNext(operations, results, next);
+        }
+
+        return CompositeFuture.join(futures)
+                .map(i -> results.stream().map(result -> result.future().result()).collect(Collectors.toList()));
+    }
+
+    private static <T> void executeNext(List<Supplier<Future<T>>> operations, List<Promise<T>> results, AtomicInteger next) {
+        int i = next.getAndIncrement();
+
+        if (i < operations.size()) {
+            operations.get(i).get().onComplete(res -> {
+                results.get(i).handle(res);
+                executeNext(operations, results, next);
+            });
+        }
+    }
+
     /**
      * Merge two or more Maps together, should be used for merging multiple collections of Kubernetes labels or annotations
      *
@@ -8,15 +8,22 @@ import io.fabric8.kubernetes.api.model.HasMetadata;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.ReconciliationLogger;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.AnnotatedElement;
 import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Member;
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class ResourceVisitor {
 
@@ -70,8 +77,30 @@ public class ResourceVisitor {
          * @param object The object
          */
         void visitObject(Reconciliation reconciliation, List<String> path, Object object);
+
+        /**
+         * Called before an object is visited to decide whether the object and its properties should be visited at all.
+         * Visitors which are interested only in some types of objects can use it to skip the subtrees which cannot
+         * contain anything they are looking for. The result should depend only on the type, because it may be cached.
+         * @param type The type of the object.
+         * @return True if the object of this type should be visited. False otherwise.
+         */
+        default boolean shouldVisit(Class<?> type) {
+            return true;
+        }
     }
 
+    /**
+     * The properties of each visited class. They are computed only once for each class instead of looking up the
+     * getters and fields using reflection every time an object is visited.
+     */
+    private static final ClassValue<List<PropertyPlan>> PLANS = new ClassValue<>() {
+        @Override
+        protected List<PropertyPlan> computeValue(Class<?> cls) {
+            return plan(cls);
+        }
+    };
+
     public static <T extends HasMetadata> void visit(Reconciliation reconciliation, T resource, Visitor visitor) {
         ArrayList<String> path = new ArrayList<>();
         try {
@@ -88,16 +117,31 @@ public class ResourceVisitor {
 
     private static void visit(Reconciliation reconciliation, List<String> path, Object resource, Visitor visitor) throws ReflectiveOperationException {
         Class<?> cls = resource.getClass();
+        if (!visitor.shouldVisit(cls)) {
+            return;
+        }
         visitor.visitObject(reconciliation, path, resource);
+        for (PropertyPlan property : PLANS.get(cls)) {
+            property.visit(reconciliation, path, resource, visitor);
+        }
+    }
+
+    /**
+     * Finds the properties of the class: the public fields and the getters.
+     *
+     * @param cls   The class
+     *
+     * @return  List with the properties of the class
+     */
+    private static List<PropertyPlan> plan(Class<?> cls) {
+        List<PropertyPlan> plan = new ArrayList<>();
         for (Field field : cls.getFields()) {
-            Object propertyValue = field.get(resource);
-            visitor.visitFieldProperty(reconciliation, path, resource, field, FIELD_PROPERTY, propertyValue);
-            visitProperty(reconciliation, path, field, FIELD_PROPERTY, propertyValue, visitor);
+            plan.add(new FieldPlan(field));
         }
         for (Method method : cls.getMethods()) {
             String name = method.getName();
             if (!"getClass".equals(name)) {
-                Property<Method> property = null;
+                MethodProperty property = null;
                 if (name.length() > 3
                         && name.startsWith("get")
                         && !method.getReturnType().equals(Void.class)
@@ -110,12 +154,11 @@ public class ResourceVisitor {
                     property = IS_METHOD_PROPERTY;
                 }
                 if (property != null) {
-                    Object propertyValue = method.invoke(resource);
-                    visitor.visitMethodProperty(reconciliation, path, resource, method, property, propertyValue);
-                    visitProperty(reconciliation, path, method, property, propertyValue, visitor);
+                    plan.add(new MethodPlan(method, property));
                 }
             }
         }
+        return Collections.unmodifiableList(plan);
     }
 
     private static boolean isScalar(Class<?> returnType) {
@@ -136,9 +179,9 @@ public class ResourceVisitor {
                                                                     Property<M> property, Object propertyValue,
                                                                     Visitor visitor)
             throws ReflectiveOperationException {
-        String propertyName = property.propertyName(member);
-        Class<?> returnType = property.type(member);
         if (propertyValue != null) {
+            String propertyName = property.propertyName(member);
+            Class<?> returnType = property.type(member);
             if (returnType.isArray()) {
                 path.add(propertyName);
                 if (propertyValue instanceof Object[]) {
@@ -168,6 +211,90 @@ public class ResourceVisitor {
         }
     }
 
+    /**
+     * Reads the value of a property
+     */
+    interface Getter {
+        Object get(Object owner) throws Throwable;
+    }
+
+    /**
+     * Creates the getter for a method or field. Method handles are used when possible because they are cheaper to
+     * call repeatedly than the reflective calls.
+     */
+    private static Getter getter(Member member) {
+        try {
+            MethodHandle handle = member instanceof Field
+                    ? MethodHandles.lookup().unreflectGetter((Field) member)
+                    : MethodHandles.lookup().unreflect((Method) member);
+            if (Modifier.isStatic(member.getModifiers())) {
+                // Static members do not use the owner, but are called the same way
+                handle = MethodHandles.dropArguments(handle, 0, Object.class);
+            }
+            MethodHandle generic = handle.asType(MethodType.methodType(Object.class, Object.class));
+            return generic::invokeExact;
+        } catch (IllegalAccessException e) {
+            return member instanceof Field ? ((Field) member)::get : owner -> ((Method) member).invoke(owner);
+        }
+    }
+
+    /**
+     * A property of a visited class together with everything needed to visit it
+     */
+    private abstract static class PropertyPlan {
+        private final Getter getter;
+
+        PropertyPlan(Member member) {
+            this.getter = getter(member);
+        }
+
+        Object get(Object owner) throws ReflectiveOperationException {
+            try {
+                return getter.get(owner);
+            } catch (RuntimeException | Error | ReflectiveOperationException e) {
+                throw e;
+            } catch (Throwable t) {
+                throw new InvocationTargetException(t);
+            }
+        }
+
+        abstract void visit(Reconciliation reconciliation, List<String> path, Object owner, Visitor visitor) throws ReflectiveOperationException;
+    }
+
+    private static class FieldPlan extends PropertyPlan {
+        private final Field field;
+
+        FieldPlan(Field field) {
+            super(field);
+            this.field = field;
+        }
+
+        @Override
+        void visit(Reconciliation reconciliation, List<String> path, Object owner, Visitor visitor) throws ReflectiveOperationException {
+            Object propertyValue = get(owner);
+            visitor.visitFieldProperty(reconciliation, path, owner, field, FIELD_PROPERTY, propertyValue);
+            visitProperty(reconciliation, path, field, FIELD_PROPERTY, propertyValue, visitor);
+        }
+    }
+
+    private static class MethodPlan extends PropertyPlan {
+        private final Method method;
+        private final MethodProperty property;
+
+        MethodPlan(Method method, MethodProperty property) {
+            super(method);
+            this.method = method;
+            this.property = property;
+        }
+
+        @Override
+        void visit(Reconciliation reconciliation, List<String> path, Object owner, Visitor visitor) throws ReflectiveOperationException {
+            Object propertyValue = get(owner);
+            visitor.visitMethodProperty(reconciliation, path, owner, method, property, propertyValue);
+            visitProperty(reconciliation, path, method, property, propertyValue, visitor);
+        }
+    }
+
     public interface Property<M extends Member> {
         String propertyName(M i);
         Class<?> type(M i);
@@ -175,15 +302,18 @@ public class ResourceVisitor {
 
     static class MethodProperty implements Property<Method> {
         private boolean getPrefix;
+        // The property names are derived from the getter names only once
+        private final Map<Method, String> propertyNames = new ConcurrentHashMap<>();
         public MethodProperty(boolean getPrefix) {
             this.getPrefix = getPrefix;
         }
 
         @Override
         public String propertyName(Method i) {
-            String name = i.getName();
-            String propertyName = name.substring(getPrefix ? 3 : 2);
-            return propertyName.substring(0, 1).toLowerCase(Locale.ENGLISH) + propertyName.substring(1);
+            return propertyNames.computeIfAbsent(i, method -> {
+                String propertyName = method.getName().substring(getPrefix ? 3 : 2);
+                return propertyName.substring(0, 1).toLowerCase(Locale.ENGLISH) + propertyName.substring(1);
+            });
         }
 
         @Override
@@ -19,9 +19,39 @@ import java.lang.reflect.Member;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class ValidationVisitor implements ResourceVisitor.Visitor {
+    /**
+     * Only the Strimzi types can have unknown properties, deprecated properties or be deprecated themselves. Other types
+     * (for example the Kubernetes types used in the templates or the resource metadata) cannot contain any Strimzi types
+     * and are not visited at all.
+     */
+    private static final ClassValue<Boolean> VISITED_TYPES = new ClassValue<>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            return UnknownPropertyPreserving.class.isAssignableFrom(type)
+                    || type.getName().startsWith("io.strimzi.");
+        }
+    };
+
+    /**
+     * The DeprecatedType annotations of the visited types
+     */
+    private static final ClassValue<Optional<DeprecatedType>> DEPRECATED_TYPES = new ClassValue<>() {
+        @Override
+        protected Optional<DeprecatedType> computeValue(Class<?> type) {
+            return Optional.ofNullable(type.getAnnotation(DeprecatedType.class));
+        }
+    };
+
+    /**
+     * The DeprecatedProperty annotations of the visited properties
+     */
+    private static final Map<Member, Optional<DeprecatedProperty>> DEPRECATED_PROPERTIES = new ConcurrentHashMap<>();
+
     private final ReconciliationLogger logger;
     private final HasMetadata resource;
     private final Set<Condition> warningConditions;
@@ -72,7 +102,9 @@ public class ValidationVisitor implements ResourceVisitor.Visitor {
                                                                           Object propertyValue,
                                                                           String propertyName) {
         // Look for deprecated field
-        DeprecatedProperty deprecated = member.getAnnotation(DeprecatedProperty.class);
+        DeprecatedProperty deprecated = DEPRECATED_PROPERTIES
+                .computeIfAbsent(member, m -> Optional.ofNullable(((AnnotatedElement) m).getAnnotation(DeprecatedProperty.class)))
+                .orElse(null);
         if (deprecated != null
             && isPresent(member, propertyValue)) {
             String msg = String.format("In API version %s the %s property at path %s has been deprecated",
@@ -97,7 +129,7 @@ public class ValidationVisitor implements ResourceVisitor.Visitor {
         // Look for deprecated objects. With OneOf, the field might not be deprecated, but the used value might be
         // replaced with something new
         if (propertyValue != null) {
-            DeprecatedType deprecatedType = propertyValue.getClass().getAnnotation(DeprecatedType.class);
+            DeprecatedType deprecatedType = DEPRECATED_TYPES.get(propertyValue.getClass()).orElse(null);
             if (deprecatedType != null
                     && isPresent(member, propertyValue)) {
                 String msg = String.format("In API version %s the object %s at path %s has been deprecated. ",
@@ -128,6 +160,11 @@ public class ValidationVisitor implements ResourceVisitor.Visitor {
         checkForDeprecated(reconciliation, path, method, propertyValue, property.propertyName(method));
     }
 
+    @Override
+    public boolean shouldVisit(Class<?> type) {
+        return VISITED_TYPES.get(type);
+    }
+
     @Override
     public void visitObject(Reconciliation reconciliation, List<String> path, Object object) {
         if (object instanceof UnknownPropertyPreserving) {
@@ -13,6 +13,7 @@ import io.fabric8.kubernetes.client.dsl.FilterWatchListDeletable;
 import io.fabric8.kubernetes.client.dsl.FilterWatchListMultiDeletable;
 import io.fabric8.kubernetes.client.dsl.NonNamespaceOperation;
 import io.fabric8.kubernetes.client.dsl.Resource;
+import io.strimzi.operator.common.KubernetesOperationsExecutor;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.ReconciliationLogger;
 import io.strimzi.operator.common.model.Labels;
@@ -26,6 +27,8 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.regex.Pattern;
 
+import static io.strimzi.operator.common.KubernetesRequestMetrics.attributedTo;
+
 /**
  * Abstract resource creation, for a generic resource type {@code R}.
  * This class applies the template method pattern, first checking whether the resource exists,
@@ -92,34 +95,35 @@ public abstract class AbstractNonNamespacedResourceOperator<C extends Kubernetes
                     + desired.getMetadata().getName());
         }
 
-        Promise<ReconcileResult<T>> promise = Promise.promise();
-        vertx.createSharedWorkerExecutor("kubernetes-ops-pool").executeBlocking(
-            future -> {
-                T current = operation().withName(name).get();
-                if (desired != null) {
-                    if (current == null) {
-                        log.debugCr(reconciliation, "{} {} does not exist, creating it", resourceKind, name);
-                        internalCreate(reconciliation, name, desired).onComplete(future);
-                    } else {
-                        log.debugCr(reconciliation, "{} {} already exists, patching it", resourceKind, name);
-                        internalPatch(reconciliation, name, current, desired).onComplete(future);
-                    }
-                } else {
-                    if (current != null) {
-                        // Deletion is desired
-                        log.debugCr(reconciliation, "{} {} exist, deleting it", resourceKind, name);
-                        internalDelete(reconciliation, name).onComplete(future);
-                    } else {
+        return resourceSupport.getAsync(reconciliation, operation().withName(name))
+                .compose(current -> {
+                    if (desired == null && current == null) {
                         log.debugCr(reconciliation, "{} {} does not exist, noop", resourceKind, name);
-                        future.complete(ReconcileResult.noop(null));
+                        return Future.succeededFuture(ReconcileResult.noop(null));
                     }
-                }
 
-            },
-            false,
-            promise
-        );
-        return promise.future();
+                    Promise<ReconcileResult<T>> promise = Promise.promise();
+                    KubernetesOperationsExecutor.executeBlocking(vertx, attributedTo(reconciliation,
+                        future -> {
+                            if (desired != null) {
+                                if (current == null) {
+                                    log.debugCr(reconciliation, "{} {} does not exist, creating it", resourceKind, name);
+                                    internalCreate(reconciliation, name, desired).onComplete(future);
+                                } else {
+                                    log.debugCr(reconciliation, "{} {} already exists, patching it", resourceKind, name);
+                                    internalPatch(reconciliation, name, current, desired).onComplete(future);
+                                }
+                            } else {
+                                // Deletion is desired
+                                log.debugCr(reconciliation, "{} {} exist, deleting it", resourceKind, name);
+                                internalDelete(reconciliation, name).onComplete(future);
+                            }
+                        }),
+                        false,
+                        promise
+                    );
+                    return promise.future();
+                });
     }
 
     protected long deleteTimeoutMs() {
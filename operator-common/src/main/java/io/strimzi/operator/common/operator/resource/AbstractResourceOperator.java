@@ -15,6 +15,7 @@ import io.fabric8.kubernetes.client.dsl.FilterWatchListMultiDeletable;
 import io.fabric8.kubernetes.client.dsl.MixedOperation;
 import io.fabric8.kubernetes.client.dsl.NonNamespaceOperation;
 import io.fabric8.kubernetes.client.dsl.Resource;
+import io.strimzi.operator.common.KubernetesOperationsExecutor;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.ReconciliationLogger;
 import io.strimzi.operator.common.Util;
@@ -24,13 +25,18 @@ import io.vertx.core.Future;
 import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.function.BiPredicate;
+import java.util.function.Supplier;
 import java.util.regex.Pattern;
 
+import static io.strimzi.operator.common.KubernetesRequestMetrics.attributedTo;
+
 /**
  * Abstract resource creation, for a generic resource type {@code R}.
  * This class applies the template method pattern, first checking whether the resource exists,
@@ -49,6 +55,11 @@ public abstract class AbstractResourceOperator<C extends KubernetesClient,
             "^(/metadata/managedFields" +
                     "|/status)$");
 
+    /**
+     * Maximum number of resources created, patched or deleted at the same time by {@link #batchReconcile}
+     */
+    public static final int BATCH_CONCURRENCY = 10;
+
     private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(AbstractResourceOperator.class);
     protected final Vertx vertx;
     protected final C client;
@@ -102,35 +113,152 @@ public abstract class AbstractResourceOperator<C extends KubernetesClient,
         }
 
         Promise<ReconcileResult<T>> promise = Promise.promise();
-        vertx.createSharedWorkerExecutor("kubernetes-ops-pool").executeBlocking(
+        KubernetesOperationsExecutor.executeBlocking(vertx, attributedTo(reconciliation,
             future -> {
                 T current = operation().inNamespace(namespace).withName(name).get();
-                if (desired != null) {
-                    if (current == null) {
-                        LOGGER.debugCr(reconciliation, "{} {}/{} does not exist, creating it", resourceKind, namespace, name);
-                        internalCreate(reconciliation, namespace, name, desired).onComplete(future);
-                    } else {
-                        LOGGER.debugCr(reconciliation, "{} {}/{} already exists, patching it", resourceKind, namespace, name);
-                        internalPatch(reconciliation, namespace, name, current, desired).onComplete(future);
+                internalReconcile(reconciliation, namespace, name, current, desired).onComplete(future);
+            }),
+            false,
+            promise
+        );
+        return promise.future();
+    }
+
+    /**
+     * Asynchronously reconciles the resource with the given namespace and name to match the given desired resource.
+     * Unlike {@link #reconcile(Reconciliation, String, String, HasMetadata)}, it does not get the resource from the
+     * Kubernetes API server but uses the given current resource (for example from an earlier list request).
+     *
+     * @param reconciliation Reconciliation object
+     * @param namespace The namespace of the resource to reconcile
+     * @param name The name of the resource to reconcile
+     * @param current The current state of the resource or null if it does not exist
+     * @param desired The desired state of the resource.
+     * @return A future which completes when the resource has been updated.
+     */
+    public Future<ReconcileResult<T>> reconcile(Reconciliation reconciliation, String namespace, String name, T current, T desired) {
+        if (desired != null && !namespace.equals(desired.getMetadata().getNamespace())) {
+            return Future.failedFuture("Given namespace " + namespace + " incompatible with desired namespace " + desired.getMetadata().getNamespace());
+        } else if (desired != null && !name.equals(desired.getMetadata().getName())) {
+            return Future.failedFuture("Given name " + name + " incompatible with desired name " + desired.getMetadata().getName());
+        }
+
+        return reconcileWithCurrent(reconciliation, namespace, name, current, desired);
+    }
+
+    /**
+     * Asynchronously reconciles all resources matching the given {@code selector} in the given {@code namespace} with
+     * the given list of desired resources. The existing resources are listed only once and used as the current state
+     * instead of getting each of them separately. Desired resources which do not exist are created, existing ones are
+     * patched and existing resources which are not desired anymore are deleted. At most {@link #BATCH_CONCURRENCY}
+     * resources are created, patched or deleted at the same time.
+     *
+     * @param reconciliation The reconciliation
+     * @param namespace The namespace of the resources to reconcile
+     * @param desired The list of the desired resources
+     * @param selector The selector matching the existing resources which should be reconciled
+     * @return A future which completes with the results for the desired resources (in the same order) followed by the
+     *         results for the deleted resources. It fails if reconciliation of any of the resources failed.
+     */
+    public Future<List<ReconcileResult<T>>> batchReconcile(Reconciliation reconciliation, String namespace, List<T> desired, Labels selector) {
+        for (T resource : desired) {
+            if (!namespace.equals(resource.getMetadata().getNamespace())) {
+                return Future.failedFuture("Given namespace " + namespace + " incompatible with desired namespace " + resource.getMetadata().getNamespace());
+            }
+        }
+
+        return listAsync(reconciliation, namespace, selector)
+                .compose(existing -> {
+                    Map<String, T> current = new LinkedHashMap<>(existing.size());
+                    for (T resource : existing) {
+                        current.put(resource.getMetadata().getName(), resource);
                     }
-                } else {
-                    if (current != null) {
-                        // Deletion is desired
-                        LOGGER.debugCr(reconciliation, "{} {}/{} exist, deleting it", resourceKind, namespace, name);
-                        internalDelete(reconciliation, namespace, name).onComplete(future);
-                    } else {
-                        LOGGER.debugCr(reconciliation, "{} {}/{} does not exist, noop", resourceKind, namespace, name);
-                        future.complete(ReconcileResult.noop(null));
+
+                    LOGGER.debugCr(reconciliation, "Reconciling existing {}s {} against the desired {}s", resourceKind, current.keySet(), resourceKind);
+
+                    List<Supplier<Future<ReconcileResult<T>>>> operations = new ArrayList<>(desired.size() + current.size());
+
+                    for (T resource : desired) {
+                        String name = resource.getMetadata().getName();
+                        T currentResource = current.remove(name);
+
+                        if (currentResource != null) {
+                            operations.add(() -> reconcileWithCurrent(reconciliation, namespace, name, currentResource, resource));
+                        } else {
+                            // The resource was not listed (it might exist without matching the selector) => we have to check it the usual way
+                            operations.add(() -> reconcile(reconciliation, namespace, name, resource));
+                        }
                     }
-                }
 
-            },
+                    LOGGER.debugCr(reconciliation, "{}s {} should be deleted", resourceKind, current.keySet());
+
+                    for (Map.Entry<String, T> entry : current.entrySet()) {
+                        operations.add(() -> reconcileWithCurrent(reconciliation, namespace, entry.getKey(), entry.getValue(), null));
+                    }
+
+                    return Util.executeWithBoundedConcurrency(BATCH_CONCURRENCY, operations);
+                });
+    }
+
+    /**
+     * Creates, patches or deletes the resource based on its current state which was already fetched from the
+     * Kubernetes API server (for example by listing it). Only the operations changing the resource are executed as
+     * blocking code.
+     *
+     * @param reconciliation The reconciliation
+     * @param namespace The namespace of the resource
+     * @param name The name of the resource
+     * @param current The current state of the resource or null if it does not exist
+     * @param desired The desired state of the resource or null if it should be deleted
+     * @return A future which completes when the resource has been created, patched or deleted
+     */
+    private Future<ReconcileResult<T>> reconcileWithCurrent(Reconciliation reconciliation, String namespace, String name, T current, T desired) {
+        if (desired == null && current == null) {
+            LOGGER.debugCr(reconciliation, "{} {}/{} does not exist, noop", resourceKind, namespace, name);
+            return Future.succeededFuture(ReconcileResult.noop(null));
+        }
+
+        Promise<ReconcileResult<T>> promise = Promise.promise();
+        KubernetesOperationsExecutor.executeBlocking(vertx, attributedTo(reconciliation,
+            future -> internalReconcile(reconciliation, namespace, name, current, desired).onComplete(future)),
             false,
             promise
         );
         return promise.future();
     }
 
+    /**
+     * Creates, patches or deletes the resource based on its current state. Blocks and should be called from the
+     * blocking code.
+     *
+     * @param reconciliation The reconciliation
+     * @param namespace The namespace of the resource
+     * @param name The name of the resource
+     * @param current The current state of the resource or null if it does not exist
+     * @param desired The desired state of the resource or null if it should be deleted
+     * @return A future which completes when the resource has been created, patched or deleted
+     */
+    private Future<ReconcileResult<T>> internalReconcile(Reconciliation reconciliation, String namespace, String name, T current, T desired) {
+        if (desired != null) {
+            if (current == null) {
+                LOGGER.debugCr(reconciliation, "{} {}/{} does not exist, creating it", resourceKind, namespace, name);
+                return internalCreate(reconciliation, namespace, name, desired);
+            } else {
+                LOGGER.debugCr(reconciliation, "{} {}/{} already exists, patching it", resourceKind, namespace, name);
+                return internalPatch(reconciliation, namespace, name, current, desired);
+            }
+        } else {
+            if (current != null) {
+                // Deletion is desired
+                LOGGER.debugCr(reconciliation, "{} {}/{} exist, deleting it", resourceKind, namespace, name);
+                return internalDelete(reconciliation, namespace, name);
+            } else {
+                LOGGER.debugCr(reconciliation, "{} {}/{} does not exist, noop", resourceKind, namespace, name);
+                return Future.succeededFuture(ReconcileResult.noop(null));
+            }
+        }
+    }
+
     /**
      * Deletes the resource with the given namespace and name and completes the given future accordingly.
      * This method will do a cascading delete.
@@ -359,6 +487,19 @@ public abstract class AbstractResourceOperator<C extends KubernetesClient,
      * @return A Future with a list of matching resources.
      */
     public Future<List<T>> listAsync(String namespace, Labels selector) {
+        return listAsync(null, namespace, selector);
+    }
+
+    /**
+     * Asynchronously lists the resource with the given {@code selector} in the given {@code namespace}. The request
+     * is counted against the given reconciliation.
+     *
+     * @param reconciliation The reconciliation
+     * @param namespace The namespace.
+     * @param selector The selector.
+     * @return A Future with a list of matching resources.
+     */
+    public Future<List<T>> listAsync(Reconciliation reconciliation, String namespace, Labels selector) {
         FilterWatchListDeletable<T, L> x;
 
         if (AbstractWatchableResourceOperator.ANY_NAMESPACE.equals(namespace))  {
@@ -370,7 +511,7 @@ public abstract class AbstractResourceOperator<C extends KubernetesClient,
             x = x.withLabels(selector.toMap());
         }
 
-        return resourceSupport.listAsync(x);
+        return resourceSupport.listAsync(reconciliation, x);
     }
 
     public Future<List<T>> listAsync(String namespace, Optional<LabelSelector> selector) {
@@ -9,12 +9,15 @@ import io.fabric8.kubernetes.api.model.KubernetesResourceList;
 import io.fabric8.kubernetes.client.KubernetesClient;
 import io.fabric8.kubernetes.client.dsl.ScalableResource;
 import io.strimzi.operator.common.Annotations;
+import io.strimzi.operator.common.KubernetesOperationsExecutor;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.ReconciliationLogger;
 import io.vertx.core.Future;
 import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
 
+import static io.strimzi.operator.common.KubernetesRequestMetrics.attributedTo;
+
 /**
  * An {@link AbstractResourceOperator} that can be scaled up and down in addition to the usual operations.
  * @param <C> The type of client used to interact with kubernetes.
@@ -61,7 +64,7 @@ public abstract class AbstractScalableResourceOperator<C extends KubernetesClien
      */
     public Future<Integer> scaleUp(Reconciliation reconciliation, String namespace, String name, int scaleTo) {
         Promise<Integer> promise = Promise.promise();
-        vertx.createSharedWorkerExecutor("kubernetes-ops-pool").executeBlocking(
+        KubernetesOperationsExecutor.executeBlocking(vertx, attributedTo(reconciliation,
             future -> {
                 try {
                     Integer currentScale = currentScale(namespace, name);
@@ -75,7 +78,7 @@ public abstract class AbstractScalableResourceOperator<C extends KubernetesClien
                     LOGGER.errorCr(reconciliation, "Caught exception while scaling up", e);
                     future.fail(e);
                 }
-            },
+            }),
             false,
             promise
         );
@@ -98,7 +101,7 @@ public abstract class AbstractScalableResourceOperator<C extends KubernetesClien
      */
     public Future<Integer> scaleDown(Reconciliation reconciliation, String namespace, String name, int scaleTo) {
         Promise<Integer> promise = Promise.promise();
-        vertx.createSharedWorkerExecutor("kubernetes-ops-pool").executeBlocking(
+        KubernetesOperationsExecutor.executeBlocking(vertx, attributedTo(reconciliation,
             future -> {
                 try {
                     Integer nextReplicas = currentScale(namespace, name);
@@ -114,7 +117,7 @@ public abstract class AbstractScalableResourceOperator<C extends KubernetesClien
                     LOGGER.errorCr(reconciliation, "Caught exception while scaling down", e);
                     future.fail(e);
                 }
-            },
+            }),
             false,
             promise
         );
@@ -11,6 +11,7 @@ import io.fabric8.kubernetes.client.CustomResourceList;
 import io.fabric8.kubernetes.client.KubernetesClient;
 import io.fabric8.kubernetes.client.dsl.MixedOperation;
 import io.fabric8.kubernetes.client.dsl.Resource;
+import io.strimzi.operator.common.KubernetesOperationsExecutor;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.ReconciliationLogger;
 import io.strimzi.operator.common.Util;
@@ -19,6 +20,8 @@ import io.vertx.core.Future;
 import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
 
+import static io.strimzi.operator.common.KubernetesRequestMetrics.attributedTo;
+
 @SuppressFBWarnings(value = "RCN_REDUNDANT_NULLCHECK_OF_NONNULL_VALUE",
         justification = "Erroneous on Java 11: https://github.com/spotbugs/spotbugs/issues/756")
 public class CrdOperator<C extends KubernetesClient,
@@ -85,7 +88,7 @@ public class CrdOperator<C extends KubernetesClient,
     public Future<T> patchAsync(Reconciliation reconciliation, T resource, boolean cascading) {
         Promise<T> blockingPromise = Promise.promise();
 
-        vertx.createSharedWorkerExecutor("kubernetes-ops-pool").executeBlocking(future -> {
+        KubernetesOperationsExecutor.executeBlocking(vertx, attributedTo(reconciliation, future -> {
             String namespace = resource.getMetadata().getNamespace();
             String name = resource.getMetadata().getName();
             try {
@@ -96,7 +99,7 @@ public class CrdOperator<C extends KubernetesClient,
                 LOGGER.debugCr(reconciliation, "Caught exception while patching {} {} in namespace {}", resourceKind, name, namespace, e);
                 future.fail(e);
             }
-        }, true, blockingPromise);
+        }), true, blockingPromise);
 
         return blockingPromise.future();
     }
@@ -104,7 +107,7 @@ public class CrdOperator<C extends KubernetesClient,
     public Future<T> updateStatusAsync(Reconciliation reconciliation, T resource) {
         Promise<T> blockingPromise = Promise.promise();
 
-        vertx.createSharedWorkerExecutor("kubernetes-ops-pool").executeBlocking(future -> {
+        KubernetesOperationsExecutor.executeBlocking(vertx, attributedTo(reconciliation, future -> {
             String namespace = resource.getMetadata().getNamespace();
             String name = resource.getMetadata().getName();
 
@@ -116,7 +119,7 @@ public class CrdOperator<C extends KubernetesClient,
                 LOGGER.debugCr(reconciliation, "Caught exception while updating status of {} {} in namespace {}", resourceKind, name, namespace, e);
                 future.fail(e);
             }
-        }, true, blockingPromise);
+        }), true, blockingPromise);
 
         return blockingPromise.future();
     }
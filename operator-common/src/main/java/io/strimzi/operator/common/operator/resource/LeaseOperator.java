@@ -0,0 +1,75 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common.operator.resource;
+
+import io.fabric8.kubernetes.api.model.coordination.v1.Lease;
+import io.fabric8.kubernetes.api.model.coordination.v1.LeaseList;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.dsl.MixedOperation;
+import io.fabric8.kubernetes.client.dsl.Resource;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+
+/**
+ * Operations for {@code Lease}s.
+ */
+public class LeaseOperator extends AbstractResourceOperator<KubernetesClient, Lease, LeaseList, Resource<Lease>> {
+    /**
+     * Constructor
+     *
+     * @param vertx The Vertx instance
+     * @param client The Kubernetes client
+     */
+    public LeaseOperator(Vertx vertx, KubernetesClient client) {
+        super(vertx, client, "Lease");
+    }
+
+    @Override
+    protected MixedOperation<Lease, LeaseList, Resource<Lease>> operation() {
+        return client.leases();
+    }
+
+    /**
+     * Asynchronously writes the given {@code desired} Lease using optimistic locking. When the desired Lease has no
+     * resource version, it is created. Otherwise it replaces the existing Lease only if its resource version still
+     * matches. This allows several operator instances to compete for the same Lease without overriding each other's
+     * changes: the loser of the race gets a failed future (typically with HTTP 409 Conflict).
+     *
+     * @param desired   The desired Lease with the resource version it was derived from
+     *
+     * @return  A future which completes with the Lease as stored in the Kubernetes API server
+     */
+    public Future<Lease> compareAndSet(Lease desired) {
+        String namespace = desired.getMetadata().getNamespace();
+        String name = desired.getMetadata().getName();
+        String resourceVersion = desired.getMetadata().getResourceVersion();
+
+        return resourceSupport.executeBlocking(future -> {
+            try {
+                if (resourceVersion == null) {
+                    future.complete(operation().inNamespace(namespace).withName(name).create(desired));
+                } else {
+                    future.complete(operation().inNamespace(namespace).withName(name).lockResourceVersion(resourceVersion).replace(desired));
+                }
+            } catch (Throwable t) {
+                future.fail(t);
+            }
+        });
+    }
+
+    /**
+     * Asynchronously deletes the Lease. Unlike {@link #reconcile}, it does not wait until the deletion is observed
+     * through a watch, which makes it usable also during the operator shutdown. Deleting a Lease which does not exist
+     * anymore is not an error.
+     *
+     * @param namespace Namespace of the Lease
+     * @param name      Name of the Lease
+     *
+     * @return  A future which completes when the Lease was deleted
+     */
+    public Future<Void> deleteAsync(String namespace, String name) {
+        return resourceSupport.deleteAsync(operation().inNamespace(namespace).withName(name));
+    }
+}
@@ -13,6 +13,7 @@ import io.fabric8.kubernetes.client.dsl.Deletable;
 import io.fabric8.kubernetes.client.dsl.Gettable;
 import io.fabric8.kubernetes.client.dsl.Listable;
 import io.fabric8.kubernetes.client.dsl.Watchable;
+import io.strimzi.operator.common.KubernetesOperationsExecutor;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.ReconciliationLogger;
 import io.vertx.core.AsyncResult;
@@ -27,6 +28,8 @@ import java.util.List;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 
+import static io.strimzi.operator.common.KubernetesRequestMetrics.attributedTo;
+
 public class ResourceSupport {
     public static final long DEFAULT_TIMEOUT_MS = 300_000;
     protected static final ReconciliationLogger LOGGER = ReconciliationLogger.create(ResourceSupport.class);
@@ -59,8 +62,7 @@ public class ResourceSupport {
 
     <T> Future<T> executeBlocking(Handler<Promise<T>> blockingCodeHandler) {
         Promise<T> result = Promise.promise();
-        vertx.createSharedWorkerExecutor("kubernetes-ops-pool")
-                .executeBlocking(blockingCodeHandler, true, result);
+        KubernetesOperationsExecutor.executeBlocking(vertx, blockingCodeHandler, true, result);
         return result.future();
     }
 
@@ -245,14 +247,25 @@ public class ResourceSupport {
      * @return A Future which completes on the context thread.
      */
     <T> Future<T> getAsync(Gettable<T> resource) {
-        return executeBlocking(
+        return getAsync(null, resource);
+    }
+
+    /**
+     * Asynchronously gets the given resource, returning a Future which completes on the context thread.
+     *
+     * @param reconciliation The reconciliation the request is counted against. Can be null.
+     * @param resource The resource(s) to get.
+     * @return A Future which completes on the context thread.
+     */
+    <T> Future<T> getAsync(Reconciliation reconciliation, Gettable<T> resource) {
+        return executeBlocking(attributedTo(reconciliation,
             blockingFuture -> {
                 try {
                     blockingFuture.complete(resource.get());
                 } catch (Throwable t) {
                     blockingFuture.fail(t);
                 }
-            });
+            }));
     }
 
     /**
@@ -262,13 +275,24 @@ public class ResourceSupport {
      * @return A Future which completes on the context thread.
      */
     <T extends HasMetadata, L extends KubernetesResourceList<T>> Future<List<T>> listAsync(Listable<L> resource) {
-        return executeBlocking(
+        return listAsync(null, resource);
+    }
+
+    /**
+     * Asynchronously lists the matching resources, returning a Future which completes on the context thread.
+     *
+     * @param reconciliation The reconciliation the request is counted against. Can be null.
+     * @param resource The resources to list.
+     * @return A Future which completes on the context thread.
+     */
+    <T extends HasMetadata, L extends KubernetesResourceList<T>> Future<List<T>> listAsync(Reconciliation reconciliation, Listable<L> resource) {
+        return executeBlocking(attributedTo(reconciliation,
             blockingFuture -> {
                 try {
                     blockingFuture.complete(resource.list().getItems());
                 } catch (Throwable t) {
                     blockingFuture.fail(t);
                 }
-            });
+            }));
     }
 }
@@ -22,6 +22,7 @@ import java.text.ParseException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ExecutionException;
 
 import static org.hamcrest.CoreMatchers.is;
@@ -146,6 +147,48 @@ public class PlatformFeaturesAvailabilityTest {
         })));
     }
 
+    @Test
+    public void testApiDiscovery(Vertx vertx, VertxTestContext context) throws InterruptedException, ExecutionException {
+        String apis = "{\n" +
+                "  \"kind\": \"APIGroupList\",\n" +
+                "  \"apiVersion\": \"v1\",\n" +
+                "  \"groups\": [\n" +
+                "    {\"name\": \"apps\", \"versions\": [{\"groupVersion\": \"apps/v1\", \"version\": \"v1\"}]},\n" +
+                "    {\"name\": \"route.openshift.io\", \"versions\": [{\"groupVersion\": \"route.openshift.io/v1\", \"version\": \"v1\"}]},\n" +
+                "    {\"name\": \"image.openshift.io\", \"versions\": [{\"groupVersion\": \"image.openshift.io/v1\", \"version\": \"v1\"}]}\n" +
+                "  ]\n" +
+                "}";
+
+        List<String> requests = new CopyOnWriteArrayList<>();
+        server = vertx.createHttpServer().requestHandler(request -> {
+            requests.add(request.uri());
+
+            if ("/apis".equals(request.uri())) {
+                request.response().setStatusCode(200).end(apis);
+            } else if ("/version".equals(request.uri())) {
+                request.response().setStatusCode(200).end("{\"major\": \"1\", \"minor\": \"20\"}");
+            } else {
+                request.response().setStatusCode(404).end();
+            }
+        }).listen(0).toCompletionStage().toCompletableFuture().get();
+
+        KubernetesClient client = new DefaultKubernetesClient("127.0.0.1:" + server.actualPort());
+
+        Checkpoint async = context.checkpoint();
+
+        PlatformFeaturesAvailability.create(vertx, client).onComplete(context.succeeding(pfa -> context.verify(() -> {
+            assertThat(pfa.getKubernetesVersion(), is(KubernetesVersion.V1_20));
+            assertThat(pfa.hasRoutes(), is(true));
+            assertThat(pfa.hasBuilds(), is(false));
+            assertThat(pfa.hasImages(), is(true));
+            assertThat(pfa.hasApps(), is(false));
+
+            // The individual APIs are not checked when the discovery succeeds
+            assertThat(requests.size(), is(2));
+            async.flag();
+        })));
+    }
+
     @Test
     public void versionInfoFromMap(VertxTestContext context) throws ParseException {
         String version =  "major=1\n" +
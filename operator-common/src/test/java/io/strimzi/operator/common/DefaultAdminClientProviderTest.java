@@ -0,0 +1,51 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common;
+
+import io.fabric8.kubernetes.api.model.Secret;
+import io.fabric8.kubernetes.api.model.SecretBuilder;
+import io.strimzi.operator.common.operator.MockCertManager;
+import org.apache.kafka.clients.admin.Admin;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class DefaultAdminClientProviderTest {
+    private static final Secret CA_SECRET = new SecretBuilder()
+            .withNewMetadata()
+                .withNamespace("my-namespace")
+                .withName("my-cluster-cluster-ca-cert")
+            .endMetadata()
+            .addToData("ca.crt", MockCertManager.clusterCaCert())
+            .build();
+
+    private static final Secret KEY_SECRET = new SecretBuilder()
+            .withNewMetadata()
+                .withNamespace("my-namespace")
+                .withName("my-cluster-cluster-operator-certs")
+            .endMetadata()
+            .addToData("cluster-operator.crt", MockCertManager.clusterCaCert())
+            .addToData("cluster-operator.key", MockCertManager.clusterCaKey())
+            .build();
+
+    @Test
+    public void testCreateAdminClientWithPemMaterial() {
+        // The SSL engine is created when the Admin client is created, so invalid PEM configuration would fail here
+        Admin admin = new DefaultAdminClientProvider().createAdminClient("localhost:9091", CA_SECRET, KEY_SECRET, "cluster-operator");
+        assertThat(admin, is(notNullValue()));
+        admin.close(Duration.ZERO);
+    }
+
+    @Test
+    public void testCreateAdminClientWithTrustOnly() {
+        Admin admin = new DefaultAdminClientProvider().createAdminClient("localhost:9091", CA_SECRET, null, null);
+        assertThat(admin, is(notNullValue()));
+        admin.close(Duration.ZERO);
+    }
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common;
+
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+import io.vertx.junit5.Checkpoint;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+@ExtendWith(VertxExtension.class)
+public class KubernetesOperationsExecutorTest {
+    private static Vertx vertx;
+
+    @BeforeAll
+    public static void before() {
+        vertx = Vertx.vertx();
+    }
+
+    @AfterAll
+    public static void after() {
+        vertx.close();
+    }
+
+    @AfterEach
+    public void reset() {
+        KubernetesOperationsExecutor.reset();
+    }
+
+    private static boolean virtualThreadsSupported() {
+        try {
+            Thread.class.getMethod("isVirtual");
+            return true;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+
+    @Test
+    public void testConfigure() {
+        assertThat(KubernetesOperationsExecutor.configure(Map.of()), is(false));
+        assertThat(KubernetesOperationsExecutor.configure(Map.of(KubernetesOperationsExecutor.VIRTUAL_THREADS_ENV, "false")), is(false));
+        // Falls back to the worker pool when the JDK does not support virtual threads
+        assertThat(KubernetesOperationsExecutor.configure(Map.of(KubernetesOperationsExecutor.VIRTUAL_THREADS_ENV, "true")), is(virtualThreadsSupported()));
+    }
+
+    @Test
+    public void testExecuteBlockingOnWorkerPool(VertxTestContext context) {
+        Checkpoint async = context.checkpoint();
+
+        vertx.runOnContext(v -> {
+            Context caller = vertx.getOrCreateContext();
+
+            KubernetesOperationsExecutor.<String>executeBlocking(vertx, promise -> {
+                context.verify(() -> assertThat(Context.isOnWorkerThread(), is(true)));
+                promise.complete(Thread.currentThread().getName());
+            }, false, context.succeeding(thread -> context.verify(() -> {
+                assertThat(thread.startsWith(KubernetesOperationsExecutor.WORKER_POOL_NAME), is(true));
+                assertThat(vertx.getOrCreateContext(), is(caller));
+                async.flag();
+            })));
+        });
+    }
+
+    @Test
+    public void testExecuteBlockingOnVirtualThreads(VertxTestContext context) {
+        if (!KubernetesOperationsExecutor.configure(Map.of(KubernetesOperationsExecutor.VIRTUAL_THREADS_ENV, "true"))) {
+            // Virtual threads are not supported by this JDK
+            context.completeNow();
+            return;
+        }
+
+        Checkpoint async = context.checkpoint();
+
+        vertx.runOnContext(v -> {
+            Context caller = vertx.getOrCreateContext();
+
+            KubernetesOperationsExecutor.<Boolean>executeBlocking(vertx, promise -> {
+                try {
+                    promise.complete((Boolean) Thread.class.getMethod("isVirtual").invoke(Thread.currentThread()));
+                } catch (ReflectiveOperationException e) {
+                    promise.fail(e);
+                }
+            }, false, context.succeeding(virtual -> context.verify(() -> {
+                assertThat(virtual, is(true));
+                assertThat(vertx.getOrCreateContext(), is(caller));
+                async.flag();
+            })));
+        });
+    }
+
+    @Test
+    public void testExecuteBlockingFailure(VertxTestContext context) {
+        Checkpoint async = context.checkpoint();
+
+        KubernetesOperationsExecutor.<Void>executeBlocking(vertx, promise -> {
+            throw new RuntimeException("Failed");
+        }, false, context.failing(e -> context.verify(() -> {
+            assertThat(e.getMessage(), is("Failed"));
+            async.flag();
+        })));
+    }
+
+    @Test
+    public void testOrderedExecutionOnExecutor(VertxTestContext context) {
+        KubernetesOperationsExecutor.useExecutor(Executors.newFixedThreadPool(4));
+        List<Integer> executed = new CopyOnWriteArrayList<>();
+        Checkpoint async = context.checkpoint(10);
+
+        vertx.runOnContext(v -> {
+            for (int i = 0; i < 10; i++) {
+                int task = i;
+
+                KubernetesOperationsExecutor.<Void>executeBlocking(vertx, promise -> {
+                    try {
+                        // Earlier tasks take longer so that they would finish last if not ordered
+                        Thread.sleep(10 - task);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+
+                    executed.add(task);
+                    promise.complete();
+                }, true, context.succeeding(ignored -> context.verify(() -> {
+                    assertThat(executed.get(task), is(task));
+                    async.flag();
+                })));
+            }
+        });
+    }
+}
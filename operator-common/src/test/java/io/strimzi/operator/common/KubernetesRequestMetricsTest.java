@@ -0,0 +1,163 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.vertx.core.Promise;
+import okhttp3.Interceptor;
+import okhttp3.MediaType;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class KubernetesRequestMetricsTest {
+    private static final String API = "https://kubernetes.default.svc";
+    private static final MediaType JSON = MediaType.get("application/json");
+
+    private MeterRegistry registry;
+    private KubernetesRequestMetrics interceptor;
+
+    @BeforeEach
+    public void setup() {
+        registry = new SimpleMeterRegistry();
+        interceptor = new KubernetesRequestMetrics(new MicrometerMetricsProvider(registry), "cluster-operator", 2);
+    }
+
+    private static Response response(Request request, int code, String body) {
+        return new Response.Builder()
+                .request(request)
+                .protocol(Protocol.HTTP_1_1)
+                .code(code)
+                .message("message")
+                .body(ResponseBody.create(JSON, body))
+                .build();
+    }
+
+    private Response intercept(Request request, int code, String body) throws IOException {
+        Interceptor.Chain chain = mock(Interceptor.Chain.class);
+        when(chain.request()).thenReturn(request);
+        when(chain.proceed(request)).thenReturn(response(request, code, body));
+
+        Response response = interceptor.intercept(chain);
+        response.body().string();
+
+        return response;
+    }
+
+    private long requests(String kind, String verb) {
+        return registry.get("strimzi.kubernetes.requests")
+                .tag("kind", kind)
+                .tag("verb", verb)
+                .tag("operator", "cluster-operator")
+                .timer()
+                .count();
+    }
+
+    @Test
+    public void testKindsAndVerbs() throws IOException {
+        intercept(new Request.Builder().url(API + "/api/v1/namespaces/ns/pods").build(), 200, "{}");
+        intercept(new Request.Builder().url(API + "/api/v1/namespaces/ns/pods/my-pod").build(), 200, "{}");
+        intercept(new Request.Builder().url(API + "/api/v1/namespaces/ns/pods?watch=true").build(), 200, "{}");
+        intercept(new Request.Builder().url(API + "/api/v1/namespaces/ns/pods/my-pod").delete().build(), 200, "{}");
+        intercept(new Request.Builder().url(API + "/apis/kafka.strimzi.io/v1beta2/namespaces/ns/kafkas/my-cluster/status").put(RequestBody.create(JSON, "{}")).build(), 200, "{}");
+        intercept(new Request.Builder().url(API + "/apis/apps/v1/namespaces/ns/statefulsets").post(RequestBody.create(JSON, "{}")).build(), 200, "{}");
+        intercept(new Request.Builder().url(API + "/apis/apps/v1/namespaces/ns/statefulsets/my-sts").patch(RequestBody.create(JSON, "{}")).build(), 200, "{}");
+        intercept(new Request.Builder().url(API + "/apis/rbac.authorization.k8s.io/v1/clusterroles/my-role").build(), 200, "{}");
+        intercept(new Request.Builder().url(API + "/api/v1/namespaces/ns").build(), 200, "{}");
+        intercept(new Request.Builder().url(API + "/version").build(), 200, "{}");
+
+        assertThat(requests("pods", "list"), is(1L));
+        assertThat(requests("pods", "get"), is(1L));
+        assertThat(requests("pods", "watch"), is(1L));
+        assertThat(requests("pods", "delete"), is(1L));
+        assertThat(requests("kafkas/status", "update"), is(1L));
+        assertThat(requests("statefulsets", "create"), is(1L));
+        assertThat(requests("statefulsets", "patch"), is(1L));
+        assertThat(requests("clusterroles", "get"), is(1L));
+        assertThat(requests("namespaces", "get"), is(1L));
+        assertThat(requests("none", "get"), is(1L));
+    }
+
+    @Test
+    public void testResponseSizeAndFailures() throws IOException {
+        Request request = new Request.Builder().url(API + "/api/v1/namespaces/ns/secrets").build();
+
+        intercept(request, 200, "0123456789");
+        intercept(request, 429, "");
+        intercept(request, 503, "");
+        intercept(request, 500, "");
+
+        assertThat(requests("secrets", "list"), is(4L));
+        assertThat(registry.get("strimzi.kubernetes.response.size").tag("kind", "secrets").summary().totalAmount(), is(10.0));
+        assertThat(registry.get("strimzi.kubernetes.requests.failed").tag("kind", "secrets").tag("status", "429").counter().count(), is(1.0));
+        assertThat(registry.get("strimzi.kubernetes.requests.failed").tag("kind", "secrets").tag("status", "5xx").counter().count(), is(2.0));
+    }
+
+    @Test
+    public void testFailedRequestIsTimed() throws IOException {
+        Request request = new Request.Builder().url(API + "/api/v1/namespaces/ns/configmaps/my-cm").build();
+        Interceptor.Chain chain = mock(Interceptor.Chain.class);
+        when(chain.request()).thenReturn(request);
+        when(chain.proceed(request)).thenThrow(new IOException("Connection refused"));
+
+        assertThrows(IOException.class, () -> interceptor.intercept(chain));
+        assertThat(requests("configmaps", "get"), is(1L));
+    }
+
+    @Test
+    public void testRequestsAttributedToReconciliation() throws IOException {
+        Reconciliation reconciliation = new Reconciliation("test", "Kafka", "ns", "my-cluster");
+        Request request = new Request.Builder().url(API + "/api/v1/namespaces/ns/services/my-service").build();
+
+        // Not attributed
+        intercept(request, 200, "{}");
+        assertThat(reconciliation.kubernetesRequests(), is(0));
+
+        Promise<Void> promise = Promise.promise();
+        KubernetesRequestMetrics.<Void>attributedTo(reconciliation, p -> {
+            try {
+                // Exceeds the budget of 2 requests
+                for (int i = 0; i < 3; i++) {
+                    intercept(request, 200, "{}");
+                }
+
+                p.complete();
+            } catch (IOException e) {
+                p.fail(e);
+            }
+        }).handle(promise);
+
+        assertThat(promise.future().succeeded(), is(true));
+        assertThat(reconciliation.kubernetesRequests(), is(3));
+
+        // The reconciliation is unset after the handler completes
+        intercept(request, 200, "{}");
+        assertThat(reconciliation.kubernetesRequests(), is(3));
+        assertThat(requests("services", "get"), is(5L));
+    }
+
+    @Test
+    public void testRequestBudget() {
+        assertThat(KubernetesRequestMetrics.requestBudget(Map.of()), is(0));
+        assertThat(KubernetesRequestMetrics.requestBudget(Map.of(KubernetesRequestMetrics.REQUEST_BUDGET_ENV, "250")), is(250));
+        assertThrows(InvalidConfigurationException.class, () -> KubernetesRequestMetrics.requestBudget(Map.of(KubernetesRequestMetrics.REQUEST_BUDGET_ENV, "many")));
+        assertThat(registry.find("strimzi.kubernetes.requests").timer(), is(nullValue()));
+    }
+}
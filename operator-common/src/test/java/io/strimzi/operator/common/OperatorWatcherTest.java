@@ -0,0 +1,163 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common;
+
+import io.fabric8.kubernetes.api.model.ConfigMap;
+import io.fabric8.kubernetes.api.model.ConfigMapBuilder;
+import io.fabric8.kubernetes.client.Watcher;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.strimzi.api.kafka.model.Kafka;
+import io.strimzi.api.kafka.model.KafkaBuilder;
+import io.strimzi.api.kafka.model.status.ConditionBuilder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class OperatorWatcherTest {
+    private static final String NAMESPACE = "my-namespace";
+    private static final String NAME = "my-resource";
+
+    private Operator operator;
+    private Counter dispatched;
+    private Counter filtered;
+    private OperatorWatcher<ConfigMap> watcher;
+
+    private static ConfigMap resource(Long generation, Map<String, String> annotations, Map<String, String> labels, String resourceVersion) {
+        return new ConfigMapBuilder()
+                .withNewMetadata()
+                    .withNamespace(NAMESPACE)
+                    .withName(NAME)
+                    .withGeneration(generation)
+                    .withResourceVersion(resourceVersion)
+                    .withAnnotations(annotations)
+                    .withLabels(labels)
+                .endMetadata()
+                .build();
+    }
+
+    @BeforeEach
+    public void setup() {
+        operator = mock(Operator.class);
+        when(operator.kind()).thenReturn("Kafka");
+
+        MeterRegistry registry = new SimpleMeterRegistry();
+        dispatched = registry.counter("dispatched");
+        filtered = registry.counter("filtered");
+
+        watcher = new OperatorWatcher<>(operator, NAMESPACE, e -> { }, dispatched, filtered);
+    }
+
+    private void assertEvents(int dispatchedEvents, int filteredEvents) {
+        verify(operator, times(dispatchedEvents)).reconcile(any());
+        assertThat((int) dispatched.count(), is(dispatchedEvents));
+        assertThat((int) filtered.count(), is(filteredEvents));
+    }
+
+    @Test
+    public void testStatusOnlyChangesAreFiltered() {
+        watcher.eventReceived(Watcher.Action.ADDED, resource(1L, Map.of(), Map.of(), "1"));
+        assertEvents(1, 0);
+
+        // Status update by the operator changes only the resource version
+        watcher.eventReceived(Watcher.Action.MODIFIED, resource(1L, Map.of(), Map.of(), "2"));
+        assertEvents(1, 1);
+
+        // Spec change
+        watcher.eventReceived(Watcher.Action.MODIFIED, resource(2L, Map.of(), Map.of(), "3"));
+        assertEvents(2, 1);
+
+        watcher.eventReceived(Watcher.Action.DELETED, resource(2L, Map.of(), Map.of(), "4"));
+        assertEvents(3, 1);
+    }
+
+    @Test
+    public void testOnlyStrimziAnnotationsAndLabelsTriggerReconciliation() {
+        watcher.eventReceived(Watcher.Action.ADDED, resource(1L, Map.of(), Map.of(), "1"));
+
+        watcher.eventReceived(Watcher.Action.MODIFIED, resource(1L, Map.of("my-annotation", "value"), Map.of("my-label", "value"), "2"));
+        assertEvents(1, 1);
+
+        watcher.eventReceived(Watcher.Action.MODIFIED, resource(1L, Map.of("my-annotation", "value", Annotations.ANNO_STRIMZI_IO_PAUSE_RECONCILIATION, "true"), Map.of("my-label", "value"), "3"));
+        assertEvents(2, 1);
+
+        watcher.eventReceived(Watcher.Action.MODIFIED, resource(1L, Map.of(), Map.of("my-label", "value", "strimzi.io/cluster", "my-cluster"), "4"));
+        assertEvents(3, 1);
+
+        watcher.eventReceived(Watcher.Action.MODIFIED, resource(1L, Map.of(), Map.of("strimzi.io/cluster", "my-cluster"), "5"));
+        assertEvents(3, 2);
+    }
+
+    @Test
+    public void testResourcesWithoutGenerationAreNotFiltered() {
+        watcher.eventReceived(Watcher.Action.ADDED, resource(null, Map.of(), Map.of(), "1"));
+        watcher.eventReceived(Watcher.Action.MODIFIED, resource(null, Map.of(), Map.of(), "2"));
+
+        assertEvents(2, 0);
+    }
+
+    @Test
+    public void testFirstSeenModifiedResourceIsNotFiltered() {
+        // For example after the watch was recreated
+        watcher.eventReceived(Watcher.Action.MODIFIED, resource(1L, Map.of(), Map.of(), "1"));
+        watcher.eventReceived(Watcher.Action.DELETED, resource(1L, Map.of(), Map.of(), "2"));
+        watcher.eventReceived(Watcher.Action.ADDED, resource(1L, Map.of(), Map.of(), "3"));
+
+        assertEvents(3, 0);
+    }
+
+    @Test
+    public void testReconciledResourcesAreStaggered() {
+        ReconciliationStagger stagger = mock(ReconciliationStagger.class);
+        OperatorWatcher<Kafka> staggeredWatcher = new OperatorWatcher<>(operator, NAMESPACE, e -> { }, dispatched, filtered, stagger);
+
+        Kafka reconciled = new KafkaBuilder()
+                .withNewMetadata()
+                    .withNamespace(NAMESPACE)
+                    .withName(NAME)
+                    .withGeneration(2L)
+                .endMetadata()
+                .withNewStatus()
+                    .withObservedGeneration(2L)
+                    .withConditions(new ConditionBuilder().withType("Ready").withStatus("True").build())
+                .endStatus()
+                .build();
+
+        // Already reconciled resource is deferred
+        staggeredWatcher.eventReceived(Watcher.Action.ADDED, reconciled);
+        verify(stagger, times(1)).schedule(any());
+        verify(operator, never()).reconcile(any());
+
+        // Resource which changed or is not ready is reconciled right away
+        Kafka changed = new KafkaBuilder(reconciled).editMetadata().withName("changed").withGeneration(3L).endMetadata().build();
+        staggeredWatcher.eventReceived(Watcher.Action.ADDED, changed);
+        Kafka notReady = new KafkaBuilder(reconciled)
+                .editMetadata()
+                    .withName("not-ready")
+                .endMetadata()
+                .editStatus()
+                    .withConditions(new ConditionBuilder().withType("NotReady").withStatus("True").build())
+                .endStatus()
+                .build();
+        staggeredWatcher.eventReceived(Watcher.Action.ADDED, notReady);
+
+        // Other events are never deferred
+        staggeredWatcher.eventReceived(Watcher.Action.MODIFIED, new KafkaBuilder(reconciled).editMetadata().addToAnnotations(Annotations.ANNO_STRIMZI_IO_MANUAL_ROLLING_UPDATE, "true").endMetadata().build());
+
+        verify(stagger, times(1)).schedule(any());
+        verify(operator, times(3)).reconcile(any());
+    }
+}
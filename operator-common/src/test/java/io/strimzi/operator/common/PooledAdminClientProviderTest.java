@@ -0,0 +1,198 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common;
+
+import io.fabric8.kubernetes.api.model.Secret;
+import io.fabric8.kubernetes.api.model.SecretBuilder;
+import org.apache.kafka.clients.admin.Admin;
+import org.apache.kafka.clients.admin.DescribeClusterResult;
+import org.apache.kafka.common.internals.KafkaFutureImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class PooledAdminClientProviderTest {
+    private static final String BOOTSTRAP = "my-cluster-kafka-bootstrap:9091";
+
+    private final List<Admin> created = new CopyOnWriteArrayList<>();
+    private final AtomicLong now = new AtomicLong(0);
+    private final AtomicBoolean healthy = new AtomicBoolean(true);
+    private PooledAdminClientProvider provider;
+
+    private static Secret secret(String name, Map<String, String> data) {
+        return new SecretBuilder()
+                .withNewMetadata()
+                    .withName(name)
+                .endMetadata()
+                .withData(data)
+                .build();
+    }
+
+    private static Secret caCert(String cert) {
+        return secret("my-cluster-cluster-ca-cert", Map.of("ca.crt", cert));
+    }
+
+    private static Secret coKeyCert(String p12) {
+        return secret("my-cluster-cluster-operator-certs", Map.of("cluster-operator.p12", p12, "cluster-operator.password", "cGFzc3dvcmQ="));
+    }
+
+    private Admin createAdmin() {
+        Admin admin = mock(Admin.class);
+
+        DescribeClusterResult result = mock(DescribeClusterResult.class);
+        when(result.clusterId()).thenAnswer(i -> {
+            KafkaFutureImpl<String> future = new KafkaFutureImpl<>();
+            if (healthy.get()) {
+                future.complete("my-cluster-id");
+            } else {
+                future.completeExceptionally(new RuntimeException("Failed"));
+            }
+            return future;
+        });
+        when(admin.describeCluster()).thenReturn(result);
+
+        created.add(admin);
+        return admin;
+    }
+
+    @BeforeEach
+    public void setup() {
+        created.clear();
+        now.set(0);
+        healthy.set(true);
+        provider = new PooledAdminClientProvider((bootstrap, caCertSecret, keyCertSecret, keyCertName) -> createAdmin(), now::get);
+    }
+
+    @Test
+    public void testAdminClientIsReused() {
+        Admin ac1 = provider.createAdminClient(BOOTSTRAP, caCert("Y2E="), coKeyCert("cDEy"), "cluster-operator");
+        // Used by two users at the same time
+        Admin ac2 = provider.createAdminClient(BOOTSTRAP, caCert("Y2E="), coKeyCert("cDEy"), "cluster-operator");
+        ac1.describeCluster();
+        ac1.close();
+        ac2.close(Duration.ofSeconds(30));
+
+        Admin ac3 = provider.createAdminClient(BOOTSTRAP, caCert("Y2E="), coKeyCert("cDEy"), "cluster-operator");
+        ac3.describeCluster();
+        ac3.close();
+
+        assertThat(created.size(), is(1));
+        assertThat(provider.size(), is(1));
+        verify(created.get(0), times(2)).describeCluster();
+        verify(created.get(0), never()).close(any());
+
+        // Closed Admin client cannot be used anymore
+        assertThrows(IllegalStateException.class, ac1::describeCluster);
+    }
+
+    @Test
+    public void testDifferentBootstrapAddressesUseDifferentAdminClients() {
+        provider.createAdminClient(BOOTSTRAP, caCert("Y2E="), coKeyCert("cDEy"), "cluster-operator").close();
+        provider.createAdminClient("my-other-cluster-kafka-bootstrap:9091", caCert("Y2E="), coKeyCert("cDEy"), "cluster-operator").close();
+
+        assertThat(created.size(), is(2));
+        assertThat(provider.size(), is(2));
+    }
+
+    @Test
+    public void testRenewedCertificatesInvalidateAdminClient() {
+        Admin ac1 = provider.createAdminClient(BOOTSTRAP, caCert("Y2E="), coKeyCert("cDEy"), "cluster-operator");
+
+        // Renewed cluster CA while the old Admin client is still used
+        Admin ac2 = provider.createAdminClient(BOOTSTRAP, caCert("Y2Ey"), coKeyCert("cDEy"), "cluster-operator");
+        assertThat(created.size(), is(2));
+        verify(created.get(0), never()).close(any());
+
+        ac1.close();
+        verify(created.get(0)).close(any());
+        ac2.close();
+
+        // Renewed cluster operator certificate
+        provider.createAdminClient(BOOTSTRAP, caCert("Y2Ey"), coKeyCert("cDEyMg=="), "cluster-operator").close();
+        assertThat(created.size(), is(3));
+        verify(created.get(1)).close(any());
+        verify(created.get(2), never()).close(any());
+        assertThat(provider.size(), is(1));
+    }
+
+    @Test
+    public void testUnhealthyAdminClientIsReplaced() {
+        provider.createAdminClient(BOOTSTRAP, caCert("Y2E="), coKeyCert("cDEy"), "cluster-operator").close();
+
+        // Not checked when used recently
+        healthy.set(false);
+        provider.createAdminClient(BOOTSTRAP, caCert("Y2E="), coKeyCert("cDEy"), "cluster-operator").close();
+        assertThat(created.size(), is(1));
+
+        now.addAndGet(PooledAdminClientProvider.HEALTH_CHECK_INTERVAL_MS);
+        healthy.set(true);
+        provider.createAdminClient(BOOTSTRAP, caCert("Y2E="), coKeyCert("cDEy"), "cluster-operator").close();
+        assertThat(created.size(), is(1));
+
+        now.addAndGet(PooledAdminClientProvider.HEALTH_CHECK_INTERVAL_MS);
+        healthy.set(false);
+        provider.createAdminClient(BOOTSTRAP, caCert("Y2E="), coKeyCert("cDEy"), "cluster-operator").close();
+        assertThat(created.size(), is(2));
+        verify(created.get(0)).close(any());
+        verify(created.get(1), never()).close(any());
+    }
+
+    @Test
+    public void testIdleAdminClientsAreClosed() {
+        Admin ac1 = provider.createAdminClient(BOOTSTRAP, caCert("Y2E="), coKeyCert("cDEy"), "cluster-operator");
+        provider.createAdminClient("my-other-cluster-kafka-bootstrap:9091", caCert("Y2E="), coKeyCert("cDEy"), "cluster-operator").close();
+
+        now.addAndGet(PooledAdminClientProvider.IDLE_TIMEOUT_MS + 1);
+        provider.evictIdle();
+
+        // Used Admin clients are not closed
+        assertThat(provider.size(), is(1));
+        verify(created.get(0), never()).close(any());
+        verify(created.get(1)).close(any());
+
+        ac1.close();
+        now.addAndGet(PooledAdminClientProvider.IDLE_TIMEOUT_MS + 1);
+        provider.evictIdle();
+
+        assertThat(provider.size(), is(0));
+        verify(created.get(0)).close(any());
+    }
+
+    @Test
+    public void testDedicatedAdminClientIsNotPooled() {
+        Admin ac = provider.createDedicatedAdminClient(BOOTSTRAP, caCert("Y2E="), coKeyCert("cDEy"), "cluster-operator");
+        ac.close();
+
+        assertThat(provider.size(), is(0));
+        verify(created.get(0)).close();
+    }
+
+    @Test
+    public void testCredentialsFingerprint() {
+        String fingerprint = PooledAdminClientProvider.credentialsFingerprint(caCert("Y2E="), coKeyCert("cDEy"), "cluster-operator");
+
+        assertThat(PooledAdminClientProvider.credentialsFingerprint(caCert("Y2E="), coKeyCert("cDEy"), "cluster-operator"), is(fingerprint));
+        assertThat(PooledAdminClientProvider.credentialsFingerprint(caCert("Y2Ey"), coKeyCert("cDEy"), "cluster-operator"), is(not(fingerprint)));
+        assertThat(PooledAdminClientProvider.credentialsFingerprint(caCert("Y2E="), coKeyCert("cDEyMg=="), "cluster-operator"), is(not(fingerprint)));
+        assertThat(PooledAdminClientProvider.credentialsFingerprint(null, null, null), is(not(fingerprint)));
+    }
+}
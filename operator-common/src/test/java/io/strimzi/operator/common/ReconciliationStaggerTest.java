@@ -0,0 +1,70 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common;
+
+import io.fabric8.kubernetes.api.model.ConfigMapBuilder;
+import io.strimzi.api.kafka.model.Kafka;
+import io.strimzi.api.kafka.model.KafkaBuilder;
+import io.strimzi.api.kafka.model.status.ConditionBuilder;
+import io.vertx.core.Vertx;
+import io.vertx.junit5.Checkpoint;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+
+@ExtendWith(VertxExtension.class)
+public class ReconciliationStaggerTest {
+    private static Kafka kafka(long generation, long observedGeneration, String readyStatus) {
+        return new KafkaBuilder()
+                .withNewMetadata()
+                    .withName("my-cluster")
+                    .withNamespace("my-namespace")
+                    .withGeneration(generation)
+                .endMetadata()
+                .withNewStatus()
+                    .withObservedGeneration(observedGeneration)
+                    .withConditions(new ConditionBuilder().withType("Ready").withStatus(readyStatus).build())
+                .endStatus()
+                .build();
+    }
+
+    @Test
+    public void testIsReconciled() {
+        assertThat(ReconciliationStagger.isReconciled(kafka(1L, 1L, "True")), is(true));
+        assertThat(ReconciliationStagger.isReconciled(kafka(2L, 1L, "True")), is(false));
+        assertThat(ReconciliationStagger.isReconciled(kafka(1L, 1L, "False")), is(false));
+        assertThat(ReconciliationStagger.isReconciled(new KafkaBuilder().withNewMetadata().withName("my-cluster").withGeneration(1L).endMetadata().build()), is(false));
+        assertThat(ReconciliationStagger.isReconciled(new ConfigMapBuilder().withNewMetadata().withName("my-cm").endMetadata().build()), is(false));
+    }
+
+    @Test
+    public void testReconciliationsAreSpreadOut(Vertx vertx, VertxTestContext context) {
+        ReconciliationStagger stagger = new ReconciliationStagger(vertx, 200);
+        List<Long> started = new CopyOnWriteArrayList<>();
+        Checkpoint async = context.checkpoint();
+
+        for (int i = 0; i < 3; i++) {
+            stagger.schedule(() -> {
+                started.add(System.currentTimeMillis());
+
+                if (started.size() == 3) {
+                    context.verify(() -> {
+                        assertThat(started.get(1) - started.get(0), is(greaterThanOrEqualTo(150L)));
+                        assertThat(started.get(2) - started.get(1), is(greaterThanOrEqualTo(150L)));
+                        async.flag();
+                    });
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,302 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.vertx.core.CompositeFuture;
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.core.VertxOptions;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.mockito.Mockito;
+import org.mockito.invocation.Invocation;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Drives an operator against mocked Kubernetes and Kafka APIs with a configurable number of custom resources and
+ * records how it behaves:
+ * <ul>
+ *     <li>the latency percentiles of the reconciliations,</li>
+ *     <li>for how long the Vert.x event loops were blocked,</li>
+ *     <li>the number of API calls per kind and verb.</li>
+ * </ul>
+ * The results are written as a JSON report into the directory configured using the {@code strimzi.scale.reportDir}
+ * system property ({@code target/scale-reports} by default), so that they can be compared between builds. The fleet
+ * sizes are configured by the tests using system properties as well (see {@link #fleetSize(String, int)}). Their
+ * defaults are small, so that the scale tests can run as part of the regular unit tests.
+ */
+public class ScaleTestHarness {
+    private static final Logger LOGGER = LogManager.getLogger(ScaleTestHarness.class);
+
+    /**
+     * System property used to configure the directory where the reports are written
+     */
+    public static final String REPORT_DIR_PROPERTY = "strimzi.scale.reportDir";
+
+    /**
+     * System property used to configure the number of reconciliation rounds
+     */
+    public static final String ROUNDS_PROPERTY = "strimzi.scale.rounds";
+
+    /*test*/ static final long PROBE_INTERVAL_MS = 10L;
+
+    private final Vertx vertx;
+    private final String name;
+    private final int fleetSize;
+
+    private final List<Long> latenciesNs = Collections.synchronizedList(new ArrayList<>());
+    private final AtomicInteger failures = new AtomicInteger();
+    private final AtomicLong blockedNs = new AtomicLong();
+    private final AtomicLong maxBlockedNs = new AtomicLong();
+    private final List<Long> probeTimers = new ArrayList<>();
+    private final Map<String, Map<String, Long>> apiCalls = new TreeMap<>();
+
+    private long startNs;
+    private long durationNs;
+
+    /**
+     * Constructs the harness
+     *
+     * @param vertx         Vert.x instance used by the operator
+     * @param name          Name of the scenario (used as the name of the report file)
+     * @param fleetSize     Number of custom resources reconciled by the operator
+     */
+    public ScaleTestHarness(Vertx vertx, String name, int fleetSize) {
+        this.vertx = vertx;
+        this.name = name;
+        this.fleetSize = fleetSize;
+    }
+
+    /**
+     * Reads the size of the fleet from a system property
+     *
+     * @param property      Name of the system property
+     * @param defaultSize   Size used when the property is not set
+     *
+     * @return  Number of custom resources which should be used in the scale test
+     */
+    public static int fleetSize(String property, int defaultSize) {
+        return Integer.getInteger(property, defaultSize);
+    }
+
+    /**
+     * @return  Number of reconciliation rounds which should be run by the scale test
+     */
+    public static int rounds() {
+        return Integer.getInteger(ROUNDS_PROPERTY, 2);
+    }
+
+    /**
+     * Starts measuring. A periodic timer is started on each event loop. The time by which it fires later than
+     * expected is counted as the time for which the event loop was blocked.
+     */
+    public void start() {
+        for (int i = 0; i < VertxOptions.DEFAULT_EVENT_LOOP_POOL_SIZE; i++) {
+            // Calling getOrCreateContext() from a non Vert.x thread returns a new context bound to the next event loop
+            Context context = vertx.getOrCreateContext();
+            Promise<Long> timer = Promise.promise();
+
+            context.runOnContext(v -> {
+                long[] expected = {System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(PROBE_INTERVAL_MS)};
+
+                timer.complete(vertx.setPeriodic(PROBE_INTERVAL_MS, id -> {
+                    long now = System.nanoTime();
+                    long late = now - expected[0];
+
+                    if (late > TimeUnit.MILLISECONDS.toNanos(PROBE_INTERVAL_MS)) {
+                        blockedNs.addAndGet(late);
+                        maxBlockedNs.accumulateAndGet(late, Math::max);
+                    }
+
+                    expected[0] = now + TimeUnit.MILLISECONDS.toNanos(PROBE_INTERVAL_MS);
+                }));
+            });
+
+            probeTimers.add(timer.future().toCompletionStage().toCompletableFuture().join());
+        }
+
+        startNs = System.nanoTime();
+    }
+
+    /**
+     * Runs one round of reconciliations. All the reconciliations are started at the same time from a single Vert.x
+     * context, the same way as the periodic reconciliation of all resources is started by the operators.
+     *
+     * @param reconciliations   Suppliers starting the individual reconciliations
+     *
+     * @return  Future which completes when all the reconciliations are complete (regardless whether they succeeded)
+     */
+    public Future<Void> round(List<Supplier<Future<?>>> reconciliations) {
+        Promise<Void> round = Promise.promise();
+
+        vertx.runOnContext(v -> {
+            @SuppressWarnings({ "rawtypes" })
+            List<Future> futures = new ArrayList<>(reconciliations.size());
+
+            for (Supplier<Future<?>> reconciliation : reconciliations) {
+                futures.add(timed(reconciliation));
+            }
+
+            CompositeFuture.join(futures).onComplete(res -> round.complete());
+        });
+
+        return round.future();
+    }
+
+    private Future<?> timed(Supplier<Future<?>> reconciliation) {
+        long start = System.nanoTime();
+
+        Future<?> result;
+        try {
+            result = reconciliation.get();
+        } catch (Throwable t) {
+            result = Future.failedFuture(t);
+        }
+
+        return result.onComplete(res -> {
+            latenciesNs.add(System.nanoTime() - start);
+
+            if (res.failed()) {
+                LOGGER.warn("Reconciliation in scale test {} failed", name, res.cause());
+                failures.incrementAndGet();
+            }
+        });
+    }
+
+    /**
+     * Adds API calls into the report
+     *
+     * @param calls     Map of kind to a map of verb to the number of calls
+     */
+    public void addApiCalls(Map<String, Map<String, Long>> calls) {
+        for (Map.Entry<String, Map<String, Long>> kind : calls.entrySet()) {
+            Map<String, Long> byVerb = apiCalls.computeIfAbsent(kind.getKey(), k -> new TreeMap<>());
+
+            for (Map.Entry<String, Long> verb : kind.getValue().entrySet()) {
+                byVerb.merge(verb.getKey(), verb.getValue(), Long::sum);
+            }
+        }
+    }
+
+    /**
+     * Adds the calls done on a Mockito mock or spy (typically a stub of the Kafka Admin API) into the report. Each
+     * method is reported as a verb.
+     *
+     * @param kind  The kind under which the calls should be reported
+     * @param mock  The Mockito mock or spy
+     */
+    public void addMockInvocations(String kind, Object mock) {
+        Map<String, Long> byVerb = new TreeMap<>();
+
+        for (Invocation invocation : Mockito.mockingDetails(mock).getInvocations()) {
+            byVerb.merge(invocation.getMethod().getName(), 1L, Long::sum);
+        }
+
+        addApiCalls(Collections.singletonMap(kind, byVerb));
+    }
+
+    /**
+     * Stops measuring and writes the report
+     *
+     * @return  The report
+     */
+    public Map<String, Object> stop() {
+        durationNs = System.nanoTime() - startNs;
+
+        for (long timer : probeTimers) {
+            vertx.cancelTimer(timer);
+        }
+
+        Map<String, Object> report = report();
+        write(report);
+
+        return report;
+    }
+
+    /*test*/ Map<String, Object> report() {
+        List<Long> sorted;
+        synchronized (latenciesNs) {
+            sorted = new ArrayList<>(latenciesNs);
+        }
+        Collections.sort(sorted);
+
+        Map<String, Object> latency = new LinkedHashMap<>();
+        latency.put("p50", millis(percentile(sorted, 50)));
+        latency.put("p90", millis(percentile(sorted, 90)));
+        latency.put("p99", millis(percentile(sorted, 99)));
+        latency.put("max", millis(sorted.isEmpty() ? 0L : sorted.get(sorted.size() - 1)));
+        latency.put("mean", millis(sorted.isEmpty() ? 0L : (long) sorted.stream().mapToLong(Long::longValue).average().orElse(0)));
+
+        Map<String, Object> eventLoop = new LinkedHashMap<>();
+        eventLoop.put("blockedMs", millis(blockedNs.get()));
+        eventLoop.put("maxBlockedMs", millis(maxBlockedNs.get()));
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("name", name);
+        report.put("fleetSize", fleetSize);
+        report.put("durationMs", millis(durationNs));
+        report.put("reconciliations", sorted.size());
+        report.put("failedReconciliations", failures.get());
+        report.put("reconciliationLatencyMs", latency);
+        report.put("eventLoop", eventLoop);
+        report.put("apiCallsTotal", apiCalls.values().stream().flatMap(byVerb -> byVerb.values().stream()).mapToLong(Long::longValue).sum());
+        report.put("apiCalls", apiCalls);
+
+        return report;
+    }
+
+    /**
+     * Nearest-rank percentile of a sorted list
+     *
+     * @param sorted        Sorted values
+     * @param percentile    Percentile (0 - 100)
+     *
+     * @return  The percentile or 0 when there are no values
+     */
+    /*test*/ static long percentile(List<Long> sorted, int percentile) {
+        if (sorted.isEmpty()) {
+            return 0L;
+        }
+
+        int rank = (int) Math.ceil(percentile / 100.0 * sorted.size());
+        return sorted.get(Math.max(0, rank - 1));
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    private void write(Map<String, Object> report) {
+        File dir = new File(System.getProperty(REPORT_DIR_PROPERTY, "target/scale-reports"));
+
+        try {
+            if (!dir.isDirectory() && !dir.mkdirs()) {
+                throw new IOException("Failed to create directory " + dir);
+            }
+
+            File file = new File(dir, name + ".json");
+            new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(file, report);
+            LOGGER.info("Scale test report {} written to {}", name, file.getAbsolutePath());
+        } catch (IOException e) {
+            LOGGER.warn("Failed to write scale test report {}", name, e);
+        }
+    }
+}
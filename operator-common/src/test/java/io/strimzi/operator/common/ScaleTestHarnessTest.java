@@ -0,0 +1,83 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common;
+
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.junit5.Checkpoint;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+@ExtendWith(VertxExtension.class)
+public class ScaleTestHarnessTest {
+    private static Vertx vertx;
+
+    @BeforeAll
+    public static void before() {
+        vertx = Vertx.vertx();
+    }
+
+    @AfterAll
+    public static void after() {
+        vertx.close();
+    }
+
+    @Test
+    public void testPercentile() {
+        List<Long> values = LongStream.rangeClosed(1, 100).boxed().collect(Collectors.toList());
+
+        assertThat(ScaleTestHarness.percentile(List.of(), 50), is(0L));
+        assertThat(ScaleTestHarness.percentile(List.of(7L), 99), is(7L));
+        assertThat(ScaleTestHarness.percentile(values, 50), is(50L));
+        assertThat(ScaleTestHarness.percentile(values, 90), is(90L));
+        assertThat(ScaleTestHarness.percentile(values, 99), is(99L));
+        assertThat(ScaleTestHarness.percentile(values, 100), is(100L));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testReport(VertxTestContext context) {
+        ScaleTestHarness harness = new ScaleTestHarness(vertx, "harness-test", 3);
+        harness.start();
+
+        List<Supplier<Future<?>>> reconciliations = List.of(
+            () -> Future.succeededFuture(),
+            () -> Future.failedFuture("failure"),
+            () -> {
+                throw new RuntimeException("failure");
+            });
+
+        Checkpoint async = context.checkpoint();
+        harness.round(reconciliations)
+                .compose(v -> harness.round(reconciliations))
+                .onComplete(context.succeeding(v -> context.verify(() -> {
+                    harness.addApiCalls(Map.of("Pod", Map.of("get", 2L, "list", 1L)));
+                    harness.addApiCalls(Map.of("Pod", Map.of("get", 3L)));
+
+                    Map<String, Object> report = harness.stop();
+
+                    assertThat(report.get("name"), is("harness-test"));
+                    assertThat(report.get("fleetSize"), is(3));
+                    assertThat(report.get("reconciliations"), is(6));
+                    assertThat(report.get("failedReconciliations"), is(4));
+                    assertThat(report.get("apiCallsTotal"), is(6L));
+                    assertThat(((Map<String, Map<String, Long>>) report.get("apiCalls")).get("Pod"), is(Map.of("get", 5L, "list", 1L)));
+                    async.flag();
+                })));
+    }
+}
@@ -0,0 +1,296 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common;
+
+import io.fabric8.kubernetes.api.model.coordination.v1.Lease;
+import io.fabric8.kubernetes.api.model.coordination.v1.LeaseBuilder;
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.strimzi.operator.common.model.Labels;
+import io.strimzi.operator.common.model.NamespaceAndName;
+import io.strimzi.operator.common.operator.resource.LeaseOperator;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.junit5.Checkpoint;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.not;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(VertxExtension.class)
+public class ShardManagerTest {
+    private static final String NAMESPACE = "operator-namespace";
+    private static final String GROUP = "strimzi-cluster-operator";
+    private static final int SHARDS = 8;
+
+    private static Vertx vertx;
+
+    @BeforeAll
+    public static void before() {
+        vertx = Vertx.vertx();
+    }
+
+    @AfterAll
+    public static void after() {
+        vertx.close();
+    }
+
+    @Test
+    public void testShardOfIsStableAndInRange() {
+        for (int i = 0; i < 1000; i++) {
+            NamespaceAndName resource = new NamespaceAndName("namespace", "my-cluster-" + i);
+            int shard = ShardManager.shardOf(resource, SHARDS);
+
+            assertThat(shard >= 0 && shard < SHARDS, is(true));
+            assertThat(ShardManager.shardOf(new NamespaceAndName("namespace", "my-cluster-" + i), SHARDS), is(shard));
+        }
+    }
+
+    @Test
+    public void testDesiredOwnerMovesOnlyShardsOfLeavingMember() {
+        Set<String> members = new TreeSet<>(Set.of("co-1", "co-2", "co-3"));
+        Set<String> withoutCo3 = new TreeSet<>(Set.of("co-1", "co-2"));
+
+        assertThat(ShardManager.desiredOwner(0, Set.of()), is(nullValue()));
+
+        for (int shard = 0; shard < 64; shard++) {
+            String before = ShardManager.desiredOwner(shard, members);
+            String after = ShardManager.desiredOwner(shard, withoutCo3);
+
+            if (!"co-3".equals(before)) {
+                assertThat(after, is(before));
+            }
+        }
+    }
+
+    @Test
+    public void testIsExpired() {
+        long now = System.currentTimeMillis();
+        ZonedDateTime renewed = ZonedDateTime.now(ZoneOffset.UTC);
+
+        assertThat(ShardManager.isExpired(lease("co-1", renewed, 15), now), is(false));
+        assertThat(ShardManager.isExpired(lease("co-1", renewed.minusSeconds(30), 15), now), is(true));
+        assertThat(ShardManager.isExpired(lease(null, renewed, 15), now), is(true));
+        assertThat(ShardManager.isExpired(lease("", renewed, 15), now), is(true));
+    }
+
+    @Test
+    public void testShardsAreSplitBetweenReplicasAndTakenOverWhenReplicaStops(VertxTestContext context) {
+        LeaseOperator leaseOperator = inMemoryLeaseOperator();
+        MeterRegistry co1Registry = new SimpleMeterRegistry();
+
+        ShardManager co1 = new ShardManager(vertx, leaseOperator, new MicrometerMetricsProvider(co1Registry), NAMESPACE, GROUP, "co-1", SHARDS, 60_000L);
+        ShardManager co2 = new ShardManager(vertx, leaseOperator, new MicrometerMetricsProvider(new SimpleMeterRegistry()), NAMESPACE, GROUP, "co-2", SHARDS, 60_000L);
+
+        Set<Integer> acquiredByCo1 = ConcurrentHashMap.newKeySet();
+        co1.onShardsAcquired(acquiredByCo1::addAll);
+
+        Checkpoint async = context.checkpoint();
+
+        // co-1 joins first and takes all shards
+        co1.tick()
+                .onComplete(context.succeeding(v -> context.verify(() -> {
+                    assertThat(co1.ownedShards(), is(allShards()));
+                    assertThat(acquiredByCo1, is(allShards()));
+                    assertThat(co1Registry.get(AbstractOperator.METRICS_PREFIX + "shards.owned").gauge().value(), is((double) SHARDS));
+                })))
+                // co-2 joins => co-1 releases the shards assigned to co-2 and co-2 takes them in its next round
+                .compose(v -> co2.tick())
+                .compose(v -> co1.tick())
+                .compose(v -> co2.tick())
+                .onComplete(context.succeeding(v -> context.verify(() -> {
+                    assertThat(co1.ownedShards(), is(not(empty())));
+                    assertThat(co2.ownedShards(), is(not(empty())));
+
+                    Set<Integer> overlap = new HashSet<>(co1.ownedShards());
+                    overlap.retainAll(co2.ownedShards());
+                    assertThat(overlap, is(empty()));
+
+                    Set<Integer> all = new TreeSet<>(co1.ownedShards());
+                    all.addAll(co2.ownedShards());
+                    assertThat(all, is(allShards()));
+
+                    for (int i = 0; i < 100; i++) {
+                        NamespaceAndName resource = new NamespaceAndName("namespace", "my-cluster-" + i);
+                        assertThat(co1.owns(resource) ^ co2.owns(resource), is(true));
+                    }
+                })))
+                // co-2 stops and releases its Leases => co-1 takes over all shards again
+                .compose(v -> co2.stop())
+                .compose(v -> co1.tick())
+                .onComplete(context.succeeding(v -> context.verify(() -> {
+                    assertThat(co2.ownedShards(), is(empty()));
+                    assertThat(co1.ownedShards(), is(allShards()));
+                    async.flag();
+                })));
+    }
+
+    @Test
+    public void testShardHeldByOtherReplicaIsNotTakenBeforeExpiry(VertxTestContext context) {
+        LeaseOperator leaseOperator = inMemoryLeaseOperator();
+
+        ShardManager co1 = new ShardManager(vertx, leaseOperator, new MicrometerMetricsProvider(new SimpleMeterRegistry()), NAMESPACE, GROUP, "co-1", SHARDS, 60_000L);
+        ShardManager co2 = new ShardManager(vertx, leaseOperator, new MicrometerMetricsProvider(new SimpleMeterRegistry()), NAMESPACE, GROUP, "co-2", SHARDS, 60_000L);
+
+        Checkpoint async = context.checkpoint();
+
+        // co-1 owns all shards, co-2 joins but co-1 did not release anything yet
+        co1.tick()
+                .compose(v -> co2.tick())
+                .onComplete(context.succeeding(v -> context.verify(() -> {
+                    assertThat(co1.ownedShards(), is(allShards()));
+                    assertThat(co2.ownedShards(), is(empty()));
+                    async.flag();
+                })));
+    }
+
+    @Test
+    public void testMemberLeaseIsDeletedOnStop(VertxTestContext context) {
+        Map<String, Lease> leases = new ConcurrentHashMap<>();
+        LeaseOperator leaseOperator = inMemoryLeaseOperator(leases);
+
+        ShardManager co1 = new ShardManager(vertx, leaseOperator, new MicrometerMetricsProvider(new SimpleMeterRegistry()), NAMESPACE, GROUP, "co-1", SHARDS, 60_000L);
+
+        Checkpoint async = context.checkpoint();
+
+        co1.tick()
+                .onComplete(context.succeeding(v -> context.verify(() -> {
+                    assertThat(leases.containsKey(GROUP + "-member-co-1"), is(true));
+                })))
+                .compose(v -> co1.stop())
+                .onComplete(context.succeeding(v -> context.verify(() -> {
+                    assertThat(leases.containsKey(GROUP + "-member-co-1"), is(false));
+
+                    // The shard Leases are kept, but they are not held by anyone anymore
+                    assertThat(leases.size(), is(SHARDS));
+                    assertThat(leases.values().stream().allMatch(lease -> lease.getSpec().getHolderIdentity() == null), is(true));
+                    async.flag();
+                })));
+    }
+
+    @Test
+    public void testExpiredMemberLeasesAreDeleted(VertxTestContext context) {
+        Map<String, Lease> leases = new ConcurrentHashMap<>();
+        LeaseOperator leaseOperator = inMemoryLeaseOperator(leases);
+
+        // Member Lease left behind by a replica which crashed a while ago
+        Lease crashed = new LeaseBuilder(lease("co-crashed", ZonedDateTime.now(ZoneOffset.UTC).minusMinutes(10), 60))
+                .editMetadata()
+                    .withName(GROUP + "-member-co-crashed")
+                    .withResourceVersion("1")
+                    .withLabels(Map.of(ShardManager.SHARD_GROUP_LABEL, GROUP, ShardManager.SHARD_LEASE_TYPE_LABEL, "member"))
+                .endMetadata()
+                .build();
+        leases.put(crashed.getMetadata().getName(), crashed);
+
+        ShardManager co1 = new ShardManager(vertx, leaseOperator, new MicrometerMetricsProvider(new SimpleMeterRegistry()), NAMESPACE, GROUP, "co-1", SHARDS, 60_000L);
+
+        Checkpoint async = context.checkpoint();
+
+        co1.tick()
+                .onComplete(context.succeeding(v -> context.verify(() -> {
+                    assertThat(leases.containsKey(GROUP + "-member-co-crashed"), is(false));
+                    assertThat(leases.containsKey(GROUP + "-member-co-1"), is(true));
+                    assertThat(co1.ownedShards(), is(allShards()));
+                    async.flag();
+                })));
+    }
+
+    private static Set<Integer> allShards() {
+        return IntStream.range(0, SHARDS).boxed().collect(Collectors.toCollection(TreeSet::new));
+    }
+
+    private static Lease lease(String holder, ZonedDateTime renewTime, int durationSeconds) {
+        return new LeaseBuilder()
+                .withNewMetadata()
+                    .withName("my-lease")
+                    .withNamespace(NAMESPACE)
+                .endMetadata()
+                .withNewSpec()
+                    .withHolderIdentity(holder)
+                    .withRenewTime(renewTime)
+                    .withLeaseDurationSeconds(durationSeconds)
+                .endSpec()
+                .build();
+    }
+
+    /**
+     * Creates a LeaseOperator mock backed by a map which implements the optimistic locking the same way as the
+     * Kubernetes API server
+     */
+    private static LeaseOperator inMemoryLeaseOperator() {
+        return inMemoryLeaseOperator(new ConcurrentHashMap<>());
+    }
+
+    private static LeaseOperator inMemoryLeaseOperator(Map<String, Lease> leases) {
+        LeaseOperator leaseOperator = mock(LeaseOperator.class);
+
+        when(leaseOperator.getAsync(anyString(), anyString())).thenAnswer(invocation -> Future.succeededFuture(leases.get(invocation.<String>getArgument(1))));
+
+        when(leaseOperator.listAsync(anyString(), any(Labels.class))).thenAnswer(invocation -> {
+            Labels selector = invocation.getArgument(1);
+            List<Lease> matching = leases.values().stream()
+                    .filter(lease -> lease.getMetadata().getLabels().entrySet().containsAll(selector.toMap().entrySet()))
+                    .collect(Collectors.toList());
+            return Future.succeededFuture(matching);
+        });
+
+        when(leaseOperator.deleteAsync(anyString(), anyString())).thenAnswer(invocation -> {
+            leases.remove(invocation.<String>getArgument(1));
+            return Future.succeededFuture();
+        });
+
+        when(leaseOperator.compareAndSet(any(Lease.class))).thenAnswer(invocation -> {
+            Lease desired = invocation.getArgument(0);
+            String name = desired.getMetadata().getName();
+
+            synchronized (leases) {
+                Lease current = leases.get(name);
+                String desiredVersion = desired.getMetadata().getResourceVersion();
+
+                if ((current == null && desiredVersion != null)
+                        || (current != null && !current.getMetadata().getResourceVersion().equals(desiredVersion))) {
+                    return Future.failedFuture(new KubernetesClientException("Conflict", 409, null));
+                }
+
+                int version = current == null ? 1 : Integer.parseInt(current.getMetadata().getResourceVersion()) + 1;
+                Lease stored = new LeaseBuilder(desired)
+                        .editMetadata()
+                            .withResourceVersion(String.valueOf(version))
+                        .endMetadata()
+                        .build();
+                leases.put(name, stored);
+
+                return Future.succeededFuture(stored);
+            }
+        });
+
+        return leaseOperator;
+    }
+}
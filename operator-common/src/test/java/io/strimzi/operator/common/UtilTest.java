@@ -10,11 +10,16 @@ import io.fabric8.kubernetes.api.model.Pod;
 import io.fabric8.kubernetes.api.model.PodBuilder;
 import io.strimzi.operator.cluster.model.InvalidResourceException;
 import io.strimzi.operator.common.model.Labels;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 import static io.strimzi.operator.common.Util.matchesSelector;
 import static io.strimzi.operator.common.Util.parseMap;
@@ -188,4 +193,37 @@ public class UtilTest {
         selector = Optional.of(new LabelSelectorBuilder().withMatchLabels(Map.of("label2", "value2", "label1", "value1", "label3", "value3")).build());
         assertThat(matchesSelector(selector, testResource), is(false));
     }
+
+    @Test
+    public void testExecuteWithBoundedConcurrency() {
+        List<Promise<Integer>> promises = new ArrayList<>();
+        List<Supplier<Future<Integer>>> operations = new ArrayList<>();
+
+        for (int i = 0; i < 5; i++) {
+            operations.add(() -> {
+                Promise<Integer> promise = Promise.promise();
+                promises.add(promise);
+                return promise.future();
+            });
+        }
+
+        Future<List<Integer>> result = Util.executeWithBoundedConcurrency(2, operations);
+        assertThat(promises.size(), is(2));
+
+        // Completing an operation starts the next one
+        promises.get(1).complete(1);
+        assertThat(promises.size(), is(3));
+        promises.get(0).fail("Failed");
+        assertThat(promises.size(), is(4));
+        promises.get(2).complete(2);
+        promises.get(3).complete(3);
+        assertThat(promises.size(), is(5));
+        assertThat(result.isComplete(), is(false));
+
+        promises.get(4).complete(4);
+        assertThat(result.failed(), is(true));
+
+        Future<List<Integer>> succeeded = Util.executeWithBoundedConcurrency(2, List.of(() -> Future.succeededFuture(1), () -> Future.succeededFuture(2), () -> Future.succeededFuture(3)));
+        assertThat(succeeded.result(), is(List.of(1, 2, 3)));
+    }
 }
@@ -4,6 +4,7 @@
  */
 package io.strimzi.operator.common.model;
 
+import io.fabric8.kubernetes.api.model.ObjectMeta;
 import io.strimzi.api.kafka.model.Kafka;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.test.TestUtils;
@@ -11,9 +12,13 @@ import org.junit.jupiter.api.Test;
 
 import java.lang.reflect.AnnotatedElement;
 import java.lang.reflect.Member;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Predicate;
 
+import static org.hamcrest.CoreMatchers.hasItem;
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
 import static org.hamcrest.CoreMatchers.notNullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
 
@@ -52,4 +57,54 @@ public class ResourceVisitorTest {
             }
         });
     }
+
+    @Test
+    public void testVisitingIsRepeatableAndSkipsTypes() {
+        Kafka k = TestUtils.fromYaml("/example.yaml", Kafka.class, true);
+        Reconciliation reconciliation = new Reconciliation("test", "kind", "namespace", "name");
+
+        List<String> firstVisit = new ArrayList<>();
+        ResourceVisitor.visit(reconciliation, k, new CollectingVisitor(firstVisit, type -> true));
+        List<String> secondVisit = new ArrayList<>();
+        ResourceVisitor.visit(reconciliation, k, new CollectingVisitor(secondVisit, type -> true));
+
+        assertThat(firstVisit, hasItem("metadata.name"));
+        assertThat(firstVisit, hasItem("spec.kafka.replicas"));
+        assertThat(secondVisit, is(firstVisit));
+
+        // Objects of skipped types and their properties are not visited
+        List<String> skippingVisit = new ArrayList<>();
+        ResourceVisitor.visit(reconciliation, k, new CollectingVisitor(skippingVisit, type -> !ObjectMeta.class.equals(type)));
+
+        assertThat(skippingVisit, hasItem("spec.kafka.replicas"));
+        assertThat(skippingVisit, hasItem("metadata"));
+        assertThat(skippingVisit, not(hasItem("metadata.name")));
+    }
+
+    static class CollectingVisitor implements ResourceVisitor.Visitor {
+        private final List<String> visited;
+        private final Predicate<Class<?>> types;
+
+        CollectingVisitor(List<String> visited, Predicate<Class<?>> types) {
+            this.visited = visited;
+            this.types = types;
+        }
+
+        @Override
+        public <M extends AnnotatedElement & Member> void visitProperty(Reconciliation reconciliation, List<String> path, Object owner, M member, ResourceVisitor.Property<M> property, Object propertyValue) {
+            List<String> propertyPath = new ArrayList<>(path);
+            propertyPath.add(property.propertyName(member));
+            visited.add(String.join(".", propertyPath));
+        }
+
+        @Override
+        public void visitObject(Reconciliation reconciliation, List<String> path, Object object) {
+
+        }
+
+        @Override
+        public boolean shouldVisit(Class<?> type) {
+            return types.test(type);
+        }
+    }
 }
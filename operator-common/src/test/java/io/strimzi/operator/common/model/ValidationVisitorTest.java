@@ -4,9 +4,12 @@
  */
 package io.strimzi.operator.common.model;
 
+import io.fabric8.kubernetes.api.model.Affinity;
 import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.api.model.ObjectMeta;
 import io.strimzi.api.kafka.model.Kafka;
 import io.strimzi.api.kafka.model.KafkaBuilder;
+import io.strimzi.api.kafka.model.KafkaClusterSpec;
 import io.strimzi.api.kafka.model.status.Condition;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.test.TestUtils;
@@ -61,4 +64,14 @@ public class ValidationVisitorTest {
                 "In API version v1beta2 the service property at path spec.kafkaExporter.template.service has been deprecated. " +
                 "The Kafka Exporter service has been removed."));
     }
+
+    @Test
+    public void testOnlyStrimziTypesAreVisited() {
+        ValidationVisitor visitor = new ValidationVisitor(new Kafka(), TestLogger.create(ValidationVisitorTest.class), new HashSet<>());
+
+        assertThat(visitor.shouldVisit(Kafka.class), is(true));
+        assertThat(visitor.shouldVisit(KafkaClusterSpec.class), is(true));
+        assertThat(visitor.shouldVisit(ObjectMeta.class), is(false));
+        assertThat(visitor.shouldVisit(Affinity.class), is(false));
+    }
 }
@@ -11,10 +11,12 @@ import io.fabric8.kubernetes.client.KubernetesClient;
 import io.fabric8.kubernetes.client.Watch;
 import io.fabric8.kubernetes.client.Watcher;
 import io.fabric8.kubernetes.client.dsl.EditReplacePatchDeletable;
+import io.fabric8.kubernetes.client.dsl.FilterWatchListDeletable;
 import io.fabric8.kubernetes.client.dsl.MixedOperation;
 import io.fabric8.kubernetes.client.dsl.NonNamespaceOperation;
 import io.fabric8.kubernetes.client.dsl.Resource;
 import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.operator.common.model.Labels;
 import io.vertx.core.Vertx;
 import io.vertx.junit5.Checkpoint;
 import io.vertx.junit5.VertxExtension;
@@ -24,10 +26,14 @@ import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.atomic.AtomicBoolean;
 
+import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasSize;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
@@ -482,4 +488,63 @@ public abstract class AbstractResourceOperatorTest<C extends KubernetesClient, T
                     async.flag();
                 })));
     }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testBatchReconcileCreatesMissingAndDeletesUndesiredResources(VertxTestContext context) {
+        T desired = resource();
+        T undesired = resource();
+        undesired.getMetadata().setName("undesired-resource");
+
+        // The desired resource was not listed => it is checked and created
+        Resource mockResource = mock(resourceType());
+        when(mockResource.get()).thenReturn(null);
+        when(mockResource.create((T) any())).thenReturn(desired);
+
+        // The undesired resource was listed => it is deleted
+        EditReplacePatchDeletable mockDeletable = mock(EditReplacePatchDeletable.class);
+        when(mockDeletable.delete()).thenReturn(Boolean.TRUE);
+        EditReplacePatchDeletable mockDeletableGrace = mock(EditReplacePatchDeletable.class);
+        when(mockDeletableGrace.withGracePeriod(anyLong())).thenReturn(mockDeletable);
+
+        Resource mockUndesiredResource = mock(resourceType());
+        when(mockUndesiredResource.get()).thenReturn(undesired);
+        when(mockUndesiredResource.withPropagationPolicy(eq(DeletionPropagation.FOREGROUND))).thenReturn(mockDeletableGrace);
+        when(mockUndesiredResource.watch(any())).thenAnswer(invocation -> {
+            Watcher watcher = invocation.getArgument(0);
+            watcher.eventReceived(Watcher.Action.DELETED, undesired);
+            return (Watch) () -> { };
+        });
+
+        KubernetesResourceList mockList = mock(KubernetesResourceList.class);
+        when(mockList.getItems()).thenReturn(List.of(undesired));
+        FilterWatchListDeletable mockListable = mock(FilterWatchListDeletable.class);
+        when(mockListable.list()).thenReturn(mockList);
+
+        NonNamespaceOperation mockNameable = mock(NonNamespaceOperation.class);
+        when(mockNameable.withName(matches(RESOURCE_NAME))).thenReturn(mockResource);
+        when(mockNameable.withName(matches("undesired-resource"))).thenReturn(mockUndesiredResource);
+        when(mockNameable.withLabels(any())).thenReturn(mockListable);
+
+        MixedOperation mockCms = mock(MixedOperation.class);
+        when(mockCms.inNamespace(matches(NAMESPACE))).thenReturn(mockNameable);
+
+        C mockClient = mock(clientType());
+        mocker(mockClient, mockCms);
+
+        AbstractResourceOperator<C, T, L, R> op = createResourceOperationsWithMockedReadiness(vertx, mockClient);
+
+        Checkpoint async = context.checkpoint();
+        op.batchReconcile(Reconciliation.DUMMY_RECONCILIATION, NAMESPACE, List.of(desired), Labels.fromMap(Map.of("app", "test")))
+            .onComplete(context.succeeding(results -> context.verify(() -> {
+                assertThat(results, hasSize(2));
+                assertThat(results.get(0), instanceOf(ReconcileResult.Created.class));
+                assertThat(results.get(1), is(ReconcileResult.deleted()));
+
+                verify(mockListable).list();
+                verify(mockResource).create(eq(desired));
+                verify(mockDeletable).delete();
+                async.flag();
+            })));
+    }
 }
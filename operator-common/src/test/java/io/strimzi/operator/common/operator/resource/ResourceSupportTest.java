@@ -0,0 +1,188 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common.operator.resource;
+
+import io.fabric8.kubernetes.api.model.ConfigMap;
+import io.fabric8.kubernetes.api.model.ConfigMapBuilder;
+import io.fabric8.kubernetes.api.model.ConfigMapListBuilder;
+import io.fabric8.kubernetes.api.model.StatusBuilder;
+import io.fabric8.kubernetes.client.Config;
+import io.fabric8.kubernetes.client.ConfigBuilder;
+import io.fabric8.kubernetes.client.DefaultKubernetesClient;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.fabric8.kubernetes.client.utils.HttpClientUtils;
+import io.fabric8.kubernetes.client.utils.Serialization;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.strimzi.operator.common.KubernetesRequestMetrics;
+import io.strimzi.operator.common.MicrometerMetricsProvider;
+import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.operator.common.model.Labels;
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpServer;
+import io.vertx.junit5.Checkpoint;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+import okhttp3.OkHttpClient;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+@ExtendWith(VertxExtension.class)
+public class ResourceSupportTest {
+    private static final String NAMESPACE = "ns";
+
+    private Vertx vertx;
+    private HttpServer server;
+    private KubernetesClient client;
+    private final List<String> requests = new CopyOnWriteArrayList<>();
+
+    private static ConfigMap configMap(String name) {
+        return new ConfigMapBuilder()
+                .withNewMetadata()
+                    .withName(name)
+                    .withNamespace(NAMESPACE)
+                .endMetadata()
+                .withData(Map.of("foo", "bar"))
+                .build();
+    }
+
+    private static String status(int code) {
+        return Serialization.asJson(new StatusBuilder().withStatus("Failure").withCode(code).build());
+    }
+
+    @BeforeEach
+    public void setup() throws Exception {
+        vertx = Vertx.vertx();
+
+        // Minimal API server answering only the requests used in the tests
+        server = vertx.createHttpServer().requestHandler(request -> {
+            requests.add(request.uri());
+
+            switch (request.path()) {
+                case "/api/v1/namespaces/ns/configmaps/my-cm":
+                    request.response().putHeader("Content-Type", "application/json").end(Serialization.asJson(configMap("my-cm")));
+                    break;
+                case "/api/v1/namespaces/ns/configmaps/forbidden":
+                    request.response().setStatusCode(403).putHeader("Content-Type", "application/json").end(status(403));
+                    break;
+                case "/api/v1/namespaces/ns/configmaps":
+                    request.response().putHeader("Content-Type", "application/json").end(Serialization.asJson(new ConfigMapListBuilder()
+                            .withItems(configMap("my-cm"), configMap("my-other-cm"))
+                            .build()));
+                    break;
+                default:
+                    request.response().setStatusCode(404).putHeader("Content-Type", "application/json").end(status(404));
+            }
+        }).listen(0).toCompletionStage().toCompletableFuture().get(30, TimeUnit.SECONDS);
+
+        Config config = new ConfigBuilder()
+                .withMasterUrl("http://localhost:" + server.actualPort())
+                .withNamespace(NAMESPACE)
+                .build();
+        OkHttpClient httpClient = HttpClientUtils.createHttpClient(config)
+                .newBuilder()
+                .addInterceptor(new KubernetesRequestMetrics(new MicrometerMetricsProvider(new SimpleMeterRegistry()), "test-operator", 0))
+                .build();
+
+        client = new DefaultKubernetesClient(httpClient, config);
+    }
+
+    @AfterEach
+    public void teardown() throws Exception {
+        client.close();
+        vertx.close().toCompletionStage().toCompletableFuture().get(30, TimeUnit.SECONDS);
+    }
+
+    @Test
+    public void testGetAsync(VertxTestContext context) {
+        ConfigMapOperator op = new ConfigMapOperator(vertx, client);
+
+        Checkpoint async = context.checkpoint();
+        op.getAsync(NAMESPACE, "my-cm").onComplete(context.succeeding(cm -> context.verify(() -> {
+            assertThat(Context.isOnEventLoopThread(), is(true));
+            assertThat(cm.getMetadata().getName(), is("my-cm"));
+            assertThat(cm.getData(), is(Map.of("foo", "bar")));
+            assertThat(requests, is(List.of("/api/v1/namespaces/ns/configmaps/my-cm")));
+            async.flag();
+        })));
+    }
+
+    @Test
+    public void testGetAsyncOfMissingResource(VertxTestContext context) {
+        ConfigMapOperator op = new ConfigMapOperator(vertx, client);
+
+        Checkpoint async = context.checkpoint();
+        op.getAsync(NAMESPACE, "missing").onComplete(context.succeeding(cm -> context.verify(() -> {
+            assertThat(cm, is(nullValue()));
+            async.flag();
+        })));
+    }
+
+    @Test
+    public void testGetAsyncFailure(VertxTestContext context) {
+        ConfigMapOperator op = new ConfigMapOperator(vertx, client);
+
+        Checkpoint async = context.checkpoint();
+        op.getAsync(NAMESPACE, "forbidden").onComplete(context.failing(e -> context.verify(() -> {
+            assertThat(e, instanceOf(KubernetesClientException.class));
+            assertThat(((KubernetesClientException) e).getCode(), is(403));
+            async.flag();
+        })));
+    }
+
+    @Test
+    public void testListAsyncWithSelector(VertxTestContext context) {
+        ConfigMapOperator op = new ConfigMapOperator(vertx, client);
+
+        Checkpoint async = context.checkpoint();
+        op.listAsync(NAMESPACE, Labels.fromMap(Map.of("app", "strimzi"))).onComplete(context.succeeding(cms -> context.verify(() -> {
+            assertThat(Context.isOnEventLoopThread(), is(true));
+            assertThat(cms.size(), is(2));
+            assertThat(cms.get(1).getMetadata().getName(), is("my-other-cm"));
+            assertThat(requests, is(List.of("/api/v1/namespaces/ns/configmaps?labelSelector=app%3Dstrimzi")));
+            async.flag();
+        })));
+    }
+
+    @Test
+    public void testListAsyncIsCountedAgainstReconciliation(VertxTestContext context) {
+        ConfigMapOperator op = new ConfigMapOperator(vertx, client);
+        Reconciliation reconciliation = new Reconciliation("test", "Kafka", NAMESPACE, "my-cluster");
+
+        Checkpoint async = context.checkpoint();
+        op.listAsync(reconciliation, NAMESPACE, Labels.fromMap(Map.of("app", "strimzi")))
+                .compose(cms -> op.getAsync(NAMESPACE, "my-cm"))
+                .onComplete(context.succeeding(cm -> context.verify(() -> {
+                    // Only the list request was done for the reconciliation
+                    assertThat(reconciliation.kubernetesRequests(), is(1));
+                    async.flag();
+                })));
+    }
+
+    @Test
+    public void testReconcileDeletionOfMissingResourceIsNoop(VertxTestContext context) {
+        ConfigMapOperator op = new ConfigMapOperator(vertx, client);
+
+        Checkpoint async = context.checkpoint();
+        op.reconcile(Reconciliation.DUMMY_RECONCILIATION, NAMESPACE, "missing", null).onComplete(context.succeeding(rr -> context.verify(() -> {
+            assertThat(rr, instanceOf(ReconcileResult.Noop.class));
+            assertThat(requests, is(List.of("/api/v1/namespaces/ns/configmaps/missing")));
+            async.flag();
+        })));
+    }
+}
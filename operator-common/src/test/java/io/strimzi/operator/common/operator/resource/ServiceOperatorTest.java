@@ -4,25 +4,39 @@
  */
 package io.strimzi.operator.common.operator.resource;
 
+import io.fabric8.kubernetes.api.model.DeletionPropagation;
 import io.fabric8.kubernetes.api.model.IntOrString;
 import io.fabric8.kubernetes.api.model.Service;
 import io.fabric8.kubernetes.api.model.ServiceBuilder;
 import io.fabric8.kubernetes.api.model.ServiceList;
+import io.fabric8.kubernetes.api.model.ServiceListBuilder;
 import io.fabric8.kubernetes.api.model.ServicePortBuilder;
 import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.dsl.EditReplacePatchDeletable;
+import io.fabric8.kubernetes.client.dsl.FilterWatchListDeletable;
 import io.fabric8.kubernetes.client.dsl.MixedOperation;
+import io.fabric8.kubernetes.client.dsl.NonNamespaceOperation;
 import io.fabric8.kubernetes.client.dsl.ServiceResource;
 import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.operator.common.model.Labels;
 import io.vertx.core.Vertx;
+import io.vertx.junit5.Checkpoint;
+import io.vertx.junit5.VertxTestContext;
 import org.junit.jupiter.api.Test;
 
 import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.not;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasSize;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.util.List;
 import java.util.Map;
 
 public class ServiceOperatorTest extends AbstractResourceOperatorTest<KubernetesClient, Service, ServiceList, ServiceResource<Service>> {
@@ -69,6 +83,55 @@ public class ServiceOperatorTest extends AbstractResourceOperatorTest<Kubernetes
         return new ServiceOperator(vertx, mockClient);
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testBatchReconcilePatchesListedServicesWithoutGettingThem(VertxTestContext context) {
+        Service current = new ServiceBuilder(resource())
+                .editMetadata()
+                    .withResourceVersion("1")
+                .endMetadata()
+                .build();
+        Service patched = new ServiceBuilder(modifiedResource())
+                .editMetadata()
+                    .withResourceVersion("2")
+                .endMetadata()
+                .build();
+
+        ServiceResource mockResource = mock(ServiceResource.class);
+        EditReplacePatchDeletable mockPatchable = mock(EditReplacePatchDeletable.class);
+        when(mockResource.withPropagationPolicy(DeletionPropagation.FOREGROUND)).thenReturn(mockPatchable);
+        when(mockPatchable.patch((Service) any())).thenReturn(patched);
+
+        ServiceList serviceList = new ServiceListBuilder().withItems(current).build();
+        FilterWatchListDeletable mockListable = mock(FilterWatchListDeletable.class);
+        when(mockListable.list()).thenReturn(serviceList);
+
+        NonNamespaceOperation mockNameable = mock(NonNamespaceOperation.class);
+        when(mockNameable.withName(RESOURCE_NAME)).thenReturn(mockResource);
+        when(mockNameable.withLabels(any())).thenReturn(mockListable);
+
+        MixedOperation mockServices = mock(MixedOperation.class);
+        when(mockServices.inNamespace(NAMESPACE)).thenReturn(mockNameable);
+
+        KubernetesClient client = mock(KubernetesClient.class);
+        mocker(client, mockServices);
+
+        ServiceOperator op = new ServiceOperator(vertx, client);
+
+        Checkpoint async = context.checkpoint();
+        op.batchReconcile(Reconciliation.DUMMY_RECONCILIATION, NAMESPACE, List.of(modifiedResource()), Labels.fromMap(Map.of("app", "test")))
+            .onComplete(context.succeeding(results -> context.verify(() -> {
+                assertThat(results, hasSize(1));
+                assertThat(results.get(0), instanceOf(ReconcileResult.Patched.class));
+                assertThat(results.get(0).resource(), is(patched));
+
+                verify(mockListable).list();
+                verify(mockResource, never()).get();
+                verify(mockPatchable).patch((Service) any());
+                async.flag();
+            })));
+    }
+
     @Test
     public void testNodePortPatching()  {
         KubernetesClient client = mock(KubernetesClient.class);
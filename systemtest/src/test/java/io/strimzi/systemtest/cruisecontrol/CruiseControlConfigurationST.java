@@ -76,8 +76,8 @@ public class CruiseControlConfigurationST extends AbstractST {
 
         assertThat(cruiseControlCapacityFileContent.getJsonArray("brokerCapacities"), not(nullValue()));
 
-        LOGGER.info("We got only one configuration of broker-capacities");
-        assertThat(cruiseControlCapacityFileContent.getJsonArray("brokerCapacities").size(), is(1));
+        LOGGER.info("We got the default configuration of broker-capacities and one configuration for each broker");
+        assertThat(cruiseControlCapacityFileContent.getJsonArray("brokerCapacities").size(), is(4));
 
         LOGGER.info("Verifying cruise control configuration.");
 
@@ -133,6 +133,8 @@ public class Config {
 
     public static final String TC_USE_ZOOKEEPER_TOPIC_STORE = "STRIMZI_USE_ZOOKEEPER_TOPIC_STORE";
 
+    public static final String TC_STATUS_UPDATES_PER_SECOND = "STRIMZI_STATUS_UPDATES_PER_SECOND";
+
     private static final Map<String, Value<?>> CONFIG_VALUES = new HashMap<>();
 
     /** A comma-separated list of key=value pairs for selecting Resources that describe topics. */
@@ -213,6 +215,9 @@ public class Config {
     /** Do we use old ZooKeeper based TopicStore */
     public static final Value<Boolean> USE_ZOOKEEPER_TOPIC_STORE = new Value<>(TC_USE_ZOOKEEPER_TOPIC_STORE, BOOLEAN, "false");
 
+    /** The maximum number of KafkaTopic status updates per second */
+    public static final Value<Integer> STATUS_UPDATES_PER_SECOND = new Value<>(TC_STATUS_UPDATES_PER_SECOND, POSITIVE_INTEGER, "50");
+
     static {
         Map<String, Value<?>> configValues = CONFIG_VALUES;
         addConfigValue(configValues, LABELS);
@@ -244,6 +249,7 @@ public class Config {
         addConfigValue(configValues, APPLICATION_SERVER);
         addConfigValue(configValues, STALE_RESULT_TIMEOUT_MS);
         addConfigValue(configValues, USE_ZOOKEEPER_TOPIC_STORE);
+        addConfigValue(configValues, STATUS_UPDATES_PER_SECOND);
     }
 
     static void addConfigValue(Map<String, Value<?>> configValues, Value<?> cv) {
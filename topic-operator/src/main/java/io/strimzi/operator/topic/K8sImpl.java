@@ -12,6 +12,7 @@ import io.fabric8.kubernetes.client.dsl.MixedOperation;
 import io.fabric8.kubernetes.client.dsl.Resource;
 import io.strimzi.api.kafka.KafkaTopicList;
 import io.strimzi.api.kafka.model.KafkaTopic;
+import io.strimzi.operator.common.KubernetesOperationsExecutor;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.Util;
 import io.strimzi.operator.common.operator.resource.CrdOperator;
@@ -46,7 +47,7 @@ public class K8sImpl implements K8s {
     @Override
     public Future<KafkaTopic> createResource(KafkaTopic topicResource) {
         Promise<KafkaTopic> handler = Promise.promise();
-        vertx.executeBlocking(future -> {
+        KubernetesOperationsExecutor.executeBlocking(vertx, future -> {
             try {
                 KafkaTopic kafkaTopic = operation().inNamespace(namespace).create(topicResource);
                 LOGGER.debug("KafkaTopic {} created with version {}->{}",
@@ -57,14 +58,14 @@ public class K8sImpl implements K8s {
             } catch (Exception e) {
                 future.fail(e);
             }
-        }, handler);
+        }, true, handler);
         return handler.future();
     }
 
     @Override
     public Future<KafkaTopic> updateResource(KafkaTopic topicResource) {
         Promise<KafkaTopic> handler = Promise.promise();
-        vertx.executeBlocking(future -> {
+        KubernetesOperationsExecutor.executeBlocking(vertx, future -> {
             try {
                 KafkaTopic kafkaTopic = operation().inNamespace(namespace).withName(topicResource.getMetadata().getName()).patch(topicResource);
                 LOGGER.debug("KafkaTopic {} updated with version {}->{}",
@@ -75,7 +76,7 @@ public class K8sImpl implements K8s {
             } catch (Exception e) {
                 future.fail(e);
             }
-        }, handler);
+        }, true, handler);
         return handler.future();
     }
 
@@ -87,7 +88,7 @@ public class K8sImpl implements K8s {
     @Override
     public Future<Void> deleteResource(Reconciliation reconciliation, ResourceName resourceName) {
         Promise<Void> handler = Promise.promise();
-        vertx.executeBlocking(future -> {
+        KubernetesOperationsExecutor.executeBlocking(vertx, future -> {
             try {
                 // Delete the resource by the topic name, because neither ZK nor Kafka know the resource name
                 if (!Boolean.TRUE.equals(operation().inNamespace(namespace).withName(resourceName.toString()).withPropagationPolicy(DeletionPropagation.FOREGROUND).delete())) {
@@ -104,7 +105,7 @@ public class K8sImpl implements K8s {
             } catch (Exception e) {
                 future.fail(e);
             }
-        }, handler);
+        }, true, handler);
         return handler.future();
     }
 
@@ -128,7 +129,7 @@ public class K8sImpl implements K8s {
     @Override
     public Future<Void> createEvent(Event event) {
         Promise<Void> handler = Promise.promise();
-        vertx.executeBlocking(future -> {
+        KubernetesOperationsExecutor.executeBlocking(vertx, future -> {
             try {
                 try {
                     LOGGER.debug("Creating event {}", event);
@@ -140,7 +141,7 @@ public class K8sImpl implements K8s {
             } catch (Exception e) {
                 future.fail(e);
             }
-        }, handler);
+        }, true, handler);
         return handler.future();
     }
 }
@@ -9,13 +9,11 @@ import io.fabric8.kubernetes.client.Watcher;
 import io.fabric8.kubernetes.client.WatcherException;
 import io.strimzi.api.kafka.model.KafkaTopic;
 import io.strimzi.operator.common.ReconciliationLogger;
-import io.strimzi.operator.common.Annotations;
 import io.vertx.core.AsyncResult;
 import io.vertx.core.Future;
 import io.vertx.core.Handler;
 
 import java.util.Map;
-import java.util.Objects;
 
 class K8sTopicWatcher implements Watcher<KafkaTopic> {
 
@@ -46,11 +44,13 @@ class K8sTopicWatcher implements Watcher<KafkaTopic> {
             if (action.equals(Action.ERROR)) {
                 LOGGER.errorCr(logContext.toReconciliation(), "Watch received action=ERROR for {} {} {}", kind, name, kafkaTopic);
             } else {
-                PauseAnnotationChanges pauseAnnotationChanges = pausedAnnotationChanged(kafkaTopic);
-                if (action.equals(Action.DELETED) || shouldReconcile(kafkaTopic, metadata, pauseAnnotationChanges.isChanged())) {
-                    if (pauseAnnotationChanges.isResourcePausedByAnno()) {
+                // The decision is made only from the projection of the resource. The full resource is read again
+                // from Kubernetes when the topic is reconciled.
+                KafkaTopicProjection projection = KafkaTopicProjection.of(kafkaTopic);
+                if (action.equals(Action.DELETED) || projection.needsReconciliation()) {
+                    if (projection.isBeingPaused()) {
                         topicOperator.pausedTopicCounter.getAndIncrement();
-                    } else if (pauseAnnotationChanges.isResourceUnpausedByAnno()) {
+                    } else if (projection.isBeingUnpaused()) {
                         topicOperator.pausedTopicCounter.getAndDecrement();
                     }
                     LOGGER.infoCr(logContext.toReconciliation(), "event {} on resource {} generation={}, labels={}", action, name,
@@ -80,24 +80,6 @@ class K8sTopicWatcher implements Watcher<KafkaTopic> {
         }
     }
 
-    public boolean shouldReconcile(KafkaTopic kafkaTopic, ObjectMeta metadata, boolean pauseAnnotationChanged) {
-        return kafkaTopic.getStatus() == null // Not status => new KafkaTopic
-                // KT has changed
-                || !Objects.equals(metadata.getGeneration(), kafkaTopic.getStatus().getObservedGeneration())
-                // changing just annotations does not increase the generation of resource, thus we need to check them
-                || pauseAnnotationChanged;
-    }
-
-    private PauseAnnotationChanges pausedAnnotationChanged(KafkaTopic kafkaTopic) {
-        boolean pausedByAnno = Annotations.isReconciliationPausedWithAnnotation(kafkaTopic.getMetadata());
-        boolean pausedInStatus = kafkaTopic.getStatus() != null && kafkaTopic.getStatus().getConditions().stream().filter(condition -> "ReconciliationPaused".equals(condition.getType())).findAny().isPresent();
-        boolean wasUnpausedIsPaused = pausedByAnno && !pausedInStatus;
-        boolean wasPausedIsUnpaused = !pausedByAnno && pausedInStatus;
-        return new PauseAnnotationChanges(wasUnpausedIsPaused, wasPausedIsUnpaused);
-
-    }
-
-
     @Override
     public void onClose(WatcherException exception) {
         LOGGER.debugOp("Closing {}", this);
@@ -106,27 +88,4 @@ class K8sTopicWatcher implements Watcher<KafkaTopic> {
             onHttpGoneTask.run();
         }
     }
-
-    private static class PauseAnnotationChanges {
-        private boolean resourcePausedByAnno;
-        private boolean resourceUnpausedByAnno;
-        private boolean isChanged;
-        public PauseAnnotationChanges(boolean resourcePausedByAnno, boolean resourceUnpausedByAnno) {
-            this.resourcePausedByAnno = resourcePausedByAnno;
-            this.resourceUnpausedByAnno = resourceUnpausedByAnno;
-            this.isChanged = this.resourcePausedByAnno || this.resourceUnpausedByAnno;
-        }
-
-        public boolean isResourcePausedByAnno() {
-            return resourcePausedByAnno;
-        }
-
-        public boolean isResourceUnpausedByAnno() {
-            return resourceUnpausedByAnno;
-        }
-
-        public boolean isChanged() {
-            return isChanged;
-        }
-    }
 }
@@ -0,0 +1,163 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic;
+
+import io.fabric8.kubernetes.api.model.ObjectMeta;
+import io.strimzi.api.kafka.model.KafkaTopic;
+import io.strimzi.api.kafka.model.KafkaTopicBuilder;
+import io.strimzi.operator.common.Annotations;
+
+import java.util.Objects;
+
+/**
+ * Compact immutable projection of a KafkaTopic resource. It keeps only the parts of the metadata, spec and status
+ * which are needed to decide whether and how the resource should be reconciled. The periodic reconciliation and the
+ * watch keep the projections instead of the full KafkaTopic resources (with their spec configuration, status
+ * conditions etc.), so that the full resources can be garbage collected right after they are received. The full
+ * resource is read again from Kubernetes only when the topic is actually reconciled.
+ */
+class KafkaTopicProjection {
+    private final String name;
+    private final String namespace;
+    private final String uid;
+    private final String resourceVersion;
+    private final Long generation;
+    private final TopicName topicName;
+    // Set instead of the topic name when the resource does not define a valid topic name
+    private final InvalidTopicException invalidTopicName;
+    private final boolean hasStatus;
+    private final Long observedGeneration;
+    private final boolean pausedByAnnotation;
+    private final boolean pausedInStatus;
+
+    private KafkaTopicProjection(KafkaTopic kafkaTopic) {
+        ObjectMeta metadata = kafkaTopic.getMetadata();
+
+        this.name = metadata.getName();
+        this.namespace = metadata.getNamespace();
+        this.uid = metadata.getUid();
+        this.resourceVersion = metadata.getResourceVersion();
+        this.generation = metadata.getGeneration();
+
+        TopicName topicName = null;
+        InvalidTopicException invalidTopicName = null;
+        try {
+            topicName = new TopicName(TopicSerialization.getTopicName(kafkaTopic));
+        } catch (InvalidTopicException e) {
+            invalidTopicName = e;
+        }
+        this.topicName = topicName;
+        this.invalidTopicName = invalidTopicName;
+
+        this.hasStatus = kafkaTopic.getStatus() != null;
+        this.observedGeneration = hasStatus ? kafkaTopic.getStatus().getObservedGeneration() : null;
+        this.pausedByAnnotation = Annotations.isReconciliationPausedWithAnnotation(metadata);
+        this.pausedInStatus = hasStatus && kafkaTopic.getStatus().getConditions() != null
+                && kafkaTopic.getStatus().getConditions().stream().anyMatch(condition -> "ReconciliationPaused".equals(condition.getType()));
+    }
+
+    /**
+     * Creates the projection of the KafkaTopic resource
+     *
+     * @param kafkaTopic    The KafkaTopic resource
+     *
+     * @return  The projection of the resource
+     */
+    static KafkaTopicProjection of(KafkaTopic kafkaTopic) {
+        return new KafkaTopicProjection(kafkaTopic);
+    }
+
+    /**
+     * @return  The name of the KafkaTopic resource
+     */
+    String name() {
+        return name;
+    }
+
+    /**
+     * @return  The namespace of the KafkaTopic resource
+     */
+    String namespace() {
+        return namespace;
+    }
+
+    /**
+     * @return  The resource version of the KafkaTopic resource
+     */
+    String resourceVersion() {
+        return resourceVersion;
+    }
+
+    /**
+     * @return  The name of the Kafka topic from the spec or from the name of the resource
+     *
+     * @throws InvalidTopicException when the resource does not define a valid topic name
+     */
+    TopicName topicName() {
+        if (invalidTopicName != null) {
+            throw invalidTopicName;
+        }
+
+        return topicName;
+    }
+
+    /**
+     * @return  True if the reconciliation of the resource is paused using the annotation
+     */
+    boolean isPausedByAnnotation() {
+        return pausedByAnnotation;
+    }
+
+    /**
+     * @return  True when the resource was paused by the annotation, but the status does not say it yet
+     */
+    boolean isBeingPaused() {
+        return pausedByAnnotation && !pausedInStatus;
+    }
+
+    /**
+     * @return  True when the resource is not paused by the annotation anymore, but the status still says it is
+     */
+    boolean isBeingUnpaused() {
+        return !pausedByAnnotation && pausedInStatus;
+    }
+
+    /**
+     * Decides whether the resource needs to be reconciled. That is when the resource was not reconciled yet (it has
+     * no status), when its spec changed since the last reconciliation (the generation differs from the observed
+     * generation) or when it is being paused or unpaused (changing annotations does not change the generation).
+     *
+     * @return  True if the resource needs to be reconciled. False otherwise.
+     */
+    boolean needsReconciliation() {
+        return !hasStatus
+                || !Objects.equals(generation, observedGeneration)
+                || isBeingPaused()
+                || isBeingUnpaused();
+    }
+
+    /**
+     * Creates a KafkaTopic resource with only the metadata identifying the resource. It can be used as the involved
+     * object of Kubernetes events or exceptions when the full resource is not available.
+     *
+     * @return  KafkaTopic resource with the metadata only
+     */
+    KafkaTopic toInvolvedObject() {
+        return new KafkaTopicBuilder()
+                .withNewMetadata()
+                    .withName(name)
+                    .withNamespace(namespace)
+                    .withUid(uid)
+                    .withResourceVersion(resourceVersion)
+                    .withGeneration(generation)
+                .endMetadata()
+                .build();
+    }
+
+    @Override
+    public String toString() {
+        return namespace + "/" + name;
+    }
+}
@@ -0,0 +1,246 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic;
+
+import io.strimzi.api.kafka.model.KafkaTopic;
+import io.strimzi.api.kafka.model.KafkaTopicBuilder;
+import io.strimzi.api.kafka.model.status.KafkaTopicStatus;
+import io.strimzi.operator.cluster.model.StatusDiff;
+import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.operator.common.ReconciliationLogger;
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Writes the status of the KafkaTopic resources. Compared to updating the status directly, the writer:
+ * <ul>
+ *     <li>Skips the status updates which would not change anything apart from the transition times of the conditions.
+ *     The desired status is compared with the status last written by this writer (when the resource was not changed
+ *     since then) or with the status of the observed resource.</li>
+ *     <li>Coalesces the status updates of the same topic. When a status update for a topic is waiting for its turn or
+ *     another update of the same topic is still in progress, a newer status replaces the waiting one and only the
+ *     latest status is written.</li>
+ *     <li>Limits the rate of the status updates sent to the Kubernetes API server, so that the periodic reconciliation
+ *     of many topics does not flood it.</li>
+ * </ul>
+ */
+class KafkaTopicStatusWriter {
+    private final static ReconciliationLogger LOGGER = ReconciliationLogger.create(KafkaTopicStatusWriter.class);
+
+    private final Vertx vertx;
+    private final K8s k8s;
+    private final long intervalNanos;
+
+    // Statuses waiting to be written, indexed by the name of the KafkaTopic resource
+    private final Map<String, PendingStatus> pending = new HashMap<>();
+    // Names of the KafkaTopic resources with a status update in progress
+    private final Set<String> inProgress = new HashSet<>();
+    // Statuses last written by this writer, indexed by the name of the KafkaTopic resource
+    private final Map<String, WrittenStatus> written = new HashMap<>();
+    // The earliest time when the next status update can start
+    private long nextWriteNanos = System.nanoTime();
+
+    /**
+     * Constructs the status writer
+     *
+     * @param vertx                 Vert.x instance
+     * @param k8s                   Kubernetes client used to update the status
+     * @param maxWritesPerSecond    Maximal number of status updates per second
+     */
+    KafkaTopicStatusWriter(Vertx vertx, K8s k8s, int maxWritesPerSecond) {
+        this.vertx = vertx;
+        this.k8s = k8s;
+        this.intervalNanos = TimeUnit.SECONDS.toNanos(1) / maxWritesPerSecond;
+    }
+
+    /**
+     * Writes the status to the KafkaTopic resource unless it would not change it.
+     *
+     * @param reconciliation    Reconciliation marker
+     * @param topic             The observed KafkaTopic resource
+     * @param status            The desired status
+     *
+     * @return  Future which completes when the status (or a newer status of the same topic) is written or when the
+     *          status update is not needed
+     */
+    synchronized Future<Void> write(Reconciliation reconciliation, KafkaTopic topic, KafkaTopicStatus status) {
+        String name = topic.getMetadata().getName();
+        PendingStatus waiting = pending.get(name);
+
+        if (waiting != null) {
+            LOGGER.debugCr(reconciliation, "Coalescing the status update with the waiting status update");
+            waiting.reconciliation = reconciliation;
+            waiting.topic = topic;
+            waiting.status = status;
+
+            Promise<Void> promise = Promise.promise();
+            waiting.promises.add(promise);
+            return promise.future();
+        } else if (isUnchanged(topic, status)) {
+            LOGGER.debugCr(reconciliation, "Status is unchanged and will not be updated");
+            return Future.succeededFuture();
+        }
+
+        waiting = new PendingStatus(reconciliation, topic, status);
+        pending.put(name, waiting);
+
+        long now = System.nanoTime();
+        long writeAt = Math.max(now, nextWriteNanos);
+        nextWriteNanos = writeAt + intervalNanos;
+        long delayMs = TimeUnit.NANOSECONDS.toMillis(writeAt - now);
+
+        if (delayMs > 0) {
+            LOGGER.debugCr(reconciliation, "Status update is delayed by {}ms to keep the rate of status updates within the limit", delayMs);
+            vertx.setTimer(delayMs, timerId -> ready(name));
+        } else {
+            ready(name);
+        }
+
+        return waiting.promises.get(0).future();
+    }
+
+    /**
+     * Forgets the last written status of a KafkaTopic resource. It should be called when the resource is deleted.
+     *
+     * @param name  Name of the KafkaTopic resource
+     */
+    synchronized void forget(String name) {
+        written.remove(name);
+    }
+
+    private boolean isUnchanged(KafkaTopic topic, KafkaTopicStatus status) {
+        WrittenStatus last = written.get(topic.getMetadata().getName());
+
+        if (last != null && last.isWrittenOver(topic.getMetadata().getResourceVersion())) {
+            // The observed resource is the one we wrote the status to or the one we wrote over (it was observed
+            // before our last write completed). Either way, our last written status is the current one.
+            return new StatusDiff(last.status, status).isEmpty();
+        } else {
+            return new StatusDiff(topic.getStatus(), status).isEmpty();
+        }
+    }
+
+    private synchronized void ready(String name) {
+        PendingStatus waiting = pending.get(name);
+
+        if (waiting != null) {
+            waiting.ready = true;
+
+            if (!inProgress.contains(name)) {
+                start(name);
+            } // Otherwise it is started when the status update in progress completes
+        }
+    }
+
+    private synchronized void start(String name) {
+        PendingStatus waiting = pending.remove(name);
+
+        if (isUnchanged(waiting.topic, waiting.status)) {
+            LOGGER.debugCr(waiting.reconciliation, "Status is unchanged and will not be updated");
+            waiting.complete(Future.succeededFuture());
+            return;
+        }
+
+        String resourceVersion = waiting.topic.getMetadata().getResourceVersion();
+        WrittenStatus last = written.get(name);
+        if (last != null && resourceVersion != null && resourceVersion.equals(last.resourceVersionBefore)) {
+            // The resource was observed before our last status update changed it. Use the resource version of the
+            // updated resource to not fail with a conflict.
+            resourceVersion = last.resourceVersionAfter;
+        }
+
+        String resourceVersionBefore = resourceVersion;
+        KafkaTopic update = new KafkaTopicBuilder(waiting.topic)
+                .editMetadata()
+                    .withResourceVersion(resourceVersion)
+                .endMetadata()
+                .withStatus(waiting.status)
+                .build();
+
+        inProgress.add(name);
+        k8s.updateResourceStatus(waiting.reconciliation, update).onComplete(res -> {
+            synchronized (this) {
+                inProgress.remove(name);
+
+                if (res.succeeded() && res.result() != null) {
+                    LOGGER.debugCr(waiting.reconciliation, "status was set rv={}, generation={}, observedGeneration={}",
+                            res.result().getMetadata().getResourceVersion(),
+                            res.result().getMetadata().getGeneration(),
+                            res.result().getStatus().getObservedGeneration());
+                    written.put(name, new WrittenStatus(waiting.status, resourceVersionBefore, res.result().getMetadata().getResourceVersion()));
+                } else {
+                    if (res.failed()) {
+                        LOGGER.errorCr(waiting.reconciliation, "Error setting resource status", res.cause());
+                    }
+
+                    written.remove(name);
+                }
+
+                waiting.complete(res.map((Void) null));
+
+                PendingStatus next = pending.get(name);
+                if (next != null && next.ready) {
+                    start(name);
+                }
+            }
+        });
+    }
+
+    /**
+     * Status waiting to be written
+     */
+    private static class PendingStatus {
+        private final List<Promise<Void>> promises = new ArrayList<>();
+        private Reconciliation reconciliation;
+        private KafkaTopic topic;
+        private KafkaTopicStatus status;
+        // Indicates that the rate limit allows the status to be written
+        private boolean ready = false;
+
+        PendingStatus(Reconciliation reconciliation, KafkaTopic topic, KafkaTopicStatus status) {
+            this.reconciliation = reconciliation;
+            this.topic = topic;
+            this.status = status;
+            this.promises.add(Promise.promise());
+        }
+
+        void complete(AsyncResult<Void> result) {
+            for (Promise<Void> promise : promises) {
+                promise.handle(result);
+            }
+        }
+    }
+
+    /**
+     * Status written by this writer together with the resource versions of the KafkaTopic before and after the update
+     */
+    private static class WrittenStatus {
+        private final KafkaTopicStatus status;
+        private final String resourceVersionBefore;
+        private final String resourceVersionAfter;
+
+        WrittenStatus(KafkaTopicStatus status, String resourceVersionBefore, String resourceVersionAfter) {
+            this.status = status;
+            this.resourceVersionBefore = resourceVersionBefore;
+            this.resourceVersionAfter = resourceVersionAfter;
+        }
+
+        boolean isWrittenOver(String resourceVersion) {
+            return resourceVersion != null
+                    && (resourceVersion.equals(resourceVersionBefore) || Objects.equals(resourceVersion, resourceVersionAfter));
+        }
+    }
+}
@@ -80,7 +80,14 @@ public class LogContext {
     }
 
     public LogContext withKubeTopic(KafkaTopic kafkaTopic) {
-        String newResourceVersion = kafkaTopic == null ? null : kafkaTopic.getMetadata().getResourceVersion();
+        return withResourceVersion(kafkaTopic == null ? null : kafkaTopic.getMetadata().getResourceVersion());
+    }
+
+    LogContext withKubeTopic(KafkaTopicProjection kafkaTopic) {
+        return withResourceVersion(kafkaTopic == null ? null : kafkaTopic.resourceVersion());
+    }
+
+    private LogContext withResourceVersion(String newResourceVersion) {
         if (!Objects.equals(resourceVersion, newResourceVersion)) {
             LOGGER.debug("{}: Concurrent modification in kube: new version {}", this, newResourceVersion);
         }
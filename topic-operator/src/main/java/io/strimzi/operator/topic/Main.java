@@ -6,6 +6,9 @@ package io.strimzi.operator.topic;
 
 import io.fabric8.kubernetes.client.DefaultKubernetesClient;
 import io.strimzi.api.kafka.Crds;
+import io.strimzi.operator.common.KubernetesOperationsExecutor;
+import io.strimzi.operator.common.KubernetesRequestMetrics;
+import io.strimzi.operator.common.MicrometerMetricsProvider;
 import io.vertx.core.Vertx;
 
 import java.util.HashMap;
@@ -39,7 +42,6 @@ public class Main {
     }
 
     private void deploy(Config config) {
-        DefaultKubernetesClient kubeClient = new DefaultKubernetesClient();
         Crds.registerCustomKinds();
         VertxOptions options = new VertxOptions().setMetricsOptions(
                 new MicrometerMetricsOptions()
@@ -47,6 +49,9 @@ public class Main {
                         .setJvmMetricsEnabled(true)
                         .setEnabled(true));
         Vertx vertx = Vertx.vertx(options);
+        KubernetesOperationsExecutor.configure(System.getenv());
+        // The Kubernetes client metrics use the Vert.x metrics registry => the client is created after Vert.x
+        DefaultKubernetesClient kubeClient = new KubernetesRequestMetrics(new MicrometerMetricsProvider(), "topic-operator", 0).createClient();
         Session session = new Session(kubeClient, config);
         vertx.deployVerticle(session, ar -> {
             if (ar.succeeded()) {
@@ -6,7 +6,6 @@ package io.strimzi.operator.topic;
 
 import io.fabric8.kubernetes.api.model.EventBuilder;
 import io.fabric8.kubernetes.api.model.HasMetadata;
-import io.fabric8.kubernetes.api.model.ObjectMeta;
 import io.fabric8.kubernetes.client.Watcher;
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.Tag;
@@ -14,9 +13,7 @@ import io.micrometer.core.instrument.Tags;
 import io.micrometer.core.instrument.Timer;
 import io.micrometer.core.instrument.Meter;
 import io.strimzi.api.kafka.model.KafkaTopic;
-import io.strimzi.api.kafka.model.KafkaTopicBuilder;
 import io.strimzi.api.kafka.model.status.KafkaTopicStatus;
-import io.strimzi.operator.cluster.model.StatusDiff;
 import io.strimzi.operator.common.Annotations;
 import io.strimzi.operator.common.BackOff;
 import io.strimzi.operator.common.MaxAttemptsExceededException;
@@ -69,6 +66,7 @@ class TopicOperator {
     private final TopicStore topicStore;
     private final Config config;
     private final ConcurrentHashMap<TopicName, Integer> inflight = new ConcurrentHashMap<>();
+    private final KafkaTopicStatusWriter statusWriter;
 
     protected final MetricsProvider metrics;
     private Counter periodicReconciliationsCounter;
@@ -394,6 +392,7 @@ class TopicOperator {
         this.namespace = namespace;
         this.config = config;
         this.metrics = metrics;
+        this.statusWriter = new KafkaTopicStatusWriter(vertx, k8s, config.get(Config.STATUS_UPDATES_PER_SECOND));
 
         initMetrics();
     }
@@ -512,8 +511,12 @@ class TopicOperator {
                         metrics.gauge(METRICS_PREFIX + "resource.state", "Current state of the resource: 1 ready, 0 fail", metricTags).set(actionResult.succeeded() ? 1 : 0);
                         LOGGER.debugCr(logContext.toReconciliation(), "Updated metric " + METRICS_PREFIX + "resource.state{} = {}", metricTags, succeeded ? 1 : 0);
                     }
-                    // Update status with lock held so that event is ignored via statusUpdateGeneration
-                    action.updateStatus(logContext).onComplete(statusResult -> {
+                    Future<Void> statusFuture = action.updateStatus(logContext);
+                    // The status writer coalesces the status with any later status of the same topic and orders the
+                    // status updates, so the lock does not need to be held until the (rate limited) update completes
+                    lockResult.result().release();
+                    LOGGER.debugCr(logContext.toReconciliation(), "Lock released");
+                    statusFuture.onComplete(statusResult -> {
                         if (statusResult.failed()) {
                             LOGGER.errorCr(logContext.toReconciliation(), "Error updating KafkaTopic.status for action {}", action,
                                     statusResult.cause());
@@ -526,8 +529,6 @@ class TopicOperator {
                         } catch (Throwable t) {
                             result.fail(t);
                         } finally {
-                            lockResult.result().release();
-                            LOGGER.debugCr(logContext.toReconciliation(), "Lock released");
                             inflight.compute(key, decrement);
                         }
                     });
@@ -1046,7 +1047,6 @@ class TopicOperator {
                 KafkaTopic topic = this.topic;
                 Future<Void> statusFuture;
                 if (topic != null) {
-                    // Get the existing status and if it's og == g and is has same status then don't update
                     LOGGER.debugCr(logContext.toReconciliation(), "There is a KafkaTopic to set status on, rv={}, generation={}",
                             topic.getMetadata().getResourceVersion(),
                             topic.getMetadata().getGeneration());
@@ -1064,25 +1064,7 @@ class TopicOperator {
                         kts.setConditions(singletonList(StatusUtils.getPausedCondition()));
                     }
 
-                    StatusDiff ksDiff = new StatusDiff(topic.getStatus(), kts);
-                    if (!ksDiff.isEmpty()) {
-                        Promise<Void> promise = Promise.promise();
-                        statusFuture = promise.future();
-                        k8s.updateResourceStatus(logContext.toReconciliation(), new KafkaTopicBuilder(topic).withStatus(kts).build()).onComplete(ar -> {
-                            if (ar.succeeded() && ar.result() != null) {
-                                ObjectMeta metadata = ar.result().getMetadata();
-                                LOGGER.debugCr(logContext.toReconciliation(), "status was set rv={}, generation={}, observedGeneration={}",
-                                        metadata.getResourceVersion(),
-                                        metadata.getGeneration(),
-                                        ar.result().getStatus().getObservedGeneration());
-                            } else {
-                                LOGGER.errorCr(logContext.toReconciliation(), "Error setting resource status", ar.cause());
-                            }
-                            promise.handle(ar.map((Void) null));
-                        });
-                    } else {
-                        statusFuture = Future.succeededFuture();
-                    }
+                    statusFuture = statusWriter.write(logContext.toReconciliation(), topic, kts);
                 } else {
                     LOGGER.debugCr(logContext.toReconciliation(), "No KafkaTopic to set status");
                     statusFuture = Future.succeededFuture();
@@ -1097,6 +1079,10 @@ class TopicOperator {
 
     /** Called when a resource is isModify in k8s */
     Future<Void> onResourceEvent(LogContext logContext, KafkaTopic modifiedTopic, Watcher.Action action) {
+        if (action == Watcher.Action.DELETED) {
+            statusWriter.forget(modifiedTopic.getMetadata().getName());
+        }
+
         return executeWithTopicLockHeld(logContext, new TopicName(modifiedTopic),
                 new Reconciliation(logContext, "onResourceEvent", false) {
                     @Override
@@ -1296,7 +1282,9 @@ class TopicOperator {
         private final Set<TopicName> succeeded;
         private final Set<TopicName> undetermined;
         private final Map<TopicName, Throwable> failed;
-        private List<KafkaTopic> ktList;
+        // Only the projections of the KafkaTopics are kept for the whole periodic reconciliation. The full resources
+        // are read again when the topics are reconciled.
+        private List<KafkaTopicProjection> ktList;
 
         public ReconcileState(Set<TopicName> succeeded, Set<TopicName> undetermined, Map<TopicName, Throwable> failed) {
             this.succeeded = succeeded;
@@ -1305,7 +1293,7 @@ class TopicOperator {
             this.ktList = emptyList();
         }
 
-        public void setKafkaTopics(List<KafkaTopic> ktList) {
+        public void setKafkaTopics(List<KafkaTopicProjection> ktList) {
             this.ktList = ktList;
         }
     }
@@ -1322,20 +1310,31 @@ class TopicOperator {
             return ktFut.recover(ex -> Future.failedFuture(
                     new OperatorException("Error listing existing KafkaTopics during " + reconciliationType + " reconciliation", ex)
             )).map(ktList -> {
-                reconcileState.setKafkaTopics(ktList);
+                reconcileState.setKafkaTopics(ktList.stream().map(KafkaTopicProjection::of).collect(Collectors.toList()));
                 return reconcileState;
             });
         }).compose(reconcileState -> {
             List<Future> futs = new ArrayList<>();
+            // Failures of the KafkaTopics which do not define a valid topic name
+            List<Future> invalidFuts = new ArrayList<>();
             pausedTopicCounter.set(0);
             topicCounter.set(reconcileState.ktList.size());
-            for (KafkaTopic kt : reconcileState.ktList) {
-                if (Annotations.isReconciliationPausedWithAnnotation(kt)) {
+            for (KafkaTopicProjection kt : reconcileState.ktList) {
+                if (kt.isPausedByAnnotation()) {
                     pausedTopicCounter.getAndIncrement();
                 }
-                LogContext logContext = LogContext.periodic(reconciliationType + "kube " + kt.getMetadata().getName(), kt.getMetadata().getNamespace(), kt.getMetadata().getName()).withKubeTopic(kt);
-                Topic topic = TopicSerialization.fromTopicResource(kt);
-                TopicName topicName = topic.getTopicName();
+                LogContext logContext = LogContext.periodic(reconciliationType + "kube " + kt.name(), kt.namespace(), kt.name()).withKubeTopic(kt);
+                TopicName topicName;
+                try {
+                    topicName = kt.topicName();
+                } catch (InvalidTopicException e) {
+                    // Only the reconciliation of this KafkaTopic fails, the other topics are still reconciled
+                    LOGGER.errorCr(logContext.toReconciliation(), "Error reconciling KafkaTopic {}: Invalid resource: {}", kt.name(), e.getMessage());
+                    reconciliationsCounter.increment();
+                    failedReconciliationsCounter.increment();
+                    invalidFuts.add(Future.failedFuture(e));
+                    continue;
+                }
                 if (reconcileState.failed.containsKey(topicName)) {
                     // we already failed to reconcile this topic in reconcileFromKafka(), /
                     // don't bother trying again
@@ -1349,7 +1348,7 @@ class TopicOperator {
                     successfulReconciliationsCounter.increment();
                 } else if (reconcileState.undetermined.contains(topicName)) {
                     // The topic didn't exist in topicStore, but now we know which KT it corresponds to
-                    futs.add(reconcileWithKubeTopic(logContext, kt, reconciliationType, new ResourceName(kt), topic.getTopicName()).compose(r -> {
+                    futs.add(reconcileWithKubeTopic(logContext, kt, reconciliationType).compose(r -> {
                         // if success then remove from undetermined add to success
                         reconcileState.undetermined.remove(topicName);
                         reconcileState.succeeded.add(topicName);
@@ -1357,8 +1356,8 @@ class TopicOperator {
                     }));
                 } else {
                     // Topic exists in kube, but not in Kafka
-                    LOGGER.debugCr(logContext.toReconciliation(), "Topic {} exists in Kubernetes, but not Kafka", topicName, logTopic(kt));
-                    futs.add(reconcileWithKubeTopic(logContext, kt, reconciliationType, new ResourceName(kt), topic.getTopicName()).compose(r -> {
+                    LOGGER.debugCr(logContext.toReconciliation(), "Topic {} exists in Kubernetes, but not Kafka", topicName, kt);
+                    futs.add(reconcileWithKubeTopic(logContext, kt, reconciliationType).compose(r -> {
                         // if success then add to success
                         reconcileState.succeeded.add(topicName);
                         return Future.succeededFuture(Boolean.TRUE);
@@ -1366,7 +1365,7 @@ class TopicOperator {
                 }
             }
             return CompositeFuture.join(futs).compose(joined -> {
-                List<Future> futs2 = new ArrayList<>();
+                List<Future> futs2 = new ArrayList<>(invalidFuts);
                 for (Throwable exception : reconcileState.failed.values()) {
                     futs2.add(Future.failedFuture(exception));
                 }
@@ -1514,14 +1513,19 @@ class TopicOperator {
         return topicStore.read(topicName);
     }
 
-    private Future<Void> reconcileWithKubeTopic(LogContext logContext, HasMetadata involvedObject,
-                                                String reconciliationType, ResourceName kubeName, TopicName topicName) {
+    /**
+     * Reconciles the topic of the listed KafkaTopic. The full KafkaTopic resource is read from Kubernetes only now,
+     * when the topic is reconciled.
+     */
+    private Future<Void> reconcileWithKubeTopic(LogContext logContext, KafkaTopicProjection kubeTopic, String reconciliationType) {
+        TopicName topicName = kubeTopic.topicName();
+
         return executeWithTopicLockHeld(logContext, topicName, new Reconciliation(logContext, "reconcile-with-kube", true) {
             @Override
             public Future<Void> execute() {
                 Reconciliation self = this;
                 return CompositeFuture.all(
-                        k8s.getFromName(kubeName).map(kt -> {
+                        k8s.getFromName(new ResourceName(kubeTopic.name())).map(kt -> {
                             observedTopicFuture(kt);
                             return kt;
                         }),
@@ -1533,7 +1537,7 @@ class TopicOperator {
                         Topic k8sTopic = TopicSerialization.fromTopicResource(ktr);
                         Topic kafkaTopic = compositeResult.resultAt(1);
                         Topic privateTopic = compositeResult.resultAt(2);
-                        return reconcile(self, logContext, involvedObject, k8sTopic, kafkaTopic, privateTopic);
+                        return reconcile(self, logContext, ktr != null ? ktr : kubeTopic.toInvolvedObject(), k8sTopic, kafkaTopic, privateTopic);
                     });
             }
         });
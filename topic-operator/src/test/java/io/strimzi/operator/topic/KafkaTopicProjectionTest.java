@@ -0,0 +1,117 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic;
+
+import io.strimzi.api.kafka.model.KafkaTopic;
+import io.strimzi.api.kafka.model.KafkaTopicBuilder;
+import io.strimzi.api.kafka.model.status.ConditionBuilder;
+import io.strimzi.operator.common.Annotations;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class KafkaTopicProjectionTest {
+    private static KafkaTopicBuilder topic(String name, Long generation) {
+        return new KafkaTopicBuilder()
+                .withNewMetadata()
+                    .withName(name)
+                    .withNamespace("my-namespace")
+                    .withUid("my-uid")
+                    .withResourceVersion("5")
+                    .withGeneration(generation)
+                .endMetadata()
+                .withNewSpec()
+                    .withPartitions(3)
+                    .withReplicas(1)
+                    .addToConfig("retention.ms", 1000)
+                .endSpec();
+    }
+
+    @Test
+    public void testProjection() {
+        KafkaTopicProjection projection = KafkaTopicProjection.of(topic("my-topic", 1L)
+                .editSpec()
+                    .withTopicName("My_Topic")
+                .endSpec()
+                .build());
+
+        assertThat(projection.name(), is("my-topic"));
+        assertThat(projection.namespace(), is("my-namespace"));
+        assertThat(projection.resourceVersion(), is("5"));
+        assertThat(projection.topicName(), is(new TopicName("My_Topic")));
+        assertThat(projection.toString(), is("my-namespace/my-topic"));
+
+        KafkaTopic involvedObject = projection.toInvolvedObject();
+        assertThat(involvedObject.getKind(), is(KafkaTopic.RESOURCE_KIND));
+        assertThat(involvedObject.getMetadata().getName(), is("my-topic"));
+        assertThat(involvedObject.getMetadata().getNamespace(), is("my-namespace"));
+        assertThat(involvedObject.getMetadata().getUid(), is("my-uid"));
+        assertThat(involvedObject.getSpec() == null, is(true));
+    }
+
+    @Test
+    public void testInvalidTopicName() {
+        KafkaTopicProjection projection = KafkaTopicProjection.of(topic("my-topic", 1L)
+                .editSpec()
+                    .withTopicName("invalid/topic")
+                .endSpec()
+                .build());
+
+        // The resource can still be projected, only the topic name is not available
+        assertThat(projection.name(), is("my-topic"));
+        assertThrows(InvalidTopicException.class, projection::topicName);
+    }
+
+    @Test
+    public void testNeedsReconciliation() {
+        // New resource without status
+        assertThat(KafkaTopicProjection.of(topic("my-topic", 1L).build()).needsReconciliation(), is(true));
+
+        // Reconciled resource
+        assertThat(KafkaTopicProjection.of(topic("my-topic", 1L)
+                .withNewStatus()
+                    .withObservedGeneration(1L)
+                .endStatus()
+                .build()).needsReconciliation(), is(false));
+
+        // Changed spec
+        assertThat(KafkaTopicProjection.of(topic("my-topic", 2L)
+                .withNewStatus()
+                    .withObservedGeneration(1L)
+                .endStatus()
+                .build()).needsReconciliation(), is(true));
+    }
+
+    @Test
+    public void testPauseAnnotationChanges() {
+        KafkaTopicProjection paused = KafkaTopicProjection.of(topic("my-topic", 1L)
+                .editMetadata()
+                    .addToAnnotations(Annotations.ANNO_STRIMZI_IO_PAUSE_RECONCILIATION, "true")
+                .endMetadata()
+                .withNewStatus()
+                    .withObservedGeneration(1L)
+                .endStatus()
+                .build());
+
+        assertThat(paused.isPausedByAnnotation(), is(true));
+        assertThat(paused.isBeingPaused(), is(true));
+        assertThat(paused.isBeingUnpaused(), is(false));
+        assertThat(paused.needsReconciliation(), is(true));
+
+        KafkaTopicProjection unpaused = KafkaTopicProjection.of(topic("my-topic", 1L)
+                .withNewStatus()
+                    .withObservedGeneration(1L)
+                    .withConditions(new ConditionBuilder().withType("ReconciliationPaused").withStatus("True").build())
+                .endStatus()
+                .build());
+
+        assertThat(unpaused.isPausedByAnnotation(), is(false));
+        assertThat(unpaused.isBeingPaused(), is(false));
+        assertThat(unpaused.isBeingUnpaused(), is(true));
+        assertThat(unpaused.needsReconciliation(), is(true));
+    }
+}
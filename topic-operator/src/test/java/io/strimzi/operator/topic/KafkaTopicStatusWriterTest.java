@@ -0,0 +1,207 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic;
+
+import io.strimzi.api.kafka.model.KafkaTopic;
+import io.strimzi.api.kafka.model.KafkaTopicBuilder;
+import io.strimzi.api.kafka.model.status.ConditionBuilder;
+import io.strimzi.api.kafka.model.status.KafkaTopicStatus;
+import io.strimzi.api.kafka.model.status.KafkaTopicStatusBuilder;
+import io.strimzi.operator.common.Reconciliation;
+import io.vertx.core.CompositeFuture;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.junit5.Checkpoint;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(VertxExtension.class)
+public class KafkaTopicStatusWriterTest {
+    private static final Reconciliation RECONCILIATION = new Reconciliation("test", "KafkaTopic", "my-namespace", "my-topic");
+
+    private static Vertx vertx;
+
+    private K8s k8s;
+    private List<Promise<KafkaTopic>> updates;
+
+    @BeforeAll
+    public static void before() {
+        vertx = Vertx.vertx();
+    }
+
+    @AfterAll
+    public static void after() {
+        vertx.close();
+    }
+
+    @BeforeEach
+    public void setup() {
+        updates = new ArrayList<>();
+        k8s = mock(K8s.class);
+        when(k8s.updateResourceStatus(any(), any())).thenAnswer(invocation -> {
+            Promise<KafkaTopic> promise = Promise.promise();
+            updates.add(promise);
+            return promise.future();
+        });
+    }
+
+    private static KafkaTopic topic(String name, String resourceVersion, KafkaTopicStatus status) {
+        return new KafkaTopicBuilder()
+                .withNewMetadata()
+                    .withName(name)
+                    .withNamespace("my-namespace")
+                    .withResourceVersion(resourceVersion)
+                    .withGeneration(1L)
+                .endMetadata()
+                .withStatus(status)
+                .build();
+    }
+
+    private static KafkaTopicStatus status(String ready, String lastTransitionTime) {
+        return new KafkaTopicStatusBuilder()
+                .withObservedGeneration(1L)
+                .withTopicName("my-topic")
+                .withConditions(new ConditionBuilder()
+                        .withType("Ready")
+                        .withStatus(ready)
+                        .withLastTransitionTime(lastTransitionTime)
+                        .build())
+                .build();
+    }
+
+    private KafkaTopic lastUpdate(int expectedUpdates) {
+        ArgumentCaptor<KafkaTopic> captor = ArgumentCaptor.forClass(KafkaTopic.class);
+        verify(k8s, times(expectedUpdates)).updateResourceStatus(any(), captor.capture());
+        return captor.getValue();
+    }
+
+    private void complete(int update, String resourceVersion) {
+        KafkaTopic written = lastUpdate(update + 1);
+        updates.get(update).complete(new KafkaTopicBuilder(written)
+                .editMetadata()
+                    .withResourceVersion(resourceVersion)
+                .endMetadata()
+                .build());
+    }
+
+    @Test
+    public void testUnchangedStatusIsNotWritten() {
+        KafkaTopicStatusWriter writer = new KafkaTopicStatusWriter(vertx, k8s, 1000);
+
+        Future<Void> result = writer.write(RECONCILIATION, topic("my-topic", "1", status("True", "2021-01-01T00:00:00Z")), status("True", "2021-06-01T00:00:00Z"));
+
+        assertThat(result.succeeded(), is(true));
+        verify(k8s, never()).updateResourceStatus(any(), any());
+    }
+
+    @Test
+    public void testLastWrittenStatusIsUsedForStaleResources() {
+        KafkaTopicStatusWriter writer = new KafkaTopicStatusWriter(vertx, k8s, 1000);
+        KafkaTopic observed = topic("my-topic", "1", status("False", "2021-01-01T00:00:00Z"));
+
+        Future<Void> first = writer.write(RECONCILIATION, observed, status("True", "2021-06-01T00:00:00Z"));
+        assertThat(lastUpdate(1).getMetadata().getResourceVersion(), is("1"));
+        complete(0, "2");
+        assertThat(first.succeeded(), is(true));
+
+        // The resource observed before the status update does not need the same status to be written again ...
+        Future<Void> second = writer.write(RECONCILIATION, observed, status("True", "2021-06-02T00:00:00Z"));
+        assertThat(second.succeeded(), is(true));
+        verify(k8s, times(1)).updateResourceStatus(any(), any());
+
+        // ... and a different status is written with the current resource version
+        writer.write(RECONCILIATION, observed, status("False", "2021-06-03T00:00:00Z"));
+        assertThat(lastUpdate(2).getMetadata().getResourceVersion(), is("2"));
+        assertThat(lastUpdate(2).getStatus().getConditions().get(0).getStatus(), is("False"));
+
+        // Statuses of deleted resources are forgotten
+        complete(1, "3");
+        writer.forget("my-topic");
+        writer.write(RECONCILIATION, topic("my-topic", "3", status("True", "2021-01-01T00:00:00Z")), status("False", "2021-06-04T00:00:00Z"));
+        assertThat(lastUpdate(3).getMetadata().getResourceVersion(), is("3"));
+    }
+
+    @Test
+    public void testStatusUpdatesOfTheSameTopicAreCoalesced() {
+        KafkaTopicStatusWriter writer = new KafkaTopicStatusWriter(vertx, k8s, 1000);
+        KafkaTopic observed = topic("my-topic", "1", null);
+
+        Future<Void> first = writer.write(RECONCILIATION, observed, status("False", "2021-06-01T00:00:00Z"));
+        lastUpdate(1);
+
+        // Written after the status update in progress completes
+        Future<Void> second = writer.write(RECONCILIATION, observed, status("True", "2021-06-02T00:00:00Z"));
+        Future<Void> third = writer.write(RECONCILIATION, observed, status("Unknown", "2021-06-03T00:00:00Z"));
+        assertThat(second.isComplete(), is(false));
+
+        complete(0, "2");
+        assertThat(first.succeeded(), is(true));
+
+        // Only the latest status is written
+        KafkaTopic update = lastUpdate(2);
+        assertThat(update.getStatus().getConditions().get(0).getStatus(), is("Unknown"));
+        assertThat(update.getMetadata().getResourceVersion(), is("2"));
+
+        complete(1, "3");
+        assertThat(second.succeeded(), is(true));
+        assertThat(third.succeeded(), is(true));
+    }
+
+    @Test
+    public void testFailedStatusUpdate() {
+        KafkaTopicStatusWriter writer = new KafkaTopicStatusWriter(vertx, k8s, 1000);
+        KafkaTopic observed = topic("my-topic", "1", null);
+
+        Future<Void> first = writer.write(RECONCILIATION, observed, status("True", "2021-06-01T00:00:00Z"));
+        lastUpdate(1);
+        updates.get(0).fail(new RuntimeException("Conflict"));
+        assertThat(first.failed(), is(true));
+
+        // The status is written again
+        writer.write(RECONCILIATION, observed, status("True", "2021-06-02T00:00:00Z"));
+        lastUpdate(2);
+    }
+
+    @Test
+    public void testStatusUpdatesAreRateLimited(VertxTestContext context) {
+        Checkpoint async = context.checkpoint();
+        KafkaTopicStatusWriter writer = new KafkaTopicStatusWriter(vertx, k8s, 2);
+        when(k8s.updateResourceStatus(any(), any())).thenAnswer(invocation -> Future.succeededFuture(invocation.getArgument(1)));
+
+        long start = System.nanoTime();
+        List<Future> results = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            results.add(writer.write(RECONCILIATION, topic("my-topic-" + i, "1", null), status("True", "2021-06-01T00:00:00Z")));
+        }
+
+        // Only the first status update starts right away
+        verify(k8s, times(1)).updateResourceStatus(any(), any());
+
+        CompositeFuture.join(results).onComplete(context.succeeding(v -> context.verify(() -> {
+            verify(k8s, times(3)).updateResourceStatus(any(), any());
+            assertThat(System.nanoTime() - start >= 900_000_000L, is(true));
+            async.flag();
+        })));
+    }
+}
@@ -79,6 +79,11 @@ public class MockTopicStore implements TopicStore {
         context.verify(() -> assertThat(topics.get(topic.getTopicName()), is(topic)));
     }
 
+    public MockTopicStore setCreateTopicResponse(Function<TopicName, Future<Void>> createTopicResponse) {
+        this.createTopicResponse = createTopicResponse;
+        return this;
+    }
+
     public MockTopicStore setCreateTopicResponse(TopicName createTopic, Exception exception) {
         Function<TopicName, Future<Void>> old = this.createTopicResponse;
         this.createTopicResponse = t -> {
@@ -0,0 +1,139 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic;
+
+import io.fabric8.kubernetes.client.Watcher;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.strimzi.api.kafka.model.KafkaTopic;
+import io.strimzi.api.kafka.model.KafkaTopicBuilder;
+import io.strimzi.operator.common.MicrometerMetricsProvider;
+import io.strimzi.operator.common.ScaleTestHarness;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.junit5.Checkpoint;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.AdditionalAnswers.delegatesTo;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Reconciles a fleet of KafkaTopics against in-memory Kubernetes, Kafka and topic store stubs and reports the
+ * reconciliation latencies, event loop blocking and the calls done by the TopicOperator. The number of topics can be
+ * configured using the {@code strimzi.scale.topics} system property.
+ */
+@ExtendWith(VertxExtension.class)
+public class TopicOperatorScaleTest {
+    private static final String NAMESPACE = "default-namespace";
+    private static final Labels LABELS = Labels.fromString("app=strimzi");
+
+    private static Vertx vertx;
+
+    @BeforeAll
+    public static void before() {
+        vertx = Vertx.vertx();
+    }
+
+    @AfterAll
+    public static void after() {
+        vertx.close();
+    }
+
+    private static KafkaTopic topic(int i) {
+        return new KafkaTopicBuilder()
+                .withNewMetadata()
+                    .withName("my-topic-" + i)
+                    .withNamespace(NAMESPACE)
+                    .withLabels(LABELS.labels())
+                .endMetadata()
+                .withNewSpec()
+                    .withPartitions(12)
+                    .withReplicas(3)
+                    .addToConfig("retention.ms", 7_200_000)
+                .endSpec()
+                .build();
+    }
+
+    @Test
+    public void testReconcileFleet(VertxTestContext context) {
+        int fleetSize = ScaleTestHarness.fleetSize("strimzi.scale.topics", 500);
+        int rounds = ScaleTestHarness.rounds();
+
+        MockKafka mockKafka = new MockKafka();
+        mockKafka.setCreateTopicResponse(topicName -> Future.succeededFuture());
+        mockKafka.setUpdateTopicResponse(topicName -> Future.succeededFuture());
+        mockKafka.setTopicExistsResult(topicName -> Future.succeededFuture(mockKafka.getTopicState(topicName) != null));
+        mockKafka.setTopicMetadataResponse(topicName -> {
+            Topic topic = mockKafka.getTopicState(topicName);
+            return Future.succeededFuture(topic != null ? Utils.getTopicMetadata(topic) : null);
+        });
+
+        MockTopicStore mockTopicStore = new MockTopicStore();
+        mockTopicStore.setCreateTopicResponse(topicName -> Future.succeededFuture());
+
+        MockK8s mockK8s = new MockK8s();
+        List<KafkaTopic> fleet = new ArrayList<>(fleetSize);
+        for (int i = 0; i < fleetSize; i++) {
+            KafkaTopic kafkaTopic = topic(i);
+            mockK8s.setGetFromNameResponse(new ResourceName(kafkaTopic), Future.succeededFuture(kafkaTopic));
+            fleet.add(kafkaTopic);
+        }
+
+        // Count the calls by delegating to the stubs through Mockito mocks
+        Kafka kafka = mock(Kafka.class, delegatesTo(mockKafka));
+        K8s k8s = mock(K8s.class, delegatesTo(mockK8s));
+        TopicStore topicStore = mock(TopicStore.class, delegatesTo(mockTopicStore));
+
+        Map<String, String> configMap = new HashMap<>();
+        configMap.put(Config.ZOOKEEPER_CONNECT.key, "localhost:2181");
+        configMap.put(Config.KAFKA_BOOTSTRAP_SERVERS.key, "localhost:9092");
+        configMap.put(Config.NAMESPACE.key, NAMESPACE);
+        configMap.put(Config.CLIENT_ID.key, "default-client-id");
+
+        TopicOperator operator = new TopicOperator(vertx, kafka, k8s, topicStore, LABELS, NAMESPACE, new Config(configMap),
+                new MicrometerMetricsProvider(new SimpleMeterRegistry()));
+
+        List<Supplier<Future<?>>> reconciliations = new ArrayList<>(fleetSize);
+        for (KafkaTopic kafkaTopic : fleet) {
+            reconciliations.add(() -> operator.onResourceEvent(LogContext.kubeWatch(Watcher.Action.ADDED, kafkaTopic), kafkaTopic, Watcher.Action.ADDED));
+        }
+
+        ScaleTestHarness harness = new ScaleTestHarness(vertx, "topic-operator", fleetSize);
+        harness.start();
+
+        Future<Void> result = Future.succeededFuture();
+        for (int round = 0; round < rounds; round++) {
+            result = result.compose(v -> harness.round(reconciliations));
+        }
+
+        Checkpoint async = context.checkpoint();
+        result.onComplete(context.succeeding(v -> context.verify(() -> {
+            harness.addMockInvocations("KafkaTopic", k8s);
+            harness.addMockInvocations("Admin", kafka);
+            harness.addMockInvocations("TopicStore", topicStore);
+
+            Map<String, Object> report = harness.stop();
+
+            assertThat(report.get("reconciliations"), is(fleetSize * rounds));
+            assertThat(report.get("failedReconciliations"), is(0));
+            for (KafkaTopic kafkaTopic : fleet) {
+                assertThat(mockKafka.getTopicState(new TopicName(kafkaTopic)) != null, is(true));
+            }
+            async.flag();
+        })));
+    }
+}
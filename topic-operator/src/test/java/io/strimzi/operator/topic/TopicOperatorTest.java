@@ -41,6 +41,8 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -48,6 +50,8 @@ import java.util.concurrent.atomic.AtomicInteger;
 import static io.fabric8.kubernetes.client.Watcher.Action.ADDED;
 import static io.fabric8.kubernetes.client.Watcher.Action.DELETED;
 import static io.fabric8.kubernetes.client.Watcher.Action.MODIFIED;
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyMap;
 import static java.util.Collections.emptySet;
 import static java.util.Collections.singleton;
 import static java.util.Collections.singletonMap;
@@ -1268,6 +1272,45 @@ public class TopicOperatorTest {
         })));
     }
 
+    @Test
+    public void testReconcileAllTopics_invalidTopicNameFailsOnlyItsTopic(VertxTestContext context) {
+        KafkaTopic invalidTopic = new KafkaTopicBuilder()
+                .withMetadata(new ObjectMetaBuilder().withName("invalid").withLabels(labels.labels()).build())
+                .withNewSpec()
+                    .withTopicName("invalid/topic")
+                    .withReplicas(1)
+                    .withPartitions(1)
+                .endSpec()
+            .build();
+        KafkaTopic validTopic = TopicSerialization.toTopicResource(new Topic.Builder(topicName.toString(), 10, (short) 2, emptyMap(), new ObjectMeta()).build(), labels);
+
+        // The invalid KafkaTopic is listed first
+        mockKafka.setTopicsListResponse(Future.succeededFuture(emptySet()));
+        mockK8s.setListMapsResult(() -> Future.succeededFuture(asList(invalidTopic, validTopic)));
+        mockK8s.setGetFromNameResponse(new ResourceName(validTopic), Future.succeededFuture(validTopic));
+        Set<TopicName> describedTopics = ConcurrentHashMap.newKeySet();
+        mockKafka.setTopicMetadataResponse(topicName -> {
+            describedTopics.add(topicName);
+            return Future.succeededFuture(null);
+        });
+        mockKafka.setCreateTopicResponse(topicName.toString(), null);
+        mockTopicStore.setCreateTopicResponse(topicName, null);
+
+        Checkpoint async = context.checkpoint();
+        topicOperator.reconcileAllTopics("periodic").onComplete(context.failing(e -> context.verify(() -> {
+            assertThat(e, instanceOf(InvalidTopicException.class));
+            // The valid topic is still reconciled
+            assertThat(describedTopics, is(singleton(topicName)));
+            mockKafka.assertExists(context, topicName);
+
+            MeterRegistry registry = metrics.meterRegistry();
+            assertThat(registry.get(TopicOperator.METRICS_PREFIX + "reconciliations").tag("kind", "KafkaTopic").counter().count(), is(2.0));
+            assertThat(registry.get(TopicOperator.METRICS_PREFIX + "reconciliations.failed").tag("kind", "KafkaTopic").counter().count(), is(1.0));
+
+            async.flag();
+        })));
+    }
+
     @Test
     public void testReconcileMetricsWithPausedTopic(VertxTestContext context) throws InterruptedException {
         mockKafka.setTopicsListResponse(Future.succeededFuture(emptySet()));
@@ -28,12 +28,14 @@ public class UserOperatorConfig {
     public static final String STRIMZI_CLIENTS_CA_RENEWAL = "STRIMZI_CA_RENEWAL";
     public static final String STRIMZI_SECRET_PREFIX = "STRIMZI_SECRET_PREFIX";
     public static final String STRIMZI_ACLS_ADMIN_API_SUPPORTED = "STRIMZI_ACLS_ADMIN_API_SUPPORTED";
+    public static final String STRIMZI_KRAFT_ENABLED = "STRIMZI_KRAFT_ENABLED";
 
     public static final long DEFAULT_FULL_RECONCILIATION_INTERVAL_MS = 120_000;
     public static final String DEFAULT_KAFKA_BOOTSTRAP_SERVERS = "localhost:9091";
     public static final String DEFAULT_SECRET_PREFIX = "";
     // Defaults to true for backwards compatibility in standalone UO deployments
     public static final boolean DEFAULT_STRIMZI_ACLS_ADMIN_API_SUPPORTED = true;
+    public static final boolean DEFAULT_STRIMZI_KRAFT_ENABLED = false;
 
     private final String namespace;
     private final long reconciliationIntervalMs;
@@ -48,6 +50,7 @@ public class UserOperatorConfig {
     private final int clientsCaValidityDays;
     private final int clientsCaRenewalDays;
     private final boolean aclsAdminApiSupported;
+    private final boolean kraftEnabled;
 
     /**
      * Constructor
@@ -63,6 +66,7 @@ public class UserOperatorConfig {
      * @param caNamespace Namespace with the CA secret.
      * @param secretPrefix Prefix used for the Secret names
      * @param aclsAdminApiSupported Indicates whether Kafka Admin API can be used to manage ACL rights
+     * @param kraftEnabled Indicates whether the Kafka cluster runs in the KRaft mode
      * @param clientsCaValidityDays Number of days for which the certificate should be valid
      * @param clientsCaRenewalDays How long before the certificate expiration should the user certificate be renewed
      */
@@ -78,6 +82,7 @@ public class UserOperatorConfig {
                               String caNamespace,
                               String secretPrefix,
                               boolean aclsAdminApiSupported,
+                              boolean kraftEnabled,
                               int clientsCaValidityDays,
                               int clientsCaRenewalDays) {
         this.namespace = namespace;
@@ -91,6 +96,7 @@ public class UserOperatorConfig {
         this.caNamespace = caNamespace;
         this.secretPrefix = secretPrefix;
         this.aclsAdminApiSupported = aclsAdminApiSupported;
+        this.kraftEnabled = kraftEnabled;
         this.clientsCaValidityDays = clientsCaValidityDays;
         this.clientsCaRenewalDays = clientsCaRenewalDays;
     }
@@ -153,13 +159,15 @@ public class UserOperatorConfig {
 
         boolean aclsAdminApiSupported = getBooleanProperty(map, UserOperatorConfig.STRIMZI_ACLS_ADMIN_API_SUPPORTED, UserOperatorConfig.DEFAULT_STRIMZI_ACLS_ADMIN_API_SUPPORTED);
 
+        boolean kraftEnabled = getBooleanProperty(map, UserOperatorConfig.STRIMZI_KRAFT_ENABLED, UserOperatorConfig.DEFAULT_STRIMZI_KRAFT_ENABLED);
+
         int clientsCaValidityDays = getIntProperty(map, UserOperatorConfig.STRIMZI_CLIENTS_CA_VALIDITY, CertificateAuthority.DEFAULT_CERTS_VALIDITY_DAYS);
 
         int clientsCaRenewalDays = getIntProperty(map, UserOperatorConfig.STRIMZI_CLIENTS_CA_RENEWAL, CertificateAuthority.DEFAULT_CERTS_RENEWAL_DAYS);
 
         return new UserOperatorConfig(namespace, reconciliationInterval, kafkaBootstrapServers, labels,
                 caCertSecretName, caKeySecretName, clusterCaCertSecretName, eoKeySecretName, caNamespace, secretPrefix,
-                aclsAdminApiSupported, clientsCaValidityDays, clientsCaRenewalDays);
+                aclsAdminApiSupported, kraftEnabled, clientsCaValidityDays, clientsCaRenewalDays);
     }
 
     /**
@@ -289,6 +297,14 @@ public class UserOperatorConfig {
         return aclsAdminApiSupported;
     }
 
+    /**
+     * @return  Indicates whether the Kafka cluster runs in the KRaft mode. The SCRAM-SHA credentials are not supported
+     *          in the KRaft mode.
+     */
+    public boolean isKraftEnabled() {
+        return kraftEnabled;
+    }
+
     @Override
     public String toString() {
         return "ClusterOperatorConfig(" +
@@ -302,6 +318,7 @@ public class UserOperatorConfig {
                 ",caNamespace=" + caNamespace +
                 ",secretPrefix=" + secretPrefix +
                 ",aclsAdminApiSupported=" + aclsAdminApiSupported +
+                ",kraftEnabled=" + kraftEnabled +
                 ",clientsCaValidityDays=" + clientsCaValidityDays +
                 ",clientsCaRenewalDays=" + clientsCaRenewalDays +
                 ")";
@@ -98,6 +98,22 @@ public class KafkaUserModel {
     public static KafkaUserModel fromCrd(KafkaUser kafkaUser,
                                          String secretPrefix,
                                          boolean aclsAdminApiSupported) {
+        return fromCrd(kafkaUser, secretPrefix, aclsAdminApiSupported, false);
+    }
+
+    /**
+     * Creates instance of KafkaUserModel from CRD definition.
+     *
+     * @param kafkaUser The Custom Resource based on which the model should be created.
+     * @param secretPrefix The prefix used to add to the name of the Secret generated from the KafkaUser resource.
+     * @param aclsAdminApiSupported Indicates whether Kafka Admin API can be used to manage ACL rights
+     * @param kraftEnabled Indicates whether the Kafka cluster runs in the KRaft mode
+     * @return The user model.
+     */
+    public static KafkaUserModel fromCrd(KafkaUser kafkaUser,
+                                         String secretPrefix,
+                                         boolean aclsAdminApiSupported,
+                                         boolean kraftEnabled) {
         KafkaUserModel result = new KafkaUserModel(kafkaUser.getMetadata().getNamespace(),
                 kafkaUser.getMetadata().getName(),
                 Labels.fromResource(kafkaUser).withStrimziKind(kafkaUser.getKind()),
@@ -106,6 +122,10 @@ public class KafkaUserModel {
         validateTlsUsername(kafkaUser);
         validateDesiredPassword(kafkaUser);
 
+        if (kraftEnabled && kafkaUser.getSpec().getAuthentication() instanceof KafkaUserScramSha512ClientAuthentication) {
+            throw new InvalidResourceException("SCRAM-SHA-512 authentication is not supported in the KRaft mode.");
+        }
+
         result.setOwnerReference(kafkaUser);
         result.setAuthentication(kafkaUser.getSpec().getAuthentication());
 
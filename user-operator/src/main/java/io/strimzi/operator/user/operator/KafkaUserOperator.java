@@ -14,6 +14,7 @@ import io.strimzi.api.kafka.model.status.KafkaUserStatus;
 import io.strimzi.certs.CertManager;
 import io.strimzi.operator.common.AbstractOperator;
 import io.strimzi.operator.common.ReconciliationLogger;
+import io.strimzi.operator.common.MetricsProvider;
 import io.strimzi.operator.common.MicrometerMetricsProvider;
 import io.strimzi.operator.common.PasswordGenerator;
 import io.strimzi.operator.common.Reconciliation;
@@ -71,7 +72,32 @@ public class KafkaUserOperator extends AbstractOperator<KafkaUser, KafkaUserSpec
                              QuotasOperator quotasOperator,
                              SimpleAclOperator aclOperations,
                              UserOperatorConfig config) {
-        super(vertx, "KafkaUser", crdOperator, new MicrometerMetricsProvider(), config.getLabels());
+        this(vertx, certManager, crdOperator, secretOperations, scramCredentialsOperator, quotasOperator, aclOperations, config, new MicrometerMetricsProvider());
+    }
+
+    /**
+     * Creates the instance of KafkaUserOperator with a custom metrics provider. Used in tests.
+     *
+     * @param vertx The Vertx instance.
+     * @param certManager For managing certificates.
+     * @param crdOperator For operating on Custom Resources.
+     * @param secretOperations For operating on Secrets.
+     * @param scramCredentialsOperator For operating on SCRAM SHA credentials.
+     * @param quotasOperator For operating on Kafka User quotas.
+     * @param aclOperations For operating on ACLs.
+     * @param config User operator configuration
+     * @param metricsProvider Metrics provider
+     */
+    /* test */ KafkaUserOperator(Vertx vertx,
+                      CertManager certManager,
+                      CrdOperator<KubernetesClient, KafkaUser, KafkaUserList> crdOperator,
+                      SecretOperator secretOperations,
+                      ScramCredentialsOperator scramCredentialsOperator,
+                      QuotasOperator quotasOperator,
+                      SimpleAclOperator aclOperations,
+                      UserOperatorConfig config,
+                      MetricsProvider metricsProvider) {
+        super(vertx, "KafkaUser", crdOperator, metricsProvider, config.getLabels());
         this.certManager = certManager;
         this.secretOperations = secretOperations;
         this.scramCredentialsOperator = scramCredentialsOperator;
@@ -85,7 +111,7 @@ public class KafkaUserOperator extends AbstractOperator<KafkaUser, KafkaUserSpec
         return CompositeFuture.join(super.allResourceNames(namespace),
                 config.isAclsAdminApiSupported() ? aclOperations.getAllUsers() : Future.succeededFuture(Set.of()),
                 quotasOperator.getAllUsers(),
-                scramCredentialsOperator.getAllUsers()).map(compositeFuture -> {
+                config.isKraftEnabled() ? Future.succeededFuture(List.of()) : scramCredentialsOperator.getAllUsers()).map(compositeFuture -> {
                     Set<NamespaceAndName> names = compositeFuture.resultAt(0);
                     names.addAll(toResourceRef(namespace, compositeFuture.resultAt(1)));
                     names.addAll(toResourceRef(namespace, compositeFuture.resultAt(2)));
@@ -115,7 +141,7 @@ public class KafkaUserOperator extends AbstractOperator<KafkaUser, KafkaUserSpec
         KafkaUserStatus userStatus = new KafkaUserStatus();
 
         try {
-            user = KafkaUserModel.fromCrd(resource, config.getSecretPrefix(), config.isAclsAdminApiSupported());
+            user = KafkaUserModel.fromCrd(resource, config.getSecretPrefix(), config.isAclsAdminApiSupported(), config.isKraftEnabled());
             LOGGER.debugCr(reconciliation, "Updating User {} in namespace {}", reconciliation.name(), reconciliation.namespace());
         } catch (Exception e) {
             LOGGER.warnCr(reconciliation, e);
@@ -249,8 +275,10 @@ public class KafkaUserOperator extends AbstractOperator<KafkaUser, KafkaUserSpec
             scramOrNoneQuotas = user.getQuotas();
         }
 
-        // Reconcile the user SCRAM-SHA-512 credentials
-        Future<ReconcileResult<String>> scramCredentialsFuture = scramCredentialsOperator.reconcile(reconciliation, user.getName(), user.getScramSha512Password());
+        // Reconcile the user SCRAM-SHA-512 credentials (they are not supported in the KRaft mode)
+        Future<ReconcileResult<String>> scramCredentialsFuture = config.isKraftEnabled()
+                ? Future.succeededFuture(ReconcileResult.noop(null))
+                : scramCredentialsOperator.reconcile(reconciliation, user.getName(), user.getScramSha512Password());
 
         // Quotas need to reconciled for both regular and TLS username. It will be (possibly) set for one user and deleted for the other
         Future<ReconcileResult<KafkaUserQuotas>> tlsQuotasFuture = quotasOperator.reconcile(reconciliation, KafkaUserModel.getTlsUserName(reconciliation.name()), tlsQuotas);
@@ -307,7 +335,7 @@ public class KafkaUserOperator extends AbstractOperator<KafkaUser, KafkaUserSpec
         return CompositeFuture.join(secretOperations.reconcile(reconciliation, namespace, KafkaUserModel.getSecretName(config.getSecretPrefix(), user), null),
                 config.isAclsAdminApiSupported() ? aclOperations.reconcile(reconciliation, KafkaUserModel.getTlsUserName(user), null) : Future.succeededFuture(ReconcileResult.noop(null)),
                 config.isAclsAdminApiSupported() ? aclOperations.reconcile(reconciliation, KafkaUserModel.getScramUserName(user), null) : Future.succeededFuture(ReconcileResult.noop(null)),
-                scramCredentialsOperator.reconcile(reconciliation, KafkaUserModel.getScramUserName(user), null)
+                (config.isKraftEnabled() ? Future.succeededFuture(ReconcileResult.<String>noop(null)) : scramCredentialsOperator.reconcile(reconciliation, KafkaUserModel.getScramUserName(user), null))
                         .compose(ignore -> quotasOperator.reconcile(reconciliation, KafkaUserModel.getTlsUserName(user), null))
                         .compose(ignore -> quotasOperator.reconcile(reconciliation, KafkaUserModel.getScramUserName(user), null)))
             .map(Boolean.TRUE);
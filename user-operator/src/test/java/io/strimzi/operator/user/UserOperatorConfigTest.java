@@ -130,4 +130,17 @@ public class UserOperatorConfigTest {
         UserOperatorConfig config = UserOperatorConfig.fromMap(envVars);
         assertThat(config.isAclsAdminApiSupported(), is(UserOperatorConfig.DEFAULT_STRIMZI_ACLS_ADMIN_API_SUPPORTED));
     }
+
+    @Test
+    public void testFromMapKRaftEnabled()  {
+        Map<String, String> envVars = new HashMap<>(UserOperatorConfigTest.envVars);
+
+        UserOperatorConfig config = UserOperatorConfig.fromMap(envVars);
+        assertThat(config.isKraftEnabled(), is(UserOperatorConfig.DEFAULT_STRIMZI_KRAFT_ENABLED));
+
+        envVars.put(UserOperatorConfig.STRIMZI_KRAFT_ENABLED, "true");
+
+        config = UserOperatorConfig.fromMap(envVars);
+        assertThat(config.isKraftEnabled(), is(true));
+    }
 }
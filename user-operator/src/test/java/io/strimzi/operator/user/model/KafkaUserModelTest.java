@@ -759,4 +759,14 @@ public class KafkaUserModelTest {
         InvalidResourceException e = assertThrows(InvalidResourceException.class, () -> KafkaUserModel.fromCrd(scramShaUser, UserOperatorConfig.DEFAULT_SECRET_PREFIX, false));
         assertThat(e.getMessage(), is("Simple authorization ACL rules are configured but not supported in the Kafka cluster configuration."));
     }
+
+    @Test
+    public void testFromCrdScramShaUserInKRaftMode()    {
+        InvalidResourceException e = assertThrows(InvalidResourceException.class, () -> KafkaUserModel.fromCrd(scramShaUser, UserOperatorConfig.DEFAULT_SECRET_PREFIX, UserOperatorConfig.DEFAULT_STRIMZI_ACLS_ADMIN_API_SUPPORTED, true));
+        assertThat(e.getMessage(), is("SCRAM-SHA-512 authentication is not supported in the KRaft mode."));
+
+        // TLS users are supported in the KRaft mode
+        KafkaUserModel model = KafkaUserModel.fromCrd(tlsUser, UserOperatorConfig.DEFAULT_SECRET_PREFIX, UserOperatorConfig.DEFAULT_STRIMZI_ACLS_ADMIN_API_SUPPORTED, true);
+        assertThat(model.isTlsUser(), is(true));
+    }
 }
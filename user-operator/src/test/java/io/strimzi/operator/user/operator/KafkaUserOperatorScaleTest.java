@@ -0,0 +1,133 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.user.operator;
+
+import io.fabric8.kubernetes.api.model.Secret;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.strimzi.api.kafka.Crds;
+import io.strimzi.api.kafka.KafkaUserList;
+import io.strimzi.api.kafka.model.KafkaUser;
+import io.strimzi.api.kafka.model.KafkaUserBuilder;
+import io.strimzi.operator.common.MicrometerMetricsProvider;
+import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.operator.common.ScaleTestHarness;
+import io.strimzi.operator.common.operator.MockCertManager;
+import io.strimzi.operator.common.operator.resource.CrdOperator;
+import io.strimzi.operator.common.operator.resource.SecretOperator;
+import io.strimzi.operator.user.ResourceUtils;
+import io.strimzi.test.mockkube.MockKube;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.junit5.Checkpoint;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Reconciles a fleet of KafkaUsers against MockKube and stubbed Kafka Admin API operators and reports the
+ * reconciliation latencies, event loop blocking and the API calls done by the KafkaUserOperator. The number of users
+ * can be configured using the {@code strimzi.scale.users} system property.
+ */
+@ExtendWith(VertxExtension.class)
+public class KafkaUserOperatorScaleTest {
+    private static Vertx vertx;
+
+    @BeforeAll
+    public static void before() {
+        vertx = Vertx.vertx();
+    }
+
+    @AfterAll
+    public static void after() {
+        vertx.close();
+    }
+
+    private static KafkaUser user(int i) {
+        KafkaUser template = i % 2 == 0 ? ResourceUtils.createKafkaUserTls() : ResourceUtils.createKafkaUserScramSha();
+
+        return new KafkaUserBuilder(template)
+                .editMetadata()
+                    .withName("my-user-" + i)
+                .endMetadata()
+                .build();
+    }
+
+    @Test
+    public void testReconcileFleet(VertxTestContext context) {
+        int fleetSize = ScaleTestHarness.fleetSize("strimzi.scale.users", 50);
+        int rounds = ScaleTestHarness.rounds();
+
+        Set<KafkaUser> fleet = IntStream.range(0, fleetSize)
+                .mapToObj(KafkaUserOperatorScaleTest::user)
+                .collect(Collectors.toSet());
+
+        MockKube mockKube = new MockKube();
+        KubernetesClient client = mockKube
+                .withInitialSecrets(Set.of(ResourceUtils.createClientsCaCertSecret(), ResourceUtils.createClientsCaKeySecret()))
+                .withCustomResourceDefinition(Crds.kafkaUser(), KafkaUser.class, KafkaUserList.class)
+                    .withInitialInstances(fleet)
+                .end()
+                .build();
+
+        SimpleAclOperator aclOps = mock(SimpleAclOperator.class);
+        ScramCredentialsOperator scramOps = mock(ScramCredentialsOperator.class);
+        QuotasOperator quotasOps = mock(QuotasOperator.class);
+        when(aclOps.reconcile(any(), any(), any())).thenReturn(Future.succeededFuture());
+        when(scramOps.reconcile(any(), any(), any())).thenReturn(Future.succeededFuture());
+        when(quotasOps.reconcile(any(), any(), any())).thenReturn(Future.succeededFuture());
+
+        KafkaUserOperator operator = new KafkaUserOperator(vertx, new MockCertManager(),
+                new CrdOperator<>(vertx, client, KafkaUser.class, KafkaUserList.class, KafkaUser.RESOURCE_KIND),
+                new SecretOperator(vertx, client), scramOps, quotasOps, aclOps, ResourceUtils.createUserOperatorConfig(),
+                // Own metrics registry, so that the scale test does not share the default registry with the other tests
+                new MicrometerMetricsProvider(new SimpleMeterRegistry()));
+
+        List<Supplier<Future<?>>> reconciliations = new ArrayList<>(fleetSize);
+        for (KafkaUser user : fleet) {
+            reconciliations.add(() -> operator.reconcile(new Reconciliation("scale-test", KafkaUser.RESOURCE_KIND, ResourceUtils.NAMESPACE, user.getMetadata().getName())));
+        }
+
+        ScaleTestHarness harness = new ScaleTestHarness(vertx, "kafka-user-operator", fleetSize);
+        harness.start();
+
+        Future<Void> result = Future.succeededFuture();
+        for (int round = 0; round < rounds; round++) {
+            result = result.compose(v -> harness.round(reconciliations));
+        }
+
+        Checkpoint async = context.checkpoint();
+        result.onComplete(context.succeeding(v -> context.verify(() -> {
+            harness.addApiCalls(mockKube.apiCalls().snapshot());
+            harness.addMockInvocations("Acls", aclOps);
+            harness.addMockInvocations("ScramCredentials", scramOps);
+            harness.addMockInvocations("Quotas", quotasOps);
+
+            Map<String, Object> report = harness.stop();
+
+            assertThat(report.get("reconciliations"), is(fleetSize * rounds));
+            assertThat(report.get("failedReconciliations"), is(0));
+            assertThat(mockKube.apiCalls().count(Secret.class.getSimpleName(), "create"), is((long) fleetSize));
+            async.flag();
+        })));
+    }
+}
@@ -1337,4 +1337,54 @@ public class KafkaUserOperatorTest {
                 async.flag();
             })));
     }
+
+    @Test
+    public void testCreateTlsUserInKRaftMode(VertxTestContext context)    {
+        CrdOperator mockCrdOps = mock(CrdOperator.class);
+        SecretOperator mockSecretOps = mock(SecretOperator.class);
+        SimpleAclOperator aclOps = mock(SimpleAclOperator.class);
+        ScramCredentialsOperator scramOps = mock(ScramCredentialsOperator.class);
+        QuotasOperator quotasOps = mock(QuotasOperator.class);
+
+        when(mockSecretOps.reconcile(any(), anyString(), anyString(), any())).thenReturn(Future.succeededFuture());
+        when(aclOps.reconcile(any(), any(), any())).thenReturn(Future.succeededFuture());
+        when(quotasOps.reconcile(any(), any(), any())).thenReturn(Future.succeededFuture());
+
+        KafkaUserOperator op = new KafkaUserOperator(vertx, mockCertManager, mockCrdOps, mockSecretOps, scramOps, quotasOps, aclOps, ResourceUtils.createUserOperatorConfig(Map.of(), true, true));
+        KafkaUser user = ResourceUtils.createKafkaUserTls();
+        when(mockSecretOps.getAsync(anyString(), eq("user-cert"))).thenReturn(Future.succeededFuture(ResourceUtils.createClientsCaCertSecret()));
+        when(mockSecretOps.getAsync(anyString(), eq("user-key"))).thenReturn(Future.succeededFuture(ResourceUtils.createClientsCaKeySecret()));
+        when(mockSecretOps.getAsync(anyString(), eq(ResourceUtils.NAME))).thenReturn(Future.succeededFuture(null));
+
+        Checkpoint async = context.checkpoint();
+        op.createOrUpdate(new Reconciliation("test-trigger", KafkaUser.RESOURCE_KIND, ResourceUtils.NAMESPACE, ResourceUtils.NAME), user)
+            .onComplete(context.succeeding(v -> context.verify(() -> {
+                // The SCRAM-SHA credentials are not supported in the KRaft mode
+                verify(scramOps, never()).reconcile(any(), any(), any());
+
+                async.flag();
+            })));
+    }
+
+    @Test
+    public void testCreateScramShaUserInKRaftModeFails(VertxTestContext context)    {
+        CrdOperator mockCrdOps = mock(CrdOperator.class);
+        SecretOperator mockSecretOps = mock(SecretOperator.class);
+        SimpleAclOperator aclOps = mock(SimpleAclOperator.class);
+        ScramCredentialsOperator scramOps = mock(ScramCredentialsOperator.class);
+        QuotasOperator quotasOps = mock(QuotasOperator.class);
+
+        KafkaUserOperator op = new KafkaUserOperator(vertx, mockCertManager, mockCrdOps, mockSecretOps, scramOps, quotasOps, aclOps, ResourceUtils.createUserOperatorConfig(Map.of(), true, true));
+        KafkaUser user = ResourceUtils.createKafkaUserScramSha();
+
+        Checkpoint async = context.checkpoint();
+        op.createOrUpdate(new Reconciliation("test-trigger", KafkaUser.RESOURCE_KIND, ResourceUtils.NAMESPACE, ResourceUtils.NAME), user)
+            .onComplete(context.failing(e -> context.verify(() -> {
+                assertThat(e.getCause().getMessage(), is("SCRAM-SHA-512 authentication is not supported in the KRaft mode."));
+                verify(scramOps, never()).reconcile(any(), any(), any());
+                verify(mockSecretOps, never()).reconcile(any(), any(), any(), any());
+
+                async.flag();
+            })));
+    }
 }